@@ -0,0 +1,12 @@
+package com.ten.devs.cards.cards.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (e.g., flashcard counters reconciliation).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -0,0 +1,59 @@
+package com.ten.devs.cards.cards.config.db;
+
+import an.awesome.pipelinr.Command;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipelinr middleware recording total database connection hold time of each command.
+ *
+ * Sums hold times of all connections borrowed and returned on the command's thread
+ * (see ConnectionHoldTimeDataSource) into timer cards.db.connection.hold{command=...}.
+ * Commands that never touch the database record zero.
+ *
+ * A connection still held when the command returns (e.g. bound to an outer transaction)
+ * is not attributed to the command.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+class ConnectionHoldTimeMiddleware implements Command.Middleware {
+
+    private static final ThreadLocal<long[]> HELD_NANOS = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public <R, C extends Command<R>> R invoke(C command, Next<R> next) {
+        // Nested command - time is attributed to the outermost one
+        if (HELD_NANOS.get() != null) {
+            return next.invoke();
+        }
+
+        long[] heldNanos = new long[1];
+        HELD_NANOS.set(heldNanos);
+        try {
+            return next.invoke();
+        } finally {
+            HELD_NANOS.remove();
+            Timer.builder("cards.db.connection.hold")
+                .description("Time database connections were held while handling a command")
+                .tag("command", command.getClass().getSimpleName())
+                .register(meterRegistry)
+                .record(heldNanos[0], TimeUnit.NANOSECONDS);
+        }
+    }
+
+    static void connectionReleased(long heldNanos) {
+        long[] current = HELD_NANOS.get();
+        if (current != null) {
+            current[0] += heldNanos;
+        }
+    }
+}
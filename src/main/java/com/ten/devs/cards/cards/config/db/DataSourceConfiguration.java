@@ -0,0 +1,81 @@
+package com.ten.devs.cards.cards.config.db;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Application DataSource setup.
+ *
+ * - wraps the DataSource to measure connection hold time per command
+ * - with cards.datasource.replicas.urls set, replaces the auto-configured DataSource with
+ *   primary + read replicas routing (see ReplicaRoutingMiddleware); replicas use the primary's
+ *   credentials and Hikari settings
+ *
+ * Connections are borrowed only where they are used: open-in-view is disabled
+ * (spring.jpa.open-in-view=false) and commands doing slow non-database work run without
+ * a transaction (NonTransactionalCommand), so e.g. the AI generation command holds
+ * no connection during the LLM call.
+ */
+@Configuration
+public class DataSourceConfiguration {
+
+    @Bean
+    @ConditionalOnProperty("cards.datasource.replicas.urls")
+    DataSource dataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${cards.datasource.replicas.urls}") List<String> replicaUrls) {
+
+        HikariDataSource primary = pool("primary", properties.getUrl(), properties, environment, meterRegistry);
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            replicas.add(pool("replica-" + i, replicaUrls.get(i).trim(), properties, environment, meterRegistry));
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas);
+        routing.afterPropertiesSet();
+        // Connection is borrowed on the first statement - after the middleware chose primary or replica
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    static BeanPostProcessor connectionHoldTimeDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionHoldTimeDataSource)) {
+                    return new ConnectionHoldTimeDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static HikariDataSource pool(
+            String name, String url, DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .url(url)
+            .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
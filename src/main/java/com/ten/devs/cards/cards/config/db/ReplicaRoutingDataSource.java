@@ -0,0 +1,74 @@
+package com.ten.devs.cards.cards.config.db;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Routes connections to the primary or, for code run by onReplica(), to one of the read replicas.
+ *
+ * Replicas are picked round-robin per borrowed connection. Must be wrapped in
+ * LazyConnectionDataSourceProxy: the physical connection has to be chosen when the first
+ * statement runs, not when the transaction begins.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final ThreadLocal<Boolean> ON_REPLICA = new ThreadLocal<>();
+
+    private final List<String> replicaKeys;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put("replica-" + i, replicas.get(i));
+        }
+        this.replicaKeys = targets.keySet().stream()
+            .map(String.class::cast)
+            .filter(key -> !key.equals(PRIMARY))
+            .sorted()
+            .toList();
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    /**
+     * Runs action with connections borrowed from replicas.
+     * Nested calls keep the routing of the outermost one.
+     *
+     * @param action action to run
+     * @return action's result
+     */
+    static <T> T onReplica(Supplier<T> action) {
+        if (ON_REPLICA.get() != null) {
+            return action.get();
+        }
+        ON_REPLICA.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            ON_REPLICA.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ON_REPLICA.get() == null) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+}
@@ -0,0 +1,93 @@
+package com.ten.devs.cards.cards.config.db;
+
+import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.shared.application.ReadOnlyCommand;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pipelinr middleware sending ReadOnlyCommand handlers to read replicas.
+ *
+ * Read-your-writes: after any other command of a user, the user's reads go to the primary
+ * for read-your-writes-window, long enough for the replicas to catch up. Users are identified
+ * by the authenticated principal; windows are kept per application instance.
+ *
+ * Active only when replicas are configured (cards.datasource.replicas.urls).
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty("cards.datasource.replicas.urls")
+class ReplicaRoutingMiddleware implements Command.Middleware {
+
+    // Expired windows are purged once this many users are tracked
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Map<String, Instant> primaryReadsUntil = new ConcurrentHashMap<>();
+    private final Duration readYourWritesWindow;
+    private final Clock clock;
+
+    @Autowired
+    ReplicaRoutingMiddleware(
+            @Value("${cards.datasource.replicas.read-your-writes-window:5s}") Duration readYourWritesWindow) {
+        this(readYourWritesWindow, Clock.systemUTC());
+    }
+
+    ReplicaRoutingMiddleware(Duration readYourWritesWindow, Clock clock) {
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.clock = clock;
+    }
+
+    @Override
+    public <R, C extends Command<R>> R invoke(C command, Next<R> next) {
+        String user = currentUser();
+
+        if (command instanceof ReadOnlyCommand<?>) {
+            if (user != null && clock.instant().isBefore(primaryReadsUntil.getOrDefault(user, Instant.MIN))) {
+                log.debug("Reading {} from primary - recent write of user {}", command.getClass().getSimpleName(), user);
+                return next.invoke();
+            }
+            return ReplicaRoutingDataSource.onReplica(next::invoke);
+        }
+
+        try {
+            return next.invoke();
+        } finally {
+            // Also after a failure - the write may have been committed before the exception
+            if (user != null) {
+                recordWrite(user);
+            }
+        }
+    }
+
+    private void recordWrite(String user) {
+        Instant now = clock.instant();
+        if (primaryReadsUntil.size() >= PURGE_THRESHOLD) {
+            primaryReadsUntil.values().removeIf(until -> !now.isBefore(until));
+        }
+        primaryReadsUntil.put(user, now.plus(readYourWritesWindow));
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,44 @@
+package com.ten.devs.cards.cards.config.db;
+
+import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.shared.application.NonTransactionalCommand;
+import com.ten.devs.cards.cards.shared.application.ReadOnlyCommand;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Pipelinr middleware running each command in a transaction of the right kind.
+ *
+ * - ReadOnlyCommand: read-only transaction. JpaTransactionManager marks the Hibernate session
+ *   read-only (no snapshots for dirty checking) with FlushMode.MANUAL, and pgjdbc starts
+ *   the transaction as BEGIN READ ONLY, so PostgreSQL rejects any write.
+ * - NonTransactionalCommand: no transaction, handler's repository calls use their own.
+ * - any other command: read-write transaction.
+ *
+ * Runs inside ConnectionHoldTimeMiddleware, so recorded hold time includes the transaction.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+class TransactionMiddleware implements Command.Middleware {
+
+    private final TransactionTemplate readOnly;
+    private final TransactionTemplate readWrite;
+
+    TransactionMiddleware(PlatformTransactionManager transactionManager) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public <R, C extends Command<R>> R invoke(C command, Next<R> next) {
+        if (command instanceof NonTransactionalCommand<?>) {
+            return next.invoke();
+        }
+        TransactionTemplate transaction = command instanceof ReadOnlyCommand<?> ? readOnly : readWrite;
+        return transaction.execute(status -> next.invoke());
+    }
+}
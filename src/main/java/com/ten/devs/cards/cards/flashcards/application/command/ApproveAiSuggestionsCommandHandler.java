@@ -1,13 +1,16 @@
 package com.ten.devs.cards.cards.flashcards.application.command;
 
 import an.awesome.pipelinr.Command;
-import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSession;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardDuplicateDetector;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardInstantSearch;
 import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionRepository;
+import com.ten.devs.cards.cards.flashcards.domain.AiSuggestionsUnavailableException;
+import com.ten.devs.cards.cards.flashcards.domain.AiSuggestionsView;
 import com.ten.devs.cards.cards.flashcards.domain.Flashcard;
-import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
 import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
 import com.ten.devs.cards.cards.flashcards.domain.FlashcardSource;
 import com.ten.devs.cards.cards.flashcards.domain.FlashcardSuggestion;
+import com.ten.devs.cards.cards.flashcards.domain.SuggestionApproval;
 import com.ten.devs.cards.cards.flashcards.presentation.request.ApproveAiSuggestionsRequest.ApprovedSuggestion;
 import com.ten.devs.cards.cards.flashcards.presentation.response.ApproveAiSuggestionsResponse;
 import com.ten.devs.cards.cards.flashcards.presentation.response.ApproveAiSuggestionsResponse.CreatedFlashcard;
@@ -15,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -30,9 +34,16 @@ import java.util.stream.Collectors;
  * - User must own the session
  * - All approved suggestion IDs must exist in the session
  * - Content comparison determines source: AI (unmodified) or AI_USER (edited)
+ * - Near-duplicates of flashcards the user already owns, or of suggestions approved
+ *   earlier in the same request, are skipped
  * - Creates Flashcard entities and persists them
  * - Updates session's acceptedCount
  *
+ * Reads only the session header and suggestions (no input text) for validation and
+ * duplicate detection. Flashcards are then created and acceptedCount incremented
+ * by one atomic repository write that re-checks ownership and status, so concurrent
+ * approvals cannot lose acceptedCount updates.
+ *
  * Follows hexagonal architecture:
  * - Depends on domain repository PORTS (GENERIC interfaces)
  * - No dependencies on infrastructure implementations
@@ -43,7 +54,8 @@ import java.util.stream.Collectors;
 class ApproveAiSuggestionsCommandHandler implements Command.Handler<ApproveAiSuggestionsCommand, ApproveAiSuggestionsResponse> {
 
     private final AiGenerationSessionRepository sessionRepository;
-    private final FlashcardRepository flashcardRepository;
+    private final FlashcardDuplicateDetector duplicateDetector;
+    private final FlashcardInstantSearch instantSearch;
 
     @Override
     public ApproveAiSuggestionsResponse handle(ApproveAiSuggestionsCommand command) {
@@ -52,71 +64,94 @@ class ApproveAiSuggestionsCommandHandler implements Command.Handler<ApproveAiSug
             command.sessionId(),
             command.userId());
 
-        // 1. Find session and verify it exists
-        AiGenerationSession session = sessionRepository.findById(command.sessionId())
+        // 1. Find session header with suggestions and verify it exists
+        AiSuggestionsView session = sessionRepository.findSuggestionsView(command.sessionId())
             .orElseThrow(() -> new IllegalArgumentException(
                 "Session not found: " + command.sessionId()));
 
-        // 2. Verify ownership using domain method
+        // 2. Verify ownership
         session.ensureOwnedBy(command.userId());
 
         // 3. Verify session can provide suggestions (must be COMPLETED)
         if (!session.canProvideSuggestions()) {
             throw new IllegalStateException(
-                "Cannot approve suggestions for session in status: " + session.toSnapshot().status());
+                "Cannot approve suggestions for session in status: " + session.status());
         }
 
-        // 4. Get all suggestions from session
-        List<FlashcardSuggestion> allSuggestions = session.getSuggestions();
-
-        // Create map for quick lookup by ID
-        Map<UUID, FlashcardSuggestion> suggestionMap = allSuggestions.stream()
+        // 4. Create map for quick lookup by ID
+        Map<UUID, FlashcardSuggestion> suggestionMap = session.suggestions().stream()
             .collect(Collectors.toMap(FlashcardSuggestion::id, Function.identity()));
 
-        // 5. Validate all approved suggestion IDs exist and create flashcard domain entities
-        List<Flashcard> flashcardsToCreate = command.request().approvedSuggestions().stream()
-            .map(approvedSuggestion -> {
-                // Find original suggestion
-                FlashcardSuggestion originalSuggestion = suggestionMap.get(approvedSuggestion.suggestionId());
-                if (originalSuggestion == null) {
-                    throw new IllegalArgumentException(
-                        "Suggestion not found in session: " + approvedSuggestion.suggestionId());
-                }
-
-                // Determine final content (user-provided or original)
-                String frontContent = approvedSuggestion.frontContent() != null
-                    ? approvedSuggestion.frontContent()
-                    : originalSuggestion.frontContent();
-
-                String backContent = approvedSuggestion.backContent() != null
-                    ? approvedSuggestion.backContent()
-                    : originalSuggestion.backContent();
-
-                // Determine source based on whether content was edited
-                boolean wasEdited = approvedSuggestion.frontContent() != null
-                    || approvedSuggestion.backContent() != null;
-                FlashcardSource source = wasEdited ? FlashcardSource.AI_USER : FlashcardSource.AI;
-
-                log.debug("Creating flashcard from suggestion {}: source={}, edited={}",
-                    approvedSuggestion.suggestionId(), source, wasEdited);
-
-                // Create Flashcard domain entity
-                return Flashcard.createFromAiSuggestion(
-                    command.userId(),
-                    frontContent,
-                    backContent,
-                    source,
-                    command.sessionId()
-                );
-            })
-            .toList();
+        // 5. Validate all approved suggestion IDs exist and build approvals of non-duplicates
+        List<SuggestionApproval> approvals = new ArrayList<>();
+        List<FlashcardSnapshot> accepted = new ArrayList<>();
+        for (ApprovedSuggestion approvedSuggestion : command.request().approvedSuggestions()) {
+            // Find original suggestion
+            FlashcardSuggestion originalSuggestion = suggestionMap.get(approvedSuggestion.suggestionId());
+            if (originalSuggestion == null) {
+                throw new IllegalArgumentException(
+                    "Suggestion not found in session: " + approvedSuggestion.suggestionId());
+            }
+
+            // Determine final content (user-provided or original)
+            String frontContent = approvedSuggestion.frontContent() != null
+                ? approvedSuggestion.frontContent()
+                : originalSuggestion.frontContent();
+
+            String backContent = approvedSuggestion.backContent() != null
+                ? approvedSuggestion.backContent()
+                : originalSuggestion.backContent();
+
+            // Determine source based on whether content was edited
+            boolean wasEdited = approvedSuggestion.frontContent() != null
+                || approvedSuggestion.backContent() != null;
+            FlashcardSource source = wasEdited ? FlashcardSource.AI_USER : FlashcardSource.AI;
+
+            log.debug("Creating flashcard from suggestion {}: source={}, edited={}",
+                approvedSuggestion.suggestionId(), source, wasEdited);
+
+            // Create Flashcard domain entity - validates final content and assigns ID
+            Flashcard flashcard = Flashcard.createFromAiSuggestion(
+                command.userId(),
+                frontContent,
+                backContent,
+                source,
+                command.sessionId()
+            );
+
+            if (!isDuplicate(flashcard, accepted)) {
+                accepted.add(flashcard.toSnapshot());
+                approvals.add(new SuggestionApproval(
+                    flashcard.toSnapshot().id(),
+                    approvedSuggestion.suggestionId(),
+                    approvedSuggestion.frontContent(),
+                    approvedSuggestion.backContent(),
+                    source
+                ));
+            }
+        }
+
+        // 6. Create flashcards and increment acceptedCount in one atomic write
+        List<Flashcard> savedFlashcards = approvals.isEmpty()
+            ? List.of()
+            : sessionRepository.approveSuggestions(command.sessionId(), command.userId(), approvals);
 
-        // 6. Save all flashcards to database
-        List<Flashcard> savedFlashcards = flashcardRepository.saveAll(flashcardsToCreate);
+        if (savedFlashcards.size() != approvals.size()) {
+            // Session was deleted, reassigned or changed status, or suggestions expired, between read and write
+            throw new AiSuggestionsUnavailableException(command.sessionId());
+        }
+
+        // 7. Add created flashcards to duplicate and search indexes (applied after commit)
+        savedFlashcards.forEach(flashcard -> {
+            FlashcardSnapshot snapshot = flashcard.toSnapshot();
+            duplicateDetector.indexFlashcard(snapshot);
+            instantSearch.indexFlashcard(snapshot);
+        });
 
-        log.info("Saved {} flashcards to database", savedFlashcards.size());
+        log.info("Approved {} flashcards for session {}, incremented acceptedCount",
+            savedFlashcards.size(), command.sessionId());
 
-        // 7. Map to response DTOs using toSnapshot()
+        // 8. Map to response DTOs using toSnapshot()
         List<CreatedFlashcard> createdFlashcards = savedFlashcards.stream()
             .map(flashcard -> {
                 FlashcardSnapshot snapshot = flashcard.toSnapshot();
@@ -129,13 +164,18 @@ class ApproveAiSuggestionsCommandHandler implements Command.Handler<ApproveAiSug
             })
             .toList();
 
-        // 8. Update session's acceptedCount using domain method
-        session.updateAcceptedCount(createdFlashcards.size());
-        sessionRepository.save(session);
-
-        log.info("Approved {} flashcards for session {}, updated acceptedCount",
-            createdFlashcards.size(), command.sessionId());
-
         return new ApproveAiSuggestionsResponse(createdFlashcards);
     }
-}
\ No newline at end of file
+
+    private boolean isDuplicate(Flashcard flashcard, List<FlashcardSnapshot> accepted) {
+        FlashcardSnapshot snapshot = flashcard.toSnapshot();
+        return duplicateDetector.findDuplicate(
+                snapshot.userId(), snapshot.frontContent(), snapshot.backContent(), accepted)
+            .map(duplicateId -> {
+                log.info("Skipping suggestion duplicating flashcard {} of user {}",
+                    duplicateId, snapshot.userId());
+                return true;
+            })
+            .orElse(false);
+    }
+}
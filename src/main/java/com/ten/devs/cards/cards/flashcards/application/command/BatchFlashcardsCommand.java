@@ -0,0 +1,20 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.flashcards.presentation.request.BatchFlashcardsRequest;
+import com.ten.devs.cards.cards.flashcards.presentation.response.BatchFlashcardsResponse;
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Command for applying mixed flashcard creates, updates and deletes at once
+ * Maps to POST /flashcards/batch endpoint
+ * All applicable operations are committed in one transaction
+ */
+@Builder
+public record BatchFlashcardsCommand(
+    UUID userId,
+    BatchFlashcardsRequest request
+) implements Command<BatchFlashcardsResponse> {
+}
@@ -0,0 +1,202 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardDuplicateDetector;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardInstantSearch;
+import com.ten.devs.cards.cards.flashcards.domain.Flashcard;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardContentUpdate;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
+import com.ten.devs.cards.cards.flashcards.presentation.request.BatchFlashcardsRequest.Operation;
+import com.ten.devs.cards.cards.flashcards.presentation.request.BatchFlashcardsRequest.OperationType;
+import com.ten.devs.cards.cards.flashcards.presentation.response.BatchFlashcardsResponse;
+import com.ten.devs.cards.cards.flashcards.presentation.response.BatchFlashcardsResponse.OperationResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Handler for BatchFlashcardsCommand
+ * Applies mixed creates, updates and deletes of a user's flashcards in one transaction
+ *
+ * All operations are validated first; invalid ones are reported and skipped. The rest are applied
+ * grouped by type, each group with one round trip, whatever the number of operations:
+ * - creates: one JDBC batch of INSERTs (FlashcardRepository.insertAll)
+ * - updates: one JDBC batch of conditional UPDATEs, then one SELECT for the new versions
+ * - deletes: one DELETE with an array of IDs
+ * A flashcard may appear in one operation only, so the order of the groups does not matter.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class BatchFlashcardsCommandHandler implements Command.Handler<BatchFlashcardsCommand, BatchFlashcardsResponse> {
+
+    private static final int MAX_OPERATIONS = 1000;
+
+    private final FlashcardRepository flashcardRepository;
+    private final FlashcardDuplicateDetector duplicateDetector;
+    private final FlashcardInstantSearch instantSearch;
+
+    @Override
+    public BatchFlashcardsResponse handle(BatchFlashcardsCommand command) {
+        validate(command);
+        UUID userId = command.userId();
+        List<Operation> operations = command.request().operations();
+        log.info("Applying batch of {} flashcard operations, user: {}", operations.size(), userId);
+
+        OperationResult[] results = new OperationResult[operations.size()];
+        Map<UUID, Integer> operationIndexById = new HashMap<>();
+        List<Integer> createIndexes = new ArrayList<>();
+        List<Flashcard> creates = new ArrayList<>();
+        List<Integer> updateIndexes = new ArrayList<>();
+        List<FlashcardContentUpdate> updates = new ArrayList<>();
+        List<Integer> deleteIndexes = new ArrayList<>();
+        List<UUID> deletes = new ArrayList<>();
+
+        for (int i = 0; i < operations.size(); i++) {
+            Operation operation = operations.get(i);
+            try {
+                switch (requireType(operation)) {
+                    case CREATE -> {
+                        creates.add(Flashcard.createManual(userId, operation.frontContent(), operation.backContent()));
+                        createIndexes.add(i);
+                    }
+                    case UPDATE -> {
+                        claim(operationIndexById, operation, i);
+                        Flashcard.validateContent(operation.frontContent(), operation.backContent());
+                        updates.add(new FlashcardContentUpdate(
+                            operation.flashcardId(), operation.frontContent(), operation.backContent(), operation.version()));
+                        updateIndexes.add(i);
+                    }
+                    case DELETE -> {
+                        claim(operationIndexById, operation, i);
+                        deletes.add(operation.flashcardId());
+                        deleteIndexes.add(i);
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                UUID flashcardId = operation != null ? operation.flashcardId() : null;
+                results[i] = new OperationResult(i, "INVALID", flashcardId, null, e.getMessage());
+            }
+        }
+
+        applyCreates(creates, createIndexes, results);
+        applyUpdates(userId, updates, updateIndexes, results);
+        applyDeletes(userId, deletes, deleteIndexes, results);
+
+        log.info("Applied batch of flashcard operations, user: {}, results: {}", userId, Arrays.stream(results)
+            .collect(Collectors.groupingBy(OperationResult::status, Collectors.counting())));
+        return new BatchFlashcardsResponse(List.of(results));
+    }
+
+    private void applyCreates(List<Flashcard> creates, List<Integer> indexes, OperationResult[] results) {
+        if (creates.isEmpty()) {
+            return;
+        }
+        List<Flashcard> inserted = flashcardRepository.insertAll(creates);
+        for (int k = 0; k < inserted.size(); k++) {
+            FlashcardSnapshot snapshot = inserted.get(k).toSnapshot();
+            int index = indexes.get(k);
+            results[index] = new OperationResult(index, "CREATED", snapshot.id(), snapshot.version(), null);
+            duplicateDetector.indexFlashcard(snapshot);
+            instantSearch.indexFlashcard(snapshot);
+        }
+    }
+
+    private void applyUpdates(
+            UUID userId, List<FlashcardContentUpdate> updates, List<Integer> indexes, OperationResult[] results) {
+
+        if (updates.isEmpty()) {
+            return;
+        }
+        List<Boolean> applied = flashcardRepository.updateContentAll(userId, updates);
+
+        // New state of updated cards, current state of the ones that were not updated (stale version)
+        Map<UUID, FlashcardSnapshot> current = flashcardRepository
+            .findAllByIdAndUserId(userId, updates.stream().map(FlashcardContentUpdate::id).toList())
+            .stream()
+            .map(Flashcard::toSnapshot)
+            .collect(Collectors.toMap(FlashcardSnapshot::id, Function.identity()));
+
+        for (int k = 0; k < updates.size(); k++) {
+            FlashcardContentUpdate update = updates.get(k);
+            FlashcardSnapshot snapshot = current.get(update.id());
+            int index = indexes.get(k);
+            if (snapshot == null) {
+                results[index] = new OperationResult(index, "NOT_FOUND", update.id(), null,
+                    "Flashcard not found: " + update.id());
+            } else if (!applied.get(k)) {
+                results[index] = new OperationResult(index, "CONFLICT", update.id(), snapshot.version(),
+                    "Flashcard was modified: expected version " + update.expectedVersion()
+                        + ", current version " + snapshot.version());
+            } else {
+                results[index] = new OperationResult(index, "UPDATED", update.id(), snapshot.version(), null);
+                duplicateDetector.indexFlashcard(snapshot);
+                instantSearch.indexFlashcard(snapshot);
+            }
+        }
+    }
+
+    private void applyDeletes(UUID userId, List<UUID> deletes, List<Integer> indexes, OperationResult[] results) {
+        if (deletes.isEmpty()) {
+            return;
+        }
+        Set<UUID> deleted = new HashSet<>(flashcardRepository.deleteAllByIdAndUserId(userId, deletes));
+
+        for (int k = 0; k < deletes.size(); k++) {
+            UUID id = deletes.get(k);
+            int index = indexes.get(k);
+            if (deleted.contains(id)) {
+                results[index] = new OperationResult(index, "DELETED", id, null, null);
+                duplicateDetector.removeFlashcard(userId, id);
+                instantSearch.removeFlashcard(userId, id);
+            } else {
+                results[index] = new OperationResult(index, "NOT_FOUND", id, null, "Flashcard not found: " + id);
+            }
+        }
+    }
+
+    private static OperationType requireType(Operation operation) {
+        if (operation == null || operation.type() == null) {
+            throw new IllegalArgumentException("Operation type is required");
+        }
+        return operation.type();
+    }
+
+    // A flashcard may be the target of one operation per batch - the outcome of two would depend on their order
+    private static void claim(Map<UUID, Integer> operationIndexById, Operation operation, int index) {
+        if (operation.flashcardId() == null) {
+            throw new IllegalArgumentException("Flashcard ID is required for " + operation.type());
+        }
+        Integer previous = operationIndexById.putIfAbsent(operation.flashcardId(), index);
+        if (previous != null) {
+            throw new IllegalArgumentException(
+                "Flashcard " + operation.flashcardId() + " is already changed by operation " + previous);
+        }
+    }
+
+    private static void validate(BatchFlashcardsCommand command) {
+        if (command.userId() == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (command.request() == null || command.request().operations() == null
+                || command.request().operations().isEmpty()) {
+            throw new IllegalArgumentException("At least one operation is required");
+        }
+        if (command.request().operations().size() > MAX_OPERATIONS) {
+            throw new IllegalArgumentException("Batch cannot contain more than " + MAX_OPERATIONS
+                + " operations, got: " + command.request().operations().size());
+        }
+    }
+}
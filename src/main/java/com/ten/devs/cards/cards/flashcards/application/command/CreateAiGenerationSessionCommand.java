@@ -1,7 +1,7 @@
 package com.ten.devs.cards.cards.flashcards.application.command;
 
-import an.awesome.pipelinr.Command;
 import com.ten.devs.cards.cards.flashcards.presentation.response.CreateAiSessionResponse;
+import com.ten.devs.cards.cards.shared.application.NonTransactionalCommand;
 import lombok.Builder;
 
 import java.util.UUID;
@@ -15,5 +15,5 @@ import java.util.UUID;
 public record CreateAiGenerationSessionCommand(
     UUID userId,
     String inputText        // 1000-10000 characters as per database constraint
-) implements Command<CreateAiSessionResponse> {
+) implements NonTransactionalCommand<CreateAiSessionResponse> {
 }
\ No newline at end of file
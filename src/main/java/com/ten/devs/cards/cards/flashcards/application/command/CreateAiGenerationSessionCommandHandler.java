@@ -3,6 +3,7 @@ package com.ten.devs.cards.cards.flashcards.application.command;
 import an.awesome.pipelinr.Command;
 import com.ten.devs.cards.cards.flashcards.application.service.AiServiceApi;
 import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSession;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionId;
 import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionRepository;
 import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionSnapshot;
 import com.ten.devs.cards.cards.flashcards.domain.FlashcardSuggestion;
@@ -25,6 +26,9 @@ import java.util.UUID;
  * - No dependencies on infrastructure implementations (ADAPTERS)
  *
  * Suggestions are now part of the AiGenerationSession aggregate.
+ *
+ * Deliberately NOT transactional (NonTransactionalCommand): the AI service call takes seconds
+ * and must not hold a pooled database connection. The session is written by one insert after the call returns.
  */
 @Slf4j
 @Component
@@ -41,19 +45,21 @@ class CreateAiGenerationSessionCommandHandler implements Command.Handler<CreateA
             command.userId(), command.inputText().length());
 
         // 1. Generate session ID upfront (before creating domain object)
-        UUID sessionId = UUID.randomUUID();
+        UUID sessionId = AiGenerationSessionId.generate().value();
         log.debug("Generated session ID: {}", sessionId);
 
+        // 2. Call AI service - no database access (and no pooled connection) during the LLM round trip
         AiGenerationSession session;
+        RuntimeException failure = null;
 
         try {
-            // 2. Generate flashcards using AI service with pre-generated session ID
+            // Generate flashcards using AI service with pre-generated session ID
             List<FlashcardSuggestion> suggestions = aiService.generateFlashcards(
                 command.inputText(),
                 sessionId
             );
 
-            // 3. Validate suggestions
+            // Validate suggestions
             if (suggestions == null) {
                 throw new IllegalArgumentException("AI service returned null suggestions");
             }
@@ -61,10 +67,10 @@ class CreateAiGenerationSessionCommandHandler implements Command.Handler<CreateA
             log.info("Generated {} flashcard suggestions for session {}",
                 suggestions.size(), sessionId);
 
-            // 4. Estimate cost (in production, get actual cost from API response)
+            // Estimate cost (in production, get actual cost from API response)
             BigDecimal estimatedCost = aiService.estimateCost(command.inputText());
 
-            // 5. Create domain object with COMPLETED status and suggestions
+            // Create domain object with COMPLETED status and suggestions
             // This will throw IllegalArgumentException if suggestions is empty
             session = AiGenerationSession.createCompleted(
                 sessionId,
@@ -75,21 +81,7 @@ class CreateAiGenerationSessionCommandHandler implements Command.Handler<CreateA
                 estimatedCost
             );
 
-            // 6. Save session ONCE with COMPLETED status and suggestions
-            // Suggestions are saved automatically as part of the aggregate
-            session = sessionRepository.save(session);
-
-            AiGenerationSessionSnapshot snapshot = session.toSnapshot();
-            log.info("Session {} saved as COMPLETED with {} suggestions",
-                snapshot.id(), suggestions.size());
-
-            return new CreateAiSessionResponse(
-                snapshot.id(),
-                snapshot.status().name(),
-                snapshot.createdAt()
-            );
-
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             log.error("Failed to generate flashcards for session {}", sessionId, e);
 
             // Create domain object with FAILED status
@@ -98,15 +90,28 @@ class CreateAiGenerationSessionCommandHandler implements Command.Handler<CreateA
                 command.userId(),
                 command.inputText()
             );
+            failure = e;
+        }
 
-            // Save session ONCE with FAILED status
-            session = sessionRepository.save(session);
+        // 3. Save session ONCE (COMPLETED with suggestions, or FAILED)
+        // The only database access of the command: a connection is taken from the pool for this insert only
+        session = sessionRepository.create(session);
+        AiGenerationSessionSnapshot snapshot = session.toSnapshot();
 
-            AiGenerationSessionSnapshot snapshot = session.toSnapshot();
+        if (failure != null) {
             log.warn("Session {} saved as FAILED", snapshot.id());
 
             // Re-throw exception to be handled by global exception handler
-            throw e;
+            throw failure;
         }
+
+        log.info("Session {} saved as COMPLETED with {} suggestions",
+            snapshot.id(), snapshot.suggestions().size());
+
+        return new CreateAiSessionResponse(
+            snapshot.id(),
+            snapshot.status().name(),
+            snapshot.createdAt()
+        );
     }
 }
\ No newline at end of file
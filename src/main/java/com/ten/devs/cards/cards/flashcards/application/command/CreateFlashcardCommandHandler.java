@@ -1,35 +1,49 @@
 package com.ten.devs.cards.cards.flashcards.application.command;
 
 import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardDuplicateDetector;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardInstantSearch;
+import com.ten.devs.cards.cards.flashcards.domain.Flashcard;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
 import com.ten.devs.cards.cards.flashcards.presentation.response.CreateFlashcardResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.time.Instant;
-import java.util.UUID;
-
 /**
  * Handler for CreateFlashcardCommand
- * Creates a new user-generated flashcard
+ * Creates a new user-generated flashcard and adds it to the duplicate and search indexes
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 class CreateFlashcardCommandHandler implements Command.Handler<CreateFlashcardCommand, CreateFlashcardResponse> {
 
+    private final FlashcardRepository flashcardRepository;
+    private final FlashcardDuplicateDetector duplicateDetector;
+    private final FlashcardInstantSearch instantSearch;
+
     @Override
     public CreateFlashcardResponse handle(CreateFlashcardCommand command) {
-        // TODO: Replace with actual domain logic and repository save
-        // For now, return dummy data
+        log.info("Creating manual flashcard for user: {}", command.userId());
+
+        Flashcard flashcard = Flashcard.createManual(
+            command.userId(),
+            command.frontContent(),
+            command.backContent()
+        );
 
-        UUID newFlashcardId = UUID.randomUUID();
-        Instant now = Instant.now();
+        FlashcardSnapshot snapshot = flashcardRepository.save(flashcard).toSnapshot();
+        duplicateDetector.indexFlashcard(snapshot);
+        instantSearch.indexFlashcard(snapshot);
 
         return new CreateFlashcardResponse(
-                newFlashcardId,
-                command.frontContent(),
-                command.backContent(),
-                "USER",  // Manually created flashcards have source = USER
-                now
+                snapshot.id(),
+                snapshot.frontContent(),
+                snapshot.backContent(),
+                snapshot.source().name(),  // Manually created flashcards have source = USER
+                snapshot.createdAt()
         );
     }
-}
\ No newline at end of file
+}
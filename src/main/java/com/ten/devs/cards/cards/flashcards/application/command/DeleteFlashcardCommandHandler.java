@@ -1,28 +1,39 @@
 package com.ten.devs.cards.cards.flashcards.application.command;
 
 import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardDuplicateDetector;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardInstantSearch;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardNotFoundException;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 /**
  * Handler for DeleteFlashcardCommand
- * Deletes a flashcard permanently after verifying ownership
+ * Deletes a flashcard permanently with one ownership-checked statement
+ * and removes it from the duplicate and search indexes
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 class DeleteFlashcardCommandHandler implements Command.Handler<DeleteFlashcardCommand, Void> {
 
+    private final FlashcardRepository flashcardRepository;
+    private final FlashcardDuplicateDetector duplicateDetector;
+    private final FlashcardInstantSearch instantSearch;
+
     @Override
     public Void handle(DeleteFlashcardCommand command) {
-        // TODO: Replace with actual domain logic
-        // - Find flashcard by ID
-        // - Verify ownership (userId matches)
-        // - Delete flashcard
-        // - Throw 404 if not found or 403 if not owned by user
-        // For now, just simulate successful deletion
+        log.info("Deleting flashcard: {}, user: {}", command.flashcardId(), command.userId());
+
+        if (!flashcardRepository.deleteByIdAndUserId(command.flashcardId(), command.userId())) {
+            throw new FlashcardNotFoundException(command.flashcardId());
+        }
 
-        System.out.println("Simulating deletion of flashcard: " + command.flashcardId() + " for user: " + command.userId());
+        duplicateDetector.removeFlashcard(command.userId(), command.flashcardId());
+        instantSearch.removeFlashcard(command.userId(), command.flashcardId());
 
         return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.flashcards.presentation.response.DeleteFlashcardsResponse;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Command for deleting many flashcards at once
+ * Maps to POST /flashcards/bulk-delete endpoint
+ * Only flashcards owned by the user are deleted
+ */
+@Builder
+public record DeleteFlashcardsCommand(
+    UUID userId,
+    List<UUID> flashcardIds     // 1-10000 IDs, duplicates ignored
+) implements Command<DeleteFlashcardsResponse> {
+}
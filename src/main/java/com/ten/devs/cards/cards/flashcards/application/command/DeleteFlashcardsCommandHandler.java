@@ -0,0 +1,74 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardDuplicateDetector;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardInstantSearch;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.presentation.response.DeleteFlashcardsResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Handler for DeleteFlashcardsCommand
+ * Deletes the user's flashcards among the given IDs with one statement
+ * and removes them from the duplicate and search indexes
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class DeleteFlashcardsCommandHandler implements Command.Handler<DeleteFlashcardsCommand, DeleteFlashcardsResponse> {
+
+    // Bounds the statement's array parameter (16 bytes per ID) and the rows locked by one transaction
+    private static final int MAX_IDS = 10_000;
+
+    private final FlashcardRepository flashcardRepository;
+    private final FlashcardDuplicateDetector duplicateDetector;
+    private final FlashcardInstantSearch instantSearch;
+
+    @Override
+    public DeleteFlashcardsResponse handle(DeleteFlashcardsCommand command) {
+        log.info("Deleting {} flashcards, user: {}",
+            command.flashcardIds() != null ? command.flashcardIds().size() : 0, command.userId());
+
+        validate(command);
+        Set<UUID> requested = new LinkedHashSet<>(command.flashcardIds());
+
+        List<UUID> deleted = flashcardRepository.deleteAllByIdAndUserId(command.userId(), requested);
+        deleted.forEach(id -> {
+            duplicateDetector.removeFlashcard(command.userId(), id);
+            instantSearch.removeFlashcard(command.userId(), id);
+        });
+
+        Set<UUID> deletedIds = new HashSet<>(deleted);
+        List<UUID> notFoundIds = requested.stream()
+            .filter(id -> !deletedIds.contains(id))
+            .toList();
+
+        log.info("Deleted {} flashcards, {} not found, user: {}", deleted.size(), notFoundIds.size(), command.userId());
+        return new DeleteFlashcardsResponse(deleted.size(), notFoundIds);
+    }
+
+    private static void validate(DeleteFlashcardsCommand command) {
+        if (command.userId() == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (command.flashcardIds() == null || command.flashcardIds().isEmpty()) {
+            throw new IllegalArgumentException("Flashcard IDs cannot be empty");
+        }
+        if (command.flashcardIds().size() > MAX_IDS) {
+            throw new IllegalArgumentException(
+                "Cannot delete more than " + MAX_IDS + " flashcards at once, got: " + command.flashcardIds().size());
+        }
+        if (command.flashcardIds().stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Flashcard IDs cannot contain null");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardExportFormat;
+import com.ten.devs.cards.cards.shared.application.ReadOnlyCommand;
+import lombok.Builder;
+
+import java.io.OutputStream;
+import java.util.UUID;
+
+/**
+ * Command for streaming all user's flashcards into a file download
+ * Maps to GET /flashcards/export endpoint
+ *
+ * Read-only transaction: the rows are read from a database cursor that lives as long as the transaction,
+ * so the command must be sent by the code writing the response body (not before it).
+ */
+@Builder
+public record ExportFlashcardsCommand(
+    UUID userId,
+    FlashcardExportFormat format,
+    OutputStream output     // Response body, not closed by the handler
+) implements ReadOnlyCommand<Long> {
+}
@@ -0,0 +1,62 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardExportFormat;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Handler for ExportFlashcardsCommand
+ * Writes every flashcard of the user in the requested format, oldest first
+ *
+ * Memory use does not depend on deck size: rows come from a database cursor
+ * one fetch batch at a time and each is written to a fixed-size buffer as soon as it is read.
+ * A client disconnecting mid-export fails the write, which stops the query.
+ * Returns the number of exported flashcards.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class ExportFlashcardsCommandHandler implements Command.Handler<ExportFlashcardsCommand, Long> {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FlashcardRepository flashcardRepository;
+
+    @Override
+    public Long handle(ExportFlashcardsCommand command) {
+        log.info("Exporting flashcards of user: {}, format: {}", command.userId(), command.format());
+
+        FlashcardExportFormat format = command.format();
+        Writer out = new BufferedWriter(new OutputStreamWriter(command.output(), StandardCharsets.UTF_8), BUFFER_SIZE);
+        AtomicLong exported = new AtomicLong();
+
+        try {
+            format.writeHeader(out);
+            flashcardRepository.forEachByUserId(command.userId(), flashcard -> {
+                try {
+                    format.writeRecord(out, flashcard);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                exported.incrementAndGet();
+            });
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Export of flashcards failed for user " + command.userId(), e);
+        }
+
+        log.info("Exported {} flashcards of user {}", exported.get(), command.userId());
+        return exported.get();
+    }
+}
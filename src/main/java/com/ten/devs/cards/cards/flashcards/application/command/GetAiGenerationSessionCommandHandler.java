@@ -1,9 +1,8 @@
 package com.ten.devs.cards.cards.flashcards.application.command;
 
 import an.awesome.pipelinr.Command;
-import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSession;
 import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionRepository;
-import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionSnapshot;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionSummary;
 import com.ten.devs.cards.cards.flashcards.presentation.response.GetAiSessionResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +16,9 @@ import org.springframework.stereotype.Component;
  * - Session must exist
  * - User must own the session
  *
+ * Reads a narrow session summary (no input text, no suggestions) -
+ * this is the most frequently polled AI endpoint.
+ *
  * Follows hexagonal architecture:
  * - Depends on domain repository PORTS (GENERIC interfaces)
  * - No dependencies on infrastructure implementations
@@ -33,28 +35,25 @@ class GetAiGenerationSessionCommandHandler implements Command.Handler<GetAiGener
         log.info("Retrieving AI generation session: {}, user: {}",
             command.sessionId(), command.userId());
 
-        // 1. Find session and verify it exists
-        AiGenerationSession session = sessionRepository.findById(command.sessionId())
+        // 1. Find session summary and verify it exists
+        AiGenerationSessionSummary summary = sessionRepository.findSummaryById(command.sessionId())
             .orElseThrow(() -> new IllegalArgumentException(
                 "Session not found: " + command.sessionId()));
 
-        // 2. Verify ownership using domain method
-        session.ensureOwnedBy(command.userId());
-
-        // 3. Get snapshot to access state
-        AiGenerationSessionSnapshot snapshot = session.toSnapshot();
+        // 2. Verify ownership
+        summary.ensureOwnedBy(command.userId());
 
-        log.debug("Found session {} with status: {}", snapshot.id(), snapshot.status());
+        log.debug("Found session {} with status: {}", summary.id(), summary.status());
 
-        // 4. Map to response DTO
+        // 3. Map to response DTO
         return new GetAiSessionResponse(
-            snapshot.id(),
-            snapshot.status().name(),
-            snapshot.generatedCount(),
-            snapshot.acceptedCount(),
-            snapshot.aiModel(),
-            snapshot.apiCost(),
-            snapshot.createdAt()
+            summary.id(),
+            summary.status().name(),
+            summary.generatedCount(),
+            summary.acceptedCount(),
+            summary.aiModel(),
+            summary.apiCost(),
+            summary.createdAt()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import com.ten.devs.cards.cards.flashcards.presentation.response.GetAiSessionsResponse;
+import com.ten.devs.cards.cards.shared.application.ReadOnlyCommand;
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Command for retrieving user's AI generation session history with keyset pagination
+ * Maps to GET /ai/sessions endpoint
+ * Based on ai_generation_sessions table entity, newest sessions first
+ */
+@Builder
+public record GetAiSessionsCommand(
+    UUID userId,
+    String status,          // Optional filter: PENDING, COMPLETED, FAILED
+    Integer size,           // Default 20, max 100
+    String cursor           // Opaque nextCursor of previous page, null for first page
+) implements ReadOnlyCommand<GetAiSessionsResponse> {
+}
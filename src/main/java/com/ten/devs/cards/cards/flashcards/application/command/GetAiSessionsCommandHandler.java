@@ -0,0 +1,80 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionHistoryPage;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionHistoryQuery;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionKeyset;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionRepository;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionStatus;
+import com.ten.devs.cards.cards.flashcards.presentation.response.GetAiSessionsResponse;
+import com.ten.devs.cards.cards.flashcards.presentation.response.GetAiSessionsResponse.AiSessionSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Handler for GetAiSessionsCommand
+ * Retrieves user's AI generation session history, newest first, with keyset pagination
+ *
+ * Only narrow session rows are read - input text is represented by its stored preview
+ * and suggestions are not loaded, so page cost does not depend on input sizes.
+ * Position of a page is an opaque cursor (nextCursor of the previous page), not an offset.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class GetAiSessionsCommandHandler implements Command.Handler<GetAiSessionsCommand, GetAiSessionsResponse> {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final String CURSOR_LISTING = "aiSessions";
+
+    private final AiGenerationSessionRepository sessionRepository;
+
+    @Override
+    public GetAiSessionsResponse handle(GetAiSessionsCommand command) {
+        log.info("Retrieving AI session history for user: {}, status: {}, size: {}",
+            command.userId(), command.status(), command.size());
+
+        AiGenerationSessionHistoryPage page = sessionRepository.findHistoryPage(AiGenerationSessionHistoryQuery.builder()
+            .userId(command.userId())
+            .status(command.status() != null ? AiGenerationSessionStatus.valueOf(command.status()) : null)
+            .after(command.cursor() != null ? decodeCursor(command.cursor()) : null)
+            .size(command.size() != null ? command.size() : DEFAULT_PAGE_SIZE)
+            .build());
+
+        List<AiSessionSummary> content = page.content().stream()
+            .map(session -> new AiSessionSummary(
+                session.id(),
+                session.status().name(),
+                session.generatedCount(),
+                session.acceptedCount(),
+                session.aiModel(),
+                session.inputPreview(),
+                session.createdAt()
+            ))
+            .toList();
+
+        return new GetAiSessionsResponse(
+            content,
+            page.hasNext() ? encodeCursor(page.next()) : null
+        );
+    }
+
+    private static String encodeCursor(AiGenerationSessionKeyset keyset) {
+        return KeysetCursorCodec.encode(CURSOR_LISTING, keyset.createdAt().toString(), keyset.id().toString());
+    }
+
+    private static AiGenerationSessionKeyset decodeCursor(String cursor) {
+        String[] position = KeysetCursorCodec.decode(cursor, CURSOR_LISTING, 2);
+        try {
+            return new AiGenerationSessionKeyset(Instant.parse(position[0]), UUID.fromString(position[1]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor, e);
+        }
+    }
+}
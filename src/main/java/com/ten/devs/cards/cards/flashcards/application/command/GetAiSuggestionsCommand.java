@@ -1,7 +1,7 @@
 package com.ten.devs.cards.cards.flashcards.application.command;
 
-import an.awesome.pipelinr.Command;
 import com.ten.devs.cards.cards.flashcards.presentation.response.GetAiSuggestionsResponse;
+import com.ten.devs.cards.cards.shared.application.ReadOnlyCommand;
 import lombok.Builder;
 
 import java.util.UUID;
@@ -15,5 +15,5 @@ import java.util.UUID;
 public record GetAiSuggestionsCommand(
     UUID userId,
     UUID sessionId
-) implements Command<GetAiSuggestionsResponse> {
+) implements ReadOnlyCommand<GetAiSuggestionsResponse> {
 }
\ No newline at end of file
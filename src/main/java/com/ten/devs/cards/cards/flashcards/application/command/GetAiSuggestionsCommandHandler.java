@@ -1,9 +1,9 @@
 package com.ten.devs.cards.cards.flashcards.application.command;
 
 import an.awesome.pipelinr.Command;
-import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSession;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardDuplicateDetector;
 import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionRepository;
-import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionSnapshot;
+import com.ten.devs.cards.cards.flashcards.domain.AiSuggestionsView;
 import com.ten.devs.cards.cards.flashcards.presentation.response.GetAiSuggestionsResponse;
 import com.ten.devs.cards.cards.flashcards.presentation.response.GetAiSuggestionsResponse.FlashcardSuggestion;
 import lombok.RequiredArgsConstructor;
@@ -14,18 +14,21 @@ import java.util.List;
 
 /**
  * Handler for GetAiSuggestionsCommand
- * Retrieves AI-generated flashcard suggestions from the AiGenerationSession aggregate.
+ * Retrieves AI-generated flashcard suggestions of an AiGenerationSession.
  *
  * Business rules:
  * - Session must exist
  * - User must own the session
  * - Session must be COMPLETED (suggestions only available after generation)
+ * - Suggestions duplicating existing flashcards are flagged with the existing card ID
  *
  * Follows hexagonal architecture:
  * - Depends on domain repository PORTS (GENERIC interfaces)
  * - No dependencies on infrastructure implementations
  *
- * Suggestions are now part of the AiGenerationSession aggregate.
+ * Reads the suggestions view (session header + suggestions) instead of the whole
+ * aggregate - input text is never loaded, and views of COMPLETED sessions are
+ * served from the repository's cache.
  */
 @Slf4j
 @Component
@@ -33,6 +36,7 @@ import java.util.List;
 class GetAiSuggestionsCommandHandler implements Command.Handler<GetAiSuggestionsCommand, GetAiSuggestionsResponse> {
 
     private final AiGenerationSessionRepository sessionRepository;
+    private final FlashcardDuplicateDetector duplicateDetector;
 
     @Override
     public GetAiSuggestionsResponse handle(GetAiSuggestionsCommand command) {
@@ -40,49 +44,49 @@ class GetAiSuggestionsCommandHandler implements Command.Handler<GetAiSuggestions
             command.sessionId(), command.userId());
 
         // 1. Find session and verify it exists
-        AiGenerationSession session = sessionRepository.findById(command.sessionId())
+        AiSuggestionsView session = sessionRepository.findSuggestionsView(command.sessionId())
             .orElseThrow(() -> new IllegalArgumentException(
                 "Session not found: " + command.sessionId()));
 
-        // 2. Verify ownership using domain method
+        // 2. Verify ownership
         session.ensureOwnedBy(command.userId());
 
-        // 3. Check if session can provide suggestions using domain method
+        // 3. Check if session can provide suggestions
         if (!session.canProvideSuggestions()) {
-            // Get snapshot to extract status for response
-            AiGenerationSessionSnapshot snapshot = session.toSnapshot();
             log.info("Session {} cannot provide suggestions, status: {}",
-                command.sessionId(), snapshot.status());
+                command.sessionId(), session.status());
 
             return new GetAiSuggestionsResponse(
                 command.sessionId(),
-                snapshot.status().name(),
+                session.status().name(),
                 List.of()
             );
         }
 
-        // 4. Retrieve suggestions from the aggregate using business method
+        // 4. Retrieve suggestions of the session
         List<com.ten.devs.cards.cards.flashcards.domain.FlashcardSuggestion> domainSuggestions =
-            session.getSuggestions();
+            session.suggestions();
 
         log.info("Found {} suggestions for session {}",
             domainSuggestions.size(), command.sessionId());
 
-        // 5. Map domain suggestions to response DTOs
+        // 5. Map domain suggestions to response DTOs, flagging near-duplicates of existing cards
         List<FlashcardSuggestion> suggestions = domainSuggestions.stream()
             .map(domainSuggestion -> new FlashcardSuggestion(
                 domainSuggestion.id(),
                 domainSuggestion.frontContent(),
-                domainSuggestion.backContent()
+                domainSuggestion.backContent(),
+                duplicateDetector.findDuplicate(
+                    command.userId(),
+                    domainSuggestion.frontContent(),
+                    domainSuggestion.backContent()
+                ).orElse(null)
             ))
             .toList();
 
-        // 6. Get snapshot for response data
-        AiGenerationSessionSnapshot snapshot = session.toSnapshot();
-
         return new GetAiSuggestionsResponse(
             command.sessionId(),
-            snapshot.status().name(),
+            session.status().name(),
             suggestions
         );
     }
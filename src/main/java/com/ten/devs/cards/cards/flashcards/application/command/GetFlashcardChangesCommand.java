@@ -0,0 +1,19 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import com.ten.devs.cards.cards.flashcards.presentation.response.GetFlashcardChangesResponse;
+import com.ten.devs.cards.cards.shared.application.ReadOnlyCommand;
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Command for delta sync of user's flashcards
+ * Maps to GET /flashcards/changes endpoint
+ */
+@Builder
+public record GetFlashcardChangesCommand(
+    UUID userId,
+    String since,           // Opaque nextCursor of the previous sync, null for a full sync
+    Integer size            // Default 500, max 1000
+) implements ReadOnlyCommand<GetFlashcardChangesResponse> {
+}
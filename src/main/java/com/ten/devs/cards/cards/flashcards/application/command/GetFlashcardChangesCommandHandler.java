@@ -0,0 +1,90 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardChange;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardChangesPage;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardChangesQuery;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSummaryView;
+import com.ten.devs.cards.cards.flashcards.presentation.response.GetFlashcardChangesResponse;
+import com.ten.devs.cards.cards.flashcards.presentation.response.GetFlashcardsResponse.FlashcardSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Handler for GetFlashcardChangesCommand
+ * Returns changes of user's flashcards made since the client's last sync
+ *
+ * Sync protocol:
+ * - First sync without cursor returns the whole deck (in pages), no deletes
+ * - Every response carries nextCursor; the client stores it and passes it as since next time
+ * - Upserted cards replace the client's copy, deleted IDs are removed from it
+ * - While hasMore is true, the client syncs again right away
+ * A card changed several times since the cursor is returned once, in its current state
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class GetFlashcardChangesCommandHandler implements Command.Handler<GetFlashcardChangesCommand, GetFlashcardChangesResponse> {
+
+    private static final int DEFAULT_PAGE_SIZE = 500;
+    private static final String LISTING = "changes";
+
+    private final FlashcardRepository flashcardRepository;
+
+    @Override
+    public GetFlashcardChangesResponse handle(GetFlashcardChangesCommand command) {
+        log.info("Getting flashcard changes for user: {}, since: {}, size: {}",
+            command.userId(), command.since(), command.size());
+
+        FlashcardChangesPage page = flashcardRepository.findChanges(FlashcardChangesQuery.builder()
+            .userId(command.userId())
+            .after(command.since() != null ? decodeCursor(command.since()) : 0L)
+            .size(command.size() != null ? command.size() : DEFAULT_PAGE_SIZE)
+            .build());
+
+        List<FlashcardSummary> upserted = new ArrayList<>();
+        List<UUID> deleted = new ArrayList<>();
+        for (FlashcardChange change : page.changes()) {
+            if (change.isDeletion()) {
+                deleted.add(change.flashcardId());
+            } else {
+                upserted.add(toSummary(change.flashcard()));
+            }
+        }
+
+        log.info("Found {} upserted and {} deleted flashcards for user: {}, hasMore: {}",
+            upserted.size(), deleted.size(), command.userId(), page.hasNext());
+        return new GetFlashcardChangesResponse(upserted, deleted, encodeCursor(page.last()), page.hasNext());
+    }
+
+    private static FlashcardSummary toSummary(FlashcardSummaryView flashcard) {
+        return new FlashcardSummary(
+            flashcard.id(),
+            flashcard.frontContent(),
+            flashcard.backContent(),
+            flashcard.source().name(),
+            flashcard.createdAt(),
+            flashcard.updatedAt(),
+            flashcard.version()
+        );
+    }
+
+    private static String encodeCursor(long changeSeq) {
+        return KeysetCursorCodec.encode(LISTING, Long.toString(changeSeq));
+    }
+
+    private static long decodeCursor(String cursor) {
+        String[] position = KeysetCursorCodec.decode(cursor, LISTING, 1);
+        try {
+            return Long.parseLong(position[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor, e);
+        }
+    }
+}
@@ -1,22 +1,23 @@
 package com.ten.devs.cards.cards.flashcards.application.command;
 
-import an.awesome.pipelinr.Command;
 import com.ten.devs.cards.cards.flashcards.presentation.response.GetFlashcardsResponse;
+import com.ten.devs.cards.cards.shared.application.ReadOnlyCommand;
 import lombok.Builder;
 
 import java.util.UUID;
 
 /**
- * Command for retrieving user's flashcards with pagination
+ * Command for retrieving user's flashcards with keyset pagination
  * Maps to GET /flashcards endpoint
  * Based on flashcards table entity with pagination support
  */
 @Builder
 public record GetFlashcardsCommand(
     UUID userId,
-    Integer page,           // Default 0
+    Integer page,           // Default 0, informational only - position comes from cursor
     Integer size,           // Default 20, max 100
     String sort,            // Default "createdAt,desc"
-    String source           // Optional filter: AI, AI_USER, USER
-) implements Command<GetFlashcardsResponse> {
+    String source,          // Optional filter: AI, AI_USER, USER
+    String cursor           // Opaque nextCursor of previous page, null for first page
+) implements ReadOnlyCommand<GetFlashcardsResponse> {
 }
\ No newline at end of file
@@ -1,65 +1,98 @@
 package com.ten.devs.cards.cards.flashcards.application.command;
 
 import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardKeyset;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardPage;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardPageQuery;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSortOrder;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSource;
 import com.ten.devs.cards.cards.flashcards.presentation.response.GetFlashcardsResponse;
 import com.ten.devs.cards.cards.flashcards.presentation.response.GetFlashcardsResponse.FlashcardSummary;
 import com.ten.devs.cards.cards.flashcards.presentation.response.GetFlashcardsResponse.PageInfo;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Handler for GetFlashcardsCommand
- * Retrieves user's flashcards with pagination and filtering
+ * Retrieves user's flashcards with keyset pagination and filtering
+ *
+ * Pagination:
+ * - Position of a page is an opaque cursor (nextCursor of the previous page), not an offset,
+ *   so page latency does not grow with the position in the listing
+ * - Cursor is bound to the sort order it was issued for
+ * - Page number is echoed back for clients that display it
+ * - Totals come from maintained per-user counters (O(1)), not from COUNT(*) over the deck
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 class GetFlashcardsCommandHandler implements Command.Handler<GetFlashcardsCommand, GetFlashcardsResponse> {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final FlashcardRepository flashcardRepository;
+
     @Override
     public GetFlashcardsResponse handle(GetFlashcardsCommand command) {
-        // TODO: Replace with actual repository query with pagination
-        // For now, return dummy data
+        log.info("Retrieving flashcards for user: {}, sort: {}, source: {}, size: {}",
+            command.userId(), command.sort(), command.source(), command.size());
 
-        Instant now = Instant.now();
+        FlashcardSortOrder sortOrder = FlashcardSortOrder.fromValue(command.sort());
+        FlashcardSource source = command.source() != null ? FlashcardSource.valueOf(command.source()) : null;
+        int size = command.size() != null ? command.size() : DEFAULT_PAGE_SIZE;
 
-        List<FlashcardSummary> dummyFlashcards = List.of(
-                new FlashcardSummary(
-                        UUID.randomUUID(),
-                        "What is the capital of France?",
-                        "Paris",
-                        "USER",
-                        now.minusSeconds(3600),
-                        now.minusSeconds(3600)
-                ),
-                new FlashcardSummary(
-                        UUID.randomUUID(),
-                        "What is 2 + 2?",
-                        "4",
-                        "AI",
-                        now.minusSeconds(7200),
-                        now.minusSeconds(7200)
-                ),
-                new FlashcardSummary(
-                        UUID.randomUUID(),
-                        "What is the largest planet?",
-                        "Jupiter",
-                        "AI_USER",
-                        now.minusSeconds(10800),
-                        now.minusSeconds(1800)
-                )
-        );
+        FlashcardPage page = flashcardRepository.findPage(FlashcardPageQuery.builder()
+            .userId(command.userId())
+            .sortOrder(sortOrder)
+            .source(source)
+            .after(command.cursor() != null ? decodeCursor(command.cursor(), sortOrder) : null)
+            .size(size)
+            .build());
 
+        List<FlashcardSummary> content = page.content().stream()
+            .map(flashcard -> new FlashcardSummary(
+                flashcard.id(),
+                flashcard.frontContent(),
+                flashcard.backContent(),
+                flashcard.source().name(),
+                flashcard.createdAt(),
+                flashcard.updatedAt(),
+                flashcard.version()
+            ))
+            .toList();
+
+        long totalElements = flashcardRepository.countByUserId(command.userId(), source);
         PageInfo pageInfo = new PageInfo(
-                command.page() != null ? command.page() : 0,
-                command.size() != null ? command.size() : 20,
-                3L,  // Total elements
-                1    // Total pages
+            command.page() != null ? command.page() : 0,
+            size,
+            totalElements,
+            (int) ((totalElements + size - 1) / size)
         );
 
-        return new GetFlashcardsResponse(dummyFlashcards, pageInfo);
+        return new GetFlashcardsResponse(
+            content,
+            pageInfo,
+            page.hasNext() ? encodeCursor(page.next(), sortOrder) : null
+        );
+    }
+
+    private static String encodeCursor(FlashcardKeyset keyset, FlashcardSortOrder sortOrder) {
+        return KeysetCursorCodec.encode(sortOrder.value(), keyset.sortValue().toString(), keyset.id().toString());
+    }
+
+    private static FlashcardKeyset decodeCursor(String cursor, FlashcardSortOrder sortOrder) {
+        String[] position = KeysetCursorCodec.decode(cursor, sortOrder.value(), 2);
+        try {
+            return new FlashcardKeyset(Instant.parse(position[0]), UUID.fromString(position[1]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor, e);
+        }
     }
-}
\ No newline at end of file
+}
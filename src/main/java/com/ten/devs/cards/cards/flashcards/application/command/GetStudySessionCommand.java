@@ -1,7 +1,7 @@
 package com.ten.devs.cards.cards.flashcards.application.command;
 
-import an.awesome.pipelinr.Command;
 import com.ten.devs.cards.cards.flashcards.presentation.response.GetStudySessionResponse;
+import com.ten.devs.cards.cards.shared.application.ReadOnlyCommand;
 import lombok.Builder;
 
 import java.util.UUID;
@@ -14,5 +14,5 @@ import java.util.UUID;
 @Builder
 public record GetStudySessionCommand(
     UUID userId
-) implements Command<GetStudySessionResponse> {
+) implements ReadOnlyCommand<GetStudySessionResponse> {
 }
\ No newline at end of file
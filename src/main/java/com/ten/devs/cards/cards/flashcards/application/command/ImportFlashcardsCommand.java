@@ -0,0 +1,24 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardImportFormat;
+import com.ten.devs.cards.cards.flashcards.presentation.response.ImportFlashcardsResponse;
+import com.ten.devs.cards.cards.shared.application.NonTransactionalCommand;
+import lombok.Builder;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * Command for creating manual flashcards from an uploaded file
+ * Maps to POST /flashcards/import endpoint
+ *
+ * Not transactional (NonTransactionalCommand): the file is read at the client's pace,
+ * each stored batch is its own short transaction
+ */
+@Builder
+public record ImportFlashcardsCommand(
+    UUID userId,
+    FlashcardImportFormat format,
+    InputStream input       // UTF-8 file content, not closed by the handler
+) implements NonTransactionalCommand<ImportFlashcardsResponse> {
+}
@@ -0,0 +1,144 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardDuplicateDetector;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardImportReader;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardImportRow;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardInstantSearch;
+import com.ten.devs.cards.cards.flashcards.domain.Flashcard;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
+import com.ten.devs.cards.cards.flashcards.presentation.response.ImportFlashcardsResponse;
+import com.ten.devs.cards.cards.flashcards.presentation.response.ImportFlashcardsResponse.RowError;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handler for ImportFlashcardsCommand
+ * Creates manual flashcards from the rows of an uploaded file
+ *
+ * Business rules:
+ * - Every row is validated like a manually created flashcard (Flashcard.createManual)
+ * - Invalid rows are skipped and reported with their line; they never abort the import
+ * - Valid rows are stored in batches of batch-size with one bulk load (COPY) each
+ *
+ * The file is parsed incrementally, so memory use depends on batch size, not on file size.
+ * Batches already stored stay stored if a later part of the file cannot be read.
+ */
+@Slf4j
+@Component
+class ImportFlashcardsCommandHandler implements Command.Handler<ImportFlashcardsCommand, ImportFlashcardsResponse> {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final FlashcardRepository flashcardRepository;
+    private final FlashcardDuplicateDetector duplicateDetector;
+    private final FlashcardInstantSearch instantSearch;
+    private final int batchSize;
+
+    ImportFlashcardsCommandHandler(
+            FlashcardRepository flashcardRepository,
+            FlashcardDuplicateDetector duplicateDetector,
+            FlashcardInstantSearch instantSearch,
+            @Value("${cards.flashcards.import.batch-size:1000}") int batchSize) {
+
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Import batch size must be positive: " + batchSize);
+        }
+        this.flashcardRepository = flashcardRepository;
+        this.duplicateDetector = duplicateDetector;
+        this.instantSearch = instantSearch;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public ImportFlashcardsResponse handle(ImportFlashcardsCommand command) {
+        log.info("Importing flashcards for user: {}, format: {}", command.userId(), command.format());
+
+        Import progress = new Import();
+        try {
+            BufferedReader in = new BufferedReader(new InputStreamReader(command.input(), StandardCharsets.UTF_8));
+            FlashcardImportReader reader = command.format().open(in);
+
+            List<Flashcard> batch = new ArrayList<>(batchSize);
+            while (true) {
+                FlashcardImportRow row;
+                try {
+                    row = reader.next();
+                } catch (IllegalArgumentException e) {
+                    progress.reject(reader.line(), e.getMessage());
+                    continue;
+                }
+                if (row == null) {
+                    break;
+                }
+
+                try {
+                    batch.add(toFlashcard(command, row));
+                } catch (IllegalArgumentException e) {
+                    progress.reject(row.line(), e.getMessage());
+                    continue;
+                }
+                if (batch.size() == batchSize) {
+                    store(batch, progress);
+                }
+            }
+            store(batch, progress);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Import of flashcards failed for user " + command.userId()
+                + " after " + progress.imported + " flashcards", e);
+        }
+
+        log.info("Imported {} flashcards for user {}, skipped {} invalid rows",
+            progress.imported, command.userId(), progress.failed);
+        return new ImportFlashcardsResponse(progress.imported, progress.failed, progress.errors);
+    }
+
+    private static Flashcard toFlashcard(ImportFlashcardsCommand command, FlashcardImportRow row) {
+        // PostgreSQL text cannot store NUL - one such row would fail the whole COPY
+        if (containsNul(row.frontContent()) || containsNul(row.backContent())) {
+            throw new IllegalArgumentException("Content cannot contain NUL characters");
+        }
+        return Flashcard.createManual(command.userId(), row.frontContent(), row.backContent());
+    }
+
+    private void store(List<Flashcard> batch, Import progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        progress.imported += flashcardRepository.copyAll(batch);
+        batch.forEach(flashcard -> {
+            FlashcardSnapshot snapshot = flashcard.toSnapshot();
+            duplicateDetector.indexFlashcard(snapshot);
+            instantSearch.indexFlashcard(snapshot);
+        });
+        batch.clear();
+    }
+
+    private static boolean containsNul(String text) {
+        return text != null && text.indexOf('\0') >= 0;
+    }
+
+    private static final class Import {
+
+        private final List<RowError> errors = new ArrayList<>();
+        private int imported;
+        private int failed;
+
+        void reject(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, message));
+            }
+        }
+    }
+}
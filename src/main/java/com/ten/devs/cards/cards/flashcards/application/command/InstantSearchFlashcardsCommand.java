@@ -0,0 +1,22 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import com.ten.devs.cards.cards.flashcards.presentation.response.InstantSearchFlashcardsResponse;
+import com.ten.devs.cards.cards.shared.application.NonTransactionalCommand;
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Command for typo-tolerant search-as-you-type over user's flashcards
+ * Maps to GET /flashcards/instant-search endpoint
+ *
+ * Not transactional (NonTransactionalCommand): served from memory, only the first search
+ * of a user loads the index, with its own repository transaction
+ */
+@Builder
+public record InstantSearchFlashcardsCommand(
+    UUID userId,
+    String query,           // Typed text, max 100 characters
+    Integer limit           // Default 10, max 50
+) implements NonTransactionalCommand<InstantSearchFlashcardsResponse> {
+}
@@ -0,0 +1,60 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardInstantSearch;
+import com.ten.devs.cards.cards.flashcards.presentation.response.InstantSearchFlashcardsResponse;
+import com.ten.devs.cards.cards.flashcards.presentation.response.InstantSearchFlashcardsResponse.InstantSearchHit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Handler for InstantSearchFlashcardsCommand
+ * Finds user's flashcards best matching typed text in the in-memory search index
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class InstantSearchFlashcardsCommandHandler
+        implements Command.Handler<InstantSearchFlashcardsCommand, InstantSearchFlashcardsResponse> {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final FlashcardInstantSearch instantSearch;
+
+    @Override
+    public InstantSearchFlashcardsResponse handle(InstantSearchFlashcardsCommand command) {
+        log.debug("Instant search for user: {}, queryLength: {}, limit: {}",
+            command.userId(), command.query() != null ? command.query().length() : 0, command.limit());
+
+        validate(command);
+        int limit = command.limit() != null ? command.limit() : DEFAULT_LIMIT;
+
+        List<InstantSearchHit> content = instantSearch.search(command.userId(), command.query(), limit).stream()
+            .map(hit -> new InstantSearchHit(hit.flashcardId(), hit.frontContent(), hit.backContent(), hit.score()))
+            .toList();
+
+        return new InstantSearchFlashcardsResponse(content);
+    }
+
+    private static void validate(InstantSearchFlashcardsCommand command) {
+        if (command.userId() == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (command.query() == null || command.query().isBlank()) {
+            throw new IllegalArgumentException("Search text cannot be blank");
+        }
+        if (command.query().length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException(
+                "Search text cannot exceed " + MAX_QUERY_LENGTH + " characters, got: " + command.query().length());
+        }
+        if (command.limit() != null && (command.limit() < 1 || command.limit() > MAX_LIMIT)) {
+            throw new IllegalArgumentException(
+                "Limit must be between 1 and " + MAX_LIMIT + ", got: " + command.limit());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * Encodes keyset pagination positions as opaque cursors.
+ *
+ * A cursor is URL-safe Base64 of "v1|part|part|...". The first part names the listing
+ * (e.g., its sort order) so a cursor issued for one listing is rejected by another.
+ * Clients must treat cursors as opaque tokens - the format may change between versions.
+ */
+final class KeysetCursorCodec {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+    private static final Pattern SPLITTER = Pattern.compile(Pattern.quote(SEPARATOR));
+
+    private KeysetCursorCodec() {
+    }
+
+    /**
+     * Encodes cursor parts.
+     *
+     * @param parts listing name followed by position values, must not contain '|'
+     * @return opaque cursor
+     */
+    static String encode(String... parts) {
+        String payload = VERSION + SEPARATOR + String.join(SEPARATOR, parts);
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes cursor issued for given listing.
+     *
+     * @param cursor opaque cursor
+     * @param listing expected listing name (first encoded part)
+     * @param positionParts expected number of position values
+     * @return position values (without version and listing name)
+     * @throws IllegalArgumentException if cursor is malformed or belongs to another listing
+     */
+    static String[] decode(String cursor, String listing, int positionParts) {
+        String payload;
+        try {
+            payload = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor, e);
+        }
+
+        String[] parts = SPLITTER.split(payload, -1);
+        if (parts.length != positionParts + 2 || !VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor);
+        }
+        if (!listing.equals(parts[1])) {
+            throw new IllegalArgumentException(
+                "Cursor was issued for listing '" + parts[1] + "', not '" + listing + "'");
+        }
+
+        String[] position = new String[positionParts];
+        System.arraycopy(parts, 2, position, 0, positionParts);
+        return position;
+    }
+}
@@ -0,0 +1,20 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import com.ten.devs.cards.cards.flashcards.presentation.response.SearchFlashcardsResponse;
+import com.ten.devs.cards.cards.shared.application.ReadOnlyCommand;
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Command for full-text search over user's flashcards with keyset pagination
+ * Maps to GET /flashcards/search endpoint
+ */
+@Builder
+public record SearchFlashcardsCommand(
+    UUID userId,
+    String query,           // Web search syntax, max 200 characters
+    Integer size,           // Default 20, max 100
+    String cursor           // Opaque nextCursor of previous page, null for first page
+) implements ReadOnlyCommand<SearchFlashcardsResponse> {
+}
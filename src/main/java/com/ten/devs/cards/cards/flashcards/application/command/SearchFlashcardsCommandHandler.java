@@ -0,0 +1,77 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSearchKeyset;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSearchPage;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSearchQuery;
+import com.ten.devs.cards.cards.flashcards.presentation.response.GetFlashcardsResponse.FlashcardSummary;
+import com.ten.devs.cards.cards.flashcards.presentation.response.SearchFlashcardsResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Handler for SearchFlashcardsCommand
+ * Finds user's flashcards matching search text, most relevant first
+ *
+ * Pagination:
+ * - Position of a page is an opaque cursor holding (rank, id) of the previous page's last card
+ * - No totals: counting all matches would cost as much as ranking them
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class SearchFlashcardsCommandHandler implements Command.Handler<SearchFlashcardsCommand, SearchFlashcardsResponse> {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final String LISTING = "search";
+
+    private final FlashcardRepository flashcardRepository;
+
+    @Override
+    public SearchFlashcardsResponse handle(SearchFlashcardsCommand command) {
+        log.info("Searching flashcards for user: {}, queryLength: {}, size: {}",
+            command.userId(), command.query() != null ? command.query().length() : 0, command.size());
+
+        FlashcardSearchPage page = flashcardRepository.search(FlashcardSearchQuery.builder()
+            .userId(command.userId())
+            .text(command.query())
+            .after(command.cursor() != null ? decodeCursor(command.cursor()) : null)
+            .size(command.size() != null ? command.size() : DEFAULT_PAGE_SIZE)
+            .build());
+
+        List<FlashcardSummary> content = page.content().stream()
+            .map(flashcard -> new FlashcardSummary(
+                flashcard.id(),
+                flashcard.frontContent(),
+                flashcard.backContent(),
+                flashcard.source().name(),
+                flashcard.createdAt(),
+                flashcard.updatedAt(),
+                flashcard.version()
+            ))
+            .toList();
+
+        return new SearchFlashcardsResponse(
+            content,
+            page.hasNext() ? encodeCursor(page.next()) : null
+        );
+    }
+
+    private static String encodeCursor(FlashcardSearchKeyset keyset) {
+        return KeysetCursorCodec.encode(LISTING, Float.toString(keyset.rank()), keyset.id().toString());
+    }
+
+    private static FlashcardSearchKeyset decodeCursor(String cursor) {
+        String[] position = KeysetCursorCodec.decode(cursor, LISTING, 2);
+        try {
+            return new FlashcardSearchKeyset(Float.parseFloat(position[0]), UUID.fromString(position[1]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor, e);
+        }
+    }
+}
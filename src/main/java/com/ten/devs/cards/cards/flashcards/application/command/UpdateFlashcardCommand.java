@@ -16,6 +16,7 @@ public record UpdateFlashcardCommand(
     UUID userId,
     UUID flashcardId,
     String frontContent,    // 1-1000 characters
-    String backContent      // 1-1000 characters
+    String backContent,     // 1-1000 characters
+    Long expectedVersion    // From If-Match header, null for unconditional update
 ) implements Command<UpdateFlashcardResponse> {
 }
\ No newline at end of file
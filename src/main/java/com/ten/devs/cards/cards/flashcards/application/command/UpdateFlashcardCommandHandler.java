@@ -1,38 +1,76 @@
 package com.ten.devs.cards.cards.flashcards.application.command;
 
 import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardDuplicateDetector;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardInstantSearch;
+import com.ten.devs.cards.cards.flashcards.domain.Flashcard;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardNotFoundException;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardVersionConflictException;
 import com.ten.devs.cards.cards.flashcards.presentation.response.UpdateFlashcardResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.time.Instant;
-
 /**
  * Handler for UpdateFlashcardCommand
- * Updates existing flashcard content and adjusts source tracking
+ * Updates existing flashcard content and refreshes its duplicate and search index entries
+ *
+ * The update is a single conditional statement (ownership, optional version check, AI -> AI_USER,
+ * version bump) - the flashcard is read only to explain why nothing was updated
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 class UpdateFlashcardCommandHandler implements Command.Handler<UpdateFlashcardCommand, UpdateFlashcardResponse> {
 
+    private final FlashcardRepository flashcardRepository;
+    private final FlashcardDuplicateDetector duplicateDetector;
+    private final FlashcardInstantSearch instantSearch;
+
     @Override
     public UpdateFlashcardResponse handle(UpdateFlashcardCommand command) {
-        // TODO: Replace with actual domain logic
-        // - Find flashcard by ID
-        // - Verify ownership (userId matches)
-        // - Update content
-        // - If source was AI, change to AI_USER
-        // - Save and return
-        // For now, return dummy data
+        log.info("Updating flashcard: {}, user: {}", command.flashcardId(), command.userId());
 
-        Instant now = Instant.now();
+        Flashcard.validateContent(command.frontContent(), command.backContent());
 
-        return new UpdateFlashcardResponse(
+        FlashcardSnapshot snapshot = flashcardRepository.updateContent(
                 command.flashcardId(),
+                command.userId(),
                 command.frontContent(),
                 command.backContent(),
-                "AI_USER",  // Simulating an edited AI-generated card
-                now
+                command.expectedVersion())
+            .orElseThrow(() -> updateRejected(command))
+            .toSnapshot();
+        duplicateDetector.indexFlashcard(snapshot);
+        instantSearch.indexFlashcard(snapshot);
+
+        return new UpdateFlashcardResponse(
+                snapshot.id(),
+                snapshot.frontContent(),
+                snapshot.backContent(),
+                snapshot.source().name(),
+                snapshot.updatedAt(),
+                snapshot.version()
         );
     }
-}
\ No newline at end of file
+
+    // Nothing was updated - tells a missing or foreign flashcard from a stale version (error path only)
+    private RuntimeException updateRejected(UpdateFlashcardCommand command) {
+        // Another user's flashcard is reported like a missing one, so its existence is not confirmed
+        Flashcard flashcard = flashcardRepository.findById(command.flashcardId()).orElse(null);
+        if (flashcard == null || !flashcard.isOwnedBy(command.userId())) {
+            return new FlashcardNotFoundException(command.flashcardId());
+        }
+
+        // Without If-Match only a concurrent delete leaves nothing to update
+        if (command.expectedVersion() == null) {
+            return new FlashcardNotFoundException(command.flashcardId());
+        }
+        long currentVersion = flashcard.toSnapshot().version();
+        log.info("Flashcard {} not updated, expected version: {}, current version: {}",
+            command.flashcardId(), command.expectedVersion(), currentVersion);
+        return new FlashcardVersionConflictException(command.flashcardId(), command.expectedVersion(), currentVersion);
+    }
+}
@@ -0,0 +1,129 @@
+package com.ten.devs.cards.cards.flashcards.application.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Incremental RFC 4180 CSV reader of flashcard rows.
+ *
+ * Reads one character at a time from a buffered reader: quoted fields may contain
+ * separators, doubled quotes and line breaks. A record ends with CRLF or LF.
+ */
+final class CsvFlashcardImportReader implements FlashcardImportReader {
+
+    private static final List<String> FRONT_COLUMNS = List.of("front_content", "front", "frontcontent");
+    private static final List<String> BACK_COLUMNS = List.of("back_content", "back", "backcontent");
+
+    private final BufferedReader in;
+    private final int frontColumn;
+    private final int backColumn;
+    private long nextLine = 1;
+    private long line;
+
+    CsvFlashcardImportReader(BufferedReader in) throws IOException {
+        this.in = in;
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty, header row is required");
+        }
+        this.frontColumn = columnOf(header, FRONT_COLUMNS);
+        this.backColumn = columnOf(header, BACK_COLUMNS);
+    }
+
+    @Override
+    public FlashcardImportRow next() throws IOException {
+        List<String> record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.getFirst().isEmpty()); // blank line
+
+        if (record.size() <= Math.max(frontColumn, backColumn)) {
+            throw new IllegalArgumentException(
+                "Row has " + record.size() + " columns, expected at least " + (Math.max(frontColumn, backColumn) + 1));
+        }
+        return new FlashcardImportRow(line, record.get(frontColumn), record.get(backColumn));
+    }
+
+    @Override
+    public long line() {
+        return line;
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = in.read();
+        if (c == -1) {
+            return null;
+        }
+        line = nextLine;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean afterQuote = false;
+
+        while (true) {
+            if (c == -1) {
+                if (quoted) {
+                    throw new IllegalArgumentException("Quoted field is not closed before the end of the file");
+                }
+                fields.add(field.toString());
+                return fields;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    quoted = false;
+                    afterQuote = true;
+                } else {
+                    if (c == '\n') {
+                        nextLine++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                if (afterQuote) {
+                    field.append('"'); // doubled quote
+                }
+                quoted = true;
+                afterQuote = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                afterQuote = false;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    in.mark(1);
+                    if (in.read() != '\n') {
+                        in.reset();
+                    }
+                }
+                nextLine++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+                afterQuote = false;
+            }
+            c = in.read();
+        }
+    }
+
+    private static int columnOf(List<String> header, List<String> names) {
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).strip().toLowerCase(Locale.ROOT);
+            if (i == 0 && column.startsWith("\uFEFF")) {
+                column = column.substring(1); // UTF-8 byte order mark written by spreadsheet tools
+            }
+            if (names.contains(column)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("CSV header has no " + names.getFirst() + " column");
+    }
+}
@@ -0,0 +1,66 @@
+package com.ten.devs.cards.cards.flashcards.application.service;
+
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Port (interface) for detecting near-duplicate flashcards within a user's deck.
+ *
+ * GENERIC interface - NOT related to concrete implementation (MinHash, n-gram, full-text, etc.).
+ * Defines business contract: "Does this user already own a card with (almost) the same content?".
+ *
+ * Implementations keep a per-user index that is:
+ * - built lazily (and rebuildable) from FlashcardRepository.findByUserId
+ * - maintained incrementally by command handlers on create, update and delete;
+ *   reported changes take effect once the command's transaction commits
+ */
+public interface FlashcardDuplicateDetector {
+
+    /**
+     * Finds an existing flashcard of the user whose content is a near-duplicate of given content.
+     *
+     * @param userId owner of the deck to search
+     * @param frontContent candidate front content
+     * @param backContent candidate back content
+     * @return ID of the most similar existing flashcard, empty if there is no near-duplicate
+     */
+    Optional<UUID> findDuplicate(UUID userId, String frontContent, String backContent);
+
+    /**
+     * Like findDuplicate, also comparing with cards accepted earlier in the same request -
+     * they are not in the index until their transaction commits.
+     *
+     * @param userId owner of the deck to search
+     * @param frontContent candidate front content
+     * @param backContent candidate back content
+     * @param accepted cards of the user accepted earlier in the same request
+     * @return ID of the most similar existing flashcard, else of the first similar accepted one;
+     *         empty if there is no near-duplicate
+     */
+    Optional<UUID> findDuplicate(UUID userId, String frontContent, String backContent, List<FlashcardSnapshot> accepted);
+
+    /**
+     * Adds a created flashcard to the index or replaces the entry of an updated one.
+     *
+     * @param flashcard current state of the flashcard
+     */
+    void indexFlashcard(FlashcardSnapshot flashcard);
+
+    /**
+     * Removes a deleted flashcard from the index.
+     *
+     * @param userId owner of the flashcard
+     * @param flashcardId deleted flashcard ID
+     */
+    void removeFlashcard(UUID userId, UUID flashcardId);
+
+    /**
+     * Drops the user's index and rebuilds it from the repository.
+     *
+     * @param userId owner of the deck
+     */
+    void rebuild(UUID userId);
+}
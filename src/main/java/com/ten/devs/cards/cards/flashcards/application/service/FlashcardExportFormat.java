@@ -0,0 +1,177 @@
+package com.ten.devs.cards.cards.flashcards.application.service;
+
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSummaryView;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * File formats of a deck export.
+ *
+ * Each format writes an optional header and then one record per flashcard, so an export
+ * is written while rows are read - nothing is buffered beyond the current record.
+ *
+ * - CSV: RFC 4180, header row, fields quoted when they contain separators, quotes or line breaks
+ * - JSON_LINES: one JSON object per line (https://jsonlines.org)
+ * - ANKI: Anki text import file with file headers (Anki 2.1.55+): tab-separated front, back
+ *   and the card's source as a tag; importing it into the Basic note type needs no mapping
+ */
+public enum FlashcardExportFormat {
+
+    CSV("csv", "text/csv;charset=UTF-8", "csv") {
+        @Override
+        public void writeHeader(Writer out) throws IOException {
+            out.write("id,front_content,back_content,source,created_at,updated_at\r\n");
+        }
+
+        @Override
+        public void writeRecord(Writer out, FlashcardSummaryView flashcard) throws IOException {
+            out.write(flashcard.id().toString());
+            out.write(',');
+            writeQuoted(out, flashcard.frontContent(), ',');
+            out.write(',');
+            writeQuoted(out, flashcard.backContent(), ',');
+            out.write(',');
+            out.write(flashcard.source().name());
+            out.write(',');
+            out.write(flashcard.createdAt().toString());
+            out.write(',');
+            out.write(flashcard.updatedAt().toString());
+            out.write("\r\n");
+        }
+    },
+
+    JSON_LINES("jsonl", "application/x-ndjson", "jsonl") {
+        @Override
+        public void writeHeader(Writer out) {
+            // Every line is a self-contained object
+        }
+
+        @Override
+        public void writeRecord(Writer out, FlashcardSummaryView flashcard) throws IOException {
+            out.write("{\"id\":\"");
+            out.write(flashcard.id().toString());
+            out.write("\",\"frontContent\":");
+            writeJsonString(out, flashcard.frontContent());
+            out.write(",\"backContent\":");
+            writeJsonString(out, flashcard.backContent());
+            out.write(",\"source\":\"");
+            out.write(flashcard.source().name());
+            out.write("\",\"createdAt\":\"");
+            out.write(flashcard.createdAt().toString());
+            out.write("\",\"updatedAt\":\"");
+            out.write(flashcard.updatedAt().toString());
+            out.write("\"}\n");
+        }
+    },
+
+    ANKI("anki", "text/plain;charset=UTF-8", "txt") {
+        @Override
+        public void writeHeader(Writer out) throws IOException {
+            out.write("#separator:tab\n#html:false\n#notetype:Basic\n#tags column:3\n");
+        }
+
+        @Override
+        public void writeRecord(Writer out, FlashcardSummaryView flashcard) throws IOException {
+            writeQuoted(out, flashcard.frontContent(), '\t');
+            out.write('\t');
+            writeQuoted(out, flashcard.backContent(), '\t');
+            out.write('\t');
+            out.write(flashcard.source().name().toLowerCase(Locale.ROOT));
+            out.write('\n');
+        }
+    };
+
+    private final String value;
+    private final String contentType;
+    private final String fileExtension;
+
+    FlashcardExportFormat(String value, String contentType, String fileExtension) {
+        this.value = value;
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Resolves export format from API value.
+     *
+     * @param value format value (e.g., "csv"), null for default
+     * @return matching format, CSV if value is null or blank
+     * @throws IllegalArgumentException if value is not supported
+     */
+    public static FlashcardExportFormat fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        for (FlashcardExportFormat format : values()) {
+            if (format.value.equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + value);
+    }
+
+    /**
+     * Writes what precedes the first record (column names, import directives).
+     *
+     * @param out destination
+     * @throws IOException if writing fails
+     */
+    public abstract void writeHeader(Writer out) throws IOException;
+
+    /**
+     * Writes one flashcard, including the record terminator.
+     *
+     * @param out destination
+     * @param flashcard flashcard to write
+     * @throws IOException if writing fails
+     */
+    public abstract void writeRecord(Writer out, FlashcardSummaryView flashcard) throws IOException;
+
+    public String value() {
+        return value;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+
+    // CSV-style quoting, also understood by Anki's importer
+    private static void writeQuoted(Writer out, String text, char separator) throws IOException {
+        if (text.indexOf(separator) < 0 && text.indexOf('"') < 0
+                && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            out.write(text);
+            return;
+        }
+        out.write('"');
+        out.write(text.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    private static void writeJsonString(Writer out, String text) throws IOException {
+        out.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+        out.write('"');
+    }
+}
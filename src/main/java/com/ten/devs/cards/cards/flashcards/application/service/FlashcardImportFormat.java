@@ -0,0 +1,67 @@
+package com.ten.devs.cards.cards.flashcards.application.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * File formats of a deck import.
+ *
+ * - CSV: RFC 4180 with a header row naming front_content and back_content columns
+ *   (front and back are accepted too; other columns are ignored, so a CSV export imports back)
+ * - JSON_LINES: one JSON object per line with frontContent and backContent
+ */
+public enum FlashcardImportFormat {
+
+    CSV("csv") {
+        @Override
+        public FlashcardImportReader open(BufferedReader in) throws IOException {
+            return new CsvFlashcardImportReader(in);
+        }
+    },
+
+    JSON_LINES("jsonl") {
+        @Override
+        public FlashcardImportReader open(BufferedReader in) {
+            return new JsonLinesFlashcardImportReader(in);
+        }
+    };
+
+    private final String value;
+
+    FlashcardImportFormat(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Resolves import format from API value.
+     *
+     * @param value format value (e.g., "csv"), null for default
+     * @return matching format, CSV if value is null or blank
+     * @throws IllegalArgumentException if value is not supported
+     */
+    public static FlashcardImportFormat fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        for (FlashcardImportFormat format : values()) {
+            if (format.value.equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported import format: " + value);
+    }
+
+    /**
+     * Starts reading a file.
+     *
+     * @param in file content
+     * @return reader of the file's rows
+     * @throws IllegalArgumentException if the file does not start as the format requires (e.g., CSV header)
+     * @throws IOException if reading the file fails
+     */
+    public abstract FlashcardImportReader open(BufferedReader in) throws IOException;
+
+    public String value() {
+        return value;
+    }
+}
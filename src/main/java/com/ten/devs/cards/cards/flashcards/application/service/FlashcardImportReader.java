@@ -0,0 +1,28 @@
+package com.ten.devs.cards.cards.flashcards.application.service;
+
+import java.io.IOException;
+
+/**
+ * Reads rows of an imported file one at a time, so a file of any size is parsed in constant memory.
+ */
+public interface FlashcardImportReader {
+
+    /**
+     * Reads the next row.
+     *
+     * A malformed row is consumed and reported with IllegalArgumentException;
+     * reading can continue with the following row.
+     *
+     * @return next row, null at the end of the file
+     * @throws IllegalArgumentException if the row is malformed
+     * @throws IOException if reading the file fails
+     */
+    FlashcardImportRow next() throws IOException;
+
+    /**
+     * Line where the row last returned or rejected by next() starts (1-based).
+     *
+     * @return line number, 0 before the first row
+     */
+    long line();
+}
@@ -0,0 +1,15 @@
+package com.ten.devs.cards.cards.flashcards.application.service;
+
+/**
+ * Single row of an imported file, not validated yet.
+ *
+ * @param line line of the file where the row starts (1-based)
+ * @param frontContent front side content, null if missing
+ * @param backContent back side content, null if missing
+ */
+public record FlashcardImportRow(
+    long line,
+    String frontContent,
+    String backContent
+) {
+}
@@ -0,0 +1,53 @@
+package com.ten.devs.cards.cards.flashcards.application.service;
+
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Port (interface) for as-you-type search within a user's deck.
+ *
+ * GENERIC interface - NOT related to concrete implementation (trigram index, search engine, etc.).
+ * Defines business contract: "Which of my cards match what I have typed so far?" -
+ * tolerant to typos and to an unfinished last word, fast enough to run on every keystroke.
+ *
+ * Implementations keep a per-user index that is:
+ * - built lazily (and rebuildable) from FlashcardRepository.findByUserId
+ * - maintained incrementally by command handlers on create, update and delete;
+ *   reported changes take effect once the command's transaction commits
+ */
+public interface FlashcardInstantSearch {
+
+    /**
+     * Finds the user's cards best matching typed text.
+     *
+     * @param userId owner of the deck to search
+     * @param text typed text, the last word may be incomplete
+     * @param limit maximum number of results
+     * @return best matches, most relevant first
+     */
+    List<FlashcardSearchHit> search(UUID userId, String text, int limit);
+
+    /**
+     * Adds a created flashcard to the index or replaces the entry of an updated one.
+     *
+     * @param flashcard current state of the flashcard
+     */
+    void indexFlashcard(FlashcardSnapshot flashcard);
+
+    /**
+     * Removes a deleted flashcard from the index.
+     *
+     * @param userId owner of the flashcard
+     * @param flashcardId deleted flashcard ID
+     */
+    void removeFlashcard(UUID userId, UUID flashcardId);
+
+    /**
+     * Drops the user's index and rebuilds it from the repository.
+     *
+     * @param userId owner of the deck
+     */
+    void rebuild(UUID userId);
+}
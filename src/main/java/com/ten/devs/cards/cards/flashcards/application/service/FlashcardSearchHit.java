@@ -0,0 +1,19 @@
+package com.ten.devs.cards.cards.flashcards.application.service;
+
+import java.util.UUID;
+
+/**
+ * Single result of an as-you-type search.
+ *
+ * @param flashcardId matching flashcard ID
+ * @param frontContent front side content
+ * @param backContent back side content
+ * @param score relevance, higher is better; comparable only within one result list
+ */
+public record FlashcardSearchHit(
+    UUID flashcardId,
+    String frontContent,
+    String backContent,
+    double score
+) {
+}
@@ -0,0 +1,57 @@
+package com.ten.devs.cards.cards.flashcards.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * JSON Lines reader of flashcard rows: one object with frontContent and backContent per line.
+ * Blank lines are skipped, other fields of an object are ignored.
+ */
+final class JsonLinesFlashcardImportReader implements FlashcardImportReader {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final BufferedReader in;
+    private long line;
+
+    JsonLinesFlashcardImportReader(BufferedReader in) {
+        this.in = in;
+    }
+
+    @Override
+    public FlashcardImportRow next() throws IOException {
+        String text;
+        do {
+            text = in.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        JsonNode node;
+        try {
+            node = OBJECT_MAPPER.readTree(text);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Line is not a JSON object");
+        }
+        return new FlashcardImportRow(line, textOf(node, "frontContent"), textOf(node, "backContent"));
+    }
+
+    @Override
+    public long line() {
+        return line;
+    }
+
+    private static String textOf(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value != null && value.isTextual() ? value.asText() : null;
+    }
+}
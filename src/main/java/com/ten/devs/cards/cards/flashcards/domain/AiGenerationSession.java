@@ -25,6 +25,9 @@ import java.util.UUID;
  * - createCompleted() - creates COMPLETED session with suggestions (preferred)
  * - createFailed() - creates FAILED session
  * - fromSnapshot() - reconstructs from database
+ *
+ * Input text is required to create a session. Sessions reconstructed from database
+ * do not carry it - it is loaded separately, only when needed.
  */
 public class AiGenerationSession {
 
@@ -0,0 +1,23 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import java.util.List;
+
+/**
+ * Single page of keyset-paginated AI session history.
+ *
+ * @param content sessions of the page, newest first
+ * @param next position of the next page, null if this is the last page
+ */
+public record AiGenerationSessionHistoryPage(
+    List<AiGenerationSessionHistoryView> content,
+    AiGenerationSessionKeyset next
+) {
+
+    public AiGenerationSessionHistoryPage {
+        content = content == null ? List.of() : List.copyOf(content);
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
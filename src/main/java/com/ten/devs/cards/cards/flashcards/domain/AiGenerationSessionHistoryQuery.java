@@ -0,0 +1,34 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Criteria of keyset-paginated AI session history.
+ *
+ * @param userId owner of the sessions
+ * @param status optional status filter, null for all statuses
+ * @param after position the page starts after, null for the first page
+ * @param size maximum number of sessions on the page (1-100)
+ */
+@Builder
+public record AiGenerationSessionHistoryQuery(
+    UUID userId,
+    AiGenerationSessionStatus status,
+    AiGenerationSessionKeyset after,
+    int size
+) {
+
+    public static final int MAX_SIZE = 100;
+
+    public AiGenerationSessionHistoryQuery {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException(
+                "Page size must be between 1 and " + MAX_SIZE + ", got: " + size);
+        }
+    }
+}
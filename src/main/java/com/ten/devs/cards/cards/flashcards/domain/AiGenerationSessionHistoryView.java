@@ -0,0 +1,29 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read model of an AI generation session in user's session history.
+ *
+ * Narrow projection of ai_generation_sessions table - no input text,
+ * only its stored short preview, and no suggestions.
+ */
+@Builder
+public record AiGenerationSessionHistoryView(
+    UUID id,
+    AiGenerationSessionStatus status,
+    Integer generatedCount,
+    Integer acceptedCount,
+    String aiModel,
+    String inputPreview,
+    Instant createdAt
+) {
+
+    /**
+     * Maximum length of the stored input text preview.
+     */
+    public static final int INPUT_PREVIEW_LENGTH = 200;
+}
@@ -1,5 +1,7 @@
 package com.ten.devs.cards.cards.flashcards.domain;
 
+import com.ten.devs.cards.cards.shared.domain.TimeOrderedUuid;
+
 import java.util.UUID;
 
 /**
@@ -17,10 +19,10 @@ public record AiGenerationSessionId(UUID value) {
     }
 
     /**
-     * Creates a new random session ID.
+     * Creates a new time-ordered session ID.
      */
     public static AiGenerationSessionId generate() {
-        return new AiGenerationSessionId(UUID.randomUUID());
+        return new AiGenerationSessionId(TimeOrderedUuid.generate());
     }
 
     /**
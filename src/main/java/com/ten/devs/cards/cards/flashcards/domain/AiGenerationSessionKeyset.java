@@ -0,0 +1,37 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Position of a session in keyset-paginated session history (newest first).
+ *
+ * Next page starts strictly after (createdAt, id) in descending order.
+ *
+ * @param createdAt creation time of the last session of the previous page
+ * @param id ID of the last session of the previous page (tie breaker)
+ */
+public record AiGenerationSessionKeyset(
+    Instant createdAt,
+    UUID id
+) {
+
+    public AiGenerationSessionKeyset {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Keyset creation time cannot be null");
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("Keyset ID cannot be null");
+        }
+    }
+
+    /**
+     * Creates keyset pointing at given session.
+     *
+     * @param session session the next page should start after
+     * @return keyset of the session
+     */
+    public static AiGenerationSessionKeyset of(AiGenerationSessionHistoryView session) {
+        return new AiGenerationSessionKeyset(session.createdAt(), session.id());
+    }
+}
@@ -1,5 +1,6 @@
 package com.ten.devs.cards.cards.flashcards.domain;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,14 +17,36 @@ public interface AiGenerationSessionRepository {
 
     /**
      * Saves (creates or updates) a session.
+     * Input text of existing sessions is never changed - create new sessions with create().
      *
      * @param session domain entity to save
      * @return saved session
      */
     AiGenerationSession save(AiGenerationSession session);
 
+    /**
+     * Creates a new session together with its suggestions in a single write,
+     * independent of the number of suggestions.
+     * Does not check whether the session already exists - use only for sessions that were never persisted.
+     *
+     * @param session new domain entity to create
+     * @return created session
+     */
+    AiGenerationSession create(AiGenerationSession session);
+
+    /**
+     * Finds input text of a session.
+     * Sessions returned by other finders do not carry their input text - use this method
+     * only when the text itself is needed.
+     *
+     * @param id session UUID
+     * @return input text if session exists
+     */
+    Optional<String> findInputText(UUID id);
+
     /**
      * Finds session by its domain identifier.
+     * Returned session does not carry its input text.
      *
      * @param id session identifier (value object)
      * @return session if found
@@ -39,6 +62,47 @@ public interface AiGenerationSessionRepository {
      */
     Optional<AiGenerationSession> findById(UUID id);
 
+    /**
+     * Finds session status and metrics without input text and suggestions.
+     * Reads one narrow row - intended for frequent status polling.
+     *
+     * @param id session UUID
+     * @return session summary if session exists
+     */
+    Optional<AiGenerationSessionSummary> findSummaryById(UUID id);
+
+    /**
+     * Finds page of user's session history, newest first.
+     * Sessions carry only a short input preview - input text and suggestions are not read.
+     *
+     * @param query user, optional status filter, position and size of the page
+     * @return page of sessions with position of the next page
+     */
+    AiGenerationSessionHistoryPage findHistoryPage(AiGenerationSessionHistoryQuery query);
+
+    /**
+     * Finds session header and suggestions without the input text.
+     *
+     * @param id session UUID
+     * @return suggestions view if session exists
+     */
+    Optional<AiSuggestionsView> findSuggestionsView(UUID id);
+
+    /**
+     * Creates flashcards from approved suggestions and increments session's acceptedCount
+     * by the number of created flashcards - atomically, in a single write.
+     *
+     * Ownership and COMPLETED status are re-checked by the write itself:
+     * if the session is not (anymore) owned by the user or not COMPLETED, nothing is written.
+     * Concurrent approvals of the same session never lose acceptedCount updates.
+     *
+     * @param sessionId session the suggestions belong to
+     * @param userId user approving the suggestions (owner of created flashcards)
+     * @param approvals approved suggestions with optional edits
+     * @return created flashcards in order of approvals, empty if nothing was written
+     */
+    List<Flashcard> approveSuggestions(UUID sessionId, UUID userId, List<SuggestionApproval> approvals);
+
     /**
      * Deletes session by its identifier.
      *
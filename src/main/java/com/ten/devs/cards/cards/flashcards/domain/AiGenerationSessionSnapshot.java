@@ -16,6 +16,8 @@ import java.util.UUID;
  * - Maintaining immutability of domain entity
  *
  * Contains all fields from the aggregate including suggestions.
+ * inputText is null when the session was loaded without its input text
+ * (see AiGenerationSessionRepository.findInputText).
  */
 @Builder
 public record AiGenerationSessionSnapshot(
@@ -37,8 +39,8 @@ public record AiGenerationSessionSnapshot(
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
         }
-        if (inputText == null || inputText.isBlank()) {
-            throw new IllegalArgumentException("Input text cannot be null or empty");
+        if (inputText != null && inputText.isBlank()) {
+            throw new IllegalArgumentException("Input text cannot be empty");
         }
         if (status == null) {
             throw new IllegalArgumentException("Status cannot be null");
@@ -0,0 +1,39 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read model of an AI generation session for status polling.
+ *
+ * Narrow projection of ai_generation_sessions table - no input text,
+ * no suggestions, loaded without materializing the AiGenerationSession aggregate.
+ */
+@Builder
+public record AiGenerationSessionSummary(
+    UUID id,
+    UUID userId,
+    AiGenerationSessionStatus status,
+    Integer generatedCount,
+    Integer acceptedCount,
+    String aiModel,
+    BigDecimal apiCost,
+    Instant createdAt
+) {
+
+    /**
+     * Verifies that the session is owned by the specified user.
+     *
+     * @param userId user ID to check
+     * @throws IllegalArgumentException if user doesn't own the session
+     */
+    public void ensureOwnedBy(UUID userId) {
+        if (!this.userId.equals(userId)) {
+            throw new IllegalArgumentException(
+                "Session " + id + " is not owned by user " + userId);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Suggestions could not be approved although they were found when the request was validated -
+ * the session was deleted, reassigned or changed status, or its suggestions expired in between.
+ * Nothing is written; the client has to reload the session.
+ */
+@Getter
+public class AiSuggestionsUnavailableException extends IllegalStateException {
+    private final UUID sessionId;
+
+    public AiSuggestionsUnavailableException(UUID sessionId) {
+        super("Session " + sessionId + " can no longer provide suggestions");
+        this.sessionId = sessionId;
+    }
+}
@@ -0,0 +1,61 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read model of a session's suggestions - session header without the input text.
+ *
+ * Used by approval to validate the request and detect duplicates
+ * without loading the whole AiGenerationSession aggregate.
+ *
+ * @param sessionId session ID
+ * @param userId owner of the session
+ * @param status session status
+ * @param suggestions suggestions of the session, empty unless COMPLETED
+ */
+@Builder
+public record AiSuggestionsView(
+    UUID sessionId,
+    UUID userId,
+    AiGenerationSessionStatus status,
+    List<FlashcardSuggestion> suggestions
+) {
+
+    public AiSuggestionsView {
+        if (sessionId == null) {
+            throw new IllegalArgumentException("Session ID cannot be null");
+        }
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        suggestions = suggestions != null ? List.copyOf(suggestions) : List.of();
+    }
+
+    /**
+     * Verifies that the session is owned by the specified user.
+     *
+     * @param userId user ID to check
+     * @throws IllegalArgumentException if user doesn't own the session
+     */
+    public void ensureOwnedBy(UUID userId) {
+        if (!this.userId.equals(userId)) {
+            throw new IllegalArgumentException(
+                "Session " + sessionId + " is not owned by user " + userId);
+        }
+    }
+
+    /**
+     * Checks if suggestions of the session can be approved.
+     *
+     * @return true if status is COMPLETED
+     */
+    public boolean canProvideSuggestions() {
+        return status == AiGenerationSessionStatus.COMPLETED;
+    }
+}
@@ -1,5 +1,7 @@
 package com.ten.devs.cards.cards.flashcards.domain;
 
+import com.ten.devs.cards.cards.shared.domain.TimeOrderedUuid;
+
 import java.time.Instant;
 import java.util.UUID;
 
@@ -12,7 +14,7 @@ import java.util.UUID;
  * Lifecycle:
  * - Created from AI suggestions (source: AI or AI_USER)
  * - Created manually by user (source: USER)
- * - Content can be updated
+ * - Content can be updated; every update increments the version (optimistic concurrency control)
  *
  * Factory methods:
  * - createFromAiSuggestion() - creates flashcard from approved AI suggestion
@@ -25,6 +27,7 @@ public class Flashcard {
     private final UUID generationSessionId;  // Optional - only for AI-generated cards
     private final FlashcardSource source;
     private final Instant createdAt;
+    private final long version;  // Incremented by the database on every content update
 
     // Mutable state
     private String frontContent;
@@ -40,7 +43,8 @@ public class Flashcard {
             FlashcardSource source,
             UUID generationSessionId,
             Instant createdAt,
-            Instant updatedAt) {
+            Instant updatedAt,
+            long version) {
 
         this.id = id;
         this.userId = userId;
@@ -50,6 +54,7 @@ public class Flashcard {
         this.generationSessionId = generationSessionId;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
     }
 
     /**
@@ -84,14 +89,15 @@ public class Flashcard {
         Instant now = Instant.now();
 
         return new Flashcard(
-            UUID.randomUUID(),
+            TimeOrderedUuid.generate(),
             userId,
             frontContent,
             backContent,
             source,
             generationSessionId,
             now,
-            now
+            now,
+            0L
         );
     }
 
@@ -113,14 +119,15 @@ public class Flashcard {
         Instant now = Instant.now();
 
         return new Flashcard(
-            UUID.randomUUID(),
+            TimeOrderedUuid.generate(),
             userId,
             frontContent,
             backContent,
             FlashcardSource.USER,
             null,  // No generation session for manual cards
             now,
-            now
+            now,
+            0L
         );
     }
 
@@ -140,7 +147,8 @@ public class Flashcard {
             snapshot.source(),
             snapshot.generationSessionId(),
             snapshot.createdAt(),
-            snapshot.updatedAt()
+            snapshot.updatedAt(),
+            snapshot.version()
         );
     }
 
@@ -206,11 +214,19 @@ public class Flashcard {
             .generationSessionId(generationSessionId)
             .createdAt(createdAt)
             .updatedAt(updatedAt)
+            .version(version)
             .build();
     }
 
-    // Validation helper
-    private static void validateContent(String frontContent, String backContent) {
+    /**
+     * Business rule - validates flashcard content.
+     * Also used by updates applied in a single statement, without loading the entity.
+     *
+     * @param frontContent front side content
+     * @param backContent back side content
+     * @throws IllegalArgumentException if content is blank or too long
+     */
+    public static void validateContent(String frontContent, String backContent) {
         if (frontContent == null || frontContent.isBlank()) {
             throw new IllegalArgumentException("Front content cannot be null or empty");
         }
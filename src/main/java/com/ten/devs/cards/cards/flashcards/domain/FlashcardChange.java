@@ -0,0 +1,32 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import java.util.UUID;
+
+/**
+ * Single change of a user's deck, as seen by a syncing client.
+ *
+ * Creations and updates carry the current state of the card - a client applies both
+ * the same way (upsert). Deletes carry only the ID (tombstone).
+ *
+ * @param changeSeq number of the change, increasing in commit order of the user's writes
+ * @param flashcardId changed flashcard
+ * @param flashcard current state of the card, null if it was deleted
+ */
+public record FlashcardChange(
+    long changeSeq,
+    UUID flashcardId,
+    FlashcardSummaryView flashcard
+) {
+
+    public static FlashcardChange upsert(long changeSeq, FlashcardSummaryView flashcard) {
+        return new FlashcardChange(changeSeq, flashcard.id(), flashcard);
+    }
+
+    public static FlashcardChange deletion(long changeSeq, UUID flashcardId) {
+        return new FlashcardChange(changeSeq, flashcardId, null);
+    }
+
+    public boolean isDeletion() {
+        return flashcard == null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import java.util.List;
+
+/**
+ * Single page of changes of a user's deck, oldest change first.
+ *
+ * @param changes changes of the page in change number order
+ * @param last number of the last change the page covers - the position to continue from
+ * @param hasNext whether more changes follow this page
+ */
+public record FlashcardChangesPage(
+    List<FlashcardChange> changes,
+    long last,
+    boolean hasNext
+) {
+
+    public FlashcardChangesPage {
+        changes = changes == null ? List.of() : List.copyOf(changes);
+    }
+}
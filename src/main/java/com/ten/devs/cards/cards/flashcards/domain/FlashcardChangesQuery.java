@@ -0,0 +1,42 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Criteria of a delta sync of a user's flashcards.
+ *
+ * @param userId owner of the flashcards
+ * @param after number of the last change the client has seen, 0 for a full sync
+ * @param size maximum number of changes on the page (1-1000)
+ */
+@Builder
+public record FlashcardChangesQuery(
+    UUID userId,
+    long after,
+    int size
+) {
+
+    public static final int MAX_SIZE = 1000;
+
+    public FlashcardChangesQuery {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (after < 0) {
+            throw new IllegalArgumentException("Change number cannot be negative, got: " + after);
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException(
+                "Page size must be between 1 and " + MAX_SIZE + ", got: " + size);
+        }
+    }
+
+    /**
+     * A client without any cards has nothing to delete - a full sync skips tombstones.
+     */
+    public boolean isFullSync() {
+        return after == 0;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import java.util.UUID;
+
+/**
+ * New content of one flashcard in a batch of updates.
+ *
+ * Applied without loading the flashcard - see FlashcardRepository.updateContentAll.
+ */
+public record FlashcardContentUpdate(
+    UUID id,
+    String frontContent,
+    String backContent,
+    Long expectedVersion    // Version the update is based on, null to update whatever version is stored
+) {
+}
@@ -0,0 +1,41 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Position of a flashcard in a keyset-paginated listing.
+ *
+ * Next page starts strictly after (sortValue, id) in the listing's sort order.
+ *
+ * @param sortValue createdAt or updatedAt of the last card of the previous page
+ * @param id ID of the last card of the previous page (tie breaker)
+ */
+public record FlashcardKeyset(
+    Instant sortValue,
+    UUID id
+) {
+
+    public FlashcardKeyset {
+        if (sortValue == null) {
+            throw new IllegalArgumentException("Keyset sort value cannot be null");
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("Keyset ID cannot be null");
+        }
+    }
+
+    /**
+     * Creates keyset pointing at given card in given sort order.
+     *
+     * @param flashcard card the next page should start after
+     * @param sortOrder ordering of the listing
+     * @return keyset of the card
+     */
+    public static FlashcardKeyset of(FlashcardSummaryView flashcard, FlashcardSortOrder sortOrder) {
+        return new FlashcardKeyset(
+            sortOrder.sortsByUpdatedAt() ? flashcard.updatedAt() : flashcard.createdAt(),
+            flashcard.id()
+        );
+    }
+}
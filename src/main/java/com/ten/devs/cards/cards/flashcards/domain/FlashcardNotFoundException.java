@@ -0,0 +1,19 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * User has no flashcard with the given ID - it never existed, was deleted or belongs to another user.
+ * Ownership is checked in the same query, so the two cases are deliberately indistinguishable.
+ */
+@Getter
+public class FlashcardNotFoundException extends IllegalArgumentException {
+    private final UUID flashcardId;
+
+    public FlashcardNotFoundException(UUID flashcardId) {
+        super("Flashcard not found: " + flashcardId);
+        this.flashcardId = flashcardId;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import java.util.List;
+
+/**
+ * Single page of a keyset-paginated flashcard listing.
+ *
+ * @param content cards of the page in requested order
+ * @param next position of the next page, null if this is the last page
+ */
+public record FlashcardPage(
+    List<FlashcardSummaryView> content,
+    FlashcardKeyset next
+) {
+
+    public FlashcardPage {
+        content = content == null ? List.of() : List.copyOf(content);
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
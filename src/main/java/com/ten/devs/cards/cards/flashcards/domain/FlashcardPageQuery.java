@@ -0,0 +1,39 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Criteria of a keyset-paginated flashcard listing.
+ *
+ * @param userId owner of the flashcards
+ * @param sortOrder ordering of the listing
+ * @param source optional source filter, null for all sources
+ * @param after position the page starts after, null for the first page
+ * @param size maximum number of cards on the page (1-100)
+ */
+@Builder
+public record FlashcardPageQuery(
+    UUID userId,
+    FlashcardSortOrder sortOrder,
+    FlashcardSource source,
+    FlashcardKeyset after,
+    int size
+) {
+
+    public static final int MAX_SIZE = 100;
+
+    public FlashcardPageQuery {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (sortOrder == null) {
+            throw new IllegalArgumentException("Sort order cannot be null");
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException(
+                "Page size must be between 1 and " + MAX_SIZE + ", got: " + size);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.ten.devs.cards.cards.flashcards.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Repository interface for Flashcard domain entity.
@@ -33,6 +35,53 @@ public interface FlashcardRepository {
      */
     List<Flashcard> saveAll(List<Flashcard> flashcards);
 
+    /**
+     * Inserts multiple newly created flashcards in batch.
+     * Unlike saveAll, does not check whether flashcards already exist -
+     * use only for flashcards that were never persisted.
+     *
+     * @param flashcards new domain entities to insert
+     * @return inserted flashcards
+     */
+    List<Flashcard> insertAll(List<Flashcard> flashcards);
+
+    /**
+     * Inserts many newly created flashcards with a bulk load (PostgreSQL COPY).
+     * One round trip per call and no per-row statement overhead - meant for imports of
+     * thousands of cards. Like insertAll, use only for flashcards that were never persisted.
+     *
+     * @param flashcards new domain entities to insert
+     * @return number of inserted flashcards
+     */
+    int copyAll(List<Flashcard> flashcards);
+
+    /**
+     * Updates content of a user's flashcard with one conditional statement - no prior read,
+     * no window between read and write for a concurrent edit to get lost in.
+     * Increments the version; an AI card edited by the user becomes AI_USER.
+     * Does not validate content - see Flashcard.validateContent.
+     *
+     * @param id flashcard ID
+     * @param userId owner of the flashcard
+     * @param frontContent new front content
+     * @param backContent new back content
+     * @param expectedVersion version the update is based on, null to update whatever version is stored
+     * @return updated flashcard, empty if the user has no such flashcard or its version differs
+     */
+    Optional<Flashcard> updateContent(
+        UUID id, UUID userId, String frontContent, String backContent, Long expectedVersion);
+
+    /**
+     * Applies many content updates of a user's flashcards as one JDBC batch - one round trip,
+     * each update with the same conditions and effects as updateContent.
+     * Does not validate content - see Flashcard.validateContent.
+     *
+     * @param userId owner of the flashcards
+     * @param updates content updates, each flashcard at most once
+     * @return for each update, in order: true if applied, false if the user has no such flashcard or its version differs
+     */
+    List<Boolean> updateContentAll(UUID userId, List<FlashcardContentUpdate> updates);
+
     /**
      * Finds a flashcard by ID.
      *
@@ -41,6 +90,16 @@ public interface FlashcardRepository {
      */
     Optional<Flashcard> findById(UUID id);
 
+    /**
+     * Finds a user's flashcards among the given IDs with one query.
+     * IDs of missing flashcards and flashcards of other users are skipped.
+     *
+     * @param userId owner of the flashcards
+     * @param ids flashcard IDs
+     * @return found flashcards, in no particular order
+     */
+    List<Flashcard> findAllByIdAndUserId(UUID userId, Collection<UUID> ids);
+
     /**
      * Finds all flashcards for a specific user.
      *
@@ -49,6 +108,53 @@ public interface FlashcardRepository {
      */
     List<Flashcard> findByUserId(UUID userId);
 
+    /**
+     * Passes every flashcard of a user to an action, oldest first, one at a time.
+     * Rows are fetched from a database cursor in batches, so memory use does not depend on deck size.
+     * Must be called within a transaction (the cursor lives as long as the transaction).
+     *
+     * @param userId user ID
+     * @param action called for each flashcard summary; an exception it throws stops the iteration
+     */
+    void forEachByUserId(UUID userId, Consumer<FlashcardSummaryView> action);
+
+    /**
+     * Finds one page of user's flashcards using keyset (seek) pagination.
+     * Reads a narrow projection; cost depends on page size, not on the page position.
+     *
+     * @param query listing criteria and position of the page
+     * @return page of flashcard summaries with position of the next page
+     */
+    FlashcardPage findPage(FlashcardPageQuery query);
+
+    /**
+     * Finds one page of user's flashcards matching a full-text search, most relevant first.
+     * Uses keyset pagination over (rank, id); cost depends on the number of matches, not on the deck size.
+     *
+     * @param query search text and position of the page
+     * @return page of matching flashcard summaries with position of the next page
+     */
+    FlashcardSearchPage search(FlashcardSearchQuery query);
+
+    /**
+     * Finds one page of changes of a user's flashcards made after a change number, oldest first:
+     * current state of created and updated cards, IDs of deleted ones.
+     * Reads only the changes (index range scans); cost depends on their number, not on the deck size.
+     *
+     * @param query user, position of the client and page size
+     * @return page of changes with the position to continue from
+     */
+    FlashcardChangesPage findChanges(FlashcardChangesQuery query);
+
+    /**
+     * Counts user's flashcards, optionally filtered by source.
+     *
+     * @param userId user ID
+     * @param source source filter, null to count all flashcards
+     * @return number of matching flashcards
+     */
+    long countByUserId(UUID userId, FlashcardSource source);
+
     /**
      * Finds all flashcards created from a specific AI generation session.
      *
@@ -58,11 +164,24 @@ public interface FlashcardRepository {
     List<Flashcard> findByGenerationSessionId(UUID sessionId);
 
     /**
-     * Deletes a flashcard by ID.
+     * Deletes a user's flashcard with one statement - ownership is part of the condition,
+     * the affected row count tells whether there was anything to delete.
      *
      * @param id flashcard ID
+     * @param userId owner of the flashcard
+     * @return true if deleted, false if the user has no such flashcard
+     */
+    boolean deleteByIdAndUserId(UUID id, UUID userId);
+
+    /**
+     * Deletes many of a user's flashcards with one statement (IDs bound as a single array parameter).
+     * IDs of missing flashcards and flashcards of other users are skipped.
+     *
+     * @param userId owner of the flashcards
+     * @param ids flashcard IDs
+     * @return IDs of the deleted flashcards
      */
-    void deleteById(UUID id);
+    List<UUID> deleteAllByIdAndUserId(UUID userId, Collection<UUID> ids);
 
     /**
      * Checks if a flashcard exists by ID.
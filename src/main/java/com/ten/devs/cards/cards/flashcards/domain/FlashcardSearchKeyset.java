@@ -0,0 +1,26 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import java.util.UUID;
+
+/**
+ * Position of a flashcard in ranked search results.
+ *
+ * Next page starts strictly after (rank, id) in the order rank DESC, id DESC.
+ *
+ * @param rank relevance of the last card of the previous page
+ * @param id ID of the last card of the previous page (tie breaker)
+ */
+public record FlashcardSearchKeyset(
+    float rank,
+    UUID id
+) {
+
+    public FlashcardSearchKeyset {
+        if (Float.isNaN(rank)) {
+            throw new IllegalArgumentException("Keyset rank cannot be NaN");
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("Keyset ID cannot be null");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import java.util.List;
+
+/**
+ * Single page of ranked flashcard search results.
+ *
+ * @param content matching cards of the page, most relevant first
+ * @param next position of the next page, null if this is the last page
+ */
+public record FlashcardSearchPage(
+    List<FlashcardSummaryView> content,
+    FlashcardSearchKeyset next
+) {
+
+    public FlashcardSearchPage {
+        content = content == null ? List.of() : List.copyOf(content);
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Criteria of a full-text search over a user's flashcards.
+ *
+ * Text uses web search syntax: words are matched in any order,
+ * "quoted phrases" as phrases, -word excludes cards, "or" separates alternatives.
+ *
+ * @param userId owner of the flashcards
+ * @param text search text
+ * @param after position the page starts after, null for the first page
+ * @param size maximum number of cards on the page (1-100)
+ */
+@Builder
+public record FlashcardSearchQuery(
+    UUID userId,
+    String text,
+    FlashcardSearchKeyset after,
+    int size
+) {
+
+    public static final int MAX_SIZE = 100;
+    public static final int MAX_TEXT_LENGTH = 200;
+
+    public FlashcardSearchQuery {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Search text cannot be blank");
+        }
+        if (text.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException(
+                "Search text cannot exceed " + MAX_TEXT_LENGTH + " characters, got: " + text.length());
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException(
+                "Page size must be between 1 and " + MAX_SIZE + ", got: " + size);
+        }
+    }
+}
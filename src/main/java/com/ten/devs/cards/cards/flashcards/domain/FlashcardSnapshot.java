@@ -25,6 +25,7 @@ public record FlashcardSnapshot(
     FlashcardSource source,
     UUID generationSessionId,
     Instant createdAt,
-    Instant updatedAt
+    Instant updatedAt,
+    long version
 ) {
 }
@@ -0,0 +1,55 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+/**
+ * Supported orderings of a user's flashcard listing.
+ *
+ * Every ordering is a keyset over (timestamp, id) - the flashcard ID breaks ties
+ * between cards created/updated in the same microsecond, so positions are unique
+ * and pages never skip or repeat cards.
+ *
+ * API values follow Spring Data sort syntax ("createdAt,desc").
+ */
+public enum FlashcardSortOrder {
+
+    CREATED_AT_DESC("createdAt,desc"),
+    CREATED_AT_ASC("createdAt,asc"),
+    UPDATED_AT_DESC("updatedAt,desc"),
+    UPDATED_AT_ASC("updatedAt,asc");
+
+    private final String value;
+
+    FlashcardSortOrder(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Resolves sort order from API value.
+     *
+     * @param value sort value (e.g., "createdAt,desc"), null for default
+     * @return matching sort order, CREATED_AT_DESC if value is null or blank
+     * @throws IllegalArgumentException if value is not supported
+     */
+    public static FlashcardSortOrder fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return CREATED_AT_DESC;
+        }
+        for (FlashcardSortOrder sortOrder : values()) {
+            if (sortOrder.value.equalsIgnoreCase(value.replace(" ", ""))) {
+                return sortOrder;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort order: " + value);
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public boolean isDescending() {
+        return this == CREATED_AT_DESC || this == UPDATED_AT_DESC;
+    }
+
+    public boolean sortsByUpdatedAt() {
+        return this == UPDATED_AT_DESC || this == UPDATED_AT_ASC;
+    }
+}
@@ -0,0 +1,24 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read model of a flashcard in listings.
+ *
+ * Narrow projection of flashcards table - contains only the columns shown
+ * in the listing, loaded without materializing full Flashcard entities.
+ */
+@Builder
+public record FlashcardSummaryView(
+    UUID id,
+    String frontContent,
+    String backContent,
+    FlashcardSource source,
+    Instant createdAt,
+    Instant updatedAt,
+    long version
+) {
+}
@@ -0,0 +1,24 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Flashcard was changed since the version the client based its update on.
+ * Optimistic concurrency control - the update is rejected instead of overwriting the newer content.
+ */
+@Getter
+public class FlashcardVersionConflictException extends IllegalStateException {
+    private final UUID flashcardId;
+    private final long expectedVersion;
+    private final long currentVersion;
+
+    public FlashcardVersionConflictException(UUID flashcardId, long expectedVersion, long currentVersion) {
+        super("Flashcard " + flashcardId + " was modified: expected version " + expectedVersion
+            + ", current version " + currentVersion);
+        this.flashcardId = flashcardId;
+        this.expectedVersion = expectedVersion;
+        this.currentVersion = currentVersion;
+    }
+}
@@ -0,0 +1,40 @@
+package com.ten.devs.cards.cards.flashcards.domain;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Approval of a single AI suggestion, applied server-side to the stored suggestion.
+ *
+ * Carries only the user's edits - unedited sides are taken from the stored suggestion
+ * by the database, so suggestion content does not travel back and forth.
+ *
+ * @param flashcardId ID of the flashcard to create
+ * @param suggestionId approved suggestion
+ * @param frontContent edited front content, null to keep the suggestion's front
+ * @param backContent edited back content, null to keep the suggestion's back
+ * @param source AI for unmodified suggestions, AI_USER for edited ones
+ */
+@Builder
+public record SuggestionApproval(
+    UUID flashcardId,
+    UUID suggestionId,
+    String frontContent,
+    String backContent,
+    FlashcardSource source
+) {
+
+    public SuggestionApproval {
+        if (flashcardId == null) {
+            throw new IllegalArgumentException("Flashcard ID cannot be null");
+        }
+        if (suggestionId == null) {
+            throw new IllegalArgumentException("Suggestion ID cannot be null");
+        }
+        if (source != FlashcardSource.AI && source != FlashcardSource.AI_USER) {
+            throw new IllegalArgumentException(
+                "AI-generated flashcards must have source AI or AI_USER, got: " + source);
+        }
+    }
+}
@@ -6,6 +6,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.PartitionKey;
+import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -20,7 +23,9 @@ import java.util.UUID;
  * Infrastructure concern - contains JPA annotations.
  *
  * Maps to database table, separate from domain entity.
- * Contains @OneToMany relationship with FlashcardSuggestionEntity.
+ * Contains @OneToMany relationship with FlashcardSuggestionEntity (TABLE layout)
+ * and the suggestions_json column (JSONB layout) - see SuggestionsStorage.
+ * Does not map the input text - loading a session never reads it.
  * Conversion handled by mapper.
  */
 @Entity
@@ -35,17 +40,30 @@ public class AiGenerationSessionEntity {
     @Column(name = "id", nullable = false)
     private UUID id;
 
+    // Partitioning key - added by Hibernate to UPDATE / DELETE by id
+    @PartitionKey
     @Column(name = "user_id", nullable = false)
     private UUID userId;
 
-    @Column(name = "input_text", nullable = false, columnDefinition = "TEXT")
-    private String inputText;
+    // Input text lives in ai_input_texts and is read only on demand (findInputText).
+    // Both columns are written by SqlDbAiGenerationSessionRepository.create, read-only for JPA
+    @Column(name = "input_hash", insertable = false, updatable = false)
+    private byte[] inputHash;
 
+    @Column(name = "input_preview", length = 200, insertable = false, updatable = false)
+    private String inputPreview;
+
+    // TABLE layout - rows in flashcard_suggestions
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JoinColumn(name = "session_id", nullable = false)
     @Builder.Default
     private List<FlashcardSuggestionEntity> suggestions = new ArrayList<>();
 
+    // JSONB layout - null for sessions stored in TABLE layout
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "suggestions_json", columnDefinition = "jsonb")
+    private List<FlashcardSuggestionJson> suggestionsJson;
+
     @Column(name = "generated_count", nullable = false)
     @Builder.Default
     private Integer generatedCount = 0;
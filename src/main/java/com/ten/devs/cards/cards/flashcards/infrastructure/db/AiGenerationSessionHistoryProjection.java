@@ -0,0 +1,29 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Spring Data interface-based projection of ai_generation_sessions table for session history.
+ *
+ * Selects only listed columns - input preview instead of input text, no suggestions collection.
+ * Converted to domain AiGenerationSessionHistoryView by AiGenerationSessionMapper.
+ */
+public interface AiGenerationSessionHistoryProjection {
+
+    UUID getId();
+
+    AiGenerationSessionStatus getStatus();
+
+    Integer getGeneratedCount();
+
+    Integer getAcceptedCount();
+
+    String getAiModel();
+
+    String getInputPreview();
+
+    Instant getCreatedAt();
+}
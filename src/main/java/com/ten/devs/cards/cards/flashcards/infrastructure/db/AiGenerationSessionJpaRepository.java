@@ -1,8 +1,14 @@
 package com.ten.devs.cards.cards.flashcards.infrastructure.db;
 
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -21,5 +27,81 @@ public interface AiGenerationSessionJpaRepository extends JpaRepository<AiGenera
     // - delete(entity)
     // - deleteById(id)
 
-    // No custom queries needed for MVP
-}
\ No newline at end of file
+    /**
+     * Finds session status and metrics without input text and suggestions.
+     *
+     * @param id session ID
+     * @return summary projection if session exists
+     */
+    @Query("""
+        SELECT s.id AS id, s.userId AS userId, s.status AS status,
+               s.generatedCount AS generatedCount, s.acceptedCount AS acceptedCount,
+               s.aiModel AS aiModel, s.apiCost AS apiCost, s.createdAt AS createdAt
+        FROM AiGenerationSessionEntity s
+        WHERE s.id = :id
+        """)
+    Optional<AiGenerationSessionSummaryProjection> findSummaryById(UUID id);
+
+    /**
+     * Checks whether session stores its suggestions in JSONB layout.
+     *
+     * @param id session ID
+     * @return true if session exists and has suggestions_json
+     */
+    boolean existsByIdAndSuggestionsJsonIsNotNull(UUID id);
+
+    /**
+     * Finds number of accepted suggestions of a session.
+     *
+     * @param id session ID
+     * @return accepted count if session exists
+     */
+    @Query("SELECT s.acceptedCount FROM AiGenerationSessionEntity s WHERE s.id = :id")
+    Optional<Integer> findAcceptedCountById(UUID id);
+
+    /**
+     * Finds page of user's session history, newest first.
+     *
+     * @param userId user ID
+     * @param createdAt creation time of the previous page's last session
+     * @param id ID of the previous page's last session
+     * @param limit maximum number of rows
+     * @return history projections
+     */
+    @Query("""
+        SELECT s.id AS id, s.status AS status,
+               s.generatedCount AS generatedCount, s.acceptedCount AS acceptedCount,
+               s.aiModel AS aiModel, s.inputPreview AS inputPreview, s.createdAt AS createdAt
+        FROM AiGenerationSessionEntity s
+        WHERE s.userId = :userId
+          AND s.createdAt <= :createdAt
+          AND (s.createdAt < :createdAt OR s.id < :id)
+        ORDER BY s.createdAt DESC, s.id DESC
+        """)
+    List<AiGenerationSessionHistoryProjection> findHistoryPage(
+        UUID userId, Instant createdAt, UUID id, Limit limit);
+
+    /**
+     * Finds page of user's session history with given status, newest first.
+     *
+     * @param userId user ID
+     * @param status session status
+     * @param createdAt creation time of the previous page's last session
+     * @param id ID of the previous page's last session
+     * @param limit maximum number of rows
+     * @return history projections
+     */
+    @Query("""
+        SELECT s.id AS id, s.status AS status,
+               s.generatedCount AS generatedCount, s.acceptedCount AS acceptedCount,
+               s.aiModel AS aiModel, s.inputPreview AS inputPreview, s.createdAt AS createdAt
+        FROM AiGenerationSessionEntity s
+        WHERE s.userId = :userId
+          AND s.status = :status
+          AND s.createdAt <= :createdAt
+          AND (s.createdAt < :createdAt OR s.id < :id)
+        ORDER BY s.createdAt DESC, s.id DESC
+        """)
+    List<AiGenerationSessionHistoryProjection> findHistoryPageByStatus(
+        UUID userId, AiGenerationSessionStatus status, Instant createdAt, UUID id, Limit limit);
+}
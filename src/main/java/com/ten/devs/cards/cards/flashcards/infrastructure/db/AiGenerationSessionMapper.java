@@ -1,9 +1,13 @@
 package com.ten.devs.cards.cards.flashcards.infrastructure.db;
 
 import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSession;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionHistoryView;
 import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionSnapshot;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionSummary;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 /**
  * MapStruct mapper for converting between domain and infrastructure layers.
@@ -12,8 +16,11 @@ import org.mapstruct.Mapping;
  * - Domain entity → JPA entity (via snapshot)
  * - JPA entity → Domain entity
  * - Domain entity → Snapshot
+ * - Summary projection → Domain read model
+ * - History projection → Domain read model
  *
- * Uses FlashcardSuggestionMapper for mapping suggestions collection.
+ * Uses FlashcardSuggestionMapper for mapping suggestions collection (TABLE layout);
+ * suggestions of JSONB layout sessions are read from suggestionsJson.
  */
 @Mapper(componentModel = "spring", uses = FlashcardSuggestionMapper.class)
 public interface AiGenerationSessionMapper {
@@ -25,17 +32,58 @@ public interface AiGenerationSessionMapper {
      * @param snapshot domain snapshot
      * @return JPA entity
      */
+    @Mapping(target = "inputHash", ignore = true)
+    @Mapping(target = "inputPreview", ignore = true)
+    @Mapping(target = "suggestionsJson", ignore = true)
     AiGenerationSessionEntity toEntity(AiGenerationSessionSnapshot snapshot);
 
     /**
      * Converts JPA entity to domain snapshot.
      * Used when loading entity from database.
+     * Input text is not part of the entity - snapshot is created without it.
      *
      * @param entity JPA entity
      * @return domain snapshot
      */
+    @Mapping(target = "inputText", ignore = true)
     AiGenerationSessionSnapshot toSnapshot(AiGenerationSessionEntity entity);
 
+    /**
+     * Takes suggestions from suggestions_json for sessions stored in JSONB layout.
+     * Sessions in TABLE layout keep suggestions mapped from flashcard_suggestions rows.
+     *
+     * @param entity JPA entity
+     * @param snapshot snapshot being built
+     */
+    @AfterMapping
+    default void readSuggestionsJson(
+            AiGenerationSessionEntity entity,
+            @MappingTarget AiGenerationSessionSnapshot.AiGenerationSessionSnapshotBuilder snapshot) {
+        if (entity.getSuggestionsJson() != null) {
+            snapshot.suggestions(entity.getSuggestionsJson().stream()
+                .map(suggestion -> suggestion.toDomain(entity.getId()))
+                .toList());
+        }
+    }
+
+    /**
+     * Converts summary projection to domain read model.
+     * Used when polling session status.
+     *
+     * @param projection summary projection
+     * @return domain read model
+     */
+    AiGenerationSessionSummary toSummary(AiGenerationSessionSummaryProjection projection);
+
+    /**
+     * Converts history projection to domain read model.
+     * Used when listing user's session history.
+     *
+     * @param projection history projection
+     * @return domain read model
+     */
+    AiGenerationSessionHistoryView toHistoryView(AiGenerationSessionHistoryProjection projection);
+
     /**
      * Converts JPA entity to domain entity.
      * Convenience method that combines toSnapshot and fromSnapshot.
@@ -54,6 +102,7 @@ public interface AiGenerationSessionMapper {
     /**
      * Converts domain entity to JPA entity.
      * Convenience method that uses entity's toSnapshot.
+     * Copies session owner to suggestions - user_id is the partitioning key of flashcard_suggestions.
      *
      * @param domain domain entity
      * @return JPA entity
@@ -62,6 +111,8 @@ public interface AiGenerationSessionMapper {
         if (domain == null) {
             return null;
         }
-        return toEntity(domain.toSnapshot());
+        AiGenerationSessionEntity entity = toEntity(domain.toSnapshot());
+        entity.getSuggestions().forEach(suggestion -> suggestion.setUserId(entity.getUserId()));
+        return entity;
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Spring Data interface-based projection of ai_generation_sessions table for status polling.
+ *
+ * Selects only listed columns - no input text, no suggestions collection.
+ * Converted to domain AiGenerationSessionSummary by AiGenerationSessionMapper.
+ */
+public interface AiGenerationSessionSummaryProjection {
+
+    UUID getId();
+
+    UUID getUserId();
+
+    AiGenerationSessionStatus getStatus();
+
+    Integer getGeneratedCount();
+
+    Integer getAcceptedCount();
+
+    String getAiModel();
+
+    BigDecimal getApiCost();
+
+    Instant getCreatedAt();
+}
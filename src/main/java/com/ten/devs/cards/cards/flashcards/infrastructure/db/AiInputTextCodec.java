@@ -0,0 +1,92 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Encoding of AI session input texts stored in ai_input_texts.content.
+ *
+ * Texts are compressed by the application, not by the database: compressed bytes are
+ * smaller on disk, in WAL and on the wire, and the column skips pglz (STORAGE EXTERNAL).
+ * The codec name is stored with every text, so texts written with different codecs
+ * stay readable side by side.
+ */
+enum AiInputTextCodec {
+
+    /**
+     * Plain UTF-8 bytes - texts migrated by SQL from ai_generation_sessions.input_text.
+     */
+    NONE {
+        @Override
+        byte[] encode(byte[] utf8) {
+            return utf8;
+        }
+
+        @Override
+        byte[] decode(byte[] content, int originalSize) {
+            return content;
+        }
+    },
+
+    /**
+     * Raw DEFLATE (java.util.zip) - no external library, ~3-4x smaller for natural language text.
+     */
+    DEFLATE {
+        @Override
+        byte[] encode(byte[] utf8) {
+            // Texts are compressed once and are at most ~40 KB - best compression costs well below 1 ms
+            Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+            try {
+                deflater.setInput(utf8);
+                deflater.finish();
+                ByteArrayOutputStream out = new ByteArrayOutputStream(utf8.length / 2 + 64);
+                byte[] buffer = new byte[4096];
+                while (!deflater.finished()) {
+                    out.write(buffer, 0, deflater.deflate(buffer));
+                }
+                return out.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        byte[] decode(byte[] content, int originalSize) {
+            Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(content);
+                byte[] utf8 = new byte[originalSize];
+                int size = inflater.inflate(utf8);
+                if (size != originalSize || !inflater.finished()) {
+                    throw new IllegalStateException(
+                        "Corrupted input text: expected " + originalSize + " bytes, inflated " + size);
+                }
+                return utf8;
+            } catch (DataFormatException e) {
+                throw new IllegalStateException("Corrupted input text: " + e.getMessage(), e);
+            } finally {
+                inflater.end();
+            }
+        }
+    };
+
+    /**
+     * Encodes UTF-8 text for storage.
+     *
+     * @param utf8 UTF-8 encoded text
+     * @return stored content
+     */
+    abstract byte[] encode(byte[] utf8);
+
+    /**
+     * Decodes stored content back to UTF-8 text.
+     *
+     * @param content stored content
+     * @param originalSize size of the UTF-8 encoded text in bytes
+     * @return UTF-8 encoded text
+     * @throws IllegalStateException if content is corrupted
+     */
+    abstract byte[] decode(byte[] content, int originalSize);
+}
@@ -0,0 +1,287 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Background job removing AI session data nobody will read again.
+ *
+ * - FAILED sessions older than failed-sessions-max-age are deleted; their input texts,
+ *   once no other session references them, move to the compressed ai_input_texts_archive table
+ * - suggestions older than suggestions-max-age are expired: approved ones were copied to
+ *   flashcards long ago, the rest were never approved. Rows of flashcard_suggestions are
+ *   deleted, JSONB suggestions are replaced by an empty array (the session keeps its layout)
+ *
+ * Each task walks its rows in primary key order (keyset on id) in batches of batch-size.
+ * A batch is ONE statement, so it is its own short transaction: rows locked by users are
+ * skipped (SKIP LOCKED) and picked up by a later run. The job sleeps for pause between
+ * batches, so replicas keep up and the tables are never locked for long.
+ *
+ * Only one node runs the job at a time: it holds a PostgreSQL session advisory lock on
+ * a dedicated connection for the whole run. Nodes that do not get the lock skip the run;
+ * the lock is released with the connection if the node dies.
+ *
+ * Metrics (Micrometer):
+ * - cards.ai.sessions.retention.rows{task=failed-sessions|expired-suggestions|expired-suggestions-json|archived-input-texts}
+ * - cards.ai.sessions.retention.batch{task=failed-sessions|expired-suggestions|expired-suggestions-json}
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cards.flashcards.ai-sessions.retention", name = "enabled", matchIfMissing = true)
+public class AiSessionRetentionJob {
+
+    private static final String LOCK_NAME = "cards.ai-sessions.retention";
+
+    // Input texts are archived only when no remaining session references them. Deleted sessions are
+    // excluded explicitly - all parts of the statement see the rows as they were before it started.
+    // A session created concurrently with the same text fails its foreign key check and can be retried
+    private static final String DELETE_FAILED_SESSIONS = """
+        WITH batch AS (
+            SELECT id, user_id
+            FROM ai_generation_sessions
+            WHERE status = 'FAILED' AND created_at < :cutoff AND id > :afterId
+            ORDER BY id
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+        ),
+        deleted AS (
+            DELETE FROM ai_generation_sessions session
+            USING batch
+            WHERE session.id = batch.id AND session.user_id = batch.user_id
+            RETURNING session.id, session.user_id, session.input_hash
+        ),
+        orphaned AS (
+            SELECT DISTINCT deleted.user_id, deleted.input_hash
+            FROM deleted
+            WHERE deleted.input_hash IS NOT NULL
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM ai_generation_sessions other
+                  WHERE other.user_id = deleted.user_id
+                    AND other.input_hash = deleted.input_hash
+                    AND other.id NOT IN (SELECT id FROM deleted))
+        ),
+        archived AS (
+            INSERT INTO ai_input_texts_archive (user_id, content_hash, codec, content, original_size, created_at)
+            SELECT input.user_id, input.content_hash, input.codec, input.content, input.original_size, input.created_at
+            FROM ai_input_texts input
+            JOIN orphaned ON orphaned.user_id = input.user_id AND orphaned.input_hash = input.content_hash
+            ON CONFLICT (user_id, content_hash) DO NOTHING
+        ),
+        removed AS (
+            DELETE FROM ai_input_texts input
+            USING orphaned
+            WHERE input.user_id = orphaned.user_id AND input.content_hash = orphaned.input_hash
+            RETURNING input.user_id
+        )
+        SELECT (SELECT count(*) FROM deleted) AS processed,
+               (SELECT id FROM deleted ORDER BY id DESC LIMIT 1) AS last_id,
+               (SELECT count(*) FROM removed) AS archived,
+               CAST(NULL AS uuid[]) AS session_ids
+        """;
+
+    // TABLE layout
+    private static final String EXPIRE_SUGGESTIONS = """
+        WITH batch AS (
+            SELECT id, user_id
+            FROM flashcard_suggestions
+            WHERE created_at < :cutoff AND id > :afterId
+            ORDER BY id
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+        ),
+        deleted AS (
+            DELETE FROM flashcard_suggestions suggestion
+            USING batch
+            WHERE suggestion.id = batch.id AND suggestion.user_id = batch.user_id
+            RETURNING suggestion.id, suggestion.session_id
+        )
+        SELECT (SELECT count(*) FROM deleted) AS processed,
+               (SELECT id FROM deleted ORDER BY id DESC LIMIT 1) AS last_id,
+               0 AS archived,
+               (SELECT array_agg(DISTINCT session_id) FROM deleted) AS session_ids
+        """;
+
+    // JSONB layout - an empty array still marks the session's layout (see SuggestionsStorage)
+    private static final String EXPIRE_SUGGESTIONS_JSON = """
+        WITH batch AS (
+            SELECT id, user_id
+            FROM ai_generation_sessions
+            WHERE suggestions_json <> '[]'::jsonb AND created_at < :cutoff AND id > :afterId
+            ORDER BY id
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+        ),
+        expired AS (
+            UPDATE ai_generation_sessions session
+            SET suggestions_json = '[]'::jsonb
+            FROM batch
+            WHERE session.id = batch.id AND session.user_id = batch.user_id
+            RETURNING session.id
+        )
+        SELECT (SELECT count(*) FROM expired) AS processed,
+               (SELECT id FROM expired ORDER BY id DESC LIMIT 1) AS last_id,
+               0 AS archived,
+               (SELECT array_agg(id) FROM expired) AS session_ids
+        """;
+
+    private final JdbcClient jdbcClient;
+    private final DataSource dataSource;
+    private final CompletedAiSessionCache completedSessions;
+    private final List<Task> tasks;
+    private final Counter archivedInputTexts;
+    private final int batchSize;
+    private final Duration pause;
+
+    public AiSessionRetentionJob(
+            JdbcClient jdbcClient,
+            DataSource dataSource,
+            CompletedAiSessionCache completedSessions,
+            MeterRegistry meterRegistry,
+            @Value("${cards.flashcards.ai-sessions.retention.failed-sessions-max-age:P7D}") Duration failedSessionsMaxAge,
+            @Value("${cards.flashcards.ai-sessions.retention.suggestions-max-age:P30D}") Duration suggestionsMaxAge,
+            @Value("${cards.flashcards.ai-sessions.retention.batch-size:500}") int batchSize,
+            @Value("${cards.flashcards.ai-sessions.retention.pause:PT0.2S}") Duration pause) {
+
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Retention batch size must be positive: " + batchSize);
+        }
+        this.jdbcClient = jdbcClient;
+        this.dataSource = dataSource;
+        this.completedSessions = completedSessions;
+        this.tasks = List.of(
+            new Task("failed-sessions", DELETE_FAILED_SESSIONS, failedSessionsMaxAge, meterRegistry),
+            new Task("expired-suggestions", EXPIRE_SUGGESTIONS, suggestionsMaxAge, meterRegistry),
+            new Task("expired-suggestions-json", EXPIRE_SUGGESTIONS_JSON, suggestionsMaxAge, meterRegistry));
+        this.archivedInputTexts = rowsCounter("archived-input-texts", meterRegistry);
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    @Scheduled(
+        initialDelayString = "${cards.flashcards.ai-sessions.retention.initial-delay:PT10M}",
+        fixedDelayString = "${cards.flashcards.ai-sessions.retention.interval:PT1H}")
+    public void purge() {
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!advisoryLock(lockConnection, "SELECT pg_try_advisory_lock(hashtext(?))")) {
+                log.info("AI session retention is running on another node, skipping");
+                return;
+            }
+            try {
+                Instant now = Instant.now();
+                for (Task task : tasks) {
+                    run(task, now.minus(task.maxAge()));
+                }
+            } finally {
+                advisoryLock(lockConnection, "SELECT pg_advisory_unlock(hashtext(?))");
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("AI session retention could not use its advisory lock", e);
+        }
+    }
+
+    private void run(Task task, Instant cutoff) {
+        log.info("Starting AI session retention task {} for rows created before {}", task.name(), cutoff);
+
+        UUID afterId = new UUID(0L, 0L);
+        int processed = 0;
+        int archived = 0;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            UUID after = afterId;
+            Batch batch = task.batchLatency().record(() -> runBatch(task, cutoff, after));
+
+            task.rows().increment(batch.processed());
+            archivedInputTexts.increment(batch.archived());
+            batch.sessionIds().forEach(completedSessions::evict);
+            processed += batch.processed();
+            archived += batch.archived();
+
+            // A short batch is the last one; rows skipped as locked are left for the next run
+            if (batch.processed() < batchSize) {
+                break;
+            }
+            afterId = batch.lastId();
+            pause();
+        }
+
+        log.info("AI session retention task {} processed {} rows, archived {} input texts",
+            task.name(), processed, archived);
+    }
+
+    // One batch statement of a task - the seam the unit test replaces
+    Batch runBatch(Task task, Instant cutoff, UUID afterId) {
+        return jdbcClient.sql(task.sql())
+            .param("cutoff", OffsetDateTime.ofInstant(cutoff, ZoneOffset.UTC))
+            .param("afterId", afterId)
+            .param("batchSize", batchSize)
+            .query((rs, rowNum) -> toBatch(rs))
+            .single();
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(pause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static Batch toBatch(ResultSet rs) throws SQLException {
+        Array sessionIds = rs.getArray("session_ids");
+        return new Batch(
+            rs.getInt("processed"),
+            rs.getObject("last_id", UUID.class),
+            rs.getInt("archived"),
+            sessionIds != null ? List.of((UUID[]) sessionIds.getArray()) : List.of());
+    }
+
+    private static Counter rowsCounter(String task, MeterRegistry meterRegistry) {
+        return Counter.builder("cards.ai.sessions.retention.rows")
+            .tag("task", task)
+            .description("Rows deleted, expired or archived by the AI session retention job")
+            .register(meterRegistry);
+    }
+
+    record Task(String name, String sql, Duration maxAge, Counter rows, Timer batchLatency) {
+
+        Task(String name, String sql, Duration maxAge, MeterRegistry meterRegistry) {
+            this(name, sql, maxAge, rowsCounter(name, meterRegistry), Timer.builder("cards.ai.sessions.retention.batch")
+                .tag("task", name)
+                .description("Latency of one AI session retention batch statement")
+                .register(meterRegistry));
+        }
+    }
+
+    record Batch(int processed, UUID lastId, int archived, List<UUID> sessionIds) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSuggestion;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded in-memory cache of the immutable part of COMPLETED AI generation sessions.
+ *
+ * Used only by SqlDbAiGenerationSessionRepository. Once a session is COMPLETED its owner,
+ * metrics and suggestions never change - only acceptedCount does, so it is NOT cached
+ * and is always read from the database.
+ *
+ * - bounded by max-size, least recently used entries are evicted first
+ * - entries are removed when the session is saved or deleted through the repository
+ * - entries are served only until suggestions-max-age after the session was created: from then on
+ *   AiSessionRetentionJob (on whichever instance runs it) may have expired the suggestions,
+ *   so lookups go to the database on every instance
+ * - sessions deleted by other instances or in bulk stay cached until evicted;
+ *   writes re-check the session in the database, so a stale entry never causes a write
+ *
+ * Metrics (Micrometer):
+ * - cards.ai.sessions.cache.gets{result=hit|miss}
+ * - cards.ai.sessions.cache.hit.ratio
+ * - cards.ai.sessions.cache.size
+ */
+@Slf4j
+@Component
+class CompletedAiSessionCache {
+
+    private final Map<UUID, CompletedAiSession> sessions;
+    private final Duration suggestionsMaxAge;
+    private final Clock clock;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Autowired
+    CompletedAiSessionCache(
+            MeterRegistry meterRegistry,
+            @Value("${cards.flashcards.ai-sessions.cache.max-size:1000}") int maxSize,
+            @Value("${cards.flashcards.ai-sessions.retention.suggestions-max-age:P30D}") Duration suggestionsMaxAge) {
+        this(meterRegistry, maxSize, suggestionsMaxAge, Clock.systemUTC());
+    }
+
+    CompletedAiSessionCache(MeterRegistry meterRegistry, int maxSize, Duration suggestionsMaxAge, Clock clock) {
+        this.suggestionsMaxAge = suggestionsMaxAge;
+        this.clock = clock;
+        this.sessions = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CompletedAiSession> eldest) {
+                return size() > maxSize;
+            }
+        });
+
+        FunctionCounter.builder("cards.ai.sessions.cache.gets", hits, LongAdder::doubleValue)
+            .tag("result", "hit")
+            .description("Lookups of completed AI sessions served from memory")
+            .register(meterRegistry);
+        FunctionCounter.builder("cards.ai.sessions.cache.gets", misses, LongAdder::doubleValue)
+            .tag("result", "miss")
+            .description("Lookups of completed AI sessions that went to the database")
+            .register(meterRegistry);
+        Gauge.builder("cards.ai.sessions.cache.hit.ratio", this, CompletedAiSessionCache::hitRatio)
+            .description("Fraction of completed AI session lookups served from memory")
+            .register(meterRegistry);
+        Gauge.builder("cards.ai.sessions.cache.size", sessions, Map::size)
+            .description("Number of cached completed AI sessions")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Finds cached session and records a hit or a miss.
+     * A session old enough for its suggestions to be expired is evicted and counts as a miss.
+     *
+     * @param sessionId session ID
+     * @return cached immutable part of the session
+     */
+    Optional<CompletedAiSession> get(UUID sessionId) {
+        CompletedAiSession session = sessions.get(sessionId);
+        if (session != null && !clock.instant().isBefore(session.createdAt().plus(suggestionsMaxAge))) {
+            sessions.remove(sessionId, session);
+            session = null;
+        }
+        (session != null ? hits : misses).increment();
+        return Optional.ofNullable(session);
+    }
+
+    /**
+     * Caches immutable part of a COMPLETED session.
+     *
+     * @param sessionId session ID
+     * @param session immutable part of the session
+     */
+    void put(UUID sessionId, CompletedAiSession session) {
+        sessions.put(sessionId, session);
+    }
+
+    /**
+     * Removes session from the cache.
+     *
+     * @param sessionId session ID
+     */
+    void evict(UUID sessionId) {
+        if (sessions.remove(sessionId) != null) {
+            log.debug("Evicted AI generation session {} from cache", sessionId);
+        }
+    }
+
+    double hitRatio() {
+        double total = hits.sum() + misses.sum();
+        return total == 0 ? 0.0 : hits.sum() / total;
+    }
+
+    /**
+     * Immutable part of a COMPLETED session - everything except acceptedCount and input text.
+     */
+    record CompletedAiSession(
+        UUID userId,
+        Integer generatedCount,
+        String aiModel,
+        BigDecimal apiCost,
+        Instant createdAt,
+        List<FlashcardSuggestion> suggestions
+    ) {
+
+        CompletedAiSession {
+            suggestions = List.copyOf(suggestions);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Per-user transaction lock of delta sync numbering (tables/009-add-flashcards-change-tracking).
+ *
+ * The change tracking triggers take it for every written flashcard - after the row is locked.
+ * Writers take it first, before any row lock of the transaction, so two transactions of one user
+ * queue on the lock instead of each holding a row the other one needs. The triggers' lock is then
+ * re-entrant and never waits. Several users are locked in user_id order, like the delete trigger does.
+ */
+final class FlashcardChangesLock {
+
+    private static final String LOCK = """
+        SELECT pg_advisory_xact_lock(hashtext('flashcard_changes'), hashtext(CAST(locked.user_id AS text)))
+        FROM (
+            SELECT DISTINCT user_id
+            FROM unnest(CAST(:userIds AS uuid[])) AS owner (user_id)
+            ORDER BY user_id
+        ) locked
+        """;
+
+    private FlashcardChangesLock() {
+    }
+
+    /**
+     * Locks flashcard changes of the users until the end of the current transaction.
+     */
+    static void lock(JdbcClient jdbcClient, Collection<UUID> userIds) {
+        jdbcClient.sql(LOCK)
+            .param("userIds", userIds.stream().map(UUID::toString).toArray(String[]::new))
+            .query(rs -> {
+            });
+    }
+}
@@ -0,0 +1,67 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSource;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA entity for flashcard_counters table.
+ *
+ * READ-ONLY - rows are maintained by database triggers on flashcards
+ * (same transaction as the write) and corrected by FlashcardCounterReconciliationJob.
+ */
+@Entity
+@Immutable
+@Table(name = "flashcard_counters")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlashcardCounterEntity {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+
+    @Column(name = "ai_count", nullable = false)
+    private long aiCount;
+
+    @Column(name = "ai_user_count", nullable = false)
+    private long aiUserCount;
+
+    @Column(name = "user_count", nullable = false)
+    private long userCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    /**
+     * Returns count of flashcards with given source.
+     *
+     * @param source flashcard source, null for total
+     * @return number of flashcards
+     */
+    public long countOf(FlashcardSource source) {
+        if (source == null) {
+            return totalCount;
+        }
+        return switch (source) {
+            case AI -> aiCount;
+            case AI_USER -> aiUserCount;
+            case USER -> userCount;
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for FlashcardCounterEntity.
+ *
+ * Counters are written by database triggers; this repository only reads them
+ * and runs the reconciliation statements of FlashcardCounterReconciliationJob.
+ */
+@Repository
+public interface FlashcardCounterJpaRepository extends JpaRepository<FlashcardCounterEntity, UUID> {
+
+    /**
+     * Finds next batch of user IDs to reconcile.
+     *
+     * @param afterUserId last user ID of the previous batch
+     * @param batchSize maximum number of IDs
+     * @return user IDs in ascending order
+     */
+    @Query(value = """
+        SELECT id FROM users
+        WHERE id > :afterUserId
+        ORDER BY id
+        LIMIT :batchSize
+        """, nativeQuery = true)
+    List<UUID> findUserIdsAfter(UUID afterUserId, int batchSize);
+
+    /**
+     * Creates zero counters for users that have none, so they can be locked.
+     *
+     * @param userIds users of the batch
+     * @return number of created rows
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO flashcard_counters (user_id)
+        SELECT id FROM users WHERE id IN (:userIds)
+        ORDER BY id
+        ON CONFLICT (user_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertMissing(List<UUID> userIds);
+
+    /**
+     * Locks counters of the batch until the end of the transaction.
+     * Concurrent writers of these users wait, so the following recount sees
+     * every committed flashcard and later writes apply their deltas on top of it.
+     *
+     * @param userIds users of the batch
+     * @return locked user IDs
+     */
+    @Query(value = """
+        SELECT user_id FROM flashcard_counters
+        WHERE user_id IN (:userIds)
+        ORDER BY user_id
+        FOR UPDATE
+        """, nativeQuery = true)
+    List<UUID> lockAll(List<UUID> userIds);
+
+    /**
+     * Overwrites counters that differ from actual flashcard counts.
+     *
+     * @param userIds users of the batch
+     * @return number of corrected counters
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE flashcard_counters c SET
+            total_count = a.total_count,
+            ai_count = a.ai_count,
+            ai_user_count = a.ai_user_count,
+            user_count = a.user_count,
+            updated_at = CURRENT_TIMESTAMP
+        FROM (
+            SELECT u.id AS user_id,
+                   COUNT(f.id) AS total_count,
+                   COUNT(f.id) FILTER (WHERE f.source = 'AI') AS ai_count,
+                   COUNT(f.id) FILTER (WHERE f.source = 'AI_USER') AS ai_user_count,
+                   COUNT(f.id) FILTER (WHERE f.source = 'USER') AS user_count
+            FROM users u
+            LEFT JOIN flashcards f ON f.user_id = u.id
+            WHERE u.id IN (:userIds)
+            GROUP BY u.id
+        ) a
+        WHERE c.user_id = a.user_id
+          AND (c.total_count, c.ai_count, c.ai_user_count, c.user_count)
+              IS DISTINCT FROM (a.total_count, a.ai_count, a.ai_user_count, a.user_count)
+        """, nativeQuery = true)
+    int reconcile(List<UUID> userIds);
+}
@@ -0,0 +1,79 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Background job correcting drift of flashcard_counters.
+ *
+ * Counters are kept exact by triggers, so drift can only come from manual data fixes,
+ * disabled triggers or restores. The job walks all users in batches (keyset over users.id)
+ * and, per batch, in one short transaction:
+ * 1. creates missing counter rows
+ * 2. locks the batch's counter rows (FOR UPDATE)
+ * 3. overwrites counters that differ from a fresh COUNT of the users' flashcards
+ *
+ * Locking before counting makes the recount race-free: writers of a locked user wait,
+ * so their flashcards are either committed before the recount (and counted) or applied
+ * as trigger deltas after the job's commit.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cards.flashcards.counters.reconciliation", name = "enabled", matchIfMissing = true)
+public class FlashcardCounterReconciliationJob {
+
+    private final FlashcardCounterJpaRepository counterJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public FlashcardCounterReconciliationJob(
+            FlashcardCounterJpaRepository counterJpaRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${cards.flashcards.counters.reconciliation.batch-size:500}") int batchSize) {
+
+        this.counterJpaRepository = counterJpaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+        initialDelayString = "${cards.flashcards.counters.reconciliation.initial-delay:PT5M}",
+        fixedDelayString = "${cards.flashcards.counters.reconciliation.interval:PT6H}")
+    public void reconcile() {
+        log.info("Starting flashcard counters reconciliation");
+
+        UUID afterUserId = new UUID(0L, 0L);
+        int checked = 0;
+        int corrected = 0;
+
+        List<UUID> batch;
+        while (!(batch = counterJpaRepository.findUserIdsAfter(afterUserId, batchSize)).isEmpty()) {
+            corrected += reconcileBatch(batch);
+            checked += batch.size();
+            afterUserId = batch.getLast();
+        }
+
+        if (corrected > 0) {
+            log.warn("Flashcard counters reconciliation corrected {} of {} users", corrected, checked);
+        } else {
+            log.info("Flashcard counters reconciliation found no drift in {} users", checked);
+        }
+    }
+
+    private int reconcileBatch(List<UUID> userIds) {
+        Integer corrected = transactionTemplate.execute(status -> {
+            counterJpaRepository.insertMissing(userIds);
+            counterJpaRepository.lockAll(userIds);
+            return counterJpaRepository.reconcile(userIds);
+        });
+        return corrected != null ? corrected : 0;
+    }
+}
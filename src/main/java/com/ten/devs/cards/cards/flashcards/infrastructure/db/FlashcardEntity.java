@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.PartitionKey;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -18,6 +20,10 @@ import java.util.UUID;
  *
  * Maps to database table, separate from domain entity.
  * Conversion handled by FlashcardMapper.
+ *
+ * Implements Persistable: IDs are assigned by the domain, so Spring Data cannot tell
+ * a new card from a detached one and would SELECT before every INSERT (merge).
+ * Insert paths mark entities as new (see FlashcardMapper.toNewEntity) to get a plain persist.
  */
 @Entity
 @Table(name = "flashcards")
@@ -25,12 +31,14 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class FlashcardEntity {
+public class FlashcardEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", nullable = false)
     private UUID id;
 
+    // Partitioning key - added by Hibernate to UPDATE / DELETE by id
+    @PartitionKey
     @Column(name = "user_id", nullable = false)
     private UUID userId;
 
@@ -52,4 +60,20 @@ public class FlashcardEntity {
 
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
+
+    // Optimistic lock - content updates bypass the entity (see SqlDbFlashcardRepository.updateContent)
+    // and increment it in SQL, so a stale entity can never be merged over them
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Transient
+    @Builder.Default
+    private boolean isNew = false;
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
\ No newline at end of file
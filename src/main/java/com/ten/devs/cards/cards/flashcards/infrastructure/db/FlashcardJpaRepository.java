@@ -1,8 +1,13 @@
 package com.ten.devs.cards.cards.flashcards.infrastructure.db;
 
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSource;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,6 +18,13 @@ import java.util.UUID;
  * Extends JpaRepository for standard CRUD operations.
  *
  * Custom query methods follow Spring Data naming conventions.
+ *
+ * Listing queries use keyset (seek) pagination: each page starts strictly after
+ * (timestamp, id) of the previous page's last card, so the database walks
+ * idx_flashcards_user_created / idx_flashcards_user_updated (or idx_flashcards_user_source
+ * when filtering by a single source) from that position and stops after limit rows.
+ * The redundant "timestamp <= / >= :value" predicate gives the planner an index range bound;
+ * the OR clause then only resolves ties on the timestamp.
  */
 @Repository
 public interface FlashcardJpaRepository extends JpaRepository<FlashcardEntity, UUID> {
@@ -32,4 +44,100 @@ public interface FlashcardJpaRepository extends JpaRepository<FlashcardEntity, U
      * @return list of flashcard entities
      */
     List<FlashcardEntity> findByGenerationSessionId(UUID generationSessionId);
-}
\ No newline at end of file
+
+    /**
+     * Finds page of user's flashcards ordered by creation time, newest first.
+     *
+     * @param userId user ID
+     * @param sources sources to include
+     * @param createdAt creation time of the previous page's last card
+     * @param id ID of the previous page's last card
+     * @param limit maximum number of rows
+     * @return listing projections
+     */
+    @Query("""
+        SELECT f.id AS id, f.frontContent AS frontContent, f.backContent AS backContent,
+               f.source AS source, f.createdAt AS createdAt, f.updatedAt AS updatedAt,
+               f.version AS version
+        FROM FlashcardEntity f
+        WHERE f.userId = :userId
+          AND f.source IN :sources
+          AND f.createdAt <= :createdAt
+          AND (f.createdAt < :createdAt OR f.id < :id)
+        ORDER BY f.createdAt DESC, f.id DESC
+        """)
+    List<FlashcardSummaryProjection> findPageByCreatedAtDesc(
+        UUID userId, Collection<FlashcardSource> sources, Instant createdAt, UUID id, Limit limit);
+
+    /**
+     * Finds page of user's flashcards ordered by creation time, oldest first.
+     *
+     * @param userId user ID
+     * @param sources sources to include
+     * @param createdAt creation time of the previous page's last card
+     * @param id ID of the previous page's last card
+     * @param limit maximum number of rows
+     * @return listing projections
+     */
+    @Query("""
+        SELECT f.id AS id, f.frontContent AS frontContent, f.backContent AS backContent,
+               f.source AS source, f.createdAt AS createdAt, f.updatedAt AS updatedAt,
+               f.version AS version
+        FROM FlashcardEntity f
+        WHERE f.userId = :userId
+          AND f.source IN :sources
+          AND f.createdAt >= :createdAt
+          AND (f.createdAt > :createdAt OR f.id > :id)
+        ORDER BY f.createdAt ASC, f.id ASC
+        """)
+    List<FlashcardSummaryProjection> findPageByCreatedAtAsc(
+        UUID userId, Collection<FlashcardSource> sources, Instant createdAt, UUID id, Limit limit);
+
+    /**
+     * Finds page of user's flashcards ordered by last update, most recent first.
+     *
+     * @param userId user ID
+     * @param sources sources to include
+     * @param updatedAt update time of the previous page's last card
+     * @param id ID of the previous page's last card
+     * @param limit maximum number of rows
+     * @return listing projections
+     */
+    @Query("""
+        SELECT f.id AS id, f.frontContent AS frontContent, f.backContent AS backContent,
+               f.source AS source, f.createdAt AS createdAt, f.updatedAt AS updatedAt,
+               f.version AS version
+        FROM FlashcardEntity f
+        WHERE f.userId = :userId
+          AND f.source IN :sources
+          AND f.updatedAt <= :updatedAt
+          AND (f.updatedAt < :updatedAt OR f.id < :id)
+        ORDER BY f.updatedAt DESC, f.id DESC
+        """)
+    List<FlashcardSummaryProjection> findPageByUpdatedAtDesc(
+        UUID userId, Collection<FlashcardSource> sources, Instant updatedAt, UUID id, Limit limit);
+
+    /**
+     * Finds page of user's flashcards ordered by last update, least recent first.
+     *
+     * @param userId user ID
+     * @param sources sources to include
+     * @param updatedAt update time of the previous page's last card
+     * @param id ID of the previous page's last card
+     * @param limit maximum number of rows
+     * @return listing projections
+     */
+    @Query("""
+        SELECT f.id AS id, f.frontContent AS frontContent, f.backContent AS backContent,
+               f.source AS source, f.createdAt AS createdAt, f.updatedAt AS updatedAt,
+               f.version AS version
+        FROM FlashcardEntity f
+        WHERE f.userId = :userId
+          AND f.source IN :sources
+          AND f.updatedAt >= :updatedAt
+          AND (f.updatedAt > :updatedAt OR f.id > :id)
+        ORDER BY f.updatedAt ASC, f.id ASC
+        """)
+    List<FlashcardSummaryProjection> findPageByUpdatedAtAsc(
+        UUID userId, Collection<FlashcardSource> sources, Instant updatedAt, UUID id, Limit limit);
+}
@@ -2,7 +2,9 @@ package com.ten.devs.cards.cards.flashcards.infrastructure.db;
 
 import com.ten.devs.cards.cards.flashcards.domain.Flashcard;
 import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSummaryView;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 /**
  * MapStruct mapper for converting between Flashcard domain and infrastructure layers.
@@ -11,6 +13,8 @@ import org.mapstruct.Mapper;
  * - Domain entity → JPA entity (via snapshot)
  * - JPA entity → Domain entity
  * - Domain entity → Snapshot
+ * - Listing projection → Domain read model
+ * - New domain entity → JPA entity marked for INSERT
  *
  * Follows the same pattern as AiGenerationSessionMapper.
  */
@@ -24,6 +28,7 @@ public interface FlashcardMapper {
      * @param snapshot domain snapshot
      * @return JPA entity
      */
+    @Mapping(target = "isNew", ignore = true)
     FlashcardEntity toEntity(FlashcardSnapshot snapshot);
 
     /**
@@ -35,6 +40,15 @@ public interface FlashcardMapper {
      */
     FlashcardSnapshot toSnapshot(FlashcardEntity entity);
 
+    /**
+     * Converts listing projection to domain read model.
+     * Used when loading pages of flashcard listing.
+     *
+     * @param projection listing projection
+     * @return domain read model
+     */
+    FlashcardSummaryView toSummaryView(FlashcardSummaryProjection projection);
+
     /**
      * Converts JPA entity to domain entity.
      * Convenience method that combines toSnapshot and fromSnapshot.
@@ -63,4 +77,19 @@ public interface FlashcardMapper {
         }
         return toEntity(flashcard.toSnapshot());
     }
+
+    /**
+     * Converts newly created domain entity to JPA entity marked as new.
+     * Saving such entity issues INSERT without checking whether the row exists.
+     *
+     * @param flashcard domain entity that was never persisted
+     * @return JPA entity marked as new
+     */
+    default FlashcardEntity toNewEntity(Flashcard flashcard) {
+        FlashcardEntity entity = fromDomain(flashcard);
+        if (entity != null) {
+            entity.setNew(true);
+        }
+        return entity;
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.PartitionKey;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -38,6 +39,14 @@ public class FlashcardSuggestionEntity {
     @Column(name = "session_id", nullable = false, insertable = false, updatable = false)
     private UUID sessionId;
 
+    /**
+     * Owner of the session - partitioning key of flashcard_suggestions.
+     * Assigned from the parent session by AiGenerationSessionMapper.
+     */
+    @PartitionKey
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
     @Column(name = "front_content", nullable = false, length = 1000)
     private String frontContent;
 
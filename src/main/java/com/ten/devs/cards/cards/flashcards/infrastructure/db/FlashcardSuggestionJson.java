@@ -0,0 +1,30 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSuggestion;
+
+import java.util.UUID;
+
+/**
+ * Element of ai_generation_sessions.suggestions_json array (JSONB suggestions layout).
+ *
+ * Property names are part of the stored format - SQL in SqlDbAiGenerationSessionRepository
+ * and the Liquibase conversion read and write the same keys.
+ *
+ * @param id suggestion ID
+ * @param front front side content
+ * @param back back side content
+ */
+public record FlashcardSuggestionJson(
+    UUID id,
+    String front,
+    String back
+) {
+
+    static FlashcardSuggestionJson fromDomain(FlashcardSuggestion suggestion) {
+        return new FlashcardSuggestionJson(suggestion.id(), suggestion.frontContent(), suggestion.backContent());
+    }
+
+    FlashcardSuggestion toDomain(UUID sessionId) {
+        return new FlashcardSuggestion(id, sessionId, front, back);
+    }
+}
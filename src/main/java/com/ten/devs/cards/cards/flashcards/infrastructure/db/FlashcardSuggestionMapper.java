@@ -24,8 +24,9 @@ public interface FlashcardSuggestionMapper {
      * @param suggestion domain entity
      * @return JPA entity
      */
-    @Mapping(target = "id", expression = "java(java.util.UUID.randomUUID())")
+    @Mapping(target = "id", expression = "java(com.ten.devs.cards.cards.shared.domain.TimeOrderedUuid.generate())")
     @Mapping(target = "createdAt", expression = "java(java.time.Instant.now())")
+    @Mapping(target = "userId", ignore = true)
     FlashcardSuggestionEntity toEntity(FlashcardSuggestion suggestion);
 
     /**
@@ -0,0 +1,29 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSource;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Spring Data interface-based projection of flashcards table for listings.
+ *
+ * Selects only listed columns - no entity instances, no persistence context entries.
+ * Converted to domain FlashcardSummaryView by FlashcardMapper.
+ */
+public interface FlashcardSummaryProjection {
+
+    UUID getId();
+
+    String getFrontContent();
+
+    String getBackContent();
+
+    FlashcardSource getSource();
+
+    Instant getCreatedAt();
+
+    Instant getUpdatedAt();
+
+    long getVersion();
+}
@@ -1,14 +1,47 @@
 package com.ten.devs.cards.cards.flashcards.infrastructure.db;
 
 import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSession;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionHistoryPage;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionHistoryQuery;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionHistoryView;
 import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionId;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionKeyset;
 import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionRepository;
-import lombok.RequiredArgsConstructor;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionSnapshot;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionStatus;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionSummary;
+import com.ten.devs.cards.cards.flashcards.domain.AiSuggestionsView;
+import com.ten.devs.cards.cards.flashcards.domain.Flashcard;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSource;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSuggestion;
+import com.ten.devs.cards.cards.flashcards.domain.SuggestionApproval;
+import com.ten.devs.cards.cards.flashcards.infrastructure.db.CompletedAiSessionCache.CompletedAiSession;
+import com.ten.devs.cards.cards.shared.domain.TimeOrderedUuid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * ADAPTER (implementation) for AiGenerationSessionRepository PORT.
@@ -18,22 +51,190 @@ import java.util.UUID;
  *
  * Bridges domain layer (AiGenerationSession) and infrastructure layer (JPA).
  * Handles conversion between domain entities and JPA entities.
+ *
+ * New sessions are written with plain SQL (JdbcClient): the input text, the session row
+ * and all its suggestion rows are inserted by ONE statement, so creating a session costs
+ * one round trip regardless of the number of suggestions.
+ *
+ * Input texts are stored once per user and content (SHA-256), DEFLATE-compressed,
+ * in ai_input_texts. Sessions only reference them and findById never reads them -
+ * the text is loaded on demand by findInputText.
+ *
+ * Suggestions and metrics of COMPLETED sessions never change, so they are kept in
+ * CompletedAiSessionCache: suggestion views and status polls of completed sessions
+ * skip the database (status polls still read acceptedCount, which changes on approval).
+ *
+ * Approval is also a single statement: flashcards are created by INSERT ... SELECT
+ * from the stored suggestions and acceptedCount is incremented in place, so neither
+ * the input text nor the suggestions are loaded into the JVM for the write.
+ *
+ * Suggestions are stored in one of two layouts (see SuggestionsStorage): rows in
+ * flashcard_suggestions or a JSONB array in ai_generation_sessions.suggestions_json.
+ * cards.flashcards.ai-sessions.suggestions-storage selects the layout of NEW sessions only;
+ * every read and the approval handle both, so the layouts may coexist during a transition.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class SqlDbAiGenerationSessionRepository implements AiGenerationSessionRepository {
 
+    // An input text the user already submitted is kept (same hash = same content) and only referenced
+    private static final String INSERT_INPUT_TEXT = """
+        WITH input AS (
+            INSERT INTO ai_input_texts (user_id, content_hash, codec, content, original_size, created_at)
+            VALUES (:userId, :inputHash, :inputCodec, :inputContent, :inputSize, :createdAt)
+            ON CONFLICT (user_id, content_hash) DO NOTHING
+        )
+        """;
+
+    // TABLE layout. Data-modifying CTE: input text, session row, then suggestions unnested from parallel arrays.
+    // Runs even when there are no suggestions (FAILED sessions) - WITH statements always execute.
+    private static final String INSERT_SESSION_WITH_SUGGESTIONS = INSERT_INPUT_TEXT + """
+        , session AS (
+            INSERT INTO ai_generation_sessions
+                (id, user_id, input_hash, input_preview, generated_count, accepted_count, ai_model, api_cost, status, created_at)
+            VALUES
+                (:id, :userId, :inputHash, :inputPreview, :generatedCount, :acceptedCount, :aiModel, :apiCost, :status, :createdAt)
+            RETURNING id, user_id, created_at
+        )
+        INSERT INTO flashcard_suggestions (id, session_id, user_id, front_content, back_content, created_at)
+        SELECT suggestion.id, session.id, session.user_id, suggestion.front_content, suggestion.back_content,
+               session.created_at
+        FROM session
+        CROSS JOIN unnest(CAST(:suggestionIds AS uuid[]), CAST(:frontContents AS text[]), CAST(:backContents AS text[]))
+            AS suggestion (id, front_content, back_content)
+        """;
+
+    // JSONB layout. Suggestions are aggregated into the session row in input order;
+    // no suggestions (FAILED sessions) -> empty array, which still marks the JSONB layout.
+    private static final String INSERT_SESSION_WITH_SUGGESTIONS_JSON = INSERT_INPUT_TEXT + """
+        INSERT INTO ai_generation_sessions
+            (id, user_id, input_hash, input_preview, generated_count, accepted_count, ai_model, api_cost, status,
+             created_at, suggestions_json)
+        SELECT :id, :userId, :inputHash, :inputPreview, :generatedCount, :acceptedCount, :aiModel, :apiCost, :status,
+               :createdAt,
+               COALESCE(jsonb_agg(jsonb_build_object(
+                            'id', suggestion.id, 'front', suggestion.front_content, 'back', suggestion.back_content)
+                        ORDER BY suggestion.position), '[]'::jsonb)
+        FROM unnest(CAST(:suggestionIds AS uuid[]), CAST(:frontContents AS text[]), CAST(:backContents AS text[]))
+            WITH ORDINALITY AS suggestion (id, front_content, back_content, position)
+        """;
+
+    // input_text is still read for sessions stored before texts moved to ai_input_texts
+    private static final String SELECT_INPUT_TEXT = """
+        SELECT input.codec, input.content, input.original_size, session.input_text
+        FROM ai_generation_sessions session
+        LEFT JOIN ai_input_texts input
+            ON input.user_id = session.user_id AND input.content_hash = session.input_hash
+        WHERE session.id = :sessionId
+        """;
+
+    // Reads both layouts - a session has rows in flashcard_suggestions OR a suggestions_json array, never both
+    private static final String SELECT_SUGGESTIONS_VIEW = """
+        SELECT session.id AS session_id, session.user_id, session.status,
+               session.generated_count, session.ai_model, session.api_cost, session.created_at,
+               suggestion.id AS suggestion_id, suggestion.front_content, suggestion.back_content
+        FROM ai_generation_sessions session
+        LEFT JOIN LATERAL (
+            SELECT stored.id, stored.front_content, stored.back_content,
+                   row_number() OVER (ORDER BY stored.created_at, stored.id) AS position
+            FROM flashcard_suggestions stored
+            WHERE stored.session_id = session.id AND stored.user_id = session.user_id
+            UNION ALL
+            SELECT CAST(element.value ->> 'id' AS uuid), element.value ->> 'front', element.value ->> 'back',
+                   element.position
+            FROM jsonb_array_elements(session.suggestions_json) WITH ORDINALITY AS element (value, position)
+        ) suggestion ON true
+        WHERE session.id = :sessionId
+        ORDER BY suggestion.position
+        """;
+
+    // Session row is locked and checked (owner, COMPLETED) by the same statement that writes:
+    // no eligible session -> no flashcards and no counter change.
+    // accepted_count is incremented in place, so concurrent approvals serialize on the row lock
+    // instead of overwriting each other's count.
+    private static final String APPROVE_SUGGESTIONS = """
+        WITH session AS (
+            SELECT id, suggestions_json
+            FROM ai_generation_sessions
+            WHERE id = :sessionId AND user_id = :userId AND status = 'COMPLETED'
+            FOR UPDATE
+        ),
+        suggestion AS (
+            SELECT stored.id, stored.front_content, stored.back_content
+            FROM session
+            JOIN flashcard_suggestions stored ON stored.session_id = session.id AND stored.user_id = :userId
+            UNION ALL
+            SELECT CAST(element.value ->> 'id' AS uuid), element.value ->> 'front', element.value ->> 'back'
+            FROM session
+            CROSS JOIN jsonb_array_elements(session.suggestions_json) AS element (value)
+        ),
+        approval AS (
+            SELECT *
+            FROM unnest(CAST(:flashcardIds AS uuid[]), CAST(:suggestionIds AS uuid[]),
+                        CAST(:frontContents AS text[]), CAST(:backContents AS text[]), CAST(:sources AS text[]))
+                AS approval (flashcard_id, suggestion_id, front_content, back_content, source)
+        ),
+        created AS (
+            INSERT INTO flashcards
+                (id, user_id, front_content, back_content, source, generation_session_id, created_at, updated_at)
+            SELECT approval.flashcard_id, :userId,
+                   COALESCE(approval.front_content, suggestion.front_content),
+                   COALESCE(approval.back_content, suggestion.back_content),
+                   approval.source, session.id, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+            FROM session
+            CROSS JOIN suggestion
+            JOIN approval ON approval.suggestion_id = suggestion.id
+            RETURNING id, user_id, front_content, back_content, source, generation_session_id, created_at, updated_at
+        ),
+        counted AS (
+            UPDATE ai_generation_sessions
+            SET accepted_count = accepted_count + (SELECT count(*) FROM created)
+            WHERE id IN (SELECT id FROM session)
+        )
+        SELECT * FROM created
+        """;
+
+    private static final AiInputTextCodec INPUT_TEXT_CODEC = AiInputTextCodec.DEFLATE;
+
+    private static final AiGenerationSessionKeyset FIRST_PAGE = new AiGenerationSessionKeyset(
+        Instant.parse("9999-12-31T23:59:59Z"), new UUID(-1L, -1L));
+
     private final AiGenerationSessionJpaRepository jpaRepository;
     private final AiGenerationSessionMapper mapper;
+    private final JdbcClient jdbcClient;
+    private final CompletedAiSessionCache completedSessions;
+    private final SuggestionsStorage suggestionsStorage;
+
+    public SqlDbAiGenerationSessionRepository(
+            AiGenerationSessionJpaRepository jpaRepository,
+            AiGenerationSessionMapper mapper,
+            JdbcClient jdbcClient,
+            CompletedAiSessionCache completedSessions,
+            @Value("${cards.flashcards.ai-sessions.suggestions-storage:TABLE}") SuggestionsStorage suggestionsStorage) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.jdbcClient = jdbcClient;
+        this.completedSessions = completedSessions;
+        this.suggestionsStorage = suggestionsStorage;
+    }
 
     @Override
+    @Transactional
     public AiGenerationSession save(AiGenerationSession session) {
         log.debug("Saving AI generation session: {}", session.toSnapshot().id());
+        completedSessions.evict(session.toSnapshot().id());
 
         // Convert domain → JPA entity
         AiGenerationSessionEntity entity = mapper.fromDomain(session);
 
+        // Session keeps the layout it was created with
+        if (jpaRepository.existsByIdAndSuggestionsJsonIsNotNull(entity.getId())) {
+            entity.setSuggestionsJson(session.toSnapshot().suggestions().stream()
+                .map(FlashcardSuggestionJson::fromDomain)
+                .toList());
+            entity.getSuggestions().clear();
+        }
+
         // Persist via Spring Data JPA
         AiGenerationSessionEntity saved = jpaRepository.save(entity);
 
@@ -41,12 +242,87 @@ public class SqlDbAiGenerationSessionRepository implements AiGenerationSessionRe
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public AiGenerationSession create(AiGenerationSession session) {
+        AiGenerationSessionSnapshot snapshot = session.toSnapshot();
+        log.debug("Creating AI generation session: {}", snapshot.id());
+
+        if (snapshot.inputText() == null) {
+            throw new IllegalArgumentException("Session " + snapshot.id() + " cannot be created without input text");
+        }
+
+        List<FlashcardSuggestion> suggestions = snapshot.suggestions().stream()
+            .map(suggestion -> new FlashcardSuggestion(
+                suggestion.id() != null ? suggestion.id() : TimeOrderedUuid.generate(),
+                snapshot.id(),
+                suggestion.frontContent(),
+                suggestion.backContent()))
+            .toList();
+
+        byte[] input = snapshot.inputText().getBytes(StandardCharsets.UTF_8);
+
+        String insert = suggestionsStorage == SuggestionsStorage.JSONB
+            ? INSERT_SESSION_WITH_SUGGESTIONS_JSON
+            : INSERT_SESSION_WITH_SUGGESTIONS;
+
+        jdbcClient.sql(insert)
+            .param("id", snapshot.id())
+            .param("userId", snapshot.userId())
+            .param("inputHash", contentHash(input))
+            .param("inputCodec", INPUT_TEXT_CODEC.name())
+            .param("inputContent", INPUT_TEXT_CODEC.encode(input))
+            .param("inputSize", input.length)
+            .param("inputPreview", inputPreview(snapshot.inputText()))
+            .param("generatedCount", snapshot.generatedCount())
+            .param("acceptedCount", snapshot.acceptedCount())
+            .param("aiModel", snapshot.aiModel())
+            .param("apiCost", snapshot.apiCost())
+            .param("status", snapshot.status().name())
+            .param("createdAt", OffsetDateTime.ofInstant(snapshot.createdAt(), ZoneOffset.UTC))
+            .param("suggestionIds", suggestions.stream().map(suggestion -> suggestion.id().toString()).toArray(String[]::new))
+            .param("frontContents", suggestions.stream().map(FlashcardSuggestion::frontContent).toArray(String[]::new))
+            .param("backContents", suggestions.stream().map(FlashcardSuggestion::backContent).toArray(String[]::new))
+            .update();
+
+        log.debug("Created AI generation session {} with {} suggestions ({} layout)",
+            snapshot.id(), suggestions.size(), suggestionsStorage);
+        if (snapshot.status() == AiGenerationSessionStatus.COMPLETED) {
+            completedSessions.put(snapshot.id(), new CompletedAiSession(
+                snapshot.userId(), snapshot.generatedCount(), snapshot.aiModel(), snapshot.apiCost(),
+                snapshot.createdAt(), suggestions));
+        }
+        return AiGenerationSession.fromSnapshot(AiGenerationSessionSnapshot.builder()
+            .id(snapshot.id())
+            .userId(snapshot.userId())
+            .inputText(snapshot.inputText())
+            .suggestions(suggestions)
+            .generatedCount(snapshot.generatedCount())
+            .acceptedCount(snapshot.acceptedCount())
+            .aiModel(snapshot.aiModel())
+            .apiCost(snapshot.apiCost())
+            .status(snapshot.status())
+            .createdAt(snapshot.createdAt())
+            .build());
+    }
+
+    @Override
+    public Optional<String> findInputText(UUID id) {
+        log.debug("Finding input text of AI generation session: {}", id);
+
+        return jdbcClient.sql(SELECT_INPUT_TEXT)
+            .param("sessionId", id)
+            .query((rs, rowNum) -> toInputText(rs))
+            .optional();
+    }
+
     @Override
     public Optional<AiGenerationSession> findById(AiGenerationSessionId id) {
         return findById(id.value());
     }
 
+    // Transaction keeps the entity attached while the lazy suggestions are mapped (open-in-view is off)
     @Override
+    @Transactional(readOnly = true)
     public Optional<AiGenerationSession> findById(UUID id) {
         log.debug("Finding AI generation session by ID: {}", id);
 
@@ -54,14 +330,179 @@ public class SqlDbAiGenerationSessionRepository implements AiGenerationSessionRe
             .map(mapper::toDomain);
     }
 
+    @Override
+    public Optional<AiGenerationSessionSummary> findSummaryById(UUID id) {
+        log.debug("Finding AI generation session summary: {}", id);
+
+        Optional<CompletedAiSession> cached = completedSessions.get(id);
+        if (cached.isEmpty()) {
+            return jpaRepository.findSummaryById(id)
+                .map(mapper::toSummary);
+        }
+
+        // acceptedCount changes on every approval - the only column read for a cached session
+        Optional<Integer> acceptedCount = jpaRepository.findAcceptedCountById(id);
+        if (acceptedCount.isEmpty()) {
+            completedSessions.evict(id);
+            return Optional.empty();
+        }
+        CompletedAiSession session = cached.get();
+        return Optional.of(AiGenerationSessionSummary.builder()
+            .id(id)
+            .userId(session.userId())
+            .status(AiGenerationSessionStatus.COMPLETED)
+            .generatedCount(session.generatedCount())
+            .acceptedCount(acceptedCount.get())
+            .aiModel(session.aiModel())
+            .apiCost(session.apiCost())
+            .createdAt(session.createdAt())
+            .build());
+    }
+
+    @Override
+    public AiGenerationSessionHistoryPage findHistoryPage(AiGenerationSessionHistoryQuery query) {
+        log.debug("Finding AI generation session history for user: {}, status: {}, after: {}",
+            query.userId(), query.status(), query.after());
+
+        AiGenerationSessionKeyset after = query.after() != null ? query.after() : FIRST_PAGE;
+        // One extra row tells whether there is a next page without a COUNT query
+        Limit limit = Limit.of(query.size() + 1);
+
+        List<AiGenerationSessionHistoryProjection> rows = query.status() != null
+            ? jpaRepository.findHistoryPageByStatus(
+                query.userId(), query.status(), after.createdAt(), after.id(), limit)
+            : jpaRepository.findHistoryPage(query.userId(), after.createdAt(), after.id(), limit);
+
+        boolean hasNext = rows.size() > query.size();
+        List<AiGenerationSessionHistoryView> content = rows.stream()
+            .limit(query.size())
+            .map(mapper::toHistoryView)
+            .toList();
+        AiGenerationSessionKeyset next = hasNext ? AiGenerationSessionKeyset.of(content.getLast()) : null;
+
+        log.debug("Found {} AI generation sessions for user {}, hasNext: {}", content.size(), query.userId(), hasNext);
+        return new AiGenerationSessionHistoryPage(content, next);
+    }
+
+    @Override
+    public Optional<AiSuggestionsView> findSuggestionsView(UUID id) {
+        log.debug("Finding suggestions of AI generation session: {}", id);
+
+        Optional<CompletedAiSession> cached = completedSessions.get(id);
+        if (cached.isPresent()) {
+            return Optional.of(new AiSuggestionsView(
+                id, cached.get().userId(), AiGenerationSessionStatus.COMPLETED, cached.get().suggestions()));
+        }
+
+        return jdbcClient.sql(SELECT_SUGGESTIONS_VIEW)
+            .param("sessionId", id)
+            .query(this::toSuggestionsView);
+    }
+
+    @Override
+    public List<Flashcard> approveSuggestions(UUID sessionId, UUID userId, List<SuggestionApproval> approvals) {
+        log.debug("Approving {} suggestions of session {} for user {}", approvals.size(), sessionId, userId);
+        // Before the session row lock - see FlashcardChangesLock
+        FlashcardChangesLock.lock(jdbcClient, List.of(userId));
+
+        List<Flashcard> created = jdbcClient.sql(APPROVE_SUGGESTIONS)
+            .param("sessionId", sessionId)
+            .param("userId", userId)
+            .param("flashcardIds", approvals.stream().map(approval -> approval.flashcardId().toString()).toArray(String[]::new))
+            .param("suggestionIds", approvals.stream().map(approval -> approval.suggestionId().toString()).toArray(String[]::new))
+            .param("frontContents", approvals.stream().map(SuggestionApproval::frontContent).toArray(String[]::new))
+            .param("backContents", approvals.stream().map(SuggestionApproval::backContent).toArray(String[]::new))
+            .param("sources", approvals.stream().map(approval -> approval.source().name()).toArray(String[]::new))
+            .query((rs, rowNum) -> toFlashcard(rs))
+            .list();
+
+        // RETURNING order is unspecified - restore order of approvals
+        Map<UUID, Flashcard> createdById = created.stream()
+            .collect(Collectors.toMap(flashcard -> flashcard.toSnapshot().id(), Function.identity()));
+
+        log.debug("Created {} flashcards from session {}", created.size(), sessionId);
+        return approvals.stream()
+            .map(approval -> createdById.get(approval.flashcardId()))
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
     @Override
     public void delete(AiGenerationSessionId id) {
         log.debug("Deleting AI generation session: {}", id);
         jpaRepository.deleteById(id.value());
+        completedSessions.evict(id.value());
     }
 
     @Override
     public boolean existsById(AiGenerationSessionId id) {
         return jpaRepository.existsById(id.value());
     }
-}
\ No newline at end of file
+
+    private String toInputText(ResultSet rs) throws SQLException {
+        String codec = rs.getString("codec");
+        if (codec == null) {
+            return rs.getString("input_text");
+        }
+        byte[] utf8 = AiInputTextCodec.valueOf(codec).decode(rs.getBytes("content"), rs.getInt("original_size"));
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] contentHash(byte[] input) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(input);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // Counts code points like Postgres left(), so the preview never ends with half a surrogate pair
+    private static String inputPreview(String inputText) {
+        return inputText.codePoints()
+            .limit(AiGenerationSessionHistoryView.INPUT_PREVIEW_LENGTH)
+            .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+            .toString();
+    }
+
+    private Optional<AiSuggestionsView> toSuggestionsView(ResultSet rs) throws SQLException {
+        if (!rs.next()) {
+            return Optional.empty();
+        }
+
+        UUID sessionId = rs.getObject("session_id", UUID.class);
+        UUID userId = rs.getObject("user_id", UUID.class);
+        AiGenerationSessionStatus status = AiGenerationSessionStatus.valueOf(rs.getString("status"));
+        Integer generatedCount = rs.getInt("generated_count");
+        String aiModel = rs.getString("ai_model");
+        BigDecimal apiCost = rs.getBigDecimal("api_cost");
+        Instant createdAt = rs.getObject("created_at", OffsetDateTime.class).toInstant();
+
+        List<FlashcardSuggestion> suggestions = new ArrayList<>();
+        do {
+            UUID suggestionId = rs.getObject("suggestion_id", UUID.class);
+            if (suggestionId != null) {
+                suggestions.add(new FlashcardSuggestion(
+                    suggestionId, sessionId, rs.getString("front_content"), rs.getString("back_content")));
+            }
+        } while (rs.next());
+
+        if (status == AiGenerationSessionStatus.COMPLETED) {
+            completedSessions.put(sessionId,
+                new CompletedAiSession(userId, generatedCount, aiModel, apiCost, createdAt, suggestions));
+        }
+        return Optional.of(new AiSuggestionsView(sessionId, userId, status, suggestions));
+    }
+
+    private Flashcard toFlashcard(ResultSet rs) throws SQLException {
+        return Flashcard.fromSnapshot(FlashcardSnapshot.builder()
+            .id(rs.getObject("id", UUID.class))
+            .userId(rs.getObject("user_id", UUID.class))
+            .frontContent(rs.getString("front_content"))
+            .backContent(rs.getString("back_content"))
+            .source(FlashcardSource.valueOf(rs.getString("source")))
+            .generationSessionId(rs.getObject("generation_session_id", UUID.class))
+            .createdAt(rs.getObject("created_at", OffsetDateTime.class).toInstant())
+            .updatedAt(rs.getObject("updated_at", OffsetDateTime.class).toInstant())
+            .build());
+    }
+}
@@ -1,14 +1,51 @@
 package com.ten.devs.cards.cards.flashcards.infrastructure.db;
 
 import com.ten.devs.cards.cards.flashcards.domain.Flashcard;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardChange;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardChangesPage;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardChangesQuery;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardContentUpdate;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardKeyset;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardPage;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardPageQuery;
 import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSearchKeyset;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSearchPage;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSearchQuery;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSortOrder;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSource;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSummaryView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * SQL database implementation of FlashcardRepository.
@@ -18,20 +55,181 @@ import java.util.UUID;
  *
  * Uses:
  * - FlashcardJpaRepository for database operations
+ * - FlashcardCounterJpaRepository for O(1) per-user totals
  * - FlashcardMapper for domain ↔ entity conversion
+ * - JdbcClient for full-text search (tsvector queries have no JPQL equivalent),
+ *   ownership-checked updates and deletes in one statement and delta sync
+ *   (change_seq is not mapped by JPA, tombstones have no entity)
+ * - JdbcTemplate for exports streamed from a server-side cursor (per-statement fetch size),
+ *   bulk imports loaded with COPY, bulk deletes bound as one uuid[] parameter
+ *   and batched content updates
  */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class SqlDbFlashcardRepository implements FlashcardRepository {
 
+    // Keyset of the first page: positions before the first / after the last possible card
+    private static final FlashcardKeyset FIRST_PAGE_DESC = new FlashcardKeyset(
+        Instant.parse("9999-12-31T23:59:59Z"), new UUID(-1L, -1L));
+    private static final FlashcardKeyset FIRST_PAGE_ASC = new FlashcardKeyset(
+        Instant.EPOCH, new UUID(0L, 0L));
+
+    private static final FlashcardSearchKeyset FIRST_SEARCH_PAGE = new FlashcardSearchKeyset(
+        Float.POSITIVE_INFINITY, new UUID(-1L, -1L));
+
+    // Ranks every match of the user (served by idx_flashcards_user_search), then seeks past the previous page.
+    // flashcards_search_config() is the text search configuration search_vector was built with
+    private static final String SEARCH = """
+        SELECT ranked.id, ranked.front_content, ranked.back_content, ranked.source,
+               ranked.created_at, ranked.updated_at, ranked.version, ranked.rank
+        FROM (
+            SELECT flashcard.id, flashcard.front_content, flashcard.back_content, flashcard.source,
+                   flashcard.created_at, flashcard.updated_at, flashcard.version,
+                   ts_rank(flashcard.search_vector, query) AS rank
+            FROM flashcards flashcard
+            CROSS JOIN websearch_to_tsquery(flashcards_search_config(), :text) AS query
+            WHERE flashcard.user_id = :userId
+              AND flashcard.search_vector @@ query
+        ) ranked
+        WHERE ranked.rank < CAST(:rank AS real)
+           OR (ranked.rank = CAST(:rank AS real) AND ranked.id < :id)
+        ORDER BY ranked.rank DESC, ranked.id DESC
+        LIMIT :limit
+        """;
+
+    // Changed cards and tombstones of deleted ones after the client's position, merged in change_seq order.
+    // Each branch is a bounded range scan (idx_flashcards_user_change_seq, pk_flashcard_tombstones),
+    // so the merge reads at most 2 * limit rows. A full sync skips tombstones
+    private static final String CHANGES = """
+        SELECT changes.change_seq, changes.id, changes.deleted, changes.front_content, changes.back_content,
+               changes.source, changes.created_at, changes.updated_at, changes.version
+        FROM (
+            (SELECT flashcard.change_seq, flashcard.id, FALSE AS deleted,
+                    flashcard.front_content, flashcard.back_content, flashcard.source,
+                    flashcard.created_at, flashcard.updated_at, flashcard.version
+             FROM flashcards flashcard
+             WHERE flashcard.user_id = :userId
+               AND flashcard.change_seq > :after
+             ORDER BY flashcard.change_seq
+             LIMIT :limit)
+            UNION ALL
+            (SELECT tombstone.change_seq, tombstone.flashcard_id, TRUE,
+                    NULL, NULL, NULL, NULL, NULL, NULL
+             FROM flashcard_tombstones tombstone
+             WHERE tombstone.user_id = :userId
+               AND tombstone.change_seq > :after
+               AND NOT :fullSync
+             ORDER BY tombstone.change_seq
+             LIMIT :limit)
+        ) changes
+        ORDER BY changes.change_seq
+        LIMIT :limit
+        """;
+
+    // Ownership, version check, AI -> AI_USER and version bump in one statement; the row lock taken by
+    // UPDATE serializes concurrent edits, and the loser re-evaluates the WHERE against the new version.
+    // user_id also prunes the search to one partition
+    private static final String UPDATE_CONTENT = """
+        UPDATE flashcards
+        SET front_content = :frontContent,
+            back_content = :backContent,
+            source = CASE WHEN source = 'AI' THEN 'AI_USER' ELSE source END,
+            updated_at = :updatedAt,
+            version = version + 1
+        WHERE id = :id
+          AND user_id = :userId
+        """;
+
+    private static final String VERSION_CONDITION = """
+          AND version = :version
+        """;
+
+    private static final String RETURNING_FLASHCARD = """
+        RETURNING id, user_id, front_content, back_content, source, generation_session_id,
+                  created_at, updated_at, version
+        """;
+
+    // updateContent without RETURNING, for JDBC batches; a NULL expected version compares the version to itself
+    private static final String UPDATE_CONTENT_BATCHED = """
+        UPDATE flashcards
+        SET front_content = ?,
+            back_content = ?,
+            source = CASE WHEN source = 'AI' THEN 'AI_USER' ELSE source END,
+            updated_at = ?,
+            version = version + 1
+        WHERE id = ?
+          AND user_id = ?
+          AND version = COALESCE(?, version)
+        """;
+
+    // Same uuid[] parameter as DELETE_ALL_OWNED: one plan for any number of IDs, user_id prunes to one partition
+    private static final String FIND_ALL_OWNED = """
+        SELECT id, user_id, front_content, back_content, source, generation_session_id,
+               created_at, updated_at, version
+        FROM flashcards
+        WHERE user_id = ?
+          AND id = ANY(?)
+        """;
+
+    // Ownership is part of the condition: one round trip, the row count answers "found?"
+    private static final String DELETE_OWNED = """
+        DELETE FROM flashcards
+        WHERE id = :id
+          AND user_id = :userId
+        """;
+
+    // Any number of IDs in one statement and one plan: a single uuid[] parameter instead of IN (?, ?, ...)
+    private static final String DELETE_ALL_OWNED = """
+        DELETE FROM flashcards
+        WHERE user_id = ?
+          AND id = ANY(?)
+        RETURNING id
+        """;
+
+    // Rows per round trip of an export cursor. PostgreSQL JDBC reads with a cursor (instead of
+    // materializing the whole result) only with a fetch size set and auto-commit off
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private static final String EXPORT = """
+        SELECT id, front_content, back_content, source, created_at, updated_at, version
+        FROM flashcards
+        WHERE user_id = ?
+        ORDER BY created_at, id
+        """;
+
+    // COPY FROM is rejected on tables with row-level security, so imported rows are copied into
+    // a session-local staging table and moved by one INSERT ... SELECT (which RLS allows and checks).
+    // The staging table is created once per pooled connection and emptied by every commit
+    private static final String CREATE_COPY_STAGING = """
+        CREATE TEMP TABLE IF NOT EXISTS flashcards_copy_staging (LIKE flashcards INCLUDING DEFAULTS)
+            ON COMMIT DELETE ROWS
+        """;
+
+    private static final String COPY_INTO_STAGING = """
+        COPY flashcards_copy_staging
+            (id, user_id, front_content, back_content, source, generation_session_id, created_at, updated_at)
+        FROM STDIN WITH (FORMAT csv)
+        """;
+
+    private static final String INSERT_FROM_STAGING = """
+        INSERT INTO flashcards
+            (id, user_id, front_content, back_content, source, generation_session_id, created_at, updated_at)
+        SELECT id, user_id, front_content, back_content, source, generation_session_id, created_at, updated_at
+        FROM flashcards_copy_staging
+        """;
+
     private final FlashcardJpaRepository jpaRepository;
+    private final FlashcardCounterJpaRepository counterJpaRepository;
     private final FlashcardMapper mapper;
+    private final JdbcClient jdbcClient;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Flashcard save(Flashcard flashcard) {
         log.debug("Saving flashcard: {}", flashcard.toSnapshot().id());
 
+        lockChangesOf(List.of(flashcard));
         FlashcardEntity entity = mapper.fromDomain(flashcard);
         FlashcardEntity savedEntity = jpaRepository.save(entity);
 
@@ -43,6 +241,7 @@ public class SqlDbFlashcardRepository implements FlashcardRepository {
     public List<Flashcard> saveAll(List<Flashcard> flashcards) {
         log.debug("Saving {} flashcards", flashcards.size());
 
+        lockChangesOf(flashcards);
         List<FlashcardEntity> entities = flashcards.stream()
             .map(mapper::fromDomain)
             .toList();
@@ -54,6 +253,112 @@ public class SqlDbFlashcardRepository implements FlashcardRepository {
             .toList();
     }
 
+    @Override
+    public List<Flashcard> insertAll(List<Flashcard> flashcards) {
+        log.debug("Inserting {} new flashcards", flashcards.size());
+
+        lockChangesOf(flashcards);
+        // Entities marked as new are persisted, not merged - no SELECT per card,
+        // INSERTs are flushed as one JDBC batch (hibernate.jdbc.batch_size)
+        List<FlashcardEntity> entities = flashcards.stream()
+            .map(mapper::toNewEntity)
+            .toList();
+        List<FlashcardEntity> savedEntities = jpaRepository.saveAll(entities);
+
+        log.debug("Inserted {} flashcards", savedEntities.size());
+        return savedEntities.stream()
+            .map(mapper::toDomain)
+            .toList();
+    }
+
+    @Override
+    @Transactional
+    public int copyAll(List<Flashcard> flashcards) {
+        if (flashcards.isEmpty()) {
+            return 0;
+        }
+        log.debug("Copying {} new flashcards", flashcards.size());
+        lockChangesOf(flashcards);
+
+        StringBuilder rows = new StringBuilder(flashcards.size() * 256);
+        flashcards.forEach(flashcard -> appendCopyRow(rows, flashcard.toSnapshot()));
+
+        Integer inserted = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_COPY_STAGING);
+            }
+            try {
+                connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn(COPY_INTO_STAGING, new StringReader(rows.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            try (Statement statement = connection.createStatement()) {
+                return statement.executeUpdate(INSERT_FROM_STAGING);
+            }
+        });
+
+        log.debug("Copied {} flashcards", inserted);
+        return inserted != null ? inserted : 0;
+    }
+
+    @Override
+    public Optional<Flashcard> updateContent(
+            UUID id, UUID userId, String frontContent, String backContent, Long expectedVersion) {
+        log.debug("Updating content of flashcard: {}, user: {}, expected version: {}", id, userId, expectedVersion);
+        FlashcardChangesLock.lock(jdbcClient, List.of(userId));
+
+        String sql = expectedVersion != null
+            ? UPDATE_CONTENT + VERSION_CONDITION + RETURNING_FLASHCARD
+            : UPDATE_CONTENT + RETURNING_FLASHCARD;
+        JdbcClient.StatementSpec statement = jdbcClient.sql(sql)
+            .param("frontContent", frontContent)
+            .param("backContent", backContent)
+            .param("updatedAt", OffsetDateTime.now(ZoneOffset.UTC))
+            .param("id", id)
+            .param("userId", userId);
+        if (expectedVersion != null) {
+            statement = statement.param("version", expectedVersion);
+        }
+
+        return statement
+            .query((rs, rowNum) -> Flashcard.fromSnapshot(toSnapshot(rs)))
+            .optional();
+    }
+
+    @Override
+    public List<Boolean> updateContentAll(UUID userId, List<FlashcardContentUpdate> updates) {
+        if (updates.isEmpty()) {
+            return List.of();
+        }
+        log.debug("Updating content of {} flashcards, user: {}", updates.size(), userId);
+        FlashcardChangesLock.lock(jdbcClient, List.of(userId));
+
+        // One batch, one round trip; every update of the batch gets the same updated_at
+        OffsetDateTime updatedAt = OffsetDateTime.now(ZoneOffset.UTC);
+        int[] rowCounts = jdbcTemplate.batchUpdate(UPDATE_CONTENT_BATCHED, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                FlashcardContentUpdate update = updates.get(i);
+                statement.setString(1, update.frontContent());
+                statement.setString(2, update.backContent());
+                statement.setObject(3, updatedAt);
+                statement.setObject(4, update.id());
+                statement.setObject(5, userId);
+                statement.setObject(6, update.expectedVersion(), Types.BIGINT);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return updates.size();
+            }
+        });
+
+        return Arrays.stream(rowCounts)
+            .mapToObj(rowCount -> rowCount > 0)
+            .toList();
+    }
+
     @Override
     public Optional<Flashcard> findById(UUID id) {
         log.debug("Finding flashcard by ID: {}", id);
@@ -62,6 +367,21 @@ public class SqlDbFlashcardRepository implements FlashcardRepository {
             .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Flashcard> findAllByIdAndUserId(UUID userId, Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        log.debug("Finding {} flashcards of user: {}", ids.size(), userId);
+
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND_ALL_OWNED);
+            statement.setObject(1, userId);
+            statement.setArray(2, connection.createArrayOf("uuid", ids.toArray()));
+            return statement;
+        }, (rs, rowNum) -> Flashcard.fromSnapshot(toSnapshot(rs)));
+    }
+
     @Override
     public List<Flashcard> findByUserId(UUID userId) {
         log.debug("Finding flashcards for user: {}", userId);
@@ -74,6 +394,110 @@ public class SqlDbFlashcardRepository implements FlashcardRepository {
             .toList();
     }
 
+    @Override
+    public void forEachByUserId(UUID userId, Consumer<FlashcardSummaryView> action) {
+        log.debug("Streaming flashcards of user: {}", userId);
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXPORT);
+            statement.setFetchSize(EXPORT_FETCH_SIZE);
+            statement.setObject(1, userId);
+            return statement;
+        }, (RowCallbackHandler) rs -> action.accept(toSummaryView(rs)));
+    }
+
+    @Override
+    public FlashcardPage findPage(FlashcardPageQuery query) {
+        log.debug("Finding flashcard page for user: {}, sort: {}, source: {}, after: {}",
+            query.userId(), query.sortOrder(), query.source(), query.after());
+
+        FlashcardSortOrder sortOrder = query.sortOrder();
+        FlashcardKeyset after = query.after() != null
+            ? query.after()
+            : sortOrder.isDescending() ? FIRST_PAGE_DESC : FIRST_PAGE_ASC;
+        EnumSet<FlashcardSource> sources = query.source() != null
+            ? EnumSet.of(query.source())
+            : EnumSet.allOf(FlashcardSource.class);
+        // One extra row tells whether there is a next page without a COUNT query
+        Limit limit = Limit.of(query.size() + 1);
+
+        List<FlashcardSummaryProjection> rows = switch (sortOrder) {
+            case CREATED_AT_DESC -> jpaRepository.findPageByCreatedAtDesc(
+                query.userId(), sources, after.sortValue(), after.id(), limit);
+            case CREATED_AT_ASC -> jpaRepository.findPageByCreatedAtAsc(
+                query.userId(), sources, after.sortValue(), after.id(), limit);
+            case UPDATED_AT_DESC -> jpaRepository.findPageByUpdatedAtDesc(
+                query.userId(), sources, after.sortValue(), after.id(), limit);
+            case UPDATED_AT_ASC -> jpaRepository.findPageByUpdatedAtAsc(
+                query.userId(), sources, after.sortValue(), after.id(), limit);
+        };
+
+        boolean hasNext = rows.size() > query.size();
+        List<FlashcardSummaryView> content = rows.stream()
+            .limit(query.size())
+            .map(mapper::toSummaryView)
+            .toList();
+        FlashcardKeyset next = hasNext ? FlashcardKeyset.of(content.getLast(), sortOrder) : null;
+
+        log.debug("Found {} flashcards for user {}, hasNext: {}", content.size(), query.userId(), hasNext);
+        return new FlashcardPage(content, next);
+    }
+
+    @Override
+    public FlashcardSearchPage search(FlashcardSearchQuery query) {
+        log.debug("Searching flashcards of user: {}, after: {}", query.userId(), query.after());
+
+        FlashcardSearchKeyset after = query.after() != null ? query.after() : FIRST_SEARCH_PAGE;
+
+        // One extra row tells whether there is a next page without a COUNT query
+        List<SearchRow> rows = jdbcClient.sql(SEARCH)
+            .param("userId", query.userId())
+            .param("text", query.text())
+            .param("rank", after.rank())
+            .param("id", after.id())
+            .param("limit", query.size() + 1)
+            .query((rs, rowNum) -> toSearchRow(rs))
+            .list();
+
+        boolean hasNext = rows.size() > query.size();
+        List<SearchRow> page = rows.subList(0, Math.min(rows.size(), query.size()));
+        FlashcardSearchKeyset next = hasNext
+            ? new FlashcardSearchKeyset(page.getLast().rank(), page.getLast().flashcard().id())
+            : null;
+
+        log.debug("Found {} matching flashcards for user {}, hasNext: {}", page.size(), query.userId(), hasNext);
+        return new FlashcardSearchPage(page.stream().map(SearchRow::flashcard).toList(), next);
+    }
+
+    @Override
+    public FlashcardChangesPage findChanges(FlashcardChangesQuery query) {
+        log.debug("Finding flashcard changes of user: {}, after: {}", query.userId(), query.after());
+
+        // One extra row tells whether there is a next page without a COUNT query
+        List<FlashcardChange> rows = jdbcClient.sql(CHANGES)
+            .param("userId", query.userId())
+            .param("after", query.after())
+            .param("fullSync", query.isFullSync())
+            .param("limit", query.size() + 1)
+            .query((rs, rowNum) -> toChange(rs))
+            .list();
+
+        boolean hasNext = rows.size() > query.size();
+        List<FlashcardChange> page = rows.subList(0, Math.min(rows.size(), query.size()));
+        long last = page.isEmpty() ? query.after() : page.getLast().changeSeq();
+
+        log.debug("Found {} flashcard changes for user {}, hasNext: {}", page.size(), query.userId(), hasNext);
+        return new FlashcardChangesPage(page, last, hasNext);
+    }
+
+    @Override
+    public long countByUserId(UUID userId, FlashcardSource source) {
+        // Trigger-maintained counters - primary key lookup instead of COUNT(*) over the deck
+        return counterJpaRepository.findById(userId)
+            .map(counter -> counter.countOf(source))
+            .orElse(0L);
+    }
+
     @Override
     public List<Flashcard> findByGenerationSessionId(UUID sessionId) {
         log.debug("Finding flashcards for session: {}", sessionId);
@@ -87,13 +511,104 @@ public class SqlDbFlashcardRepository implements FlashcardRepository {
     }
 
     @Override
-    public void deleteById(UUID id) {
-        log.debug("Deleting flashcard: {}", id);
-        jpaRepository.deleteById(id);
+    public boolean deleteByIdAndUserId(UUID id, UUID userId) {
+        log.debug("Deleting flashcard: {}, user: {}", id, userId);
+        FlashcardChangesLock.lock(jdbcClient, List.of(userId));
+
+        int deleted = jdbcClient.sql(DELETE_OWNED)
+            .param("id", id)
+            .param("userId", userId)
+            .update();
+        return deleted > 0;
+    }
+
+    @Override
+    public List<UUID> deleteAllByIdAndUserId(UUID userId, Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        log.debug("Deleting {} flashcards of user: {}", ids.size(), userId);
+        FlashcardChangesLock.lock(jdbcClient, List.of(userId));
+
+        List<UUID> deleted = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(DELETE_ALL_OWNED);
+            statement.setObject(1, userId);
+            statement.setArray(2, connection.createArrayOf("uuid", ids.toArray()));
+            return statement;
+        }, (rs, rowNum) -> rs.getObject("id", UUID.class));
+
+        log.debug("Deleted {} of {} flashcards of user {}", deleted.size(), ids.size(), userId);
+        return deleted;
     }
 
     @Override
     public boolean existsById(UUID id) {
         return jpaRepository.existsById(id);
     }
+
+    private void lockChangesOf(List<Flashcard> flashcards) {
+        if (!flashcards.isEmpty()) {
+            FlashcardChangesLock.lock(jdbcClient, flashcards.stream()
+                .map(flashcard -> flashcard.toSnapshot().userId())
+                .toList());
+        }
+    }
+
+    // COPY csv row: text fields always quoted (quotes doubled), unquoted empty field is NULL
+    private static void appendCopyRow(StringBuilder rows, FlashcardSnapshot flashcard) {
+        rows.append(flashcard.id()).append(',')
+            .append(flashcard.userId()).append(',');
+        appendQuoted(rows, flashcard.frontContent());
+        rows.append(',');
+        appendQuoted(rows, flashcard.backContent());
+        rows.append(',')
+            .append(flashcard.source().name()).append(',')
+            .append(flashcard.generationSessionId() != null ? flashcard.generationSessionId().toString() : "").append(',')
+            .append(flashcard.createdAt()).append(',')
+            .append(flashcard.updatedAt()).append('\n');
+    }
+
+    private static void appendQuoted(StringBuilder rows, String text) {
+        rows.append('"').append(text.replace("\"", "\"\"")).append('"');
+    }
+
+    private static SearchRow toSearchRow(ResultSet rs) throws SQLException {
+        return new SearchRow(toSummaryView(rs), rs.getFloat("rank"));
+    }
+
+    private static FlashcardChange toChange(ResultSet rs) throws SQLException {
+        long changeSeq = rs.getLong("change_seq");
+        return rs.getBoolean("deleted")
+            ? FlashcardChange.deletion(changeSeq, rs.getObject("id", UUID.class))
+            : FlashcardChange.upsert(changeSeq, toSummaryView(rs));
+    }
+
+    private static FlashcardSnapshot toSnapshot(ResultSet rs) throws SQLException {
+        return FlashcardSnapshot.builder()
+            .id(rs.getObject("id", UUID.class))
+            .userId(rs.getObject("user_id", UUID.class))
+            .frontContent(rs.getString("front_content"))
+            .backContent(rs.getString("back_content"))
+            .source(FlashcardSource.valueOf(rs.getString("source")))
+            .generationSessionId(rs.getObject("generation_session_id", UUID.class))
+            .createdAt(rs.getObject("created_at", OffsetDateTime.class).toInstant())
+            .updatedAt(rs.getObject("updated_at", OffsetDateTime.class).toInstant())
+            .version(rs.getLong("version"))
+            .build();
+    }
+
+    private static FlashcardSummaryView toSummaryView(ResultSet rs) throws SQLException {
+        return FlashcardSummaryView.builder()
+            .id(rs.getObject("id", UUID.class))
+            .frontContent(rs.getString("front_content"))
+            .backContent(rs.getString("back_content"))
+            .source(FlashcardSource.valueOf(rs.getString("source")))
+            .createdAt(rs.getObject("created_at", OffsetDateTime.class).toInstant())
+            .updatedAt(rs.getObject("updated_at", OffsetDateTime.class).toInstant())
+            .version(rs.getLong("version"))
+            .build();
+    }
+
+    private record SearchRow(FlashcardSummaryView flashcard, float rank) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+/**
+ * Physical layout of AI session suggestions.
+ *
+ * Selected for NEW sessions by cards.flashcards.ai-sessions.suggestions-storage.
+ * Existing sessions keep the layout they were created with - all reads handle both.
+ */
+public enum SuggestionsStorage {
+
+    /**
+     * One row per suggestion in flashcard_suggestions.
+     */
+    TABLE,
+
+    /**
+     * JSONB array in ai_generation_sessions.suggestions_json.
+     */
+    JSONB
+}
@@ -0,0 +1,50 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.index;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Applies changes of the in-memory indexes only once the reported write is committed.
+ *
+ * Handlers report created/updated/deleted cards inside the command transaction
+ * (TransactionMiddleware). Applied right away, a rolled-back write would stay in the index
+ * as a card that was never stored - or a card that still exists would be missing.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Runs the change after the current transaction commits (never on rollback),
+     * right away when there is no transaction.
+     *
+     * @param index index the change belongs to, see pending()
+     * @param change index change
+     */
+    static void run(Object index, Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new IndexChange(index, change));
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * Whether the current transaction has reported changes of the index not applied yet.
+     * The transaction then reads its own uncommitted writes - an index loaded in it must not be kept.
+     */
+    static boolean pending(Object index) {
+        return TransactionSynchronizationManager.isSynchronizationActive()
+            && TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(synchronization -> synchronization instanceof IndexChange change && change.index() == index);
+    }
+
+    private record IndexChange(Object index, Runnable change) implements TransactionSynchronization {
+
+        @Override
+        public void afterCommit() {
+            change.run();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.index;
+
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardDuplicateDetector;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-memory MinHash/LSH implementation of FlashcardDuplicateDetector.
+ *
+ * ADAPTER in hexagonal architecture - implements application PORT.
+ *
+ * Keeps one index per user:
+ * - built lazily from FlashcardRepository.findByUserId on first lookup
+ * - updated incrementally when handlers report created/updated/deleted cards,
+ *   once the reporting transaction commits (see AfterCommit)
+ * - reloaded when older than max-index-age - picks up writes served by other nodes
+ * - evicted in LRU order when more than max-indexed-users decks are loaded
+ *
+ * Lookup cost does not depend on deck size: one signature computation,
+ * BANDS bucket lookups and a similarity check of the (few) candidates.
+ *
+ * A card saved while its owner's index is being (re)built, or by another node, may be
+ * missing for up to max-index-age. That only weakens duplicate detection, it never blocks a write.
+ */
+@Slf4j
+@Component
+public class MinHashFlashcardDuplicateDetector implements FlashcardDuplicateDetector {
+
+    private final FlashcardRepository flashcardRepository;
+    private final double similarityThreshold;
+    private final Duration maxIndexAge;
+    private final Clock clock;
+    private final Map<UUID, UserIndex> indexes;
+
+    @Autowired
+    public MinHashFlashcardDuplicateDetector(
+            FlashcardRepository flashcardRepository,
+            @Value("${cards.flashcards.duplicates.similarity-threshold:0.8}") double similarityThreshold,
+            @Value("${cards.flashcards.duplicates.max-indexed-users:10000}") int maxIndexedUsers,
+            @Value("${cards.flashcards.duplicates.max-index-age:10m}") Duration maxIndexAge) {
+        this(flashcardRepository, similarityThreshold, maxIndexedUsers, maxIndexAge, Clock.systemUTC());
+    }
+
+    MinHashFlashcardDuplicateDetector(
+            FlashcardRepository flashcardRepository,
+            double similarityThreshold,
+            int maxIndexedUsers,
+            Duration maxIndexAge,
+            Clock clock) {
+
+        this.flashcardRepository = flashcardRepository;
+        this.similarityThreshold = similarityThreshold;
+        this.maxIndexAge = maxIndexAge;
+        this.clock = clock;
+        this.indexes = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, UserIndex> eldest) {
+                return size() > maxIndexedUsers;
+            }
+        });
+    }
+
+    @Override
+    public Optional<UUID> findDuplicate(UUID userId, String frontContent, String backContent) {
+        return findDuplicate(userId, frontContent, backContent, List.of());
+    }
+
+    @Override
+    public Optional<UUID> findDuplicate(
+            UUID userId, String frontContent, String backContent, List<FlashcardSnapshot> accepted) {
+        MinHashSignature signature = MinHashSignature.of(frontContent, backContent);
+        Optional<UUID> existing = indexOf(userId).mostSimilar(signature, similarityThreshold);
+        if (existing.isPresent()) {
+            return existing;
+        }
+        // Few cards of one request - compared directly, without LSH
+        return accepted.stream()
+            .filter(card -> MinHashSignature.of(card.frontContent(), card.backContent())
+                .similarity(signature) >= similarityThreshold)
+            .map(FlashcardSnapshot::id)
+            .findFirst();
+    }
+
+    @Override
+    public void indexFlashcard(FlashcardSnapshot flashcard) {
+        MinHashSignature signature = MinHashSignature.of(flashcard.frontContent(), flashcard.backContent());
+        AfterCommit.run(this, () -> {
+            UserIndex index = indexes.get(flashcard.userId());
+            if (index != null) {
+                index.put(flashcard.id(), signature);
+            }
+        });
+    }
+
+    @Override
+    public void removeFlashcard(UUID userId, UUID flashcardId) {
+        AfterCommit.run(this, () -> {
+            UserIndex index = indexes.get(userId);
+            if (index != null) {
+                index.remove(flashcardId);
+            }
+        });
+    }
+
+    @Override
+    public void rebuild(UUID userId) {
+        indexes.remove(userId);
+        indexOf(userId);
+    }
+
+    private UserIndex indexOf(UUID userId) {
+        Instant now = clock.instant();
+        UserIndex index = indexes.get(userId);
+        if (index != null) {
+            if (now.isBefore(index.loadedAt.plus(maxIndexAge))) {
+                return index;
+            }
+            indexes.remove(userId, index);
+        }
+
+        UserIndex loaded = new UserIndex(now);
+        flashcardRepository.findByUserId(userId).forEach(flashcard -> {
+            FlashcardSnapshot snapshot = flashcard.toSnapshot();
+            loaded.put(snapshot.id(), MinHashSignature.of(snapshot.frontContent(), snapshot.backContent()));
+        });
+        log.debug("Built duplicate index for user {} with {} flashcards", userId, loaded.size());
+
+        if (AfterCommit.pending(this)) {
+            return loaded; // contains uncommitted writes of this transaction - used once, not kept
+        }
+        UserIndex existing = indexes.putIfAbsent(userId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * LSH index of a single user's deck.
+     */
+    private static final class UserIndex {
+
+        private final Map<UUID, MinHashSignature> signatures = new HashMap<>();
+        private final List<Map<Long, Set<UUID>>> buckets = new ArrayList<>(MinHashSignature.BANDS);
+        private final Instant loadedAt;
+
+        UserIndex(Instant loadedAt) {
+            this.loadedAt = loadedAt;
+            for (int band = 0; band < MinHashSignature.BANDS; band++) {
+                buckets.add(new HashMap<>());
+            }
+        }
+
+        synchronized void put(UUID flashcardId, MinHashSignature signature) {
+            remove(flashcardId);
+            signatures.put(flashcardId, signature);
+            for (int band = 0; band < MinHashSignature.BANDS; band++) {
+                buckets.get(band)
+                    .computeIfAbsent(signature.bandKey(band), key -> new HashSet<>())
+                    .add(flashcardId);
+            }
+        }
+
+        synchronized void remove(UUID flashcardId) {
+            MinHashSignature signature = signatures.remove(flashcardId);
+            if (signature == null) {
+                return;
+            }
+            for (int band = 0; band < MinHashSignature.BANDS; band++) {
+                Map<Long, Set<UUID>> bandBuckets = buckets.get(band);
+                long key = signature.bandKey(band);
+                Set<UUID> bucket = bandBuckets.get(key);
+                if (bucket != null && bucket.remove(flashcardId) && bucket.isEmpty()) {
+                    bandBuckets.remove(key);
+                }
+            }
+        }
+
+        synchronized Optional<UUID> mostSimilar(MinHashSignature signature, double threshold) {
+            Set<UUID> candidates = new HashSet<>();
+            for (int band = 0; band < MinHashSignature.BANDS; band++) {
+                Set<UUID> bucket = buckets.get(band).get(signature.bandKey(band));
+                if (bucket != null) {
+                    candidates.addAll(bucket);
+                }
+            }
+
+            UUID best = null;
+            double bestSimilarity = threshold;
+            for (UUID candidate : candidates) {
+                double similarity = signatures.get(candidate).similarity(signature);
+                if (similarity >= bestSimilarity) {
+                    best = candidate;
+                    bestSimilarity = similarity;
+                }
+            }
+            return Optional.ofNullable(best);
+        }
+
+        synchronized int size() {
+            return signatures.size();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.index;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+/**
+ * MinHash signature of flashcard content.
+ *
+ * Content (front + back) is normalized (case, diacritics, punctuation, whitespace),
+ * split into character 3-grams and reduced to HASH_COUNT minimum hash values.
+ * The fraction of equal positions of two signatures estimates Jaccard similarity
+ * of their 3-gram sets.
+ *
+ * For LSH the signature is split into BANDS bands of ROWS_PER_BAND values:
+ * cards sharing at least one band key are candidates for exact comparison.
+ * With 16 bands x 4 rows a pair with similarity 0.8 becomes a candidate with
+ * probability ~0.9998, while a pair with similarity 0.3 only with ~0.12.
+ */
+final class MinHashSignature {
+
+    static final int HASH_COUNT = 64;
+    static final int BANDS = 16;
+    static final int ROWS_PER_BAND = HASH_COUNT / BANDS;
+
+    private static final int SHINGLE_SIZE = 3;
+    private static final long[] SEEDS = new SplittableRandom(0x5EED_CA2DL).longs(HASH_COUNT).toArray();
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final int[] values;
+
+    private MinHashSignature(int[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Computes signature of flashcard content.
+     *
+     * @param frontContent front side content
+     * @param backContent back side content
+     * @return MinHash signature
+     */
+    static MinHashSignature of(String frontContent, String backContent) {
+        String text = normalize(frontContent) + '|' + normalize(backContent);
+
+        int[] values = new int[HASH_COUNT];
+        Arrays.fill(values, Integer.MAX_VALUE);
+
+        int shingleCount = Math.max(1, text.length() - SHINGLE_SIZE + 1);
+        for (int start = 0; start < shingleCount; start++) {
+            int end = Math.min(text.length(), start + SHINGLE_SIZE);
+            long shingle = 0;
+            for (int i = start; i < end; i++) {
+                shingle = shingle * 31 + text.charAt(i);
+            }
+            for (int h = 0; h < HASH_COUNT; h++) {
+                int hash = (int) (mix(shingle ^ SEEDS[h]) >>> 32);
+                if (hash < values[h]) {
+                    values[h] = hash;
+                }
+            }
+        }
+
+        return new MinHashSignature(values);
+    }
+
+    /**
+     * Estimates Jaccard similarity with another signature.
+     *
+     * @param other signature to compare with
+     * @return similarity in range 0.0 - 1.0
+     */
+    double similarity(MinHashSignature other) {
+        int equal = 0;
+        for (int h = 0; h < HASH_COUNT; h++) {
+            if (values[h] == other.values[h]) {
+                equal++;
+            }
+        }
+        return (double) equal / HASH_COUNT;
+    }
+
+    /**
+     * Computes LSH bucket key of a band.
+     *
+     * @param band band index (0 - BANDS-1)
+     * @return bucket key, unique per band index
+     */
+    long bandKey(int band) {
+        long key = band;
+        int offset = band * ROWS_PER_BAND;
+        for (int row = 0; row < ROWS_PER_BAND; row++) {
+            key = key * 0x9E3779B97F4A7C15L + values[offset + row];
+        }
+        return mix(key);
+    }
+
+    private static String normalize(String content) {
+        String decomposed = Normalizer.normalize(content, Normalizer.Form.NFKD);
+        String withoutDiacritics = DIACRITICS.matcher(decomposed).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(withoutDiacritics.toLowerCase(Locale.ROOT))
+            .replaceAll(" ")
+            .strip();
+    }
+
+    // SplitMix64 finalizer - cheap, well distributed 64-bit hash
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalized words and trigrams of searched text.
+ *
+ * Words are lower-cased, stripped of diacritics (ł becomes l, so "lodz" finds "Łódź")
+ * and split on anything that is not a letter or a digit.
+ *
+ * Trigrams follow pg_trgm: a word is padded with two spaces in front and one behind,
+ * so "cat" gives "  c", " ca", "cat", "at ". Typed text is padded in front only -
+ * its last word may be unfinished, and a missing end must not count as a mismatch.
+ */
+final class SearchTerms {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchTerms() {
+    }
+
+    /**
+     * Splits text into distinct normalized words, in order of appearance.
+     *
+     * @param text any text, may be null
+     * @return normalized words
+     */
+    static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD)
+            .replace('ł', 'l');
+        normalized = DIACRITICS.matcher(normalized).replaceAll("");
+
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : NON_ALPHANUMERIC.split(normalized)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return new ArrayList<>(words);
+    }
+
+    /**
+     * Trigrams of an indexed word.
+     *
+     * @param word normalized word
+     * @return distinct trigrams
+     */
+    static Set<String> trigrams(String word) {
+        return trigramsOf("  " + word + " ");
+    }
+
+    /**
+     * Trigrams of a typed, possibly unfinished word.
+     *
+     * @param word normalized word
+     * @return distinct trigrams
+     */
+    static Set<String> prefixTrigrams(String word) {
+        return trigramsOf("  " + word);
+    }
+
+    private static Set<String> trigramsOf(String padded) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
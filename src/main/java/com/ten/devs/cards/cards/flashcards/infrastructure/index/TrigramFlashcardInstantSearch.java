@@ -0,0 +1,376 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.index;
+
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardInstantSearch;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardSearchHit;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * In-memory prefix/trigram implementation of FlashcardInstantSearch.
+ *
+ * ADAPTER in hexagonal architecture - implements application PORT.
+ *
+ * Keeps one index per user:
+ * - built lazily from FlashcardRepository.findByUserId on first search
+ * - updated incrementally when handlers report created/updated/deleted cards,
+ *   once the reporting transaction commits (see AfterCommit)
+ * - reloaded when older than max-index-age - picks up writes served by other nodes
+ * - evicted in LRU order when all loaded indexes together exceed memory-budget
+ *   (estimated size; the index of the user being served is never evicted)
+ *
+ * Every typed word must match a card, in one of three ways (best one counts):
+ * - exact word (1.0) or prefix of a word (0.8) - sorted term dictionary, the last word may be unfinished
+ * - similar word (0.6 x trigram similarity) - typos, words of MIN_FUZZY_LENGTH characters or more
+ * Matches on the back side weigh half of matches on the front side.
+ *
+ * Search cost depends on the user's vocabulary, not on the number of stored cards, and never
+ * touches the database once the index is loaded.
+ *
+ * Like the duplicate index, a card saved while its owner's index is being (re)built, or by another
+ * node, may be missing (or still found after its deletion) for up to max-index-age.
+ */
+@Slf4j
+@Component
+public class TrigramFlashcardInstantSearch implements FlashcardInstantSearch {
+
+    private static final double EXACT_SCORE = 1.0;
+    private static final double PREFIX_SCORE = 0.8;
+    private static final double FUZZY_SCORE = 0.6;
+    private static final double BACK_WEIGHT = 0.5;
+
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final double MIN_SIMILARITY = 0.6;
+    // Bounds the work of a one-letter prefix in a large vocabulary
+    private static final int MAX_PREFIX_EXPANSION = 256;
+
+    private static final Comparator<FlashcardSearchHit> RELEVANCE = Comparator
+        .comparingDouble(FlashcardSearchHit::score).reversed()
+        .thenComparing(FlashcardSearchHit::frontContent)
+        .thenComparing(FlashcardSearchHit::flashcardId);
+
+    private final FlashcardRepository flashcardRepository;
+    private final long memoryBudget;
+    private final Duration maxIndexAge;
+    private final Clock clock;
+    // Access-ordered: iteration starts at the least recently used index. Guarded by itself
+    private final LinkedHashMap<UUID, UserIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+    // Estimated size of all indexes in the map. Guarded by indexes
+    private long indexedBytes;
+
+    @Autowired
+    public TrigramFlashcardInstantSearch(
+            FlashcardRepository flashcardRepository,
+            @Value("${cards.flashcards.instant-search.memory-budget:64MB}") DataSize memoryBudget,
+            @Value("${cards.flashcards.instant-search.max-index-age:10m}") Duration maxIndexAge) {
+        this(flashcardRepository, memoryBudget, maxIndexAge, Clock.systemUTC());
+    }
+
+    TrigramFlashcardInstantSearch(
+            FlashcardRepository flashcardRepository, DataSize memoryBudget, Duration maxIndexAge, Clock clock) {
+
+        if (memoryBudget.isNegative()) {
+            throw new IllegalArgumentException("Instant search memory budget cannot be negative: " + memoryBudget);
+        }
+        this.flashcardRepository = flashcardRepository;
+        this.memoryBudget = memoryBudget.toBytes();
+        this.maxIndexAge = maxIndexAge;
+        this.clock = clock;
+    }
+
+    @Override
+    public List<FlashcardSearchHit> search(UUID userId, String text, int limit) {
+        List<String> words = SearchTerms.words(text);
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return indexOf(userId).search(words, limit);
+    }
+
+    @Override
+    public void indexFlashcard(FlashcardSnapshot flashcard) {
+        AfterCommit.run(this, () -> {
+            UserIndex index = loadedIndexOf(flashcard.userId());
+            if (index != null) {
+                index.put(flashcard);
+                account(flashcard.userId(), index);
+            }
+        });
+    }
+
+    @Override
+    public void removeFlashcard(UUID userId, UUID flashcardId) {
+        AfterCommit.run(this, () -> {
+            UserIndex index = loadedIndexOf(userId);
+            if (index != null) {
+                index.remove(flashcardId);
+                account(userId, index);
+            }
+        });
+    }
+
+    @Override
+    public void rebuild(UUID userId) {
+        UserIndex index = loadedIndexOf(userId);
+        if (index != null) {
+            drop(userId, index);
+        }
+        indexOf(userId);
+    }
+
+    private UserIndex loadedIndexOf(UUID userId) {
+        synchronized (indexes) {
+            return indexes.get(userId);
+        }
+    }
+
+    private void drop(UUID userId, UserIndex index) {
+        synchronized (indexes) {
+            if (indexes.remove(userId, index)) {
+                indexedBytes -= index.accountedBytes;
+            }
+        }
+    }
+
+    private UserIndex indexOf(UUID userId) {
+        Instant now = clock.instant();
+        UserIndex index = loadedIndexOf(userId);
+        if (index != null) {
+            if (now.isBefore(index.loadedAt.plus(maxIndexAge))) {
+                return index;
+            }
+            drop(userId, index);
+        }
+
+        // Loaded outside the lock: a slow query must not block searches of other users
+        UserIndex loaded = new UserIndex(now);
+        flashcardRepository.findByUserId(userId).forEach(flashcard -> loaded.put(flashcard.toSnapshot()));
+        log.debug("Built instant search index for user {} with {} flashcards, ~{} bytes",
+            userId, loaded.size(), loaded.bytes());
+
+        if (AfterCommit.pending(this)) {
+            return loaded; // contains uncommitted writes of this transaction - used once, not kept
+        }
+        synchronized (indexes) {
+            UserIndex existing = indexes.putIfAbsent(userId, loaded);
+            if (existing != null) {
+                return existing;
+            }
+            account(userId, loaded);
+            return loaded;
+        }
+    }
+
+    /**
+     * Brings indexedBytes up to date with the index's current size, then evicts
+     * least recently used indexes (other than this one) until the budget is met.
+     */
+    private void account(UUID userId, UserIndex index) {
+        synchronized (indexes) {
+            if (indexes.get(userId) != index) {
+                return; // evicted or rebuilt meanwhile, no longer counted
+            }
+            long bytes = index.bytes();
+            indexedBytes += bytes - index.accountedBytes;
+            index.accountedBytes = bytes;
+
+            Iterator<Map.Entry<UUID, UserIndex>> eldest = indexes.entrySet().iterator();
+            while (indexedBytes > memoryBudget && eldest.hasNext()) {
+                Map.Entry<UUID, UserIndex> entry = eldest.next();
+                if (entry.getValue() != index) {
+                    indexedBytes -= entry.getValue().accountedBytes;
+                    eldest.remove();
+                    log.debug("Evicted instant search index of user {}", entry.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Word and trigram index of a single user's deck.
+     */
+    private static final class UserIndex {
+
+        // Rough JVM footprint (compressed oops) of the objects behind a card, a term and a reference
+        private static final long CARD_OVERHEAD = 200;
+        private static final long TERM_OVERHEAD = 150;
+        private static final long REFERENCE_OVERHEAD = 50;
+
+        private final Map<UUID, Card> cards = new HashMap<>();
+        private final NavigableMap<String, Postings> terms = new TreeMap<>();
+        private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+        private final Instant loadedAt;
+        private long bytes;
+        // Part of indexedBytes contributed by this index. Guarded by the outer indexes lock
+        private long accountedBytes;
+
+        UserIndex(Instant loadedAt) {
+            this.loadedAt = loadedAt;
+        }
+
+        synchronized void put(FlashcardSnapshot flashcard) {
+            remove(flashcard.id());
+            Card card = new Card(
+                flashcard.frontContent(),
+                flashcard.backContent(),
+                SearchTerms.words(flashcard.frontContent()),
+                SearchTerms.words(flashcard.backContent()));
+            cards.put(flashcard.id(), card);
+            card.frontWords().forEach(word -> postingsOf(word).front().add(flashcard.id()));
+            card.backWords().forEach(word -> postingsOf(word).back().add(flashcard.id()));
+            bytes += cardBytes(card);
+        }
+
+        synchronized void remove(UUID flashcardId) {
+            Card card = cards.remove(flashcardId);
+            if (card == null) {
+                return;
+            }
+            card.frontWords().forEach(word -> unlink(word, flashcardId));
+            card.backWords().forEach(word -> unlink(word, flashcardId));
+            bytes -= cardBytes(card);
+        }
+
+        synchronized List<FlashcardSearchHit> search(List<String> words, int limit) {
+            Map<UUID, Double> scores = null;
+            for (String word : words) {
+                Map<UUID, Double> wordScores = cardScores(word);
+                if (scores == null) {
+                    scores = wordScores;
+                } else {
+                    scores.keySet().retainAll(wordScores.keySet());
+                    scores.replaceAll((id, score) -> score + wordScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            // Top-k: the least relevant of the best hits so far sits at the head
+            PriorityQueue<FlashcardSearchHit> best = new PriorityQueue<>(limit + 1, RELEVANCE.reversed());
+            scores.forEach((id, score) -> {
+                Card card = cards.get(id);
+                best.add(new FlashcardSearchHit(id, card.front(), card.back(), score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            });
+
+            List<FlashcardSearchHit> hits = new ArrayList<>(best);
+            hits.sort(RELEVANCE);
+            return hits;
+        }
+
+        synchronized int size() {
+            return cards.size();
+        }
+
+        synchronized long bytes() {
+            return bytes;
+        }
+
+        private Map<UUID, Double> cardScores(String word) {
+            Map<UUID, Double> scores = new HashMap<>();
+            termScores(word).forEach((term, score) -> {
+                Postings postings = terms.get(term);
+                postings.front().forEach(id -> scores.merge(id, score, Math::max));
+                postings.back().forEach(id -> scores.merge(id, score * BACK_WEIGHT, Math::max));
+            });
+            return scores;
+        }
+
+        private Map<String, Double> termScores(String word) {
+            Map<String, Double> scores = new HashMap<>();
+
+            int expanded = 0;
+            for (String term : terms.tailMap(word, true).keySet()) {
+                if (!term.startsWith(word) || expanded++ == MAX_PREFIX_EXPANSION) {
+                    break;
+                }
+                scores.put(term, term.length() == word.length() ? EXACT_SCORE : PREFIX_SCORE);
+            }
+
+            if (word.length() >= MIN_FUZZY_LENGTH) {
+                Set<String> wordTrigrams = SearchTerms.prefixTrigrams(word);
+                Map<String, Integer> shared = new HashMap<>();
+                for (String trigram : wordTrigrams) {
+                    for (String term : termsByTrigram.getOrDefault(trigram, Set.of())) {
+                        shared.merge(term, 1, Integer::sum);
+                    }
+                }
+                shared.forEach((term, count) -> {
+                    double similarity = (double) count / wordTrigrams.size();
+                    if (similarity >= MIN_SIMILARITY) {
+                        scores.merge(term, FUZZY_SCORE * similarity, Math::max);
+                    }
+                });
+            }
+            return scores;
+        }
+
+        private Postings postingsOf(String word) {
+            Postings postings = terms.get(word);
+            if (postings == null) {
+                postings = new Postings(new HashSet<>(), new HashSet<>());
+                terms.put(word, postings);
+                Set<String> trigrams = SearchTerms.trigrams(word);
+                trigrams.forEach(trigram -> termsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(word));
+                bytes += TERM_OVERHEAD + 2L * word.length() + REFERENCE_OVERHEAD * trigrams.size();
+            }
+            return postings;
+        }
+
+        private void unlink(String word, UUID flashcardId) {
+            Postings postings = terms.get(word);
+            if (postings == null) {
+                return;
+            }
+            postings.front().remove(flashcardId);
+            postings.back().remove(flashcardId);
+            if (postings.front().isEmpty() && postings.back().isEmpty()) {
+                terms.remove(word);
+                Set<String> trigrams = SearchTerms.trigrams(word);
+                for (String trigram : trigrams) {
+                    Set<String> trigramTerms = termsByTrigram.get(trigram);
+                    if (trigramTerms != null && trigramTerms.remove(word) && trigramTerms.isEmpty()) {
+                        termsByTrigram.remove(trigram);
+                    }
+                }
+                bytes -= TERM_OVERHEAD + 2L * word.length() + REFERENCE_OVERHEAD * trigrams.size();
+            }
+        }
+
+        private static long cardBytes(Card card) {
+            return CARD_OVERHEAD
+                + 2L * (card.front().length() + card.back().length())
+                + REFERENCE_OVERHEAD * (card.frontWords().size() + card.backWords().size());
+        }
+    }
+
+    private record Card(String front, String back, List<String> frontWords, List<String> backWords) {
+    }
+
+    private record Postings(Set<UUID> front, Set<UUID> back) {
+    }
+}
@@ -17,7 +17,7 @@ import java.util.stream.Collectors;
 
 /**
  * REST controller for AI flashcard generation
- * Implements AI generation workflow: create session, monitor status, retrieve suggestions, approve
+ * Implements AI generation workflow: create session, list history, monitor status, retrieve suggestions, approve
  */
 @Slf4j
 @RestController
@@ -49,6 +49,47 @@ public class AiGenerationController implements AiGenerationApi {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Override
+    public ResponseEntity<GetAiSessionsResponse> getAiSessions(String status, Integer size, String cursor) {
+        log.info("Get AI sessions request received: status={}, size={}, cursor={}", status, size, cursor);
+
+        // TODO: Extract userId from SecurityContext
+        UUID userId = UUID.fromString("00000000-0000-0000-0000-000000000001"); // Dummy user ID
+
+        GetAiSessionsCommand command = GetAiSessionsCommand.builder()
+                .userId(userId)
+                .status(status)
+                .size(size)
+                .cursor(cursor)
+                .build();
+
+        com.ten.devs.cards.cards.flashcards.presentation.response.GetAiSessionsResponse domainResponse = cqsService.send(command);
+
+        GetAiSessionsResponse response = new GetAiSessionsResponse();
+        response.setContent(domainResponse.content().stream()
+                .map(s -> {
+                    AiSessionSummary summary = new AiSessionSummary(
+                            s.sessionId(),
+                            AiSessionSummary.StatusEnum.fromValue(s.status()),
+                            s.generatedCount(),
+                            s.acceptedCount(),
+                            s.createdAt().atOffset(ZoneOffset.UTC)
+                    );
+                    // Set optional fields using setters
+                    if (s.aiModel() != null) {
+                        summary.aiModel(s.aiModel());
+                    }
+                    if (s.inputPreview() != null) {
+                        summary.inputPreview(s.inputPreview());
+                    }
+                    return summary;
+                })
+                .collect(Collectors.toList()));
+        response.setNextCursor(domainResponse.nextCursor());
+
+        return ResponseEntity.ok(response);
+    }
+
     @Override
     public ResponseEntity<GetAiSessionResponse> getAiSession(UUID sessionId) {
         log.info("Get AI session request received: sessionId={}", sessionId);
@@ -104,7 +145,7 @@ public class AiGenerationController implements AiGenerationApi {
                         s.suggestionId(),
                         s.frontContent(),
                         s.backContent()
-                ))
+                ).duplicateOfFlashcardId(s.duplicateOfFlashcardId()))
                 .collect(Collectors.toList()));
 
         return ResponseEntity.ok(response);
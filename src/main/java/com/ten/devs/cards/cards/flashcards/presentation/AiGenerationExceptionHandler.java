@@ -0,0 +1,39 @@
+package com.ten.devs.cards.cards.flashcards.presentation;
+
+import com.ten.devs.cards.cards.flashcards.domain.AiSuggestionsUnavailableException;
+import com.ten.devs.cards.cards.generated.model.ErrorResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Maps AI generation domain exceptions to HTTP error responses
+ * Applies to AiGenerationController only
+ */
+@Slf4j
+@RestControllerAdvice(assignableTypes = AiGenerationController.class)
+public class AiGenerationExceptionHandler {
+
+    /**
+     * Session changed between validation and write of an approval (deleted, status changed, suggestions expired)
+     */
+    @ExceptionHandler(AiSuggestionsUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleSuggestionsUnavailable(
+            AiSuggestionsUnavailableException exception, HttpServletRequest request) {
+
+        log.info("Rejected approval of unavailable suggestions: {}", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse()
+                        .timestamp(OffsetDateTime.now(ZoneOffset.UTC))
+                        .status(HttpStatus.CONFLICT.value())
+                        .error(HttpStatus.CONFLICT.getReasonPhrase())
+                        .message(exception.getMessage())
+                        .path(request.getRequestURI()));
+    }
+}
@@ -2,14 +2,24 @@ package com.ten.devs.cards.cards.flashcards.presentation;
 
 import an.awesome.pipelinr.Pipeline;
 import com.ten.devs.cards.cards.flashcards.application.command.*;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardExportFormat;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardImportFormat;
 import com.ten.devs.cards.cards.generated.api.FlashcardsApi;
 import com.ten.devs.cards.cards.generated.model.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.ZoneOffset;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -30,10 +40,11 @@ public class FlashcardController implements FlashcardsApi {
             Integer page,
             Integer size,
             String sort,
-            String source
+            String source,
+            String cursor
     ) {
-        log.info("Get flashcards request received: page={}, size={}, sort={}, source={}",
-                page, size, sort, source);
+        log.info("Get flashcards request received: page={}, size={}, sort={}, source={}, cursor={}",
+                page, size, sort, source, cursor);
 
         // TODO: Extract userId from SecurityContext
         UUID userId = UUID.fromString("00000000-0000-0000-0000-000000000001"); // Dummy user ID
@@ -44,6 +55,7 @@ public class FlashcardController implements FlashcardsApi {
                 .size(size)
                 .sort(sort)
                 .source(source)
+                .cursor(cursor)
                 .build();
 
         com.ten.devs.cards.cards.flashcards.presentation.response.GetFlashcardsResponse domainResponse = cqsService.send(command);
@@ -56,7 +68,8 @@ public class FlashcardController implements FlashcardsApi {
                         fc.backContent(),
                         FlashcardSummary.SourceEnum.fromValue(fc.source()),
                         fc.createdAt().atOffset(ZoneOffset.UTC),
-                        fc.updatedAt().atOffset(ZoneOffset.UTC)
+                        fc.updatedAt().atOffset(ZoneOffset.UTC),
+                        fc.version()
                 ))
                 .collect(Collectors.toList()));
 
@@ -67,6 +80,157 @@ public class FlashcardController implements FlashcardsApi {
                 domainResponse.page().totalPages()
         );
         response.setPage(pageInfo);
+        response.setNextCursor(domainResponse.nextCursor());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    public ResponseEntity<GetFlashcardChangesResponse> getFlashcardChanges(String since, Integer size) {
+        log.info("Get flashcard changes request received: since={}, size={}", since, size);
+
+        // TODO: Extract userId from SecurityContext
+        UUID userId = UUID.fromString("00000000-0000-0000-0000-000000000001"); // Dummy user ID
+
+        GetFlashcardChangesCommand command = GetFlashcardChangesCommand.builder()
+                .userId(userId)
+                .since(since)
+                .size(size)
+                .build();
+
+        com.ten.devs.cards.cards.flashcards.presentation.response.GetFlashcardChangesResponse domainResponse = cqsService.send(command);
+
+        GetFlashcardChangesResponse response = new GetFlashcardChangesResponse(
+                domainResponse.upserted().stream()
+                        .map(fc -> new FlashcardSummary(
+                                fc.flashcardId(),
+                                fc.frontContent(),
+                                fc.backContent(),
+                                FlashcardSummary.SourceEnum.fromValue(fc.source()),
+                                fc.createdAt().atOffset(ZoneOffset.UTC),
+                                fc.updatedAt().atOffset(ZoneOffset.UTC),
+                                fc.version()
+                        ))
+                        .collect(Collectors.toList()),
+                domainResponse.deleted(),
+                domainResponse.nextCursor(),
+                domainResponse.hasMore());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    public ResponseEntity<SearchFlashcardsResponse> searchFlashcards(String q, Integer size, String cursor) {
+        log.info("Search flashcards request received: queryLength={}, size={}, cursor={}", q.length(), size, cursor);
+
+        // TODO: Extract userId from SecurityContext
+        UUID userId = UUID.fromString("00000000-0000-0000-0000-000000000001"); // Dummy user ID
+
+        SearchFlashcardsCommand command = SearchFlashcardsCommand.builder()
+                .userId(userId)
+                .query(q)
+                .size(size)
+                .cursor(cursor)
+                .build();
+
+        com.ten.devs.cards.cards.flashcards.presentation.response.SearchFlashcardsResponse domainResponse = cqsService.send(command);
+
+        SearchFlashcardsResponse response = new SearchFlashcardsResponse();
+        response.setContent(domainResponse.content().stream()
+                .map(fc -> new FlashcardSummary(
+                        fc.flashcardId(),
+                        fc.frontContent(),
+                        fc.backContent(),
+                        FlashcardSummary.SourceEnum.fromValue(fc.source()),
+                        fc.createdAt().atOffset(ZoneOffset.UTC),
+                        fc.updatedAt().atOffset(ZoneOffset.UTC),
+                        fc.version()
+                ))
+                .collect(Collectors.toList()));
+        response.setNextCursor(domainResponse.nextCursor());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportFlashcards(String format) {
+        log.info("Export flashcards request received: format={}", format);
+
+        // TODO: Extract userId from SecurityContext
+        UUID userId = UUID.fromString("00000000-0000-0000-0000-000000000001"); // Dummy user ID
+
+        FlashcardExportFormat exportFormat = FlashcardExportFormat.fromValue(format);
+
+        // Sent while the response is written (async request thread) - rows go straight to the client
+        StreamingResponseBody body = output -> cqsService.send(ExportFlashcardsCommand.builder()
+                .userId(userId)
+                .format(exportFormat)
+                .output(output)
+                .build());
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("flashcards." + exportFormat.fileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @Override
+    public ResponseEntity<ImportFlashcardsResponse> importFlashcards(MultipartFile file, String format) {
+        log.info("Import flashcards request received: format={}, fileSize={}", format, file.getSize());
+
+        // TODO: Extract userId from SecurityContext
+        UUID userId = UUID.fromString("00000000-0000-0000-0000-000000000001"); // Dummy user ID
+
+        com.ten.devs.cards.cards.flashcards.presentation.response.ImportFlashcardsResponse domainResponse;
+        // Multipart upload is spooled to disk by the container - the file is read as a stream
+        try (InputStream input = file.getInputStream()) {
+            domainResponse = cqsService.send(ImportFlashcardsCommand.builder()
+                    .userId(userId)
+                    .format(FlashcardImportFormat.fromValue(format))
+                    .input(input)
+                    .build());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Uploaded file could not be read", e);
+        }
+
+        ImportFlashcardsResponse response = new ImportFlashcardsResponse(
+                domainResponse.importedCount(),
+                domainResponse.failedCount(),
+                domainResponse.errors().stream()
+                        .map(error -> new ImportRowError(error.line(), error.message()))
+                        .collect(Collectors.toList())
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    public ResponseEntity<InstantSearchFlashcardsResponse> instantSearchFlashcards(String q, Integer limit) {
+        log.debug("Instant search request received: queryLength={}, limit={}", q.length(), limit);
+
+        // TODO: Extract userId from SecurityContext
+        UUID userId = UUID.fromString("00000000-0000-0000-0000-000000000001"); // Dummy user ID
+
+        InstantSearchFlashcardsCommand command = InstantSearchFlashcardsCommand.builder()
+                .userId(userId)
+                .query(q)
+                .limit(limit)
+                .build();
+
+        com.ten.devs.cards.cards.flashcards.presentation.response.InstantSearchFlashcardsResponse domainResponse = cqsService.send(command);
+
+        InstantSearchFlashcardsResponse response = new InstantSearchFlashcardsResponse();
+        response.setContent(domainResponse.content().stream()
+                .map(hit -> new InstantSearchHit(
+                        hit.flashcardId(),
+                        hit.frontContent(),
+                        hit.backContent(),
+                        hit.score()
+                ))
+                .collect(Collectors.toList()));
 
         return ResponseEntity.ok(response);
     }
@@ -99,9 +263,9 @@ public class FlashcardController implements FlashcardsApi {
     }
 
     @Override
-    public ResponseEntity<UpdateFlashcardResponse> updateFlashcard(UUID flashcardId, UpdateFlashcardRequest updateFlashcardRequest) {
-        log.info("Update flashcard request received: flashcardId={}, frontContentLength={}, backContentLength={}",
-                flashcardId, updateFlashcardRequest.getFrontContent().length(), updateFlashcardRequest.getBackContent().length());
+    public ResponseEntity<UpdateFlashcardResponse> updateFlashcard(UUID flashcardId, UpdateFlashcardRequest updateFlashcardRequest, String ifMatch) {
+        log.info("Update flashcard request received: flashcardId={}, frontContentLength={}, backContentLength={}, ifMatch={}",
+                flashcardId, updateFlashcardRequest.getFrontContent().length(), updateFlashcardRequest.getBackContent().length(), ifMatch);
 
         // TODO: Extract userId from SecurityContext
         UUID userId = UUID.fromString("00000000-0000-0000-0000-000000000001"); // Dummy user ID
@@ -111,6 +275,7 @@ public class FlashcardController implements FlashcardsApi {
                 .flashcardId(flashcardId)
                 .frontContent(updateFlashcardRequest.getFrontContent())
                 .backContent(updateFlashcardRequest.getBackContent())
+                .expectedVersion(parseIfMatch(ifMatch))
                 .build();
 
         com.ten.devs.cards.cards.flashcards.presentation.response.UpdateFlashcardResponse domainResponse = cqsService.send(command);
@@ -120,10 +285,13 @@ public class FlashcardController implements FlashcardsApi {
                 domainResponse.frontContent(),
                 domainResponse.backContent(),
                 UpdateFlashcardResponse.SourceEnum.fromValue(domainResponse.source()),
-                domainResponse.updatedAt().atOffset(ZoneOffset.UTC)
+                domainResponse.updatedAt().atOffset(ZoneOffset.UTC),
+                domainResponse.version()
         );
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(domainResponse.version()))
+                .body(response);
     }
 
     @Override
@@ -141,4 +309,88 @@ public class FlashcardController implements FlashcardsApi {
         cqsService.send(command);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @Override
+    public ResponseEntity<BatchFlashcardsResponse> batchFlashcards(BatchFlashcardsRequest batchFlashcardsRequest) {
+        log.info("Batch flashcards request received: operationsCount={}", batchFlashcardsRequest.getOperations().size());
+
+        // TODO: Extract userId from SecurityContext
+        UUID userId = UUID.fromString("00000000-0000-0000-0000-000000000001"); // Dummy user ID
+
+        // Convert generated request to domain request
+        com.ten.devs.cards.cards.flashcards.presentation.request.BatchFlashcardsRequest domainRequest =
+                new com.ten.devs.cards.cards.flashcards.presentation.request.BatchFlashcardsRequest(
+                        batchFlashcardsRequest.getOperations().stream()
+                                .map(operation -> new com.ten.devs.cards.cards.flashcards.presentation.request.BatchFlashcardsRequest.Operation(
+                                        com.ten.devs.cards.cards.flashcards.presentation.request.BatchFlashcardsRequest.OperationType
+                                                .valueOf(operation.getType().getValue()),
+                                        operation.getFlashcardId(),
+                                        operation.getFrontContent(),
+                                        operation.getBackContent(),
+                                        operation.getVersion()
+                                ))
+                                .toList()
+                );
+
+        BatchFlashcardsCommand command = BatchFlashcardsCommand.builder()
+                .userId(userId)
+                .request(domainRequest)
+                .build();
+
+        com.ten.devs.cards.cards.flashcards.presentation.response.BatchFlashcardsResponse domainResponse = cqsService.send(command);
+
+        BatchFlashcardsResponse response = new BatchFlashcardsResponse();
+        response.setResults(domainResponse.results().stream()
+                .map(result -> new BatchOperationResult(result.index(), BatchOperationResult.StatusEnum.fromValue(result.status()))
+                        .flashcardId(result.flashcardId())
+                        .version(result.version())
+                        .message(result.message()))
+                .collect(Collectors.toList()));
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    public ResponseEntity<DeleteFlashcardsResponse> deleteFlashcards(DeleteFlashcardsRequest deleteFlashcardsRequest) {
+        log.info("Bulk delete flashcards request received: count={}", deleteFlashcardsRequest.getFlashcardIds().size());
+
+        // TODO: Extract userId from SecurityContext
+        UUID userId = UUID.fromString("00000000-0000-0000-0000-000000000001"); // Dummy user ID
+
+        DeleteFlashcardsCommand command = DeleteFlashcardsCommand.builder()
+                .userId(userId)
+                .flashcardIds(deleteFlashcardsRequest.getFlashcardIds())
+                .build();
+
+        com.ten.devs.cards.cards.flashcards.presentation.response.DeleteFlashcardsResponse domainResponse = cqsService.send(command);
+
+        DeleteFlashcardsResponse response = new DeleteFlashcardsResponse(
+                domainResponse.deletedCount(),
+                domainResponse.notFoundIds()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Reads the expected flashcard version from an If-Match header.
+     * ETags of flashcards are their quoted versions, e.g. "3"; weak tags are rejected (If-Match compares strongly).
+     *
+     * @param ifMatch header value, may be null
+     * @return expected version, null when any version may be updated (no header or *)
+     */
+    private static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.strip();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // not a flashcard ETag, rejected below
+            }
+        }
+        throw new IllegalArgumentException("If-Match must be a single flashcard ETag like \"3\" or *, got: " + ifMatch);
+    }
+}
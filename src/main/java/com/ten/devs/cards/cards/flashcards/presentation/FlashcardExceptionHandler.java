@@ -0,0 +1,79 @@
+package com.ten.devs.cards.cards.flashcards.presentation;
+
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardNotFoundException;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardVersionConflictException;
+import com.ten.devs.cards.cards.generated.model.ErrorResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Maps flashcard domain exceptions to HTTP error responses
+ * Applies to FlashcardController only
+ */
+@Slf4j
+@RestControllerAdvice(assignableTypes = FlashcardController.class)
+public class FlashcardExceptionHandler {
+
+    /**
+     * User has no such flashcard - also when it belongs to someone else, so IDs of other users' cards are not confirmed
+     */
+    @ExceptionHandler(FlashcardNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNotFound(FlashcardNotFoundException exception, HttpServletRequest request) {
+        log.info("Flashcard not found: {}", exception.getFlashcardId());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(errorResponse(HttpStatus.NOT_FOUND, exception, request));
+    }
+
+    /**
+     * If-Match named a version that is no longer current - the client has to reload the flashcard
+     */
+    @ExceptionHandler(FlashcardVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleVersionConflict(
+            FlashcardVersionConflictException exception, HttpServletRequest request) {
+
+        log.info("Rejected stale flashcard update: {}", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .eTag(String.valueOf(exception.getCurrentVersion()))
+                .body(errorResponse(HttpStatus.PRECONDITION_FAILED, exception, request));
+    }
+
+    /**
+     * Request the domain rejected before changing anything - malformed If-Match header or cursor, invalid query
+     * or content. FlashcardNotFoundException is an IllegalArgumentException too but is handled above
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(IllegalArgumentException exception, HttpServletRequest request) {
+        log.info("Rejected invalid flashcard request: {}", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(errorResponse(HttpStatus.BAD_REQUEST, exception, request));
+    }
+
+    /**
+     * Request parameter outside the limits of the API contract (e.g. page size), checked by method validation
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> handleConstraintViolation(
+            ConstraintViolationException exception, HttpServletRequest request) {
+
+        log.info("Rejected flashcard request parameters: {}", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(errorResponse(HttpStatus.BAD_REQUEST, exception, request));
+    }
+
+    private static ErrorResponse errorResponse(HttpStatus status, Exception exception, HttpServletRequest request) {
+        return new ErrorResponse()
+                .timestamp(OffsetDateTime.now(ZoneOffset.UTC))
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(exception.getMessage())
+                .path(request.getRequestURI());
+    }
+}
@@ -0,0 +1,37 @@
+package com.ten.devs.cards.cards.flashcards.presentation.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for applying many flashcard changes at once
+ * Maps to POST /flashcards/batch endpoint
+ *
+ * Content of single operations is not validated here - an invalid operation
+ * is reported in its result instead of rejecting the whole batch
+ */
+public record BatchFlashcardsRequest(
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = 1000, message = "Batch cannot contain more than 1000 operations")
+    List<Operation> operations
+) {
+
+    /**
+     * Single create, update or delete of a flashcard
+     */
+    public record Operation(
+        OperationType type,
+        UUID flashcardId,       // UPDATE and DELETE only
+        String frontContent,    // CREATE and UPDATE only, 1-1000 characters
+        String backContent,     // CREATE and UPDATE only, 1-1000 characters
+        Long version            // UPDATE only, optional - same as If-Match of PUT /flashcards/{id}
+    ) {
+    }
+
+    public enum OperationType {
+        CREATE, UPDATE, DELETE
+    }
+}
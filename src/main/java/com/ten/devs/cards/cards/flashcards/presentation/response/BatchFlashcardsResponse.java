@@ -0,0 +1,25 @@
+package com.ten.devs.cards.cards.flashcards.presentation.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for batch of flashcard changes
+ * Maps to POST /flashcards/batch endpoint response
+ */
+public record BatchFlashcardsResponse(
+    List<OperationResult> results   // One per operation, in request order
+) {
+
+    /**
+     * Outcome of a single operation
+     */
+    public record OperationResult(
+        int index,              // 0-based position of the operation in the request
+        String status,          // CREATED, UPDATED, DELETED, INVALID, NOT_FOUND or CONFLICT
+        UUID flashcardId,       // null for an invalid create
+        Long version,           // Version after create or update, current version on conflict
+        String message          // Reason the operation was not applied
+    ) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.ten.devs.cards.cards.flashcards.presentation.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for bulk flashcard delete
+ * Maps to POST /flashcards/bulk-delete endpoint response
+ */
+public record DeleteFlashcardsResponse(
+    int deletedCount,
+    List<UUID> notFoundIds  // Requested IDs the user has no flashcard with, in request order
+) {
+}
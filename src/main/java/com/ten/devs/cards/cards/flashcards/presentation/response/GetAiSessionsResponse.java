@@ -0,0 +1,31 @@
+package com.ten.devs.cards.cards.flashcards.presentation.response;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for AI generation session history
+ * Maps to GET /ai/sessions endpoint response
+ * Based on ai_generation_sessions table with keyset pagination
+ */
+public record GetAiSessionsResponse(
+    List<AiSessionSummary> content,
+    String nextCursor       // Opaque cursor of the next page, null on the last page
+) {
+
+    /**
+     * Individual session summary
+     * Based on ai_generation_sessions table fields, input text only as a short preview
+     */
+    public record AiSessionSummary(
+        UUID sessionId,
+        String status,              // PENDING, COMPLETED, FAILED
+        Integer generatedCount,
+        Integer acceptedCount,
+        String aiModel,             // Optional
+        String inputPreview,        // First 200 characters of input text
+        Instant createdAt
+    ) {
+    }
+}
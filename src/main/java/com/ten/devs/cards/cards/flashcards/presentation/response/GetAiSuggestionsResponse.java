@@ -21,7 +21,8 @@ public record GetAiSuggestionsResponse(
     public record FlashcardSuggestion(
         UUID suggestionId,
         String frontContent,    // Max 1000 chars as per flashcards table
-        String backContent      // Max 1000 chars as per flashcards table
+        String backContent,     // Max 1000 chars as per flashcards table
+        UUID duplicateOfFlashcardId  // Existing near-duplicate flashcard, null if none
     ) {
     }
 }
\ No newline at end of file
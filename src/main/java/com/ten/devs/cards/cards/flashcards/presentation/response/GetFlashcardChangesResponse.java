@@ -0,0 +1,19 @@
+package com.ten.devs.cards.cards.flashcards.presentation.response;
+
+import com.ten.devs.cards.cards.flashcards.presentation.response.GetFlashcardsResponse.FlashcardSummary;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for delta sync of user's flashcards
+ * Maps to GET /flashcards/changes endpoint response
+ * Changes made after the client's cursor, oldest first
+ */
+public record GetFlashcardChangesResponse(
+    List<FlashcardSummary> upserted,    // Created or updated cards, current state
+    List<UUID> deleted,                 // IDs of deleted cards (tombstones)
+    String nextCursor,                  // Position after this page - pass as since in the next sync
+    boolean hasMore                     // More changes follow, sync again with nextCursor right away
+) {
+}
@@ -7,11 +7,12 @@ import java.util.UUID;
 /**
  * Response DTO for paginated flashcard listing
  * Maps to GET /flashcards endpoint response
- * Based on flashcards table with Spring Data pagination
+ * Based on flashcards table with keyset pagination
  */
 public record GetFlashcardsResponse(
     List<FlashcardSummary> content,
-    PageInfo page
+    PageInfo page,
+    String nextCursor       // Opaque cursor of the next page, null on the last page
 ) {
     
     /**
@@ -24,7 +25,8 @@ public record GetFlashcardsResponse(
         String backContent,
         String source,          // AI, AI_USER, USER
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        long version            // Sent back in If-Match to update this flashcard
     ) {
     }
     
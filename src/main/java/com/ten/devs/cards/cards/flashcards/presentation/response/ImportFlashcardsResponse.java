@@ -0,0 +1,23 @@
+package com.ten.devs.cards.cards.flashcards.presentation.response;
+
+import java.util.List;
+
+/**
+ * Response DTO for flashcard import
+ * Maps to POST /flashcards/import endpoint response
+ */
+public record ImportFlashcardsResponse(
+    int importedCount,
+    int failedCount,
+    List<RowError> errors   // First skipped rows only, failedCount tells how many there were
+) {
+
+    /**
+     * Reason a row of the file was skipped
+     */
+    public record RowError(
+        long line,              // 1-based line where the row starts
+        String message
+    ) {
+    }
+}
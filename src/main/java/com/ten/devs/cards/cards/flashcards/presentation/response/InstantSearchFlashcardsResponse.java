@@ -0,0 +1,25 @@
+package com.ten.devs.cards.cards.flashcards.presentation.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for search-as-you-type
+ * Maps to GET /flashcards/instant-search endpoint response
+ * Best matches first, no pagination
+ */
+public record InstantSearchFlashcardsResponse(
+    List<InstantSearchHit> content
+) {
+
+    /**
+     * Matching flashcard with its relevance
+     */
+    public record InstantSearchHit(
+        UUID flashcardId,
+        String frontContent,
+        String backContent,
+        double score            // Comparable only within one response
+    ) {
+    }
+}
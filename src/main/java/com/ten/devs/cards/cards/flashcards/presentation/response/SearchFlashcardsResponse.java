@@ -0,0 +1,16 @@
+package com.ten.devs.cards.cards.flashcards.presentation.response;
+
+import com.ten.devs.cards.cards.flashcards.presentation.response.GetFlashcardsResponse.FlashcardSummary;
+
+import java.util.List;
+
+/**
+ * Response DTO for flashcard full-text search
+ * Maps to GET /flashcards/search endpoint response
+ * Most relevant cards first, keyset-paginated
+ */
+public record SearchFlashcardsResponse(
+    List<FlashcardSummary> content,
+    String nextCursor       // Opaque cursor of the next page, null on the last page
+) {
+}
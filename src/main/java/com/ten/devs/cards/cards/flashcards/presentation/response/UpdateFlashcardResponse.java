@@ -13,6 +13,7 @@ public record UpdateFlashcardResponse(
     String frontContent,
     String backContent,
     String source,          // AI_USER (if AI-generated then modified) or USER (if manually created)
-    Instant updatedAt
+    Instant updatedAt,
+    long version            // New version, returned as ETag
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.ten.devs.cards.cards.shared.application;
+
+import an.awesome.pipelinr.Command;
+
+/**
+ * Command handled WITHOUT a surrounding transaction.
+ *
+ * For commands doing slow work outside the database (LLM calls, password hashing):
+ * each repository call uses its own short transaction, so no connection is held in between.
+ *
+ * @param <R> result type
+ */
+public interface NonTransactionalCommand<R> extends Command<R> {
+}
@@ -0,0 +1,14 @@
+package com.ten.devs.cards.cards.shared.application;
+
+import an.awesome.pipelinr.Command;
+
+/**
+ * Command that only reads data.
+ *
+ * Handled in a read-only transaction (see TransactionMiddleware): read-only Hibernate session
+ * without dirty checking and flush, and a READ ONLY PostgreSQL transaction.
+ *
+ * @param <R> result type
+ */
+public interface ReadOnlyCommand<R> extends Command<R> {
+}
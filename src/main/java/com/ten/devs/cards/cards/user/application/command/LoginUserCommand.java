@@ -1,9 +1,9 @@
 package com.ten.devs.cards.cards.user.application.command;
 
-import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.shared.application.NonTransactionalCommand;
 import com.ten.devs.cards.cards.user.presentation.response.LoginResponse;
 import lombok.Builder;
 
 @Builder
-public record LoginUserCommand(String username, String password) implements Command<LoginResponse> {
+public record LoginUserCommand(String username, String password) implements NonTransactionalCommand<LoginResponse> {
 }
@@ -1,10 +1,12 @@
 package com.ten.devs.cards.cards.user.domain;
 
+import com.ten.devs.cards.cards.shared.domain.TimeOrderedUuid;
+
 import java.util.UUID;
 
 public record UserId(UUID id) {
     public static UserId random() {
-        return new UserId(UUID.randomUUID());
+        return new UserId(TimeOrderedUuid.generate());
     }
 
     public static UserId of(UUID id) {
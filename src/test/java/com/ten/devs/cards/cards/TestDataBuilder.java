@@ -1,5 +1,9 @@
 package com.ten.devs.cards.cards;
 
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSource;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSummaryView;
+
+import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -18,6 +22,11 @@ import java.util.UUID;
  */
 public class TestDataBuilder {
 
+    /**
+     * Creation time of flashcard summaries - microsecond precision, as stored by PostgreSQL.
+     */
+    public static final Instant FLASHCARD_CREATED_AT = Instant.parse("2025-01-15T10:30:00.123456Z");
+
     private TestDataBuilder() {
         // Utility class - prevent instantiation
     }
@@ -92,4 +101,25 @@ public class TestDataBuilder {
     public static String flashcardBack() {
         return "Domain-Driven Design (DDD) is an approach to software development that centers the development on programming a domain model that has a rich understanding of the processes and rules of a domain.";
     }
+
+    /**
+     * Generates flashcard listing row number index (see flashcardSummaryBuilder).
+     */
+    public static FlashcardSummaryView flashcardSummary(int index) {
+        return flashcardSummaryBuilder(index).build();
+    }
+
+    /**
+     * Generates builder of a USER flashcard listing row "Question {index}" / "Answer {index}",
+     * created and updated index seconds before FLASHCARD_CREATED_AT - rows 0, 1, 2... are newest first.
+     */
+    public static FlashcardSummaryView.FlashcardSummaryViewBuilder flashcardSummaryBuilder(int index) {
+        return FlashcardSummaryView.builder()
+            .id(UUID.randomUUID())
+            .frontContent("Question " + index)
+            .backContent("Answer " + index)
+            .source(FlashcardSource.USER)
+            .createdAt(FLASHCARD_CREATED_AT.minusSeconds(index))
+            .updatedAt(FLASHCARD_CREATED_AT.minusSeconds(index));
+    }
 }
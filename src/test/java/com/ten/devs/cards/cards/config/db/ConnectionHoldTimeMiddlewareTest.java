@@ -0,0 +1,111 @@
+package com.ten.devs.cards.cards.config.db;
+
+import an.awesome.pipelinr.Command;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ConnectionHoldTimeMiddleware")
+class ConnectionHoldTimeMiddlewareTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionHoldTimeMiddleware middleware;
+
+    record TestCommand() implements Command<String> {
+    }
+
+    record OtherCommand() implements Command<String> {
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        middleware = new ConnectionHoldTimeMiddleware(meterRegistry);
+    }
+
+    private Timer timerOf(Class<?> commandType) {
+        return meterRegistry.get("cards.db.connection.hold").tag("command", commandType.getSimpleName()).timer();
+    }
+
+    @Nested
+    @DisplayName("invoke()")
+    class Invoke {
+
+        @Test
+        @DisplayName("Given connections released during command, When invoking, Then should record their total hold time")
+        void givenConnectionsReleasedDuringCommand_whenInvoking_thenShouldRecordTotalHoldTime() {
+            // When
+            String result = middleware.invoke(new TestCommand(), () -> {
+                ConnectionHoldTimeMiddleware.connectionReleased(TimeUnit.MILLISECONDS.toNanos(30));
+                ConnectionHoldTimeMiddleware.connectionReleased(TimeUnit.MILLISECONDS.toNanos(12));
+                return "done";
+            });
+
+            // Then
+            assertThat(result).isEqualTo("done");
+            assertThat(timerOf(TestCommand.class).count()).isEqualTo(1);
+            assertThat(timerOf(TestCommand.class).totalTime(TimeUnit.MILLISECONDS)).isEqualTo(42.0);
+        }
+
+        @Test
+        @DisplayName("Given nested command, When invoking, Then should attribute hold time to outer command only")
+        void givenNestedCommand_whenInvoking_thenShouldAttributeHoldTimeToOuterCommand() {
+            // When
+            middleware.invoke(new TestCommand(), () -> middleware.invoke(new OtherCommand(), () -> {
+                ConnectionHoldTimeMiddleware.connectionReleased(TimeUnit.MILLISECONDS.toNanos(5));
+                return "done";
+            }));
+
+            // Then
+            assertThat(timerOf(TestCommand.class).totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5.0);
+            assertThat(meterRegistry.find("cards.db.connection.hold").tag("command", "OtherCommand").timer()).isNull();
+        }
+
+        @Test
+        @DisplayName("Given failing command, When invoking, Then should still record hold time and propagate exception")
+        void givenFailingCommand_whenInvoking_thenShouldRecordAndPropagate() {
+            // When / Then
+            assertThatThrownBy(() -> middleware.invoke(new TestCommand(), () -> {
+                ConnectionHoldTimeMiddleware.connectionReleased(TimeUnit.MILLISECONDS.toNanos(7));
+                throw new IllegalStateException("boom");
+            })).isInstanceOf(IllegalStateException.class);
+
+            assertThat(timerOf(TestCommand.class).totalTime(TimeUnit.MILLISECONDS)).isEqualTo(7.0);
+        }
+
+        @Test
+        @DisplayName("Given connection borrowed from tracking DataSource, When closed twice, Then should count hold time once")
+        void givenTrackedConnection_whenClosedTwice_thenShouldCountOnce() throws Exception {
+            // Given
+            DataSource target = mock(DataSource.class);
+            Connection connection = mock(Connection.class);
+            when(target.getConnection()).thenReturn(connection);
+            ConnectionHoldTimeDataSource dataSource = new ConnectionHoldTimeDataSource(target);
+
+            // When
+            middleware.invoke(new TestCommand(), () -> {
+                try (Connection borrowed = dataSource.getConnection()) {
+                    borrowed.close();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                return "done";
+            });
+
+            // Then
+            verify(connection, times(2)).close();
+            assertThat(timerOf(TestCommand.class).count()).isEqualTo(1);
+            assertThat(timerOf(TestCommand.class).totalTime(TimeUnit.NANOSECONDS)).isPositive();
+        }
+    }
+}
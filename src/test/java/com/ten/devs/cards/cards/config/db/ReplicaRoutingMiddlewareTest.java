@@ -0,0 +1,139 @@
+package com.ten.devs.cards.cards.config.db;
+
+import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.shared.application.ReadOnlyCommand;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ReplicaRoutingMiddleware")
+class ReplicaRoutingMiddlewareTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T10:30:00Z");
+
+    private MutableClock clock;
+    private ReplicaRoutingMiddleware middleware;
+    private ReplicaRoutingDataSource routing;
+
+    record ReadCommand() implements ReadOnlyCommand<Object> {
+    }
+
+    record WriteCommand() implements Command<Object> {
+    }
+
+    static class MutableClock extends Clock {
+
+        private Instant instant = NOW;
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        middleware = new ReplicaRoutingMiddleware(Duration.ofSeconds(5), clock);
+        routing = new ReplicaRoutingDataSource(mock(DataSource.class), List.of(mock(DataSource.class), mock(DataSource.class)));
+        SecurityContextHolder.getContext().setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated("alice", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Object routeOf(Command<Object> command) {
+        return middleware.invoke(command, routing::determineCurrentLookupKey);
+    }
+
+    @Nested
+    @DisplayName("invoke()")
+    class Invoke {
+
+        @Test
+        @DisplayName("Given read-only commands, When invoking, Then should read from replicas round-robin")
+        void givenReadOnlyCommands_whenInvoking_thenShouldReadFromReplicasRoundRobin() {
+            assertThat(List.of(routeOf(new ReadCommand()), routeOf(new ReadCommand()), routeOf(new ReadCommand())))
+                .containsExactly("replica-0", "replica-1", "replica-0");
+        }
+
+        @Test
+        @DisplayName("Given mutating command, When invoking, Then should use primary")
+        void givenMutatingCommand_whenInvoking_thenShouldUsePrimary() {
+            assertThat(routeOf(new WriteCommand())).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("Given user's recent write, When reading within window, Then should read from primary")
+        void givenRecentWrite_whenReadingWithinWindow_thenShouldReadFromPrimary() {
+            // Given
+            routeOf(new WriteCommand());
+            clock.instant = NOW.plusSeconds(4);
+
+            // When / Then
+            assertThat(routeOf(new ReadCommand())).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("Given user's write, When reading after window, Then should read from replica")
+        void givenWrite_whenReadingAfterWindow_thenShouldReadFromReplica() {
+            // Given
+            routeOf(new WriteCommand());
+            clock.instant = NOW.plusSeconds(5);
+
+            // When / Then
+            assertThat(routeOf(new ReadCommand())).isEqualTo("replica-0");
+        }
+
+        @Test
+        @DisplayName("Given other user's recent write, When reading, Then should read from replica")
+        void givenOtherUsersRecentWrite_whenReading_thenShouldReadFromReplica() {
+            // Given
+            SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("bob", null, List.of()));
+            routeOf(new WriteCommand());
+            SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("alice", null, List.of()));
+
+            // When / Then
+            assertThat(routeOf(new ReadCommand())).isEqualTo("replica-0");
+        }
+
+        @Test
+        @DisplayName("Given read-only command finished, When routing outside of it, Then should use primary")
+        void givenReadOnlyCommandFinished_whenRoutingOutside_thenShouldUsePrimary() {
+            // Given
+            routeOf(new ReadCommand());
+
+            // When / Then
+            assertThat(routing.determineCurrentLookupKey()).isEqualTo("primary");
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.ten.devs.cards.cards.config.db;
+
+import an.awesome.pipelinr.Command;
+import com.ten.devs.cards.cards.shared.application.NonTransactionalCommand;
+import com.ten.devs.cards.cards.shared.application.ReadOnlyCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionMiddleware")
+class TransactionMiddlewareTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionMiddleware middleware;
+
+    record ReadCommand() implements ReadOnlyCommand<String> {
+    }
+
+    record WriteCommand() implements Command<String> {
+    }
+
+    record ExternalCallCommand() implements NonTransactionalCommand<String> {
+    }
+
+    @BeforeEach
+    void setUp() {
+        middleware = new TransactionMiddleware(transactionManager);
+    }
+
+    private TransactionDefinition captureDefinition() {
+        ArgumentCaptor<TransactionDefinition> captor = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("invoke()")
+    class Invoke {
+
+        @Test
+        @DisplayName("Given read-only command, When invoking, Then should run it in read-only transaction")
+        void givenReadOnlyCommand_whenInvoking_thenShouldRunInReadOnlyTransaction() {
+            // Given
+            when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+            // When
+            String result = middleware.invoke(new ReadCommand(), () -> "read");
+
+            // Then
+            assertThat(result).isEqualTo("read");
+            assertThat(captureDefinition().isReadOnly()).isTrue();
+            verify(transactionManager).commit(any());
+        }
+
+        @Test
+        @DisplayName("Given mutating command, When invoking, Then should run it in read-write transaction")
+        void givenMutatingCommand_whenInvoking_thenShouldRunInReadWriteTransaction() {
+            // Given
+            when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+            // When
+            middleware.invoke(new WriteCommand(), () -> "written");
+
+            // Then
+            assertThat(captureDefinition().isReadOnly()).isFalse();
+            verify(transactionManager).commit(any());
+        }
+
+        @Test
+        @DisplayName("Given failing mutating command, When invoking, Then should roll back and propagate exception")
+        void givenFailingMutatingCommand_whenInvoking_thenShouldRollBackAndPropagate() {
+            // Given
+            when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+            // When / Then
+            assertThatThrownBy(() -> middleware.invoke(new WriteCommand(), () -> {
+                throw new IllegalArgumentException("invalid");
+            })).isInstanceOf(IllegalArgumentException.class);
+            verify(transactionManager).rollback(any());
+            verify(transactionManager, never()).commit(any());
+        }
+
+        @Test
+        @DisplayName("Given non-transactional command, When invoking, Then should not start transaction")
+        void givenNonTransactionalCommand_whenInvoking_thenShouldNotStartTransaction() {
+            // When
+            String result = middleware.invoke(new ExternalCallCommand(), () -> "called");
+
+            // Then
+            assertThat(result).isEqualTo("called");
+            verifyNoInteractions(transactionManager);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.ten.devs.cards.cards.flashcards.application.command;
 
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardDuplicateDetector;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardInstantSearch;
 import com.ten.devs.cards.cards.flashcards.domain.*;
 import com.ten.devs.cards.cards.flashcards.presentation.request.ApproveAiSuggestionsRequest;
 import com.ten.devs.cards.cards.flashcards.presentation.request.ApproveAiSuggestionsRequest.ApprovedSuggestion;
@@ -13,16 +15,23 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,7 +42,10 @@ class ApproveAiSuggestionsCommandHandlerTest {
     private AiGenerationSessionRepository sessionRepository;
 
     @Mock
-    private FlashcardRepository flashcardRepository;
+    private FlashcardDuplicateDetector duplicateDetector;
+
+    @Mock
+    private FlashcardInstantSearch instantSearch;
 
     @InjectMocks
     private ApproveAiSuggestionsCommandHandler handler;
@@ -67,6 +79,43 @@ class ApproveAiSuggestionsCommandHandlerTest {
         );
     }
 
+    private AiSuggestionsView viewOf(AiGenerationSession session) {
+        AiGenerationSessionSnapshot snapshot = session.toSnapshot();
+        return new AiSuggestionsView(snapshot.id(), snapshot.userId(), snapshot.status(), snapshot.suggestions());
+    }
+
+    // Simulates the server-side approval: edits applied over stored suggestion content
+    private Answer<List<Flashcard>> approveAgainst(AiGenerationSession session) {
+        Map<UUID, FlashcardSuggestion> suggestions = session.getSuggestions().stream()
+            .collect(Collectors.toMap(FlashcardSuggestion::id, Function.identity()));
+        return invocation -> {
+            List<SuggestionApproval> approvals = invocation.getArgument(2);
+            Instant now = Instant.now();
+            return approvals.stream()
+                .map(approval -> {
+                    FlashcardSuggestion suggestion = suggestions.get(approval.suggestionId());
+                    return Flashcard.fromSnapshot(FlashcardSnapshot.builder()
+                        .id(approval.flashcardId())
+                        .userId(TEST_USER_ID)
+                        .frontContent(approval.frontContent() != null ? approval.frontContent() : suggestion.frontContent())
+                        .backContent(approval.backContent() != null ? approval.backContent() : suggestion.backContent())
+                        .source(approval.source())
+                        .generationSessionId(TEST_SESSION_ID)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build());
+                })
+                .toList();
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<SuggestionApproval> captureApprovals() {
+        ArgumentCaptor<List<SuggestionApproval>> captor = ArgumentCaptor.forClass(List.class);
+        verify(sessionRepository).approveSuggestions(eq(TEST_SESSION_ID), eq(TEST_USER_ID), captor.capture());
+        return captor.getValue();
+    }
+
     @Nested
     @DisplayName("Successful approval")
     class SuccessfulApproval {
@@ -90,10 +139,9 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
-            when(flashcardRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
-            when(sessionRepository.save(any(AiGenerationSession.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            when(sessionRepository.approveSuggestions(eq(TEST_SESSION_ID), eq(TEST_USER_ID), anyList()))
+                .thenAnswer(approveAgainst(session));
 
             // When
             ApproveAiSuggestionsResponse response = handler.handle(command);
@@ -123,10 +171,9 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
-            when(flashcardRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
-            when(sessionRepository.save(any(AiGenerationSession.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            when(sessionRepository.approveSuggestions(eq(TEST_SESSION_ID), eq(TEST_USER_ID), anyList()))
+                .thenAnswer(approveAgainst(session));
 
             // When
             ApproveAiSuggestionsResponse response = handler.handle(command);
@@ -158,28 +205,24 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
-
-            ArgumentCaptor<List<Flashcard>> flashcardCaptor = ArgumentCaptor.forClass(List.class);
-            when(flashcardRepository.saveAll(flashcardCaptor.capture()))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-            when(sessionRepository.save(any(AiGenerationSession.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            when(sessionRepository.approveSuggestions(eq(TEST_SESSION_ID), eq(TEST_USER_ID), anyList()))
+                .thenAnswer(approveAgainst(session));
 
             // When
-            ApproveAiSuggestionsResponse response = handler.handle(command);
+            handler.handle(command);
 
             // Then
-            List<Flashcard> savedFlashcards = flashcardCaptor.getValue();
-            assertThat(savedFlashcards.get(0).toSnapshot().source()).isEqualTo(FlashcardSource.AI);
-            assertThat(savedFlashcards.get(1).toSnapshot().source()).isEqualTo(FlashcardSource.AI_USER);
-            assertThat(savedFlashcards.get(2).toSnapshot().source()).isEqualTo(FlashcardSource.AI_USER);
-            assertThat(savedFlashcards.get(3).toSnapshot().source()).isEqualTo(FlashcardSource.AI_USER);
+            List<SuggestionApproval> approvals = captureApprovals();
+            assertThat(approvals.get(0).source()).isEqualTo(FlashcardSource.AI);
+            assertThat(approvals.get(1).source()).isEqualTo(FlashcardSource.AI_USER);
+            assertThat(approvals.get(2).source()).isEqualTo(FlashcardSource.AI_USER);
+            assertThat(approvals.get(3).source()).isEqualTo(FlashcardSource.AI_USER);
         }
 
         @Test
-        @DisplayName("Given approved suggestions, When saving, Then should update session accepted count")
-        void givenApprovedSuggestions_whenSaving_thenShouldUpdateSessionAcceptedCount() {
+        @DisplayName("Given approved suggestions, When saving, Then should approve all of them in one atomic write")
+        void givenApprovedSuggestions_whenSaving_thenShouldApproveAllInOneWrite() {
             // Given
             List<FlashcardSuggestion> suggestions = createTestSuggestions(5);
             AiGenerationSession session = createCompletedSession(suggestions);
@@ -197,19 +240,18 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
-            when(flashcardRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
-
-            ArgumentCaptor<AiGenerationSession> sessionCaptor = ArgumentCaptor.forClass(AiGenerationSession.class);
-            when(sessionRepository.save(sessionCaptor.capture()))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            when(sessionRepository.approveSuggestions(eq(TEST_SESSION_ID), eq(TEST_USER_ID), anyList()))
+                .thenAnswer(approveAgainst(session));
 
             // When
             handler.handle(command);
 
             // Then
-            AiGenerationSession updatedSession = sessionCaptor.getValue();
-            assertThat(updatedSession.toSnapshot().acceptedCount()).isEqualTo(3);
+            assertThat(captureApprovals())
+                .extracting(SuggestionApproval::suggestionId)
+                .containsExactly(suggestions.get(0).id(), suggestions.get(1).id(), suggestions.get(2).id());
+            verify(sessionRepository, never()).save(any(AiGenerationSession.class));
         }
 
         @Test
@@ -230,16 +272,15 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
-            when(flashcardRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
-            when(sessionRepository.save(any(AiGenerationSession.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            when(sessionRepository.approveSuggestions(eq(TEST_SESSION_ID), eq(TEST_USER_ID), anyList()))
+                .thenAnswer(approveAgainst(session));
 
             // When
             handler.handle(command);
 
             // Then - no exception thrown means ownership verified
-            verify(sessionRepository, times(1)).findById(TEST_SESSION_ID);
+            verify(sessionRepository, times(1)).findSuggestionsView(TEST_SESSION_ID);
         }
 
         @Test
@@ -262,10 +303,9 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
-            when(flashcardRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
-            when(sessionRepository.save(any(AiGenerationSession.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            when(sessionRepository.approveSuggestions(eq(TEST_SESSION_ID), eq(TEST_USER_ID), anyList()))
+                .thenAnswer(approveAgainst(session));
 
             // When
             ApproveAiSuggestionsResponse response = handler.handle(command);
@@ -294,10 +334,9 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
-            when(flashcardRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
-            when(sessionRepository.save(any(AiGenerationSession.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            when(sessionRepository.approveSuggestions(eq(TEST_SESSION_ID), eq(TEST_USER_ID), anyList()))
+                .thenAnswer(approveAgainst(session));
 
             // When
             ApproveAiSuggestionsResponse response = handler.handle(command);
@@ -307,6 +346,114 @@ class ApproveAiSuggestionsCommandHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Duplicate detection")
+    class DuplicateDetection {
+
+        @Test
+        @DisplayName("Given suggestion duplicating existing flashcard, When approving, Then should skip it and count only created flashcards")
+        void givenSuggestionDuplicatingExistingFlashcard_whenApproving_thenShouldSkipIt() {
+            // Given
+            List<FlashcardSuggestion> suggestions = createTestSuggestions(3);
+            AiGenerationSession session = createCompletedSession(suggestions);
+            UUID existingFlashcardId = UUID.randomUUID();
+
+            ApproveAiSuggestionsRequest request = new ApproveAiSuggestionsRequest(List.of(
+                new ApprovedSuggestion(suggestions.get(0).id(), null, null),
+                new ApprovedSuggestion(suggestions.get(1).id(), null, null)
+            ));
+            ApproveAiSuggestionsCommand command = new ApproveAiSuggestionsCommand(
+                TEST_USER_ID,
+                TEST_SESSION_ID,
+                request
+            );
+
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            when(duplicateDetector.findDuplicate(eq(TEST_USER_ID), anyString(), anyString(), anyList()))
+                .thenAnswer(invocation -> "Question 0".equals(invocation.getArgument(1))
+                    ? Optional.of(existingFlashcardId)
+                    : Optional.empty());
+            when(sessionRepository.approveSuggestions(eq(TEST_SESSION_ID), eq(TEST_USER_ID), anyList()))
+                .thenAnswer(approveAgainst(session));
+
+            // When
+            ApproveAiSuggestionsResponse response = handler.handle(command);
+
+            // Then
+            assertThat(response.createdFlashcards())
+                .extracting(CreatedFlashcard::frontContent)
+                .containsExactly("Question 1");
+            assertThat(captureApprovals()).hasSize(1);
+            verify(duplicateDetector, times(1)).indexFlashcard(any(FlashcardSnapshot.class));
+            verify(instantSearch, times(1)).indexFlashcard(any(FlashcardSnapshot.class));
+        }
+
+        @Test
+        @DisplayName("Given two near-identical suggestions in one request, When approving, Then should create only the first one")
+        void givenNearIdenticalSuggestionsInOneRequest_whenApproving_thenShouldCreateOnlyFirst() {
+            // Given
+            List<FlashcardSuggestion> suggestions = createTestSuggestions(2);
+            AiGenerationSession session = createCompletedSession(suggestions);
+
+            ApproveAiSuggestionsCommand command = new ApproveAiSuggestionsCommand(
+                TEST_USER_ID,
+                TEST_SESSION_ID,
+                new ApproveAiSuggestionsRequest(List.of(
+                    new ApprovedSuggestion(suggestions.get(0).id(), null, null),
+                    new ApprovedSuggestion(suggestions.get(1).id(), "Question 0", "Answer 0")))
+            );
+
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            // Nothing similar in the index - only the card accepted earlier in the request matches
+            when(duplicateDetector.findDuplicate(eq(TEST_USER_ID), anyString(), anyString(), anyList()))
+                .thenAnswer(invocation -> {
+                    List<FlashcardSnapshot> accepted = invocation.getArgument(3);
+                    return accepted.stream()
+                        .filter(card -> card.frontContent().equals(invocation.getArgument(1)))
+                        .map(FlashcardSnapshot::id)
+                        .findFirst();
+                });
+            when(sessionRepository.approveSuggestions(eq(TEST_SESSION_ID), eq(TEST_USER_ID), anyList()))
+                .thenAnswer(approveAgainst(session));
+
+            // When
+            ApproveAiSuggestionsResponse response = handler.handle(command);
+
+            // Then
+            assertThat(response.createdFlashcards())
+                .extracting(CreatedFlashcard::frontContent, CreatedFlashcard::source)
+                .containsExactly(tuple("Question 0", "AI"));
+            assertThat(captureApprovals())
+                .extracting(SuggestionApproval::suggestionId)
+                .containsExactly(suggestions.get(0).id());
+        }
+
+        @Test
+        @DisplayName("Given only duplicating suggestions, When approving, Then should not write anything")
+        void givenOnlyDuplicatingSuggestions_whenApproving_thenShouldNotWriteAnything() {
+            // Given
+            List<FlashcardSuggestion> suggestions = createTestSuggestions(1);
+            AiGenerationSession session = createCompletedSession(suggestions);
+
+            ApproveAiSuggestionsCommand command = new ApproveAiSuggestionsCommand(
+                TEST_USER_ID,
+                TEST_SESSION_ID,
+                new ApproveAiSuggestionsRequest(List.of(new ApprovedSuggestion(suggestions.get(0).id(), null, null)))
+            );
+
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            when(duplicateDetector.findDuplicate(eq(TEST_USER_ID), anyString(), anyString(), anyList()))
+                .thenReturn(Optional.of(UUID.randomUUID()));
+
+            // When
+            ApproveAiSuggestionsResponse response = handler.handle(command);
+
+            // Then
+            assertThat(response.createdFlashcards()).isEmpty();
+            verify(sessionRepository, never()).approveSuggestions(any(), any(), anyList());
+        }
+    }
+
     @Nested
     @DisplayName("Error cases")
     class ErrorCases {
@@ -326,7 +473,7 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.empty());
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.empty());
 
             // When/Then
             assertThatThrownBy(() -> handler.handle(command))
@@ -352,7 +499,7 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
 
             // When/Then
             assertThatThrownBy(() -> handler.handle(command))
@@ -377,7 +524,7 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
 
             // When/Then
             assertThatThrownBy(() -> handler.handle(command))
@@ -406,7 +553,7 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
 
             // When/Then
             assertThatThrownBy(() -> handler.handle(command))
@@ -433,7 +580,7 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
 
             // When/Then
             assertThatThrownBy(() -> handler.handle(command))
@@ -442,8 +589,8 @@ class ApproveAiSuggestionsCommandHandlerTest {
         }
 
         @Test
-        @DisplayName("Given flashcard repository throws exception, When saving, Then should propagate exception")
-        void givenFlashcardRepositoryThrowsException_whenSaving_thenShouldPropagateException() {
+        @DisplayName("Given repository throws exception, When saving, Then should propagate exception")
+        void givenRepositoryThrowsException_whenSaving_thenShouldPropagateException() {
             // Given
             List<FlashcardSuggestion> suggestions = createTestSuggestions(2);
             AiGenerationSession session = createCompletedSession(suggestions);
@@ -459,8 +606,8 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
-            when(flashcardRepository.saveAll(anyList()))
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            when(sessionRepository.approveSuggestions(eq(TEST_SESSION_ID), eq(TEST_USER_ID), anyList()))
                 .thenThrow(new RuntimeException("Database connection error"));
 
             // When/Then
@@ -470,8 +617,8 @@ class ApproveAiSuggestionsCommandHandlerTest {
         }
 
         @Test
-        @DisplayName("Given session repository throws exception when updating, When saving, Then should propagate exception")
-        void givenSessionRepositoryThrowsExceptionWhenUpdating_whenSaving_thenShouldPropagateException() {
+        @DisplayName("Given session changed after it was read, When saving, Then should throw AiSuggestionsUnavailableException")
+        void givenSessionChangedAfterRead_whenSaving_thenShouldThrowSuggestionsUnavailable() {
             // Given
             List<FlashcardSuggestion> suggestions = createTestSuggestions(2);
             AiGenerationSession session = createCompletedSession(suggestions);
@@ -487,15 +634,17 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
-            when(flashcardRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
-            when(sessionRepository.save(any(AiGenerationSession.class)))
-                .thenThrow(new RuntimeException("Session update failed"));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            // Write re-checks ownership and status - nothing is created when they no longer hold
+            when(sessionRepository.approveSuggestions(eq(TEST_SESSION_ID), eq(TEST_USER_ID), anyList()))
+                .thenReturn(List.of());
 
             // When/Then
             assertThatThrownBy(() -> handler.handle(command))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessage("Session update failed");
+                .isInstanceOf(AiSuggestionsUnavailableException.class)
+                .hasMessageContaining("can no longer provide suggestions");
+            verify(duplicateDetector, never()).indexFlashcard(any(FlashcardSnapshot.class));
+            verify(instantSearch, never()).indexFlashcard(any(FlashcardSnapshot.class));
         }
     }
 
@@ -522,10 +671,9 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
-            when(flashcardRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
-            when(sessionRepository.save(any(AiGenerationSession.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            when(sessionRepository.approveSuggestions(eq(TEST_SESSION_ID), eq(TEST_USER_ID), anyList()))
+                .thenAnswer(approveAgainst(session));
 
             // When
             ApproveAiSuggestionsResponse response = handler.handle(command);
@@ -537,8 +685,8 @@ class ApproveAiSuggestionsCommandHandlerTest {
         }
 
         @Test
-        @DisplayName("Given single suggestion approved, When handling, Then should update accepted count to 1")
-        void givenSingleSuggestionApproved_whenHandling_thenShouldUpdateAcceptedCountToOne() {
+        @DisplayName("Given single suggestion approved, When handling, Then should approve exactly one suggestion")
+        void givenSingleSuggestionApproved_whenHandling_thenShouldApproveExactlyOne() {
             // Given
             List<FlashcardSuggestion> suggestions = createTestSuggestions(5);
             AiGenerationSession session = createCompletedSession(suggestions);
@@ -554,18 +702,18 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
-            when(flashcardRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
-
-            ArgumentCaptor<AiGenerationSession> sessionCaptor = ArgumentCaptor.forClass(AiGenerationSession.class);
-            when(sessionRepository.save(sessionCaptor.capture()))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            when(sessionRepository.approveSuggestions(eq(TEST_SESSION_ID), eq(TEST_USER_ID), anyList()))
+                .thenAnswer(approveAgainst(session));
 
             // When
             handler.handle(command);
 
             // Then
-            assertThat(sessionCaptor.getValue().toSnapshot().acceptedCount()).isEqualTo(1);
+            assertThat(captureApprovals())
+                .singleElement()
+                .extracting(SuggestionApproval::suggestionId)
+                .isEqualTo(suggestions.get(2).id());
         }
 
         @Test
@@ -589,10 +737,9 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
-            when(flashcardRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
-            when(sessionRepository.save(any(AiGenerationSession.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            when(sessionRepository.approveSuggestions(eq(TEST_SESSION_ID), eq(TEST_USER_ID), anyList()))
+                .thenAnswer(approveAgainst(session));
 
             // When
             ApproveAiSuggestionsResponse response = handler.handle(command);
@@ -627,10 +774,9 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
-            when(flashcardRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
-            when(sessionRepository.save(any(AiGenerationSession.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            when(sessionRepository.approveSuggestions(eq(TEST_SESSION_ID), eq(TEST_USER_ID), anyList()))
+                .thenAnswer(approveAgainst(session));
 
             // When
             ApproveAiSuggestionsResponse response = handler.handle(command);
@@ -640,6 +786,8 @@ class ApproveAiSuggestionsCommandHandlerTest {
             assertThat(created.frontContent()).isEqualTo("Modified Front");
             assertThat(created.backContent()).isEqualTo("Original Back");
             assertThat(created.source()).isEqualTo(FlashcardSource.AI_USER.name());
+            // Only the edit is sent - unedited side is taken from the stored suggestion
+            assertThat(captureApprovals().get(0).backContent()).isNull();
         }
 
         @Test
@@ -666,10 +814,9 @@ class ApproveAiSuggestionsCommandHandlerTest {
                 request
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
-            when(flashcardRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
-            when(sessionRepository.save(any(AiGenerationSession.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            when(sessionRepository.approveSuggestions(eq(TEST_SESSION_ID), eq(TEST_USER_ID), anyList()))
+                .thenAnswer(approveAgainst(session));
 
             // When
             ApproveAiSuggestionsResponse response = handler.handle(command);
@@ -0,0 +1,210 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardDuplicateDetector;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardInstantSearch;
+import com.ten.devs.cards.cards.flashcards.domain.Flashcard;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardContentUpdate;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSource;
+import com.ten.devs.cards.cards.flashcards.presentation.request.BatchFlashcardsRequest;
+import com.ten.devs.cards.cards.flashcards.presentation.request.BatchFlashcardsRequest.Operation;
+import com.ten.devs.cards.cards.flashcards.presentation.request.BatchFlashcardsRequest.OperationType;
+import com.ten.devs.cards.cards.flashcards.presentation.response.BatchFlashcardsResponse;
+import com.ten.devs.cards.cards.flashcards.presentation.response.BatchFlashcardsResponse.OperationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchFlashcardsCommandHandler")
+class BatchFlashcardsCommandHandlerTest {
+
+    @Mock
+    private FlashcardRepository flashcardRepository;
+
+    @Mock
+    private FlashcardDuplicateDetector duplicateDetector;
+
+    @Mock
+    private FlashcardInstantSearch instantSearch;
+
+    @InjectMocks
+    private BatchFlashcardsCommandHandler handler;
+
+    private static final UUID TEST_USER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final UUID UPDATED_ID = UUID.fromString("44444444-4444-4444-4444-444444444441");
+    private static final UUID STALE_ID = UUID.fromString("44444444-4444-4444-4444-444444444442");
+    private static final UUID DELETED_ID = UUID.fromString("44444444-4444-4444-4444-444444444443");
+    private static final UUID MISSING_ID = UUID.fromString("44444444-4444-4444-4444-444444444444");
+    private static final Instant CREATED_AT = Instant.parse("2025-01-15T10:30:00Z");
+
+    private static Operation create(String front, String back) {
+        return new Operation(OperationType.CREATE, null, front, back, null);
+    }
+
+    private static Operation update(UUID id, Long version) {
+        return new Operation(OperationType.UPDATE, id, "New question?", "New answer.", version);
+    }
+
+    private static Operation delete(UUID id) {
+        return new Operation(OperationType.DELETE, id, null, null, null);
+    }
+
+    private static Flashcard stored(UUID id, long version) {
+        return Flashcard.fromSnapshot(FlashcardSnapshot.builder()
+            .id(id)
+            .userId(TEST_USER_ID)
+            .frontContent("New question?")
+            .backContent("New answer.")
+            .source(FlashcardSource.USER)
+            .createdAt(CREATED_AT)
+            .updatedAt(CREATED_AT)
+            .version(version)
+            .build());
+    }
+
+    private BatchFlashcardsResponse handle(List<Operation> operations) {
+        return handler.handle(BatchFlashcardsCommand.builder()
+            .userId(TEST_USER_ID)
+            .request(new BatchFlashcardsRequest(operations))
+            .build());
+    }
+
+    @Nested
+    @DisplayName("Mixed operations")
+    class MixedOperations {
+
+        @Test
+        @DisplayName("Given creates, updates and deletes, When applying, Then should use one call per type and report each result in order")
+        void givenMixedOperations_whenApplying_thenShouldReportEachResultInOrder() {
+            // Given
+            when(flashcardRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+            when(flashcardRepository.updateContentAll(eq(TEST_USER_ID), anyList())).thenReturn(List.of(true, false));
+            when(flashcardRepository.findAllByIdAndUserId(TEST_USER_ID, List.of(UPDATED_ID, STALE_ID)))
+                .thenReturn(List.of(stored(UPDATED_ID, 3L), stored(STALE_ID, 7L)));
+            when(flashcardRepository.deleteAllByIdAndUserId(TEST_USER_ID, List.of(DELETED_ID, MISSING_ID)))
+                .thenReturn(List.of(DELETED_ID));
+
+            // When
+            BatchFlashcardsResponse response = handle(List.of(
+                update(UPDATED_ID, 2L),
+                delete(DELETED_ID),
+                create("Q1", "A1"),
+                update(STALE_ID, 5L),
+                delete(MISSING_ID),
+                create("Q2", "A2")));
+
+            // Then
+            assertThat(response.results()).extracting(OperationResult::index).containsExactly(0, 1, 2, 3, 4, 5);
+            assertThat(response.results()).extracting(OperationResult::status)
+                .containsExactly("UPDATED", "DELETED", "CREATED", "CONFLICT", "NOT_FOUND", "CREATED");
+            assertThat(response.results().get(0).version()).isEqualTo(3L);
+            assertThat(response.results().get(2).flashcardId()).isNotNull();
+            assertThat(response.results().get(2).version()).isZero();
+            assertThat(response.results().get(3).version()).isEqualTo(7L);
+            assertThat(response.results().get(3).message()).contains("expected version 5, current version 7");
+
+            verify(flashcardRepository).updateContentAll(TEST_USER_ID, List.of(
+                new FlashcardContentUpdate(UPDATED_ID, "New question?", "New answer.", 2L),
+                new FlashcardContentUpdate(STALE_ID, "New question?", "New answer.", 5L)));
+            verify(flashcardRepository, times(1)).insertAll(anyList());
+            verify(duplicateDetector, times(3)).indexFlashcard(any(FlashcardSnapshot.class));
+            verify(instantSearch).removeFlashcard(TEST_USER_ID, DELETED_ID);
+            verify(instantSearch, never()).removeFlashcard(TEST_USER_ID, MISSING_ID);
+        }
+
+        @Test
+        @DisplayName("Given update of missing flashcard, When applying, Then should report NOT_FOUND")
+        void givenUpdateOfMissingFlashcard_whenApplying_thenShouldReportNotFound() {
+            // Given
+            when(flashcardRepository.updateContentAll(eq(TEST_USER_ID), anyList())).thenReturn(List.of(false));
+            when(flashcardRepository.findAllByIdAndUserId(TEST_USER_ID, List.of(MISSING_ID))).thenReturn(List.of());
+
+            // When
+            BatchFlashcardsResponse response = handle(List.of(update(MISSING_ID, null)));
+
+            // Then
+            assertThat(response.results()).singleElement()
+                .extracting(OperationResult::status, OperationResult::flashcardId)
+                .containsExactly("NOT_FOUND", MISSING_ID);
+            verifyNoInteractions(duplicateDetector, instantSearch);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("Given invalid operations, When applying, Then should report them as INVALID and apply the valid ones")
+        void givenInvalidOperations_whenApplying_thenShouldSkipThem() {
+            // Given
+            when(flashcardRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+            when(flashcardRepository.deleteAllByIdAndUserId(TEST_USER_ID, List.of(DELETED_ID)))
+                .thenReturn(List.of(DELETED_ID));
+
+            // When
+            BatchFlashcardsResponse response = handle(Arrays.asList(
+                new Operation(null, null, "Q", "A", null),
+                create("Q1", "x".repeat(1001)),
+                new Operation(OperationType.UPDATE, null, "Q", "A", null),
+                delete(DELETED_ID),
+                update(DELETED_ID, null),
+                null,
+                create("Q2", "A2")));
+
+            // Then
+            assertThat(response.results()).extracting(OperationResult::status)
+                .containsExactly("INVALID", "INVALID", "INVALID", "DELETED", "INVALID", "INVALID", "CREATED");
+            assertThat(response.results()).extracting(OperationResult::message)
+                .containsExactly(
+                    "Operation type is required",
+                    "Back content cannot exceed 1000 characters. Current: 1001",
+                    "Flashcard ID is required for UPDATE",
+                    null,
+                    "Flashcard " + DELETED_ID + " is already changed by operation 3",
+                    "Operation type is required",
+                    null);
+            verify(flashcardRepository, never()).updateContentAll(any(), anyList());
+        }
+
+        @Test
+        @DisplayName("Given more than 1000 operations, When applying, Then should throw IllegalArgumentException")
+        void givenTooManyOperations_whenApplying_thenShouldThrowException() {
+            // Given
+            List<Operation> operations = Collections.nCopies(1001, create("Q", "A"));
+
+            // When / Then
+            assertThatThrownBy(() -> handle(operations))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Batch cannot contain more than 1000 operations");
+            verifyNoInteractions(flashcardRepository);
+        }
+
+        @Test
+        @DisplayName("Given no operations, When applying, Then should throw IllegalArgumentException")
+        void givenNoOperations_whenApplying_thenShouldThrowException() {
+            // When / Then
+            assertThatThrownBy(() -> handle(List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At least one operation is required");
+        }
+    }
+}
@@ -78,7 +78,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
 
             // Capture saved session
             ArgumentCaptor<AiGenerationSession> sessionCaptor = ArgumentCaptor.forClass(AiGenerationSession.class);
-            when(sessionRepository.save(sessionCaptor.capture()))
+            when(sessionRepository.create(sessionCaptor.capture()))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
             // When
@@ -113,7 +113,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
             when(aiService.estimateCost(TEST_INPUT_TEXT)).thenReturn(TEST_COST);
 
             ArgumentCaptor<AiGenerationSession> sessionCaptor = ArgumentCaptor.forClass(AiGenerationSession.class);
-            when(sessionRepository.save(sessionCaptor.capture()))
+            when(sessionRepository.create(sessionCaptor.capture()))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
             // When
@@ -141,7 +141,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
                     return createTestSuggestions(sessionId, 3);
                 });
             when(aiService.estimateCost(TEST_INPUT_TEXT)).thenReturn(TEST_COST);
-            when(sessionRepository.save(any(AiGenerationSession.class)))
+            when(sessionRepository.create(any(AiGenerationSession.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
             // When
@@ -168,7 +168,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
                     return createTestSuggestions(sessionId, 5);
                 });
             when(aiService.estimateCost(TEST_INPUT_TEXT)).thenReturn(TEST_COST);
-            when(sessionRepository.save(any(AiGenerationSession.class)))
+            when(sessionRepository.create(any(AiGenerationSession.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
             // When
@@ -193,14 +193,14 @@ class CreateAiGenerationSessionCommandHandlerTest {
                     return createTestSuggestions(sessionId, 5);
                 });
             when(aiService.estimateCost(TEST_INPUT_TEXT)).thenReturn(TEST_COST);
-            when(sessionRepository.save(any(AiGenerationSession.class)))
+            when(sessionRepository.create(any(AiGenerationSession.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
             // When
             handler.handle(command);
 
             // Then
-            verify(sessionRepository, times(1)).save(any(AiGenerationSession.class));
+            verify(sessionRepository, times(1)).create(any(AiGenerationSession.class));
         }
 
         @Test
@@ -219,7 +219,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
                     return createTestSuggestions(sessionId, 3);
                 });
             when(aiService.estimateCost(minInputText)).thenReturn(TEST_COST);
-            when(sessionRepository.save(any(AiGenerationSession.class)))
+            when(sessionRepository.create(any(AiGenerationSession.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
             // When
@@ -245,7 +245,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
                     return createTestSuggestions(sessionId, 10);
                 });
             when(aiService.estimateCost(maxInputText)).thenReturn(TEST_COST);
-            when(sessionRepository.save(any(AiGenerationSession.class)))
+            when(sessionRepository.create(any(AiGenerationSession.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
             // When
@@ -273,7 +273,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
                 .thenThrow(new RuntimeException("AI service unavailable"));
 
             ArgumentCaptor<AiGenerationSession> sessionCaptor = ArgumentCaptor.forClass(AiGenerationSession.class);
-            when(sessionRepository.save(sessionCaptor.capture()))
+            when(sessionRepository.create(sessionCaptor.capture()))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
             // When/Then
@@ -299,7 +299,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
 
             when(aiService.generateFlashcards(eq(TEST_INPUT_TEXT), any(UUID.class)))
                 .thenThrow(new RuntimeException("AI service error"));
-            when(sessionRepository.save(any(AiGenerationSession.class)))
+            when(sessionRepository.create(any(AiGenerationSession.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
             // When/Then
@@ -307,7 +307,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
                 .isInstanceOf(RuntimeException.class);
 
             // Verify save called only once
-            verify(sessionRepository, times(1)).save(any(AiGenerationSession.class));
+            verify(sessionRepository, times(1)).create(any(AiGenerationSession.class));
         }
 
         @Test
@@ -323,7 +323,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
                 .thenThrow(new RuntimeException("Request timeout"));
 
             ArgumentCaptor<AiGenerationSession> sessionCaptor = ArgumentCaptor.forClass(AiGenerationSession.class);
-            when(sessionRepository.save(sessionCaptor.capture()))
+            when(sessionRepository.create(sessionCaptor.capture()))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
             // When/Then
@@ -353,7 +353,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
             when(aiService.estimateCost(TEST_INPUT_TEXT))
                 .thenThrow(new RuntimeException("Cost estimation failed"));
 
-            when(sessionRepository.save(any(AiGenerationSession.class)))
+            when(sessionRepository.create(any(AiGenerationSession.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
             // When/Then
@@ -362,7 +362,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
                 .hasMessage("Cost estimation failed");
 
             // Verify FAILED session was saved
-            verify(sessionRepository, times(1)).save(
+            verify(sessionRepository, times(1)).create(
                 argThat(session ->
                     session.toSnapshot().status() == AiGenerationSessionStatus.FAILED
                 )
@@ -386,7 +386,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
             when(aiService.generateFlashcards(eq(TEST_INPUT_TEXT), any(UUID.class)))
                 .thenReturn(List.of());
             when(aiService.estimateCost(TEST_INPUT_TEXT)).thenReturn(TEST_COST);
-            when(sessionRepository.save(any(AiGenerationSession.class)))
+            when(sessionRepository.create(any(AiGenerationSession.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
             // When/Then
@@ -395,7 +395,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
                 .hasMessage("Cannot create completed session without suggestions");
 
             // Verify FAILED session was saved
-            verify(sessionRepository, times(1)).save(
+            verify(sessionRepository, times(1)).create(
                 argThat(session ->
                     session.toSnapshot().status() == AiGenerationSessionStatus.FAILED
                 )
@@ -414,7 +414,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
             when(aiService.generateFlashcards(eq(TEST_INPUT_TEXT), any(UUID.class)))
                 .thenReturn(null);
             // estimateCost not called when suggestions is null, so no stubbing needed
-            when(sessionRepository.save(any(AiGenerationSession.class)))
+            when(sessionRepository.create(any(AiGenerationSession.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
             // When/Then
@@ -423,7 +423,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
                 .hasMessage("AI service returned null suggestions");
 
             // Verify FAILED session was saved
-            verify(sessionRepository, times(1)).save(
+            verify(sessionRepository, times(1)).create(
                 argThat(session ->
                     session.toSnapshot().status() == AiGenerationSessionStatus.FAILED
                 )
@@ -445,7 +445,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
                     return createTestSuggestions(sessionId, 5);
                 });
             when(aiService.estimateCost(TEST_INPUT_TEXT)).thenReturn(TEST_COST);
-            when(sessionRepository.save(any(AiGenerationSession.class)))
+            when(sessionRepository.create(any(AiGenerationSession.class)))
                 .thenThrow(new RuntimeException("Database connection error"));
 
             // When/Then
@@ -465,7 +465,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
 
             when(aiService.generateFlashcards(eq(TEST_INPUT_TEXT), any(UUID.class)))
                 .thenThrow(new RuntimeException("AI service error"));
-            when(sessionRepository.save(any(AiGenerationSession.class)))
+            when(sessionRepository.create(any(AiGenerationSession.class)))
                 .thenThrow(new RuntimeException("Database connection error"));
 
             // When/Then
@@ -494,7 +494,7 @@ class CreateAiGenerationSessionCommandHandlerTest {
                     return createTestSuggestions(sessionId, 3);
                 });
             when(aiService.estimateCost(TEST_INPUT_TEXT)).thenReturn(TEST_COST);
-            when(sessionRepository.save(any(AiGenerationSession.class)))
+            when(sessionRepository.create(any(AiGenerationSession.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
             // When
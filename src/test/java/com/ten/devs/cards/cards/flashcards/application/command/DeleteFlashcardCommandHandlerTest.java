@@ -0,0 +1,73 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardDuplicateDetector;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardInstantSearch;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardNotFoundException;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeleteFlashcardCommandHandler")
+class DeleteFlashcardCommandHandlerTest {
+
+    @Mock
+    private FlashcardRepository flashcardRepository;
+
+    @Mock
+    private FlashcardDuplicateDetector duplicateDetector;
+
+    @Mock
+    private FlashcardInstantSearch instantSearch;
+
+    @InjectMocks
+    private DeleteFlashcardCommandHandler handler;
+
+    private static final UUID TEST_USER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final UUID FLASHCARD_ID = UUID.fromString("44444444-4444-4444-4444-444444444444");
+
+    private static DeleteFlashcardCommand command() {
+        return DeleteFlashcardCommand.builder()
+            .userId(TEST_USER_ID)
+            .flashcardId(FLASHCARD_ID)
+            .build();
+    }
+
+    @Test
+    @DisplayName("Given user's flashcard, When deleting, Then should delete it in one statement and remove it from indexes")
+    void givenUsersFlashcard_whenDeleting_thenShouldDeleteAndRemoveFromIndexes() {
+        // Given
+        when(flashcardRepository.deleteByIdAndUserId(FLASHCARD_ID, TEST_USER_ID)).thenReturn(true);
+
+        // When
+        handler.handle(command());
+
+        // Then
+        verify(flashcardRepository, never()).findById(any());
+        verify(duplicateDetector).removeFlashcard(TEST_USER_ID, FLASHCARD_ID);
+        verify(instantSearch).removeFlashcard(TEST_USER_ID, FLASHCARD_ID);
+    }
+
+    @Test
+    @DisplayName("Given missing or foreign flashcard, When deleting, Then should throw FlashcardNotFoundException")
+    void givenMissingFlashcard_whenDeleting_thenShouldThrowNotFound() {
+        // Given
+        when(flashcardRepository.deleteByIdAndUserId(FLASHCARD_ID, TEST_USER_ID)).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> handler.handle(command()))
+            .isInstanceOf(FlashcardNotFoundException.class)
+            .hasMessageContaining("Flashcard not found: " + FLASHCARD_ID);
+        verifyNoInteractions(duplicateDetector, instantSearch);
+    }
+}
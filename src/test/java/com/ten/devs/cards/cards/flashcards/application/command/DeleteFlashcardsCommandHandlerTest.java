@@ -0,0 +1,118 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardDuplicateDetector;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardInstantSearch;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.presentation.response.DeleteFlashcardsResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeleteFlashcardsCommandHandler")
+class DeleteFlashcardsCommandHandlerTest {
+
+    @Mock
+    private FlashcardRepository flashcardRepository;
+
+    @Mock
+    private FlashcardDuplicateDetector duplicateDetector;
+
+    @Mock
+    private FlashcardInstantSearch instantSearch;
+
+    @InjectMocks
+    private DeleteFlashcardsCommandHandler handler;
+
+    private static final UUID TEST_USER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final UUID FIRST_ID = UUID.fromString("44444444-4444-4444-4444-444444444441");
+    private static final UUID SECOND_ID = UUID.fromString("44444444-4444-4444-4444-444444444442");
+    private static final UUID MISSING_ID = UUID.fromString("44444444-4444-4444-4444-444444444443");
+
+    private static DeleteFlashcardsCommand command(List<UUID> ids) {
+        return DeleteFlashcardsCommand.builder()
+            .userId(TEST_USER_ID)
+            .flashcardIds(ids)
+            .build();
+    }
+
+    @Nested
+    @DisplayName("Bulk delete")
+    class BulkDelete {
+
+        @Test
+        @DisplayName("Given IDs with duplicate and missing one, When deleting, Then should delete once and report missing ID")
+        @SuppressWarnings("unchecked")
+        void givenDuplicateAndMissingIds_whenDeleting_thenShouldReportMissingId() {
+            // Given
+            when(flashcardRepository.deleteAllByIdAndUserId(eq(TEST_USER_ID), any()))
+                .thenReturn(List.of(FIRST_ID, SECOND_ID));
+
+            // When
+            DeleteFlashcardsResponse response = handler.handle(command(List.of(FIRST_ID, MISSING_ID, FIRST_ID, SECOND_ID)));
+
+            // Then
+            ArgumentCaptor<Collection<UUID>> ids = ArgumentCaptor.forClass(Collection.class);
+            verify(flashcardRepository).deleteAllByIdAndUserId(eq(TEST_USER_ID), ids.capture());
+            assertThat(ids.getValue()).containsExactly(FIRST_ID, MISSING_ID, SECOND_ID);
+            assertThat(response.deletedCount()).isEqualTo(2);
+            assertThat(response.notFoundIds()).containsExactly(MISSING_ID);
+            verify(duplicateDetector).removeFlashcard(TEST_USER_ID, FIRST_ID);
+            verify(instantSearch).removeFlashcard(TEST_USER_ID, SECOND_ID);
+            verify(instantSearch, never()).removeFlashcard(TEST_USER_ID, MISSING_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("Given no IDs, When deleting, Then should throw IllegalArgumentException")
+        void givenNoIds_whenDeleting_thenShouldThrowException() {
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command(List.of())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Flashcard IDs cannot be empty");
+            verifyNoInteractions(flashcardRepository);
+        }
+
+        @Test
+        @DisplayName("Given more than 10000 IDs, When deleting, Then should throw IllegalArgumentException")
+        void givenTooManyIds_whenDeleting_thenShouldThrowException() {
+            // Given
+            List<UUID> ids = Stream.generate(UUID::randomUUID).limit(10_001).toList();
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command(ids)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cannot delete more than 10000 flashcards at once");
+            verifyNoInteractions(flashcardRepository);
+        }
+
+        @Test
+        @DisplayName("Given null ID, When deleting, Then should throw IllegalArgumentException")
+        void givenNullId_whenDeleting_thenShouldThrowException() {
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command(Arrays.asList(FIRST_ID, null))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Flashcard IDs cannot contain null");
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardExportFormat;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSource;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSummaryView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static com.ten.devs.cards.cards.TestDataBuilder.FLASHCARD_CREATED_AT;
+import static com.ten.devs.cards.cards.TestDataBuilder.flashcardSummaryBuilder;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportFlashcardsCommandHandler")
+class ExportFlashcardsCommandHandlerTest {
+
+    @Mock
+    private FlashcardRepository flashcardRepository;
+
+    @InjectMocks
+    private ExportFlashcardsCommandHandler handler;
+
+    private static final UUID TEST_USER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final UUID FLASHCARD_ID = UUID.fromString("44444444-4444-4444-4444-444444444444");
+
+    private static FlashcardSummaryView flashcard(String front, String back) {
+        return flashcardSummaryBuilder(0)
+            .id(FLASHCARD_ID)
+            .frontContent(front)
+            .backContent(back)
+            .source(FlashcardSource.AI_USER)
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenDeck(FlashcardSummaryView... flashcards) {
+        doAnswer(invocation -> {
+            Consumer<FlashcardSummaryView> action = invocation.getArgument(1);
+            List.of(flashcards).forEach(action);
+            return null;
+        }).when(flashcardRepository).forEachByUserId(eq(TEST_USER_ID), any(Consumer.class));
+    }
+
+    private String export(FlashcardExportFormat format) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        handler.handle(ExportFlashcardsCommand.builder()
+            .userId(TEST_USER_ID)
+            .format(format)
+            .output(output)
+            .build());
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("Formats")
+    class Formats {
+
+        @Test
+        @DisplayName("Given content with comma, quote and line break, When exporting CSV, Then should quote fields per RFC 4180")
+        void givenSpecialCharacters_whenExportingCsv_thenShouldQuoteFields() {
+            // Given
+            givenDeck(flashcard("Capital of Poland?", "Warsaw, since 1596.\nSaid \"Warszawa\"."));
+
+            // When
+            String csv = export(FlashcardExportFormat.CSV);
+
+            // Then
+            assertThat(csv).isEqualTo(
+                "id,front_content,back_content,source,created_at,updated_at\r\n"
+                    + FLASHCARD_ID + ",Capital of Poland?,\"Warsaw, since 1596.\nSaid \"\"Warszawa\"\".\",AI_USER,"
+                    + FLASHCARD_CREATED_AT + "," + FLASHCARD_CREATED_AT + "\r\n");
+        }
+
+        @Test
+        @DisplayName("Given content with quote, backslash and line break, When exporting JSON Lines, Then should write one escaped object per line")
+        void givenSpecialCharacters_whenExportingJsonLines_thenShouldEscapeContent() {
+            // Given
+            givenDeck(flashcard("Path \"C:\\temp\"?", "Line 1\nŁódź"), flashcard("Q", "A"));
+
+            // When
+            String jsonLines = export(FlashcardExportFormat.JSON_LINES);
+
+            // Then
+            assertThat(jsonLines.split("\n")).hasSize(2);
+            assertThat(jsonLines).startsWith(
+                "{\"id\":\"" + FLASHCARD_ID + "\",\"frontContent\":\"Path \\\"C:\\\\temp\\\"?\","
+                    + "\"backContent\":\"Line 1\\nŁódź\",\"source\":\"AI_USER\","
+                    + "\"createdAt\":\"" + FLASHCARD_CREATED_AT + "\",\"updatedAt\":\"" + FLASHCARD_CREATED_AT + "\"}\n");
+        }
+
+        @Test
+        @DisplayName("Given deck, When exporting for Anki, Then should write import headers and tab-separated notes tagged with source")
+        void givenDeck_whenExportingAnki_thenShouldWriteHeadersAndTabSeparatedNotes() {
+            // Given
+            givenDeck(flashcard("Mitochondria?", "Powerhouse\tof the cell"));
+
+            // When
+            String anki = export(FlashcardExportFormat.ANKI);
+
+            // Then
+            assertThat(anki).isEqualTo(
+                "#separator:tab\n#html:false\n#notetype:Basic\n#tags column:3\n"
+                    + "Mitochondria?\t\"Powerhouse\tof the cell\"\tai_user\n");
+        }
+
+        @Test
+        @DisplayName("Given unsupported format value, When resolving format, Then should throw IllegalArgumentException")
+        void givenUnsupportedFormat_whenResolving_thenShouldThrowException() {
+            // When / Then
+            assertThat(FlashcardExportFormat.fromValue(null)).isEqualTo(FlashcardExportFormat.CSV);
+            assertThat(FlashcardExportFormat.fromValue("JSONL")).isEqualTo(FlashcardExportFormat.JSON_LINES);
+            assertThatThrownBy(() -> FlashcardExportFormat.fromValue("apkg"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported export format: apkg");
+        }
+    }
+
+    @Nested
+    @DisplayName("Streaming")
+    class Streaming {
+
+        @Test
+        @DisplayName("Given deck, When exporting, Then should return number of exported flashcards")
+        void givenDeck_whenExporting_thenShouldReturnCount() {
+            // Given
+            givenDeck(flashcard("Q1", "A1"), flashcard("Q2", "A2"), flashcard("Q3", "A3"));
+
+            // When
+            Long exported = handler.handle(ExportFlashcardsCommand.builder()
+                .userId(TEST_USER_ID)
+                .format(FlashcardExportFormat.CSV)
+                .output(OutputStream.nullOutputStream())
+                .build());
+
+            // Then
+            assertThat(exported).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("Given client disconnected, When exporting, Then should stop with UncheckedIOException")
+        void givenClientDisconnected_whenExporting_thenShouldFail() {
+            // Given
+            givenDeck(flashcard("Q1", "A1"));
+            OutputStream disconnected = new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    throw new IOException("Broken pipe");
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    throw new IOException("Broken pipe");
+                }
+            };
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(ExportFlashcardsCommand.builder()
+                .userId(TEST_USER_ID)
+                .format(FlashcardExportFormat.CSV)
+                .output(disconnected)
+                .build()))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasRootCauseMessage("Broken pipe");
+        }
+    }
+}
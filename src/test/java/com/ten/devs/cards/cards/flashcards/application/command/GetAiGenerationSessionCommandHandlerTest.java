@@ -0,0 +1,91 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionRepository;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionStatus;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionSummary;
+import com.ten.devs.cards.cards.flashcards.presentation.response.GetAiSessionResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetAiGenerationSessionCommandHandler")
+class GetAiGenerationSessionCommandHandlerTest {
+
+    @Mock
+    private AiGenerationSessionRepository sessionRepository;
+
+    @InjectMocks
+    private GetAiGenerationSessionCommandHandler handler;
+
+    private static final UUID TEST_SESSION_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final UUID TEST_USER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final UUID OTHER_USER_ID = UUID.fromString("33333333-3333-3333-3333-333333333333");
+
+    private AiGenerationSessionSummary createSummary() {
+        return AiGenerationSessionSummary.builder()
+            .id(TEST_SESSION_ID)
+            .userId(TEST_USER_ID)
+            .status(AiGenerationSessionStatus.COMPLETED)
+            .generatedCount(10)
+            .acceptedCount(4)
+            .aiModel("openai/gpt-4o-mini")
+            .apiCost(new BigDecimal("0.0125"))
+            .createdAt(Instant.parse("2025-01-15T10:30:00Z"))
+            .build();
+    }
+
+    @Test
+    @DisplayName("Given owned session, When retrieving, Then should return summary without loading the aggregate")
+    void givenOwnedSession_whenRetrieving_thenShouldReturnSummaryWithoutLoadingAggregate() {
+        // Given
+        when(sessionRepository.findSummaryById(TEST_SESSION_ID)).thenReturn(Optional.of(createSummary()));
+
+        // When
+        GetAiSessionResponse response = handler.handle(new GetAiGenerationSessionCommand(TEST_USER_ID, TEST_SESSION_ID));
+
+        // Then
+        assertThat(response.sessionId()).isEqualTo(TEST_SESSION_ID);
+        assertThat(response.status()).isEqualTo("COMPLETED");
+        assertThat(response.generatedCount()).isEqualTo(10);
+        assertThat(response.acceptedCount()).isEqualTo(4);
+        assertThat(response.apiCost()).isEqualByComparingTo("0.0125");
+        verify(sessionRepository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Given non-existent session, When retrieving, Then should throw IllegalArgumentException")
+    void givenNonExistentSession_whenRetrieving_thenShouldThrowIllegalArgumentException() {
+        // Given
+        when(sessionRepository.findSummaryById(TEST_SESSION_ID)).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> handler.handle(new GetAiGenerationSessionCommand(TEST_USER_ID, TEST_SESSION_ID)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Session not found: " + TEST_SESSION_ID);
+    }
+
+    @Test
+    @DisplayName("Given session owned by different user, When retrieving, Then should throw IllegalArgumentException")
+    void givenSessionOwnedByDifferentUser_whenRetrieving_thenShouldThrowIllegalArgumentException() {
+        // Given
+        when(sessionRepository.findSummaryById(TEST_SESSION_ID)).thenReturn(Optional.of(createSummary()));
+
+        // When/Then
+        assertThatThrownBy(() -> handler.handle(new GetAiGenerationSessionCommand(OTHER_USER_ID, TEST_SESSION_ID)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("not owned by user");
+    }
+}
@@ -0,0 +1,186 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionHistoryPage;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionHistoryQuery;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionHistoryView;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionKeyset;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionRepository;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionStatus;
+import com.ten.devs.cards.cards.flashcards.presentation.response.GetAiSessionsResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetAiSessionsCommandHandler")
+class GetAiSessionsCommandHandlerTest {
+
+    @Mock
+    private AiGenerationSessionRepository sessionRepository;
+
+    @InjectMocks
+    private GetAiSessionsCommandHandler handler;
+
+    private static final UUID TEST_USER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final Instant CREATED_AT = Instant.parse("2025-01-15T10:30:00.123456Z");
+
+    private AiGenerationSessionHistoryView createSession(int index) {
+        return AiGenerationSessionHistoryView.builder()
+            .id(UUID.randomUUID())
+            .status(AiGenerationSessionStatus.COMPLETED)
+            .generatedCount(5)
+            .acceptedCount(index)
+            .aiModel("openai/gpt-4o-mini")
+            .inputPreview("Input text " + index)
+            .createdAt(CREATED_AT.minusSeconds(index))
+            .build();
+    }
+
+    private AiGenerationSessionHistoryQuery captureHistoryQuery() {
+        ArgumentCaptor<AiGenerationSessionHistoryQuery> captor =
+            ArgumentCaptor.forClass(AiGenerationSessionHistoryQuery.class);
+        verify(sessionRepository).findHistoryPage(captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("First page")
+    class FirstPage {
+
+        @Test
+        @DisplayName("Given no parameters, When listing, Then should query first page of all statuses with default size")
+        void givenNoParameters_whenListing_thenShouldQueryFirstPageWithDefaults() {
+            // Given
+            GetAiSessionsCommand command = GetAiSessionsCommand.builder().userId(TEST_USER_ID).build();
+            when(sessionRepository.findHistoryPage(any())).thenReturn(new AiGenerationSessionHistoryPage(List.of(), null));
+
+            // When
+            handler.handle(command);
+
+            // Then
+            AiGenerationSessionHistoryQuery query = captureHistoryQuery();
+            assertThat(query.userId()).isEqualTo(TEST_USER_ID);
+            assertThat(query.status()).isNull();
+            assertThat(query.after()).isNull();
+            assertThat(query.size()).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("Given last page, When listing, Then should return sessions with preview and without next cursor")
+        void givenLastPage_whenListing_thenShouldReturnSessionsWithoutNextCursor() {
+            // Given
+            GetAiSessionsCommand command = GetAiSessionsCommand.builder().userId(TEST_USER_ID).build();
+            when(sessionRepository.findHistoryPage(any()))
+                .thenReturn(new AiGenerationSessionHistoryPage(List.of(createSession(0), createSession(1)), null));
+
+            // When
+            GetAiSessionsResponse response = handler.handle(command);
+
+            // Then
+            assertThat(response.content()).extracting(GetAiSessionsResponse.AiSessionSummary::inputPreview)
+                .containsExactly("Input text 0", "Input text 1");
+            assertThat(response.content()).extracting(GetAiSessionsResponse.AiSessionSummary::status)
+                .containsOnly("COMPLETED");
+            assertThat(response.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Given status filter, When listing, Then should query only that status")
+        void givenStatusFilter_whenListing_thenShouldQueryOnlyThatStatus() {
+            // Given
+            GetAiSessionsCommand command = GetAiSessionsCommand.builder()
+                .userId(TEST_USER_ID)
+                .status("FAILED")
+                .size(5)
+                .build();
+            when(sessionRepository.findHistoryPage(any())).thenReturn(new AiGenerationSessionHistoryPage(List.of(), null));
+
+            // When
+            handler.handle(command);
+
+            // Then
+            AiGenerationSessionHistoryQuery query = captureHistoryQuery();
+            assertThat(query.status()).isEqualTo(AiGenerationSessionStatus.FAILED);
+            assertThat(query.size()).isEqualTo(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("Cursor handling")
+    class CursorHandling {
+
+        @Test
+        @DisplayName("Given page with next keyset, When following returned cursor, Then should query from that keyset")
+        void givenPageWithNextKeyset_whenFollowingReturnedCursor_thenShouldQueryFromThatKeyset() {
+            // Given
+            AiGenerationSessionHistoryView last = createSession(1);
+            AiGenerationSessionKeyset next = AiGenerationSessionKeyset.of(last);
+            when(sessionRepository.findHistoryPage(any()))
+                .thenReturn(new AiGenerationSessionHistoryPage(List.of(createSession(0), last), next))
+                .thenReturn(new AiGenerationSessionHistoryPage(List.of(), null));
+
+            GetAiSessionsResponse firstPage = handler.handle(GetAiSessionsCommand.builder()
+                .userId(TEST_USER_ID)
+                .size(2)
+                .build());
+
+            // When
+            handler.handle(GetAiSessionsCommand.builder()
+                .userId(TEST_USER_ID)
+                .size(2)
+                .cursor(firstPage.nextCursor())
+                .build());
+
+            // Then
+            assertThat(firstPage.nextCursor()).isNotBlank();
+            ArgumentCaptor<AiGenerationSessionHistoryQuery> captor =
+                ArgumentCaptor.forClass(AiGenerationSessionHistoryQuery.class);
+            verify(sessionRepository, times(2)).findHistoryPage(captor.capture());
+            assertThat(captor.getAllValues().get(1).after()).isEqualTo(next);
+        }
+
+        @Test
+        @DisplayName("Given cursor issued for flashcard listing, When listing, Then should throw IllegalArgumentException")
+        void givenFlashcardListingCursor_whenListing_thenShouldThrowException() {
+            // Given
+            String cursor = KeysetCursorCodec.encode("createdAt,desc", CREATED_AT.toString(), UUID.randomUUID().toString());
+            GetAiSessionsCommand command = GetAiSessionsCommand.builder()
+                .userId(TEST_USER_ID)
+                .cursor(cursor)
+                .build();
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(sessionRepository);
+        }
+
+        @Test
+        @DisplayName("Given malformed cursor, When listing, Then should throw IllegalArgumentException")
+        void givenMalformedCursor_whenListing_thenShouldThrowException() {
+            // Given
+            GetAiSessionsCommand command = GetAiSessionsCommand.builder()
+                .userId(TEST_USER_ID)
+                .cursor("not-a-cursor")
+                .build();
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Malformed cursor");
+        }
+    }
+}
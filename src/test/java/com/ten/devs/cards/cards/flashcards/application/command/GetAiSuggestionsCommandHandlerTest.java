@@ -1,8 +1,11 @@
 package com.ten.devs.cards.cards.flashcards.application.command;
 
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardDuplicateDetector;
 import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSession;
 import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionRepository;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionSnapshot;
 import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionStatus;
+import com.ten.devs.cards.cards.flashcards.domain.AiSuggestionsView;
 import com.ten.devs.cards.cards.flashcards.domain.FlashcardSuggestion;
 import com.ten.devs.cards.cards.flashcards.presentation.response.GetAiSuggestionsResponse;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +23,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +34,9 @@ class GetAiSuggestionsCommandHandlerTest {
     @Mock
     private AiGenerationSessionRepository sessionRepository;
 
+    @Mock
+    private FlashcardDuplicateDetector duplicateDetector;
+
     @InjectMocks
     private GetAiSuggestionsCommandHandler handler;
 
@@ -37,6 +45,11 @@ class GetAiSuggestionsCommandHandlerTest {
     private static final UUID OTHER_USER_ID = UUID.fromString("87654321-4321-4321-4321-210987654321");
     private static final String TEST_INPUT_TEXT = "A".repeat(2000);
 
+    private AiSuggestionsView viewOf(AiGenerationSession session) {
+        AiGenerationSessionSnapshot snapshot = session.toSnapshot();
+        return new AiSuggestionsView(snapshot.id(), snapshot.userId(), snapshot.status(), snapshot.suggestions());
+    }
+
     private List<FlashcardSuggestion> createTestSuggestions(int count) {
         List<FlashcardSuggestion> suggestions = new ArrayList<>();
         for (int i = 0; i < count; i++) {
@@ -70,7 +83,7 @@ class GetAiSuggestionsCommandHandlerTest {
                 new BigDecimal("0.05")
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
 
             // When
             GetAiSuggestionsResponse response = handler.handle(command);
@@ -100,13 +113,13 @@ class GetAiSuggestionsCommandHandlerTest {
                 new BigDecimal("0.05")
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
 
             // When
             handler.handle(command);
 
             // Then - no exception thrown means ownership was verified successfully
-            verify(sessionRepository, times(1)).findById(TEST_SESSION_ID);
+            verify(sessionRepository, times(1)).findSuggestionsView(TEST_SESSION_ID);
         }
 
         @Test
@@ -125,7 +138,7 @@ class GetAiSuggestionsCommandHandlerTest {
                 new BigDecimal("0.10")
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
 
             // When
             GetAiSuggestionsResponse response = handler.handle(command);
@@ -154,7 +167,7 @@ class GetAiSuggestionsCommandHandlerTest {
                 new BigDecimal("0.05")
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
 
             // When
             GetAiSuggestionsResponse response = handler.handle(command);
@@ -164,6 +177,42 @@ class GetAiSuggestionsCommandHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Duplicate flagging")
+    class DuplicateFlagging {
+
+        @Test
+        @DisplayName("Given suggestion duplicating existing flashcard, When retrieving suggestions, Then should flag it with existing flashcard ID")
+        void givenSuggestionDuplicatingExistingFlashcard_whenRetrievingSuggestions_thenShouldFlagIt() {
+            // Given
+            GetAiSuggestionsCommand command = new GetAiSuggestionsCommand(TEST_USER_ID, TEST_SESSION_ID);
+            UUID existingFlashcardId = UUID.randomUUID();
+
+            AiGenerationSession session = AiGenerationSession.createCompleted(
+                TEST_SESSION_ID,
+                TEST_USER_ID,
+                TEST_INPUT_TEXT,
+                createTestSuggestions(2),
+                "openai/gpt-4o-mini",
+                new BigDecimal("0.05")
+            );
+
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
+            when(duplicateDetector.findDuplicate(eq(TEST_USER_ID), anyString(), anyString()))
+                .thenAnswer(invocation -> "Question 1".equals(invocation.getArgument(1))
+                    ? Optional.of(existingFlashcardId)
+                    : Optional.empty());
+
+            // When
+            GetAiSuggestionsResponse response = handler.handle(command);
+
+            // Then
+            assertThat(response.suggestions())
+                .extracting(GetAiSuggestionsResponse.FlashcardSuggestion::duplicateOfFlashcardId)
+                .containsExactly(null, existingFlashcardId);
+        }
+    }
+
     @Nested
     @DisplayName("Session status checks")
     class SessionStatusChecks {
@@ -177,7 +226,7 @@ class GetAiSuggestionsCommandHandlerTest {
 
             GetAiSuggestionsCommand command = new GetAiSuggestionsCommand(TEST_USER_ID, actualSessionId);
 
-            when(sessionRepository.findById(actualSessionId)).thenReturn(Optional.of(session));
+            when(sessionRepository.findSuggestionsView(actualSessionId)).thenReturn(Optional.of(viewOf(session)));
 
             // When
             GetAiSuggestionsResponse response = handler.handle(command);
@@ -200,7 +249,7 @@ class GetAiSuggestionsCommandHandlerTest {
                 TEST_INPUT_TEXT
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
 
             // When
             GetAiSuggestionsResponse response = handler.handle(command);
@@ -228,7 +277,7 @@ class GetAiSuggestionsCommandHandlerTest {
             session.complete(suggestions, "openai/gpt-4o-mini", new BigDecimal("0.05"));
 
             GetAiSuggestionsCommand command = new GetAiSuggestionsCommand(TEST_USER_ID, actualSessionId);
-            when(sessionRepository.findById(actualSessionId)).thenReturn(Optional.of(session));
+            when(sessionRepository.findSuggestionsView(actualSessionId)).thenReturn(Optional.of(viewOf(session)));
 
             // When
             GetAiSuggestionsResponse response = handler.handle(command);
@@ -249,7 +298,7 @@ class GetAiSuggestionsCommandHandlerTest {
             // Given
             GetAiSuggestionsCommand command = new GetAiSuggestionsCommand(TEST_USER_ID, TEST_SESSION_ID);
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.empty());
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.empty());
 
             // When/Then
             assertThatThrownBy(() -> handler.handle(command))
@@ -273,7 +322,7 @@ class GetAiSuggestionsCommandHandlerTest {
                 new BigDecimal("0.05")
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
 
             // When/Then
             assertThatThrownBy(() -> handler.handle(command))
@@ -287,7 +336,7 @@ class GetAiSuggestionsCommandHandlerTest {
             // Given
             GetAiSuggestionsCommand command = new GetAiSuggestionsCommand(TEST_USER_ID, TEST_SESSION_ID);
 
-            when(sessionRepository.findById(TEST_SESSION_ID))
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID))
                 .thenThrow(new RuntimeException("Database connection error"));
 
             // When/Then
@@ -317,7 +366,7 @@ class GetAiSuggestionsCommandHandlerTest {
                 new BigDecimal("0.01")
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
 
             // When
             GetAiSuggestionsResponse response = handler.handle(command);
@@ -354,7 +403,7 @@ class GetAiSuggestionsCommandHandlerTest {
                 new BigDecimal("0.02")
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
 
             // When
             GetAiSuggestionsResponse response = handler.handle(command);
@@ -380,7 +429,7 @@ class GetAiSuggestionsCommandHandlerTest {
                 new BigDecimal("0.05")
             );
 
-            when(sessionRepository.findById(TEST_SESSION_ID)).thenReturn(Optional.of(session));
+            when(sessionRepository.findSuggestionsView(TEST_SESSION_ID)).thenReturn(Optional.of(viewOf(session)));
 
             // When
             GetAiSuggestionsResponse response1 = handler.handle(command);
@@ -0,0 +1,146 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardChange;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardChangesPage;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardChangesQuery;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSource;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSummaryView;
+import com.ten.devs.cards.cards.flashcards.presentation.response.GetFlashcardChangesResponse;
+import com.ten.devs.cards.cards.flashcards.presentation.response.GetFlashcardsResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.ten.devs.cards.cards.TestDataBuilder.FLASHCARD_CREATED_AT;
+import static com.ten.devs.cards.cards.TestDataBuilder.flashcardSummaryBuilder;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetFlashcardChangesCommandHandler")
+class GetFlashcardChangesCommandHandlerTest {
+
+    @Mock
+    private FlashcardRepository flashcardRepository;
+
+    @InjectMocks
+    private GetFlashcardChangesCommandHandler handler;
+
+    private static final UUID TEST_USER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final UUID DELETED_ID = UUID.fromString("44444444-4444-4444-4444-444444444444");
+
+    private FlashcardChangesQuery captureChangesQuery() {
+        ArgumentCaptor<FlashcardChangesQuery> captor = ArgumentCaptor.forClass(FlashcardChangesQuery.class);
+        verify(flashcardRepository).findChanges(captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("Full sync")
+    class FullSync {
+
+        @Test
+        @DisplayName("Given no cursor, When getting changes, Then should query from the beginning with default size")
+        void givenNoCursor_whenGettingChanges_thenShouldQueryFromBeginning() {
+            // Given
+            when(flashcardRepository.findChanges(any())).thenReturn(new FlashcardChangesPage(List.of(), 0L, false));
+
+            // When
+            GetFlashcardChangesResponse response = handler.handle(GetFlashcardChangesCommand.builder()
+                .userId(TEST_USER_ID)
+                .build());
+
+            // Then
+            FlashcardChangesQuery query = captureChangesQuery();
+            assertThat(query.userId()).isEqualTo(TEST_USER_ID);
+            assertThat(query.isFullSync()).isTrue();
+            assertThat(query.size()).isEqualTo(500);
+            assertThat(response.upserted()).isEmpty();
+            assertThat(response.nextCursor()).isNotNull();
+            assertThat(response.hasMore()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Delta sync")
+    class DeltaSync {
+
+        @Test
+        @DisplayName("Given cursor of previous sync, When getting changes, Then should continue after its position")
+        void givenPreviousCursor_whenGettingChanges_thenShouldContinueAfterIt() {
+            // Given
+            FlashcardSummaryView updated = flashcardSummaryBuilder(0)
+                .source(FlashcardSource.AI_USER)
+                .updatedAt(FLASHCARD_CREATED_AT.plusSeconds(60))
+                .version(2L)
+                .build();
+            when(flashcardRepository.findChanges(any())).thenReturn(new FlashcardChangesPage(
+                List.of(FlashcardChange.upsert(41L, updated), FlashcardChange.deletion(42L, DELETED_ID)), 42L, true));
+            String previousCursor = handler.handle(GetFlashcardChangesCommand.builder()
+                .userId(TEST_USER_ID)
+                .size(2)
+                .build()).nextCursor();
+            clearInvocations(flashcardRepository);
+
+            // When
+            GetFlashcardChangesResponse response = handler.handle(GetFlashcardChangesCommand.builder()
+                .userId(TEST_USER_ID)
+                .since(previousCursor)
+                .size(2)
+                .build());
+
+            // Then
+            FlashcardChangesQuery query = captureChangesQuery();
+            assertThat(query.after()).isEqualTo(42L);
+            assertThat(query.size()).isEqualTo(2);
+            assertThat(response.upserted()).singleElement()
+                .extracting(GetFlashcardsResponse.FlashcardSummary::flashcardId,
+                    GetFlashcardsResponse.FlashcardSummary::source,
+                    GetFlashcardsResponse.FlashcardSummary::version)
+                .containsExactly(updated.id(), "AI_USER", 2L);
+            assertThat(response.deleted()).containsExactly(DELETED_ID);
+            assertThat(response.hasMore()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Given cursor of another listing, When getting changes, Then should throw IllegalArgumentException")
+        void givenCursorOfAnotherListing_whenGettingChanges_thenShouldThrowException() {
+            // Given
+            GetFlashcardChangesCommand command = GetFlashcardChangesCommand.builder()
+                .userId(TEST_USER_ID)
+                .since(KeysetCursorCodec.encode("search", "42"))
+                .build();
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not 'changes'");
+            verifyNoInteractions(flashcardRepository);
+        }
+
+        @Test
+        @DisplayName("Given malformed cursor, When getting changes, Then should throw IllegalArgumentException")
+        void givenMalformedCursor_whenGettingChanges_thenShouldThrowException() {
+            // Given
+            GetFlashcardChangesCommand command = GetFlashcardChangesCommand.builder()
+                .userId(TEST_USER_ID)
+                .since(KeysetCursorCodec.encode("changes", "latest"))
+                .build();
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Malformed cursor");
+        }
+    }
+}
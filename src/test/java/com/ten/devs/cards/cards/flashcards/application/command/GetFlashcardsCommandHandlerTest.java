@@ -0,0 +1,192 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardKeyset;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardPage;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardPageQuery;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSortOrder;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSource;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSummaryView;
+import com.ten.devs.cards.cards.flashcards.presentation.response.GetFlashcardsResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.ten.devs.cards.cards.TestDataBuilder.FLASHCARD_CREATED_AT;
+import static com.ten.devs.cards.cards.TestDataBuilder.flashcardSummary;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetFlashcardsCommandHandler")
+class GetFlashcardsCommandHandlerTest {
+
+    @Mock
+    private FlashcardRepository flashcardRepository;
+
+    @InjectMocks
+    private GetFlashcardsCommandHandler handler;
+
+    private static final UUID TEST_USER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+
+    private FlashcardPageQuery capturePageQuery() {
+        ArgumentCaptor<FlashcardPageQuery> captor = ArgumentCaptor.forClass(FlashcardPageQuery.class);
+        verify(flashcardRepository).findPage(captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("First page")
+    class FirstPage {
+
+        @Test
+        @DisplayName("Given no parameters, When listing, Then should query first page newest first with default size")
+        void givenNoParameters_whenListing_thenShouldQueryFirstPageWithDefaults() {
+            // Given
+            GetFlashcardsCommand command = GetFlashcardsCommand.builder().userId(TEST_USER_ID).build();
+            when(flashcardRepository.findPage(any())).thenReturn(new FlashcardPage(List.of(), null));
+
+            // When
+            handler.handle(command);
+
+            // Then
+            FlashcardPageQuery query = capturePageQuery();
+            assertThat(query.userId()).isEqualTo(TEST_USER_ID);
+            assertThat(query.sortOrder()).isEqualTo(FlashcardSortOrder.CREATED_AT_DESC);
+            assertThat(query.source()).isNull();
+            assertThat(query.after()).isNull();
+            assertThat(query.size()).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("Given last page, When listing, Then should return content without next cursor")
+        void givenLastPage_whenListing_thenShouldReturnContentWithoutNextCursor() {
+            // Given
+            GetFlashcardsCommand command = GetFlashcardsCommand.builder().userId(TEST_USER_ID).size(20).build();
+            when(flashcardRepository.findPage(any()))
+                .thenReturn(new FlashcardPage(List.of(flashcardSummary(0), flashcardSummary(1)), null));
+            when(flashcardRepository.countByUserId(TEST_USER_ID, null)).thenReturn(2L);
+
+            // When
+            GetFlashcardsResponse response = handler.handle(command);
+
+            // Then
+            assertThat(response.content()).extracting(GetFlashcardsResponse.FlashcardSummary::frontContent)
+                .containsExactly("Question 0", "Question 1");
+            assertThat(response.nextCursor()).isNull();
+            assertThat(response.page().totalElements()).isEqualTo(2L);
+            assertThat(response.page().totalPages()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Given source filter, When listing, Then should query and count only that source")
+        void givenSourceFilter_whenListing_thenShouldQueryAndCountOnlyThatSource() {
+            // Given
+            GetFlashcardsCommand command = GetFlashcardsCommand.builder()
+                .userId(TEST_USER_ID)
+                .source("AI")
+                .build();
+            when(flashcardRepository.findPage(any())).thenReturn(new FlashcardPage(List.of(), null));
+
+            // When
+            handler.handle(command);
+
+            // Then
+            assertThat(capturePageQuery().source()).isEqualTo(FlashcardSource.AI);
+            verify(flashcardRepository).countByUserId(TEST_USER_ID, FlashcardSource.AI);
+        }
+    }
+
+    @Nested
+    @DisplayName("Cursor handling")
+    class CursorHandling {
+
+        @Test
+        @DisplayName("Given page with next keyset, When following returned cursor, Then should query from that keyset")
+        void givenPageWithNextKeyset_whenFollowingReturnedCursor_thenShouldQueryFromThatKeyset() {
+            // Given
+            FlashcardSummaryView last = flashcardSummary(1);
+            FlashcardKeyset next = FlashcardKeyset.of(last, FlashcardSortOrder.UPDATED_AT_ASC);
+            when(flashcardRepository.findPage(any()))
+                .thenReturn(new FlashcardPage(List.of(flashcardSummary(0), last), next))
+                .thenReturn(new FlashcardPage(List.of(), null));
+
+            GetFlashcardsResponse firstPage = handler.handle(GetFlashcardsCommand.builder()
+                .userId(TEST_USER_ID)
+                .sort("updatedAt,asc")
+                .size(2)
+                .build());
+
+            // When
+            handler.handle(GetFlashcardsCommand.builder()
+                .userId(TEST_USER_ID)
+                .sort("updatedAt,asc")
+                .size(2)
+                .cursor(firstPage.nextCursor())
+                .build());
+
+            // Then
+            assertThat(firstPage.nextCursor()).isNotBlank();
+            ArgumentCaptor<FlashcardPageQuery> captor = ArgumentCaptor.forClass(FlashcardPageQuery.class);
+            verify(flashcardRepository, times(2)).findPage(captor.capture());
+            assertThat(captor.getAllValues().get(1).after()).isEqualTo(next);
+        }
+
+        @Test
+        @DisplayName("Given cursor issued for other sort order, When listing, Then should throw IllegalArgumentException")
+        void givenCursorOfOtherSortOrder_whenListing_thenShouldThrowException() {
+            // Given
+            String cursor = KeysetCursorCodec.encode("createdAt,desc", FLASHCARD_CREATED_AT.toString(), UUID.randomUUID().toString());
+            GetFlashcardsCommand command = GetFlashcardsCommand.builder()
+                .userId(TEST_USER_ID)
+                .sort("updatedAt,desc")
+                .cursor(cursor)
+                .build();
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("createdAt,desc");
+            verifyNoInteractions(flashcardRepository);
+        }
+
+        @Test
+        @DisplayName("Given malformed cursor, When listing, Then should throw IllegalArgumentException")
+        void givenMalformedCursor_whenListing_thenShouldThrowException() {
+            // Given
+            GetFlashcardsCommand command = GetFlashcardsCommand.builder()
+                .userId(TEST_USER_ID)
+                .cursor("not-a-cursor")
+                .build();
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Malformed cursor");
+        }
+
+        @Test
+        @DisplayName("Given unsupported sort order, When listing, Then should throw IllegalArgumentException")
+        void givenUnsupportedSortOrder_whenListing_thenShouldThrowException() {
+            // Given
+            GetFlashcardsCommand command = GetFlashcardsCommand.builder()
+                .userId(TEST_USER_ID)
+                .sort("frontContent,asc")
+                .build();
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported sort order");
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardDuplicateDetector;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardImportFormat;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardInstantSearch;
+import com.ten.devs.cards.cards.flashcards.domain.Flashcard;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSource;
+import com.ten.devs.cards.cards.flashcards.presentation.response.ImportFlashcardsResponse;
+import com.ten.devs.cards.cards.flashcards.presentation.response.ImportFlashcardsResponse.RowError;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportFlashcardsCommandHandler")
+class ImportFlashcardsCommandHandlerTest {
+
+    @Mock
+    private FlashcardRepository flashcardRepository;
+
+    @Mock
+    private FlashcardDuplicateDetector duplicateDetector;
+
+    @Mock
+    private FlashcardInstantSearch instantSearch;
+
+    private ImportFlashcardsCommandHandler handler;
+
+    private static final UUID TEST_USER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+
+    // Batches are copied by the repository before the handler reuses the list
+    private final List<List<Flashcard>> copiedBatches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        handler = new ImportFlashcardsCommandHandler(flashcardRepository, duplicateDetector, instantSearch, 2);
+    }
+
+    private void givenRepositoryCopiesBatches() {
+        when(flashcardRepository.copyAll(anyList())).thenAnswer(invocation -> {
+            List<Flashcard> batch = List.copyOf(invocation.getArgument(0));
+            copiedBatches.add(batch);
+            return batch.size();
+        });
+    }
+
+    private ImportFlashcardsResponse importFile(FlashcardImportFormat format, String content) {
+        return handler.handle(ImportFlashcardsCommand.builder()
+            .userId(TEST_USER_ID)
+            .format(format)
+            .input(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)))
+            .build());
+    }
+
+    private List<FlashcardSnapshot> copiedFlashcards() {
+        return copiedBatches.stream().flatMap(List::stream).map(Flashcard::toSnapshot).toList();
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("Given more valid rows than batch size, When importing, Then should copy them in batches as manual flashcards")
+        void givenMoreRowsThanBatchSize_whenImporting_thenShouldCopyInBatches() {
+            // Given
+            givenRepositoryCopiesBatches();
+            String csv = "front_content,back_content\r\nQ1,A1\r\nQ2,A2\r\nQ3,A3\r\n";
+
+            // When
+            ImportFlashcardsResponse response = importFile(FlashcardImportFormat.CSV, csv);
+
+            // Then
+            assertThat(response.importedCount()).isEqualTo(3);
+            assertThat(response.failedCount()).isZero();
+            assertThat(copiedBatches).extracting(List::size).containsExactly(2, 1);
+            assertThat(copiedFlashcards())
+                .allSatisfy(flashcard -> {
+                    assertThat(flashcard.userId()).isEqualTo(TEST_USER_ID);
+                    assertThat(flashcard.source()).isEqualTo(FlashcardSource.USER);
+                })
+                .extracting(FlashcardSnapshot::frontContent)
+                .containsExactly("Q1", "Q2", "Q3");
+            verify(duplicateDetector, times(3)).indexFlashcard(any(FlashcardSnapshot.class));
+            verify(instantSearch, times(3)).indexFlashcard(any(FlashcardSnapshot.class));
+        }
+
+        @Test
+        @DisplayName("Given export file with quoted multi-line content, When importing, Then should read content and ignore other columns")
+        void givenExportFile_whenImporting_thenShouldReadQuotedContent() {
+            // Given
+            givenRepositoryCopiesBatches();
+            String csv = "id,front_content,back_content,source\r\n"
+                + "1,\"Capital, of Poland?\",\"Warsaw\nsaid \"\"Warszawa\"\"\",AI\r\n";
+
+            // When
+            ImportFlashcardsResponse response = importFile(FlashcardImportFormat.CSV, csv);
+
+            // Then
+            assertThat(response.importedCount()).isEqualTo(1);
+            assertThat(copiedFlashcards().getFirst().frontContent()).isEqualTo("Capital, of Poland?");
+            assertThat(copiedFlashcards().getFirst().backContent()).isEqualTo("Warsaw\nsaid \"Warszawa\"");
+        }
+
+        @Test
+        @DisplayName("Given invalid rows between valid ones, When importing, Then should skip them with line numbers and import the rest")
+        void givenInvalidRows_whenImporting_thenShouldReportThemAndImportRest() {
+            // Given
+            givenRepositoryCopiesBatches();
+            String csv = "front,back\n"
+                + "\"Multi\nline\",A1\n"
+                + ",A2\n"
+                + "only front\n"
+                + "Q4," + "x".repeat(1001) + "\n"
+                + "Q5,A5\n";
+
+            // When
+            ImportFlashcardsResponse response = importFile(FlashcardImportFormat.CSV, csv);
+
+            // Then
+            assertThat(response.importedCount()).isEqualTo(2);
+            assertThat(response.failedCount()).isEqualTo(3);
+            assertThat(response.errors()).extracting(RowError::line).containsExactly(4L, 5L, 6L);
+            assertThat(response.errors()).extracting(RowError::message)
+                .containsExactly(
+                    "Front content cannot be null or empty",
+                    "Row has 1 columns, expected at least 2",
+                    "Back content cannot exceed 1000 characters. Current: 1001");
+            assertThat(copiedFlashcards()).extracting(FlashcardSnapshot::frontContent)
+                .containsExactly("Multi\nline", "Q5");
+        }
+
+        @Test
+        @DisplayName("Given header without content columns, When importing, Then should throw IllegalArgumentException")
+        void givenHeaderWithoutContentColumns_whenImporting_thenShouldThrowException() {
+            // When / Then
+            assertThatThrownBy(() -> importFile(FlashcardImportFormat.CSV, "question,answer\nQ1,A1\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("CSV header has no front_content column");
+            verifyNoInteractions(flashcardRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON Lines")
+    class JsonLines {
+
+        @Test
+        @DisplayName("Given malformed and incomplete lines, When importing, Then should skip them and import valid objects")
+        void givenMalformedLines_whenImporting_thenShouldSkipThem() {
+            // Given
+            givenRepositoryCopiesBatches();
+            String jsonLines = "{\"frontContent\":\"Q1\",\"backContent\":\"A1\",\"source\":\"AI\"}\n"
+                + "{\"frontContent\":\"Q2\"\n"
+                + "\n"
+                + "{\"frontContent\":\"Q3\"}\n"
+                + "[1,2]\n"
+                + "{\"frontContent\":\"Ł\\u00f3d\\u017a\",\"backContent\":\"A5\\u0000\"}\n";
+
+            // When
+            ImportFlashcardsResponse response = importFile(FlashcardImportFormat.JSON_LINES, jsonLines);
+
+            // Then
+            assertThat(response.importedCount()).isEqualTo(1);
+            assertThat(response.failedCount()).isEqualTo(4);
+            assertThat(response.errors()).extracting(RowError::line).containsExactly(2L, 4L, 5L, 6L);
+            assertThat(response.errors().get(0).message()).startsWith("Malformed JSON");
+            assertThat(response.errors().get(1).message()).isEqualTo("Back content cannot be null or empty");
+            assertThat(response.errors().get(2).message()).isEqualTo("Line is not a JSON object");
+            assertThat(response.errors().get(3).message()).isEqualTo("Content cannot contain NUL characters");
+        }
+
+        @Test
+        @DisplayName("Given only invalid rows, When importing, Then should not touch repository")
+        void givenOnlyInvalidRows_whenImporting_thenShouldNotTouchRepository() {
+            // When
+            ImportFlashcardsResponse response = importFile(FlashcardImportFormat.JSON_LINES, "not json\n");
+
+            // Then
+            assertThat(response.importedCount()).isZero();
+            assertThat(response.failedCount()).isEqualTo(1);
+            verifyNoInteractions(flashcardRepository, duplicateDetector, instantSearch);
+        }
+    }
+
+    @Test
+    @DisplayName("Given more invalid rows than reported, When importing, Then should count all but report first 100")
+    void givenManyInvalidRows_whenImporting_thenShouldReportFirstHundred() {
+        // Given
+        String csv = "front,back\n" + ",A\n".repeat(150);
+
+        // When
+        ImportFlashcardsResponse response = importFile(FlashcardImportFormat.CSV, csv);
+
+        // Then
+        assertThat(response.failedCount()).isEqualTo(150);
+        assertThat(response.errors()).hasSize(100);
+        verifyNoInteractions(flashcardRepository);
+    }
+}
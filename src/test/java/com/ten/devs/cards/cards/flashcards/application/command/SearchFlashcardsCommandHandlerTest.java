@@ -0,0 +1,178 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSearchKeyset;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSearchPage;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSearchQuery;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSummaryView;
+import com.ten.devs.cards.cards.flashcards.presentation.response.GetFlashcardsResponse;
+import com.ten.devs.cards.cards.flashcards.presentation.response.SearchFlashcardsResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.ten.devs.cards.cards.TestDataBuilder.FLASHCARD_CREATED_AT;
+import static com.ten.devs.cards.cards.TestDataBuilder.flashcardSummary;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchFlashcardsCommandHandler")
+class SearchFlashcardsCommandHandlerTest {
+
+    @Mock
+    private FlashcardRepository flashcardRepository;
+
+    @InjectMocks
+    private SearchFlashcardsCommandHandler handler;
+
+    private static final UUID TEST_USER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+
+    private FlashcardSearchQuery captureSearchQuery() {
+        ArgumentCaptor<FlashcardSearchQuery> captor = ArgumentCaptor.forClass(FlashcardSearchQuery.class);
+        verify(flashcardRepository).search(captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("First page")
+    class FirstPage {
+
+        @Test
+        @DisplayName("Given search text only, When searching, Then should query first page with default size")
+        void givenSearchTextOnly_whenSearching_thenShouldQueryFirstPageWithDefaults() {
+            // Given
+            SearchFlashcardsCommand command = SearchFlashcardsCommand.builder()
+                .userId(TEST_USER_ID)
+                .query("photosynthesis")
+                .build();
+            when(flashcardRepository.search(any())).thenReturn(new FlashcardSearchPage(List.of(), null));
+
+            // When
+            handler.handle(command);
+
+            // Then
+            FlashcardSearchQuery query = captureSearchQuery();
+            assertThat(query.userId()).isEqualTo(TEST_USER_ID);
+            assertThat(query.text()).isEqualTo("photosynthesis");
+            assertThat(query.after()).isNull();
+            assertThat(query.size()).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("Given last page, When searching, Then should return content in ranked order without next cursor")
+        void givenLastPage_whenSearching_thenShouldReturnContentWithoutNextCursor() {
+            // Given
+            SearchFlashcardsCommand command = SearchFlashcardsCommand.builder()
+                .userId(TEST_USER_ID)
+                .query("photosynthesis")
+                .build();
+            when(flashcardRepository.search(any()))
+                .thenReturn(new FlashcardSearchPage(List.of(flashcardSummary(1), flashcardSummary(0)), null));
+
+            // When
+            SearchFlashcardsResponse response = handler.handle(command);
+
+            // Then
+            assertThat(response.content()).extracting(GetFlashcardsResponse.FlashcardSummary::frontContent)
+                .containsExactly("Question 1", "Question 0");
+            assertThat(response.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Given blank search text, When searching, Then should throw IllegalArgumentException")
+        void givenBlankSearchText_whenSearching_thenShouldThrowException() {
+            // Given
+            SearchFlashcardsCommand command = SearchFlashcardsCommand.builder()
+                .userId(TEST_USER_ID)
+                .query("   ")
+                .build();
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Search text cannot be blank");
+            verifyNoInteractions(flashcardRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Cursor handling")
+    class CursorHandling {
+
+        @Test
+        @DisplayName("Given page with next keyset, When following returned cursor, Then should query from exactly that keyset")
+        void givenPageWithNextKeyset_whenFollowingReturnedCursor_thenShouldQueryFromThatKeyset() {
+            // Given
+            FlashcardSummaryView last = flashcardSummary(1);
+            FlashcardSearchKeyset next = new FlashcardSearchKeyset(0.0607927f, last.id());
+            when(flashcardRepository.search(any()))
+                .thenReturn(new FlashcardSearchPage(List.of(flashcardSummary(0), last), next))
+                .thenReturn(new FlashcardSearchPage(List.of(), null));
+
+            SearchFlashcardsResponse firstPage = handler.handle(SearchFlashcardsCommand.builder()
+                .userId(TEST_USER_ID)
+                .query("photosynthesis")
+                .size(2)
+                .build());
+
+            // When
+            handler.handle(SearchFlashcardsCommand.builder()
+                .userId(TEST_USER_ID)
+                .query("photosynthesis")
+                .size(2)
+                .cursor(firstPage.nextCursor())
+                .build());
+
+            // Then
+            assertThat(firstPage.nextCursor()).isNotBlank();
+            ArgumentCaptor<FlashcardSearchQuery> captor = ArgumentCaptor.forClass(FlashcardSearchQuery.class);
+            verify(flashcardRepository, times(2)).search(captor.capture());
+            assertThat(captor.getAllValues().get(1).after()).isEqualTo(next);
+        }
+
+        @Test
+        @DisplayName("Given cursor issued for flashcard listing, When searching, Then should throw IllegalArgumentException")
+        void givenCursorOfFlashcardListing_whenSearching_thenShouldThrowException() {
+            // Given
+            String cursor = KeysetCursorCodec.encode("createdAt,desc", FLASHCARD_CREATED_AT.toString(), UUID.randomUUID().toString());
+            SearchFlashcardsCommand command = SearchFlashcardsCommand.builder()
+                .userId(TEST_USER_ID)
+                .query("photosynthesis")
+                .cursor(cursor)
+                .build();
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("createdAt,desc");
+            verifyNoInteractions(flashcardRepository);
+        }
+
+        @Test
+        @DisplayName("Given cursor with malformed rank, When searching, Then should throw IllegalArgumentException")
+        void givenCursorWithMalformedRank_whenSearching_thenShouldThrowException() {
+            // Given
+            String cursor = KeysetCursorCodec.encode("search", "high", UUID.randomUUID().toString());
+            SearchFlashcardsCommand command = SearchFlashcardsCommand.builder()
+                .userId(TEST_USER_ID)
+                .query("photosynthesis")
+                .cursor(cursor)
+                .build();
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Malformed cursor");
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.ten.devs.cards.cards.flashcards.application.command;
+
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardDuplicateDetector;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardInstantSearch;
+import com.ten.devs.cards.cards.flashcards.domain.Flashcard;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardNotFoundException;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSource;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardVersionConflictException;
+import com.ten.devs.cards.cards.flashcards.presentation.response.UpdateFlashcardResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UpdateFlashcardCommandHandler")
+class UpdateFlashcardCommandHandlerTest {
+
+    @Mock
+    private FlashcardRepository flashcardRepository;
+
+    @Mock
+    private FlashcardDuplicateDetector duplicateDetector;
+
+    @Mock
+    private FlashcardInstantSearch instantSearch;
+
+    @InjectMocks
+    private UpdateFlashcardCommandHandler handler;
+
+    private static final UUID TEST_USER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final UUID OTHER_USER_ID = UUID.fromString("33333333-3333-3333-3333-333333333333");
+    private static final UUID FLASHCARD_ID = UUID.fromString("44444444-4444-4444-4444-444444444444");
+    private static final UUID SESSION_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final Instant CREATED_AT = Instant.parse("2025-01-15T10:30:00Z");
+
+    private static Flashcard storedFlashcard(UUID userId, FlashcardSource source, long version) {
+        return Flashcard.fromSnapshot(FlashcardSnapshot.builder()
+            .id(FLASHCARD_ID)
+            .userId(userId)
+            .frontContent("Updated question?")
+            .backContent("Updated answer.")
+            .source(source)
+            .generationSessionId(SESSION_ID)
+            .createdAt(CREATED_AT)
+            .updatedAt(CREATED_AT.plusSeconds(60))
+            .version(version)
+            .build());
+    }
+
+    private static UpdateFlashcardCommand command(Long expectedVersion) {
+        return UpdateFlashcardCommand.builder()
+            .userId(TEST_USER_ID)
+            .flashcardId(FLASHCARD_ID)
+            .frontContent("Updated question?")
+            .backContent("Updated answer.")
+            .expectedVersion(expectedVersion)
+            .build();
+    }
+
+    @Nested
+    @DisplayName("Successful update")
+    class SuccessfulUpdate {
+
+        @Test
+        @DisplayName("Given current version, When updating, Then should update in one statement and return new version")
+        void givenCurrentVersion_whenUpdating_thenShouldReturnNewVersion() {
+            // Given
+            Flashcard updated = storedFlashcard(TEST_USER_ID, FlashcardSource.AI_USER, 4L);
+            when(flashcardRepository.updateContent(
+                FLASHCARD_ID, TEST_USER_ID, "Updated question?", "Updated answer.", 3L))
+                .thenReturn(Optional.of(updated));
+
+            // When
+            UpdateFlashcardResponse response = handler.handle(command(3L));
+
+            // Then
+            assertThat(response.flashcardId()).isEqualTo(FLASHCARD_ID);
+            assertThat(response.source()).isEqualTo("AI_USER");
+            assertThat(response.version()).isEqualTo(4L);
+            verify(flashcardRepository, never()).findById(any());
+            verify(duplicateDetector).indexFlashcard(updated.toSnapshot());
+            verify(instantSearch).indexFlashcard(updated.toSnapshot());
+        }
+
+        @Test
+        @DisplayName("Given no expected version, When updating, Then should update unconditionally")
+        void givenNoExpectedVersion_whenUpdating_thenShouldUpdateUnconditionally() {
+            // Given
+            when(flashcardRepository.updateContent(
+                FLASHCARD_ID, TEST_USER_ID, "Updated question?", "Updated answer.", null))
+                .thenReturn(Optional.of(storedFlashcard(TEST_USER_ID, FlashcardSource.USER, 8L)));
+
+            // When
+            UpdateFlashcardResponse response = handler.handle(command(null));
+
+            // Then
+            assertThat(response.source()).isEqualTo("USER");
+            assertThat(response.version()).isEqualTo(8L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Rejected update")
+    class RejectedUpdate {
+
+        @Test
+        @DisplayName("Given stale version, When updating, Then should throw FlashcardVersionConflictException with current version")
+        void givenStaleVersion_whenUpdating_thenShouldThrowConflict() {
+            // Given
+            when(flashcardRepository.updateContent(any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+            when(flashcardRepository.findById(FLASHCARD_ID))
+                .thenReturn(Optional.of(storedFlashcard(TEST_USER_ID, FlashcardSource.AI_USER, 5L)));
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command(3L)))
+                .isInstanceOfSatisfying(FlashcardVersionConflictException.class, conflict -> {
+                    assertThat(conflict.getExpectedVersion()).isEqualTo(3L);
+                    assertThat(conflict.getCurrentVersion()).isEqualTo(5L);
+                });
+            verifyNoInteractions(duplicateDetector, instantSearch);
+        }
+
+        @Test
+        @DisplayName("Given flashcard of another user, When updating, Then should throw FlashcardNotFoundException without revealing it exists")
+        void givenOtherUsersFlashcard_whenUpdating_thenShouldThrowNotFound() {
+            // Given
+            when(flashcardRepository.updateContent(any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+            when(flashcardRepository.findById(FLASHCARD_ID))
+                .thenReturn(Optional.of(storedFlashcard(OTHER_USER_ID, FlashcardSource.AI, 0L)));
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command(0L)))
+                .isInstanceOf(FlashcardNotFoundException.class)
+                .hasMessage("Flashcard not found: " + FLASHCARD_ID);
+            verifyNoInteractions(duplicateDetector, instantSearch);
+        }
+
+        @Test
+        @DisplayName("Given flashcard of another user and no expected version, When updating, Then should throw FlashcardNotFoundException")
+        void givenOtherUsersFlashcardAndNoExpectedVersion_whenUpdating_thenShouldThrowNotFound() {
+            // Given
+            when(flashcardRepository.updateContent(any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+            when(flashcardRepository.findById(FLASHCARD_ID))
+                .thenReturn(Optional.of(storedFlashcard(OTHER_USER_ID, FlashcardSource.USER, 4L)));
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command(null)))
+                .isInstanceOf(FlashcardNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("Given missing flashcard, When updating, Then should throw IllegalArgumentException")
+        void givenMissingFlashcard_whenUpdating_thenShouldThrowException() {
+            // Given
+            when(flashcardRepository.updateContent(any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+            when(flashcardRepository.findById(FLASHCARD_ID)).thenReturn(Optional.empty());
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command(null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Flashcard not found");
+        }
+
+        @Test
+        @DisplayName("Given no expected version and flashcard deleted concurrently, When updating, Then should throw FlashcardNotFoundException")
+        void givenNoExpectedVersionAndConcurrentDelete_whenUpdating_thenShouldThrowNotFound() {
+            // Given
+            when(flashcardRepository.updateContent(any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+            when(flashcardRepository.findById(FLASHCARD_ID))
+                .thenReturn(Optional.of(storedFlashcard(TEST_USER_ID, FlashcardSource.USER, 2L)));
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command(null)))
+                .isInstanceOf(FlashcardNotFoundException.class)
+                .hasMessageContaining(FLASHCARD_ID.toString());
+            verifyNoInteractions(duplicateDetector, instantSearch);
+        }
+
+        @Test
+        @DisplayName("Given content too long, When updating, Then should throw IllegalArgumentException without touching repository")
+        void givenContentTooLong_whenUpdating_thenShouldNotTouchRepository() {
+            // Given
+            UpdateFlashcardCommand command = UpdateFlashcardCommand.builder()
+                .userId(TEST_USER_ID)
+                .flashcardId(FLASHCARD_ID)
+                .frontContent("Q")
+                .backContent("x".repeat(1001))
+                .build();
+
+            // When / Then
+            assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Back content cannot exceed 1000 characters");
+            verifyNoInteractions(flashcardRepository);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import com.ten.devs.cards.cards.TestDataBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AiInputTextCodec")
+class AiInputTextCodecTest {
+
+    private static final String POLISH_TEXT = "Zażółć gęślą jaźń. Mikołaj Kopernik urodził się w Toruniu w 1473 roku. ";
+
+    @Nested
+    @DisplayName("DEFLATE")
+    class DeflateCodec {
+
+        @Test
+        @DisplayName("Given maximum length input text, When encoding and decoding, Then should restore text and compress it")
+        void givenMaxInputText_whenEncodingAndDecoding_thenShouldRestoreAndCompress() {
+            // Given
+            byte[] utf8 = TestDataBuilder.maxInputText().getBytes(StandardCharsets.UTF_8);
+
+            // When
+            byte[] encoded = AiInputTextCodec.DEFLATE.encode(utf8);
+            byte[] decoded = AiInputTextCodec.DEFLATE.decode(encoded, utf8.length);
+
+            // Then
+            assertThat(decoded).isEqualTo(utf8);
+            assertThat(encoded.length).isLessThan(utf8.length / 4);
+        }
+
+        @Test
+        @DisplayName("Given multi-byte characters, When encoding and decoding, Then should restore exact text")
+        void givenMultiByteCharacters_whenEncodingAndDecoding_thenShouldRestoreExactText() {
+            // Given
+            byte[] utf8 = POLISH_TEXT.repeat(20).getBytes(StandardCharsets.UTF_8);
+
+            // When
+            byte[] decoded = AiInputTextCodec.DEFLATE.decode(AiInputTextCodec.DEFLATE.encode(utf8), utf8.length);
+
+            // Then
+            assertThat(new String(decoded, StandardCharsets.UTF_8)).isEqualTo(POLISH_TEXT.repeat(20));
+        }
+
+        @Test
+        @DisplayName("Given truncated content, When decoding, Then should throw IllegalStateException")
+        void givenTruncatedContent_whenDecoding_thenShouldThrowException() {
+            // Given
+            byte[] utf8 = TestDataBuilder.minInputText().getBytes(StandardCharsets.UTF_8);
+            byte[] encoded = AiInputTextCodec.DEFLATE.encode(utf8);
+            byte[] truncated = Arrays.copyOf(encoded, encoded.length / 2);
+
+            // When / Then
+            assertThatThrownBy(() -> AiInputTextCodec.DEFLATE.decode(truncated, utf8.length))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Corrupted input text");
+        }
+    }
+
+    @Nested
+    @DisplayName("NONE")
+    class NoneCodec {
+
+        @Test
+        @DisplayName("Given UTF-8 text, When encoding and decoding, Then should keep bytes unchanged")
+        void givenUtf8Text_whenEncodingAndDecoding_thenShouldKeepBytesUnchanged() {
+            // Given
+            byte[] utf8 = POLISH_TEXT.getBytes(StandardCharsets.UTF_8);
+
+            // When / Then
+            assertThat(AiInputTextCodec.NONE.encode(utf8)).isEqualTo(utf8);
+            assertThat(AiInputTextCodec.NONE.decode(utf8, utf8.length)).isEqualTo(utf8);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import com.ten.devs.cards.cards.IntegrationTestBase;
+import com.ten.devs.cards.cards.TestDataBuilder;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSession;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSuggestion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AiSessionRetentionJob (integration)")
+class AiSessionRetentionJobIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private AiSessionRetentionJob retentionJob;
+
+    @Autowired
+    private AiGenerationSessionRepository sessionRepository;
+
+    @Autowired
+    private AiGenerationSessionJpaRepository jpaRepository;
+
+    @Autowired
+    private AiGenerationSessionMapper mapper;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = TestDataBuilder.randomUserId();
+        jdbcTemplate.update("INSERT INTO users (id, username, password, email) VALUES (?, ?, ?, ?)",
+            userId, TestDataBuilder.randomUsername(), TestDataBuilder.testPassword(), TestDataBuilder.randomEmail());
+    }
+
+    private UUID createFailed(String inputText) {
+        UUID sessionId = UUID.randomUUID();
+        sessionRepository.create(AiGenerationSession.createFailed(sessionId, userId, inputText));
+        return sessionId;
+    }
+
+    private UUID createCompleted(AiGenerationSessionRepository repository, String inputText) {
+        UUID sessionId = UUID.randomUUID();
+        repository.create(AiGenerationSession.createCompleted(
+            sessionId, userId, inputText,
+            IntStream.range(0, 2)
+                .mapToObj(i -> new FlashcardSuggestion(null, sessionId, "Question " + i, "Answer " + i))
+                .toList(),
+            "openai/gpt-4o-mini", BigDecimal.ZERO));
+        return sessionId;
+    }
+
+    // Moves a session and its suggestions back in time, past the retention ages
+    private void age(UUID sessionId, int days) {
+        jdbcTemplate.update("UPDATE ai_generation_sessions SET created_at = created_at - make_interval(days => ?) WHERE id = ?",
+            days, sessionId);
+        jdbcTemplate.update("UPDATE flashcard_suggestions SET created_at = created_at - make_interval(days => ?) WHERE session_id = ?",
+            days, sessionId);
+    }
+
+    private boolean sessionExists(UUID sessionId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM ai_generation_sessions WHERE id = ?)", Boolean.class, sessionId);
+    }
+
+    private byte[] inputHash(UUID sessionId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT input_hash FROM ai_generation_sessions WHERE id = ?", byte[].class, sessionId);
+    }
+
+    private int count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, args);
+    }
+
+    @Nested
+    @DisplayName("Failed sessions")
+    class FailedSessions {
+
+        @Test
+        @DisplayName("Given old FAILED sessions, When purging, Then should delete them and archive only unreferenced input texts")
+        void givenOldFailedSessions_whenPurging_thenShouldDeleteThemAndArchiveUnreferencedTexts() {
+            // Given
+            UUID orphaning = createFailed(TestDataBuilder.randomInputText(1000));
+            UUID sharing = createFailed(TestDataBuilder.randomInputText(1001));
+            UUID sharedWith = createCompleted(sessionRepository, TestDataBuilder.randomInputText(1001));
+            UUID recent = createFailed(TestDataBuilder.randomInputText(1002));
+            age(orphaning, 8);
+            age(sharing, 8);
+            byte[] orphanedHash = inputHash(orphaning);
+            byte[] sharedHash = inputHash(sharing);
+
+            // When
+            retentionJob.purge();
+
+            // Then
+            assertThat(sessionExists(orphaning)).isFalse();
+            assertThat(sessionExists(sharing)).isFalse();
+            assertThat(sessionExists(sharedWith)).isTrue();
+            assertThat(sessionExists(recent)).isTrue();
+            assertThat(count("SELECT count(*) FROM ai_input_texts WHERE user_id = ? AND content_hash = ?",
+                userId, orphanedHash)).isZero();
+            assertThat(count("SELECT count(*) FROM ai_input_texts_archive WHERE user_id = ? AND content_hash = ?",
+                userId, orphanedHash)).isEqualTo(1);
+            assertThat(count("SELECT count(*) FROM ai_input_texts WHERE user_id = ? AND content_hash = ?",
+                userId, sharedHash)).isEqualTo(1);
+            assertThat(count("SELECT count(*) FROM ai_input_texts_archive WHERE user_id = ?", userId)).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Expired suggestions")
+    class ExpiredSuggestions {
+
+        @Test
+        @DisplayName("Given old suggestions in both layouts, When purging, Then should expire them and keep the sessions")
+        void givenOldSuggestionsInBothLayouts_whenPurging_thenShouldExpireThemAndKeepSessions() {
+            // Given
+            SqlDbAiGenerationSessionRepository jsonbRepository = new SqlDbAiGenerationSessionRepository(
+                jpaRepository, mapper, jdbcClient, new CompletedAiSessionCache(new SimpleMeterRegistry(), 0, Duration.ofDays(30), Clock.systemUTC()),
+                SuggestionsStorage.JSONB);
+            UUID oldTable = createCompleted(sessionRepository, TestDataBuilder.randomInputText(1000));
+            UUID oldJson = createCompleted(jsonbRepository, TestDataBuilder.randomInputText(1001));
+            UUID recentTable = createCompleted(sessionRepository, TestDataBuilder.randomInputText(1002));
+            UUID recentJson = createCompleted(jsonbRepository, TestDataBuilder.randomInputText(1003));
+            age(oldTable, 31);
+            age(oldJson, 31);
+
+            // When
+            retentionJob.purge();
+
+            // Then
+            assertThat(count("SELECT count(*) FROM flashcard_suggestions WHERE session_id = ?", oldTable)).isZero();
+            assertThat(count("SELECT count(*) FROM flashcard_suggestions WHERE session_id = ?", recentTable)).isEqualTo(2);
+            assertThat(count("SELECT jsonb_array_length(suggestions_json) FROM ai_generation_sessions WHERE id = ?",
+                oldJson)).isZero();
+            assertThat(count("SELECT jsonb_array_length(suggestions_json) FROM ai_generation_sessions WHERE id = ?",
+                recentJson)).isEqualTo(2);
+            assertThat(sessionExists(oldTable)).isTrue();
+            assertThat(sessionExists(oldJson)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Advisory lock")
+    class AdvisoryLock {
+
+        @Test
+        @DisplayName("Given retention lock held by another node, When purging, Then should skip the run")
+        void givenLockHeldElsewhere_whenPurging_thenShouldSkipRun() throws Exception {
+            // Given
+            UUID old = createFailed(TestDataBuilder.randomInputText(1000));
+            age(old, 8);
+
+            try (Connection otherNode = dataSource.getConnection(); Statement statement = otherNode.createStatement()) {
+                statement.execute("SELECT pg_advisory_lock(hashtext('cards.ai-sessions.retention'))");
+
+                // When
+                retentionJob.purge();
+
+                // Then
+                assertThat(sessionExists(old)).isTrue();
+                statement.execute("SELECT pg_advisory_unlock(hashtext('cards.ai-sessions.retention'))");
+            }
+
+            // When lock is free again
+            retentionJob.purge();
+
+            // Then
+            assertThat(sessionExists(old)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import com.ten.devs.cards.cards.flashcards.infrastructure.db.AiSessionRetentionJob.Batch;
+import com.ten.devs.cards.cards.flashcards.infrastructure.db.AiSessionRetentionJob.Task;
+import com.ten.devs.cards.cards.flashcards.infrastructure.db.CompletedAiSessionCache.CompletedAiSession;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Batching loop of AiSessionRetentionJob - batch statements are replaced by scripted results
+ * (see AiSessionRetentionJobIntegrationTest for the statements themselves)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AiSessionRetentionJob")
+class AiSessionRetentionJobTest {
+
+    private static final int BATCH_SIZE = 3;
+    private static final UUID FIRST_ID = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID SECOND_ID = UUID.fromString("00000000-0000-0000-0000-000000000006");
+    private static final UUID START = new UUID(0L, 0L);
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection lockConnection;
+
+    @Mock
+    private PreparedStatement lockStatement;
+
+    @Mock
+    private ResultSet lockResult;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CompletedAiSessionCache completedSessions;
+    private ScriptedRetentionJob job;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        completedSessions = new CompletedAiSessionCache(meterRegistry, 10, Duration.ofDays(30), Clock.systemUTC());
+        job = new ScriptedRetentionJob();
+
+        when(dataSource.getConnection()).thenReturn(lockConnection);
+        when(lockConnection.prepareStatement(anyString())).thenReturn(lockStatement);
+        when(lockStatement.executeQuery()).thenReturn(lockResult);
+        when(lockResult.next()).thenReturn(true);
+    }
+
+    private static Batch batch(int processed, UUID lastId) {
+        return new Batch(processed, lastId, 0, List.of());
+    }
+
+    private double rows(String task) {
+        return meterRegistry.get("cards.ai.sessions.retention.rows").tag("task", task).counter().count();
+    }
+
+    /**
+     * Answers batch statements from a script per task; a task without (more) script gets an empty batch
+     */
+    private class ScriptedRetentionJob extends AiSessionRetentionJob {
+
+        private final Map<String, Deque<Batch>> script = new HashMap<>();
+        private final List<String> executed = new ArrayList<>();
+
+        ScriptedRetentionJob() {
+            super(mock(JdbcClient.class), dataSource, completedSessions, meterRegistry,
+                Duration.ofDays(7), Duration.ofDays(30), BATCH_SIZE, Duration.ZERO);
+        }
+
+        ScriptedRetentionJob returns(String task, Batch... batches) {
+            script.put(task, new ArrayDeque<>(List.of(batches)));
+            return this;
+        }
+
+        @Override
+        Batch runBatch(Task task, Instant cutoff, UUID afterId) {
+            executed.add(task.name() + " after " + afterId);
+            Deque<Batch> batches = script.get(task.name());
+            return batches != null && !batches.isEmpty() ? batches.poll() : batch(0, null);
+        }
+    }
+
+    @Nested
+    @DisplayName("Batching")
+    class Batching {
+
+        @Test
+        @DisplayName("Given full batches followed by a short one, When purging, Then should continue after the last id until the short batch")
+        void givenFullBatchesThenShortOne_whenPurging_thenShouldStopAfterShortBatch() throws Exception {
+            // Given
+            when(lockResult.getBoolean(1)).thenReturn(true);
+            job.returns("failed-sessions", batch(3, FIRST_ID), batch(3, SECOND_ID), batch(1, null));
+
+            // When
+            job.purge();
+
+            // Then
+            assertThat(job.executed).containsExactly(
+                "failed-sessions after " + START,
+                "failed-sessions after " + FIRST_ID,
+                "failed-sessions after " + SECOND_ID,
+                "expired-suggestions after " + START,
+                "expired-suggestions-json after " + START);
+            assertThat(rows("failed-sessions")).isEqualTo(7.0);
+        }
+
+        @Test
+        @DisplayName("Given batch shortened by rows skipped as locked, When purging, Then should leave the rest for the next run")
+        void givenBatchShortenedBySkippedLockedRows_whenPurging_thenShouldStopTask() throws Exception {
+            // Given - 2 of 3 rows processed, the third one was locked by a user (SKIP LOCKED)
+            when(lockResult.getBoolean(1)).thenReturn(true);
+            job.returns("expired-suggestions", batch(2, FIRST_ID), batch(3, SECOND_ID));
+
+            // When
+            job.purge();
+
+            // Then
+            assertThat(job.executed).filteredOn(statement -> statement.startsWith("expired-suggestions after"))
+                .containsExactly("expired-suggestions after " + START);
+            assertThat(rows("expired-suggestions")).isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("Given nothing to purge, When purging, Then should run one batch per task")
+        void givenNothingToPurge_whenPurging_thenShouldRunOneBatchPerTask() throws Exception {
+            // Given
+            when(lockResult.getBoolean(1)).thenReturn(true);
+
+            // When
+            job.purge();
+
+            // Then
+            assertThat(job.executed).containsExactly(
+                "failed-sessions after " + START,
+                "expired-suggestions after " + START,
+                "expired-suggestions-json after " + START);
+        }
+
+        @Test
+        @DisplayName("Given batch with expired sessions and archived texts, When purging, Then should evict sessions and count archived texts")
+        void givenExpiredSessions_whenPurging_thenShouldEvictThemAndCountArchivedTexts() throws Exception {
+            // Given
+            when(lockResult.getBoolean(1)).thenReturn(true);
+            UUID sessionId = UUID.randomUUID();
+            completedSessions.put(sessionId, new CompletedAiSession(
+                UUID.randomUUID(), 0, "openai/gpt-4o-mini", BigDecimal.ZERO, Instant.now(), List.of()));
+            job.returns("failed-sessions", new Batch(1, FIRST_ID, 1, List.of()))
+                .returns("expired-suggestions-json", new Batch(1, sessionId, 0, List.of(sessionId)));
+
+            // When
+            job.purge();
+
+            // Then
+            assertThat(completedSessions.get(sessionId)).isEmpty();
+            assertThat(rows("archived-input-texts")).isEqualTo(1.0);
+            assertThat(rows("expired-suggestions-json")).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Advisory lock")
+    class AdvisoryLock {
+
+        @Test
+        @DisplayName("Given lock held by another node, When purging, Then should skip the run")
+        void givenLockHeldElsewhere_whenPurging_thenShouldSkipRun() throws Exception {
+            // Given
+            when(lockResult.getBoolean(1)).thenReturn(false);
+
+            // When
+            job.purge();
+
+            // Then
+            assertThat(job.executed).isEmpty();
+            verify(lockConnection).prepareStatement("SELECT pg_try_advisory_lock(hashtext(?))");
+            verify(lockConnection, never()).prepareStatement("SELECT pg_advisory_unlock(hashtext(?))");
+            verify(lockConnection).close();
+        }
+
+        @Test
+        @DisplayName("Given lock acquired, When purging, Then should release it after the run")
+        void givenLockAcquired_whenPurging_thenShouldReleaseIt() throws Exception {
+            // Given
+            when(lockResult.getBoolean(1)).thenReturn(true);
+
+            // When
+            job.purge();
+
+            // Then
+            verify(lockConnection).prepareStatement("SELECT pg_advisory_unlock(hashtext(?))");
+            verify(lockConnection).close();
+        }
+    }
+}
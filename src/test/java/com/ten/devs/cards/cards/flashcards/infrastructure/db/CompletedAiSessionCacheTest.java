@@ -0,0 +1,146 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSuggestion;
+import com.ten.devs.cards.cards.flashcards.infrastructure.db.CompletedAiSessionCache.CompletedAiSession;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CompletedAiSessionCache")
+class CompletedAiSessionCacheTest {
+
+    private static final UUID TEST_USER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final Instant CREATED_AT = Instant.parse("2025-01-15T10:30:00Z");
+    private static final Duration SUGGESTIONS_MAX_AGE = Duration.ofDays(30);
+
+    private SimpleMeterRegistry meterRegistry;
+    private CompletedAiSessionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CompletedAiSessionCache(meterRegistry, 2, SUGGESTIONS_MAX_AGE,
+            Clock.fixed(CREATED_AT.plus(Duration.ofDays(1)), ZoneOffset.UTC));
+    }
+
+    private CompletedAiSession completedSession(UUID sessionId) {
+        return new CompletedAiSession(
+            TEST_USER_ID,
+            1,
+            "openai/gpt-4o-mini",
+            new BigDecimal("0.0100"),
+            CREATED_AT,
+            List.of(new FlashcardSuggestion(UUID.randomUUID(), sessionId, "Question", "Answer")));
+    }
+
+    @Nested
+    @DisplayName("Lookups")
+    class Lookups {
+
+        @Test
+        @DisplayName("Given cached session, When looking it up, Then should return it and count a hit")
+        void givenCachedSession_whenLookingUp_thenShouldReturnItAndCountHit() {
+            // Given
+            UUID sessionId = UUID.randomUUID();
+            CompletedAiSession session = completedSession(sessionId);
+            cache.put(sessionId, session);
+
+            // When / Then
+            assertThat(cache.get(sessionId)).contains(session);
+            assertThat(meterRegistry.get("cards.ai.sessions.cache.gets").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Given one hit and one miss, When reading hit ratio metric, Then should be one half")
+        void givenOneHitAndOneMiss_whenReadingHitRatio_thenShouldBeOneHalf() {
+            // Given
+            UUID sessionId = UUID.randomUUID();
+            cache.put(sessionId, completedSession(sessionId));
+
+            // When
+            cache.get(sessionId);
+            cache.get(UUID.randomUUID());
+
+            // Then
+            assertThat(meterRegistry.get("cards.ai.sessions.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+            assertThat(meterRegistry.get("cards.ai.sessions.cache.gets").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Given no lookups, When reading hit ratio metric, Then should be zero")
+        void givenNoLookups_whenReadingHitRatio_thenShouldBeZero() {
+            assertThat(meterRegistry.get("cards.ai.sessions.cache.hit.ratio").gauge().value()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction")
+    class Eviction {
+
+        @Test
+        @DisplayName("Given full cache, When caching another session, Then should evict least recently used session")
+        void givenFullCache_whenCachingAnotherSession_thenShouldEvictLeastRecentlyUsed() {
+            // Given
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            UUID third = UUID.randomUUID();
+            cache.put(first, completedSession(first));
+            cache.put(second, completedSession(second));
+            cache.get(first);
+
+            // When
+            cache.put(third, completedSession(third));
+
+            // Then
+            assertThat(cache.get(second)).isEmpty();
+            assertThat(cache.get(first)).isPresent();
+            assertThat(cache.get(third)).isPresent();
+            assertThat(meterRegistry.get("cards.ai.sessions.cache.size").gauge().value()).isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("Given cached session, When evicting it, Then should not return it anymore")
+        void givenCachedSession_whenEvicting_thenShouldNotReturnIt() {
+            // Given
+            UUID sessionId = UUID.randomUUID();
+            cache.put(sessionId, completedSession(sessionId));
+
+            // When
+            cache.evict(sessionId);
+
+            // Then
+            assertThat(cache.get(sessionId)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Given session old enough for its suggestions to be expired, When looking it up, Then should evict it and count a miss")
+        void givenSessionPastSuggestionsMaxAge_whenLookingUp_thenShouldEvictItAndCountMiss() {
+            // Given - the retention job may have expired the suggestions on another instance
+            meterRegistry = new SimpleMeterRegistry();
+            cache = new CompletedAiSessionCache(meterRegistry, 2, SUGGESTIONS_MAX_AGE,
+                Clock.fixed(CREATED_AT.plus(SUGGESTIONS_MAX_AGE), ZoneOffset.UTC));
+            UUID sessionId = UUID.randomUUID();
+            cache.put(sessionId, completedSession(sessionId));
+
+            // When / Then
+            assertThat(cache.get(sessionId)).isEmpty();
+            assertThat(meterRegistry.get("cards.ai.sessions.cache.gets").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+            assertThat(meterRegistry.get("cards.ai.sessions.cache.size").gauge().value()).isZero();
+        }
+    }
+}
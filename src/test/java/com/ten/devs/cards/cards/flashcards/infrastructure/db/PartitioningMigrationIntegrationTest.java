@@ -0,0 +1,409 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import com.ten.devs.cards.cards.IntegrationTestBase;
+import com.ten.devs.cards.cards.TestDataBuilder;
+import jakarta.persistence.EntityManagerFactory;
+import liquibase.Liquibase;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.integration.spring.SpringLiquibase;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.SelectableMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.postgresql.Driver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs the 'partitioning' Liquibase context (tables/005) on a database migrated with the default contexts,
+ * the way a deployment enables it. Every test gets its own database in the shared container -
+ * partitioning cannot be undone for the application's test database.
+ */
+@DisplayName("Partitioning migration (integration)")
+class PartitioningMigrationIntegrationTest extends IntegrationTestBase {
+
+    private static final String CHANGE_LOG = "db/changelog/liquibase/changelog-master.xml";
+    private static final String DEFAULT_CONTEXTS = "core,performance,security,data";
+    private static final List<String> PARTITIONED_TABLES =
+        List.of("ai_generation_sessions", "flashcards", "flashcard_suggestions");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String databaseName;
+    private SimpleDriverDataSource dataSource;
+    private JdbcTemplate database;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        databaseName = "partitioning_" + UUID.randomUUID().toString().replace("-", "");
+        jdbcTemplate.execute("CREATE DATABASE " + databaseName);
+
+        dataSource = new SimpleDriverDataSource(new Driver(),
+            postgreSQLContainer.getJdbcUrl().replace("/" + postgreSQLContainer.getDatabaseName(), "/" + databaseName),
+            postgreSQLContainer.getUsername(),
+            postgreSQLContainer.getPassword());
+        database = new JdbcTemplate(dataSource);
+        migrate(DEFAULT_CONTEXTS);
+
+        userId = insertUser();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + databaseName + " WITH (FORCE)");
+    }
+
+    private void migrate(String contexts) throws Exception {
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:" + CHANGE_LOG);
+        liquibase.setContexts(contexts);
+        liquibase.setChangeLogParameters(Map.of("flashcards.search.language", "english"));
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+    }
+
+    private void partition() throws Exception {
+        migrate(DEFAULT_CONTEXTS + ",partitioning");
+    }
+
+    @SuppressWarnings("deprecation")
+    private void rollbackLastChangeSet(String contexts) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            Liquibase liquibase = new Liquibase(CHANGE_LOG, new ClassLoaderResourceAccessor(), new JdbcConnection(connection));
+            liquibase.setChangeLogParameter("flashcards.search.language", "english");
+            liquibase.rollback(1, contexts);
+        }
+    }
+
+    private UUID insertUser() {
+        UUID id = TestDataBuilder.randomUserId();
+        database.update("INSERT INTO users (id, username, password, email) VALUES (?, ?, ?, ?)",
+            id, TestDataBuilder.randomUsername(), TestDataBuilder.testPassword(), TestDataBuilder.randomEmail());
+        return id;
+    }
+
+    private UUID insertSession(UUID owner) {
+        UUID id = UUID.randomUUID();
+        database.update("""
+                INSERT INTO ai_generation_sessions (id, user_id, input_text, status, generated_count)
+                VALUES (?, ?, ?, 'COMPLETED', 2)
+                """,
+            id, owner, TestDataBuilder.minInputText());
+        return id;
+    }
+
+    private UUID insertSuggestion(UUID sessionId, UUID owner) {
+        UUID id = UUID.randomUUID();
+        database.update("""
+                INSERT INTO flashcard_suggestions (id, session_id, user_id, front_content, back_content)
+                VALUES (?, ?, ?, 'Suggested question', 'Suggested answer')
+                """,
+            id, sessionId, owner);
+        return id;
+    }
+
+    private UUID insertFlashcard(UUID owner, UUID generationSessionId) {
+        UUID id = UUID.randomUUID();
+        database.update("""
+                INSERT INTO flashcards (id, user_id, front_content, back_content, source, generation_session_id)
+                VALUES (?, ?, 'Question', 'Answer', ?, ?)
+                """,
+            id, owner, generationSessionId != null ? "AI" : "USER", generationSessionId);
+        return id;
+    }
+
+    private UUID insertFlashcard(String front, String back) {
+        UUID id = UUID.randomUUID();
+        database.update("""
+                INSERT INTO flashcards (id, user_id, front_content, back_content, source)
+                VALUES (?, ?, ?, ?, 'USER')
+                """,
+            id, userId, front, back);
+        return id;
+    }
+
+    // Two users, each with a session, its suggestions, one AI and one manual flashcard
+    private void seedUsers() {
+        for (UUID owner : List.of(userId, insertUser())) {
+            UUID sessionId = insertSession(owner);
+            insertSuggestion(sessionId, owner);
+            insertSuggestion(sessionId, owner);
+            insertFlashcard(owner, sessionId);
+            insertFlashcard(owner, null);
+        }
+    }
+
+    private List<Map<String, Object>> rows(String table) {
+        return database.queryForList("SELECT * FROM " + table + " ORDER BY id");
+    }
+
+    private List<String> secondaryIndexes(String table) {
+        return database.queryForList("""
+                SELECT replace(pg_get_indexdef(indexrelid), ' ON ONLY ', ' ON ') FROM pg_index
+                WHERE indrelid = CAST(? AS regclass) AND NOT indisprimary
+                ORDER BY 1
+                """,
+            String.class, table);
+    }
+
+    private List<String> triggers(String table) {
+        return database.queryForList("""
+                SELECT tgname FROM pg_trigger
+                WHERE tgrelid = CAST(? AS regclass) AND NOT tgisinternal
+                ORDER BY 1
+                """,
+            String.class, table);
+    }
+
+    private List<Map<String, Object>> policies(String table) {
+        return database.queryForList("""
+                SELECT policyname, permissive, roles::text, cmd, qual, with_check FROM pg_policies
+                WHERE tablename = ?
+                ORDER BY policyname
+                """,
+            table);
+    }
+
+    private Map<String, Object> rowSecurity(String table) {
+        return database.queryForMap(
+            "SELECT relrowsecurity, relforcerowsecurity FROM pg_class WHERE oid = CAST(? AS regclass)", table);
+    }
+
+    @Nested
+    @DisplayName("Partitioned tables")
+    class PartitionedTables {
+
+        @Test
+        @DisplayName("Given users with sessions, suggestions and flashcards, When partitioning, Then should keep every row and counter")
+        void givenSeededUsers_whenPartitioning_thenShouldKeepEveryRow() throws Exception {
+            // Given
+            seedUsers();
+            Map<String, List<Map<String, Object>>> before = PARTITIONED_TABLES.stream()
+                .collect(Collectors.toMap(table -> table, PartitioningMigrationIntegrationTest.this::rows));
+            List<Map<String, Object>> counters = database.queryForList("SELECT * FROM flashcard_counters ORDER BY user_id");
+
+            // When
+            partition();
+
+            // Then
+            for (String table : PARTITIONED_TABLES) {
+                assertThat(database.queryForObject(
+                    "SELECT count(*) FROM pg_partitioned_table WHERE partrelid = CAST(? AS regclass)", Integer.class, table))
+                    .as("%s partitioned", table)
+                    .isEqualTo(1);
+                assertThat(database.queryForObject(
+                    "SELECT count(*) FROM pg_inherits WHERE inhparent = CAST(? AS regclass)", Integer.class, table))
+                    .as("%s partitions", table)
+                    .isEqualTo(16);
+                assertThat(rows(table)).as("%s rows", table).isEqualTo(before.get(table));
+            }
+            assertThat(database.queryForList("SELECT * FROM flashcard_counters ORDER BY user_id")).isEqualTo(counters);
+        }
+
+        @Test
+        @DisplayName("Given migrated tables, When partitioning, Then should keep their indexes, triggers and policies")
+        void givenMigratedTables_whenPartitioning_thenShouldKeepSchemaObjects() throws Exception {
+            // Given
+            Map<String, List<Object>> before = PARTITIONED_TABLES.stream()
+                .collect(Collectors.toMap(table -> table, table -> List.of(
+                    secondaryIndexes(table), triggers(table), policies(table), rowSecurity(table))));
+
+            // When
+            partition();
+
+            // Then
+            for (String table : PARTITIONED_TABLES) {
+                assertThat(List.<Object>of(secondaryIndexes(table), triggers(table), policies(table), rowSecurity(table)))
+                    .as("%s indexes, triggers, policies, row security", table)
+                    .isEqualTo(before.get(table));
+            }
+            assertThat(triggers("flashcards")).contains("trg_flashcards_counters_insert", "trg_flashcards_changes_write");
+            assertThat(triggers("flashcard_suggestions")).contains("trg_flashcard_suggestions_fill_user_id");
+            assertThat(policies("flashcards")).isNotEmpty();
+        }
+
+        @Test
+        @DisplayName("Given partitioned tables, When reading foreign keys, Then should reference sessions by id and user_id")
+        void givenPartitionedTables_whenReadingForeignKeys_thenShouldBeComposite() throws Exception {
+            // When
+            partition();
+
+            // Then
+            assertThat(database.queryForList("""
+                    SELECT conname || ': ' || pg_get_constraintdef(oid) FROM pg_constraint
+                    WHERE conname IN ('fk_flashcards_generation_session_id', 'fk_suggestions_session')
+                      AND conparentid = 0
+                    ORDER BY conname
+                    """, String.class))
+                .containsExactly(
+                    "fk_flashcards_generation_session_id: FOREIGN KEY (generation_session_id, user_id) "
+                        + "REFERENCES ai_generation_sessions(id, user_id) ON UPDATE RESTRICT ON DELETE SET NULL (generation_session_id)",
+                    "fk_suggestions_session: FOREIGN KEY (session_id, user_id) "
+                        + "REFERENCES ai_generation_sessions(id, user_id) ON UPDATE CASCADE ON DELETE CASCADE");
+        }
+
+        @Test
+        @DisplayName("Given partitioned session with suggestions and flashcard, When deleting session, Then should cascade suggestions and keep flashcard owner")
+        void givenPartitionedSession_whenDeletingIt_thenShouldApplyCompositeForeignKeyActions() throws Exception {
+            // Given
+            partition();
+            UUID sessionId = insertSession(userId);
+            insertSuggestion(sessionId, userId);
+            UUID flashcardId = insertFlashcard(userId, sessionId);
+
+            // When
+            database.update("DELETE FROM ai_generation_sessions WHERE id = ? AND user_id = ?", sessionId, userId);
+
+            // Then
+            assertThat(database.queryForObject(
+                "SELECT count(*) FROM flashcard_suggestions WHERE session_id = ?", Integer.class, sessionId)).isZero();
+            assertThat(database.queryForMap(
+                "SELECT user_id, generation_session_id FROM flashcards WHERE id = ?", flashcardId))
+                .containsEntry("user_id", userId)
+                .containsEntry("generation_session_id", null);
+        }
+
+        @Test
+        @DisplayName("Given partitioned entities, When reading Hibernate mapping, Then should mark user_id as partition key")
+        void givenPartitionedEntities_whenReadingMapping_thenShouldMarkUserIdAsPartitionKey() {
+            // Given
+            SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+            // When / Then
+            for (Class<?> entity : List.of(AiGenerationSessionEntity.class, FlashcardEntity.class, FlashcardSuggestionEntity.class)) {
+                EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(entity);
+                assertThat(persister.hasPartitionedSelectionMapping()).as(entity.getSimpleName()).isTrue();
+                assertThat(((SelectableMapping) persister.findAttributeMapping("userId")).isPartitioned())
+                    .as("%s.userId", entity.getSimpleName())
+                    .isTrue();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Suggestion owner")
+    class SuggestionOwner {
+
+        @Test
+        @DisplayName("Given suggestion inserted without user_id, When inserting, Then should take owner from session")
+        void givenSuggestionWithoutUserId_whenInserting_thenShouldTakeOwnerFromSession() {
+            // Given
+            UUID sessionId = insertSession(userId);
+
+            // When
+            database.update("""
+                    INSERT INTO flashcard_suggestions (id, session_id, front_content, back_content)
+                    VALUES (?, ?, 'Question', 'Answer')
+                    """,
+                UUID.randomUUID(), sessionId);
+
+            // Then
+            assertThat(database.queryForObject(
+                "SELECT user_id FROM flashcard_suggestions WHERE session_id = ?", UUID.class, sessionId))
+                .isEqualTo(userId);
+        }
+
+        @Test
+        @DisplayName("Given sessions converted to JSONB layout, When rolling back conversion, Then should restore suggestions with owner")
+        void givenJsonbConversion_whenRollingBack_thenShouldRestoreSuggestionsWithOwner() throws Exception {
+            // Given
+            UUID sessionId = insertSession(userId);
+            insertSuggestion(sessionId, userId);
+            insertSuggestion(sessionId, userId);
+            migrate(DEFAULT_CONTEXTS + ",suggestions-jsonb");
+            assertThat(database.queryForObject("SELECT count(*) FROM flashcard_suggestions", Integer.class)).isZero();
+
+            // When
+            rollbackLastChangeSet(DEFAULT_CONTEXTS + ",suggestions-jsonb");
+
+            // Then
+            assertThat(database.queryForList(
+                "SELECT user_id FROM flashcard_suggestions WHERE session_id = ?", UUID.class, sessionId))
+                .containsExactly(userId, userId);
+            assertThat(database.queryForObject(
+                "SELECT suggestions_json IS NULL FROM ai_generation_sessions WHERE id = ?", Boolean.class, sessionId))
+                .isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Generated columns")
+    class GeneratedColumns {
+
+        @Test
+        @DisplayName("Given search_vector added before partitioning, When partitioning, Then should keep it generated and indexed")
+        void givenSearchVectorBeforePartitioning_whenPartitioning_thenShouldKeepItGenerated() throws Exception {
+            // Given
+            UUID existing = insertFlashcard("What is photosynthesis?", "Light to chemical energy");
+
+            // When
+            partition();
+            UUID inserted = insertFlashcard("Plant biology", "Leaves run photosynthesis");
+            database.update("UPDATE flashcards SET back_content = 'Chlorophyll absorbs light' WHERE id = ?", existing);
+
+            // Then
+            assertThat(database.queryForObject("""
+                    SELECT attgenerated FROM pg_attribute
+                    WHERE attrelid = 'flashcards'::regclass AND attname = 'search_vector'
+                    """, String.class))
+                .isEqualTo("s");
+            assertThat(database.queryForList("""
+                    SELECT id FROM flashcards
+                    WHERE user_id = ? AND search_vector @@ websearch_to_tsquery(flashcards_search_config(), ?)
+                    """, UUID.class, userId, "photosynthesis"))
+                .containsExactlyInAnyOrder(existing, inserted);
+            assertThat(database.queryForObject("""
+                    SELECT count(*) FROM flashcards
+                    WHERE search_vector @@ websearch_to_tsquery(flashcards_search_config(), 'chlorophyll')
+                    """, Integer.class))
+                .isEqualTo(1);
+            assertThat(database.queryForObject(
+                "SELECT to_regclass('idx_flashcards_user_search') IS NOT NULL", Boolean.class))
+                .isTrue();
+        }
+
+        @Test
+        @DisplayName("Given partitioned flashcards, When rebuilding them as a plain table, Then should recompute search_vector instead of copying it")
+        void givenPartitionedFlashcards_whenRebuilding_thenShouldKeepSearchVectorGenerated() throws Exception {
+            // Given
+            partition();
+            UUID id = insertFlashcard("What is photosynthesis?", "Light to chemical energy");
+
+            // When
+            database.execute("ALTER TABLE flashcards DROP CONSTRAINT fk_flashcards_generation_session_id");
+            database.queryForObject("SELECT rebuild_table_by_user('flashcards', 0)", Object.class);
+            database.update("UPDATE flashcards SET front_content = 'What is chlorophyll?' WHERE id = ?", id);
+
+            // Then
+            assertThat(database.queryForObject(
+                "SELECT count(*) FROM pg_partitioned_table WHERE partrelid = 'flashcards'::regclass", Integer.class))
+                .isZero();
+            assertThat(database.queryForObject("""
+                    SELECT count(*) FROM flashcards
+                    WHERE search_vector @@ websearch_to_tsquery(flashcards_search_config(), 'chlorophyll')
+                    """, Integer.class))
+                .isEqualTo(1);
+        }
+    }
+}
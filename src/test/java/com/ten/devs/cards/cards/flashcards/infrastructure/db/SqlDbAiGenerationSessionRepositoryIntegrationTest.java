@@ -0,0 +1,491 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import com.ten.devs.cards.cards.IntegrationTestBase;
+import com.ten.devs.cards.cards.TestDataBuilder;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSession;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionHistoryPage;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionHistoryQuery;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionHistoryView;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionId;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionRepository;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionSnapshot;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionStatus;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionSummary;
+import com.ten.devs.cards.cards.flashcards.domain.Flashcard;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSource;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSuggestion;
+import com.ten.devs.cards.cards.flashcards.domain.SuggestionApproval;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SqlDbAiGenerationSessionRepository (integration)")
+class SqlDbAiGenerationSessionRepositoryIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private AiGenerationSessionRepository sessionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AiGenerationSessionJpaRepository jpaRepository;
+
+    @Autowired
+    private AiGenerationSessionMapper mapper;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = TestDataBuilder.randomUserId();
+        jdbcTemplate.update("INSERT INTO users (id, username, password, email) VALUES (?, ?, ?, ?)",
+            userId, TestDataBuilder.randomUsername(), TestDataBuilder.testPassword(), TestDataBuilder.randomEmail());
+    }
+
+    @Nested
+    @DisplayName("create()")
+    class Create {
+
+        @Test
+        @Transactional
+        @DisplayName("Given completed session with 25 suggestions, When creating, Then should persist session and all suggestions")
+        void givenCompletedSession_whenCreating_thenShouldPersistSessionAndSuggestions() {
+            // Given
+            UUID sessionId = UUID.randomUUID();
+            List<FlashcardSuggestion> suggestions = IntStream.range(0, 25)
+                .mapToObj(i -> new FlashcardSuggestion(null, sessionId, "Question " + i, "Answer " + i))
+                .toList();
+            AiGenerationSession session = AiGenerationSession.createCompleted(
+                sessionId, userId, TestDataBuilder.minInputText(), suggestions, "openai/gpt-4o-mini", new BigDecimal("0.0125"));
+
+            // When
+            AiGenerationSession created = sessionRepository.create(session);
+
+            // Then
+            assertThat(created.getSuggestions()).hasSize(25).allSatisfy(suggestion -> {
+                assertThat(suggestion.id()).isNotNull();
+                assertThat(suggestion.sessionId()).isEqualTo(sessionId);
+            });
+
+            AiGenerationSessionSnapshot loaded = sessionRepository.findById(sessionId).orElseThrow().toSnapshot();
+            assertThat(loaded.status()).isEqualTo(AiGenerationSessionStatus.COMPLETED);
+            assertThat(loaded.generatedCount()).isEqualTo(25);
+            assertThat(loaded.apiCost()).isEqualByComparingTo("0.0125");
+            assertThat(loaded.suggestions())
+                .extracting(FlashcardSuggestion::frontContent)
+                .containsExactlyInAnyOrderElementsOf(suggestions.stream().map(FlashcardSuggestion::frontContent).toList());
+        }
+
+        @Test
+        @Transactional
+        @DisplayName("Given failed session without suggestions, When creating, Then should persist session row")
+        void givenFailedSession_whenCreating_thenShouldPersistSessionRow() {
+            // Given
+            UUID sessionId = UUID.randomUUID();
+            AiGenerationSession session = AiGenerationSession.createFailed(sessionId, userId, TestDataBuilder.minInputText());
+
+            // When
+            sessionRepository.create(session);
+
+            // Then
+            AiGenerationSessionSnapshot loaded = sessionRepository.findById(sessionId).orElseThrow().toSnapshot();
+            assertThat(loaded.status()).isEqualTo(AiGenerationSessionStatus.FAILED);
+            assertThat(loaded.suggestions()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("approveSuggestions()")
+    class ApproveSuggestions {
+
+        private UUID sessionId;
+        private List<FlashcardSuggestion> suggestions;
+
+        @BeforeEach
+        void createSession() {
+            sessionId = UUID.randomUUID();
+            List<FlashcardSuggestion> generated = IntStream.range(0, 3)
+                .mapToObj(i -> new FlashcardSuggestion(null, sessionId, "Question " + i, "Answer " + i))
+                .toList();
+            suggestions = sessionRepository.create(AiGenerationSession.createCompleted(
+                sessionId, userId, TestDataBuilder.minInputText(), generated, "openai/gpt-4o-mini", BigDecimal.ZERO))
+                .getSuggestions();
+        }
+
+        @Test
+        @Transactional
+        @DisplayName("Given approvals with edits, When approving, Then should create flashcards and increment accepted count")
+        void givenApprovalsWithEdits_whenApproving_thenShouldCreateFlashcardsAndIncrementAcceptedCount() {
+            // Given
+            List<SuggestionApproval> approvals = List.of(
+                new SuggestionApproval(UUID.randomUUID(), suggestions.get(0).id(), null, null, FlashcardSource.AI),
+                new SuggestionApproval(UUID.randomUUID(), suggestions.get(2).id(), "Edited", null, FlashcardSource.AI_USER)
+            );
+
+            // When
+            List<Flashcard> created = sessionRepository.approveSuggestions(sessionId, userId, approvals);
+
+            // Then
+            assertThat(created).extracting(Flashcard::toSnapshot)
+                .extracting(FlashcardSnapshot::id, FlashcardSnapshot::frontContent, FlashcardSnapshot::backContent)
+                .containsExactly(
+                    tuple(approvals.get(0).flashcardId(), suggestions.get(0).frontContent(), suggestions.get(0).backContent()),
+                    tuple(approvals.get(1).flashcardId(), "Edited", suggestions.get(2).backContent()));
+            assertThat(sessionRepository.findById(sessionId).orElseThrow().toSnapshot().acceptedCount()).isEqualTo(2);
+        }
+
+        @Test
+        @Transactional
+        @DisplayName("Given session of other user, When approving, Then should write nothing")
+        void givenSessionOfOtherUser_whenApproving_thenShouldWriteNothing() {
+            // Given
+            List<SuggestionApproval> approvals = List.of(
+                new SuggestionApproval(UUID.randomUUID(), suggestions.get(0).id(), null, null, FlashcardSource.AI));
+
+            // When
+            List<Flashcard> created = sessionRepository.approveSuggestions(sessionId, UUID.randomUUID(), approvals);
+
+            // Then
+            assertThat(created).isEmpty();
+            assertThat(sessionRepository.findById(sessionId).orElseThrow().toSnapshot().acceptedCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("findSummaryById()")
+    class FindSummaryById {
+
+        @Test
+        @Transactional
+        @DisplayName("Given completed session, When finding summary, Then should return status and metrics")
+        void givenCompletedSession_whenFindingSummary_thenShouldReturnStatusAndMetrics() {
+            // Given
+            UUID sessionId = UUID.randomUUID();
+            sessionRepository.create(AiGenerationSession.createCompleted(
+                sessionId, userId, TestDataBuilder.minInputText(),
+                List.of(new FlashcardSuggestion(null, sessionId, "Question", "Answer")),
+                "openai/gpt-4o-mini", new BigDecimal("0.0100")));
+
+            // When
+            AiGenerationSessionSummary summary = sessionRepository.findSummaryById(sessionId).orElseThrow();
+
+            // Then
+            assertThat(summary.userId()).isEqualTo(userId);
+            assertThat(summary.status()).isEqualTo(AiGenerationSessionStatus.COMPLETED);
+            assertThat(summary.generatedCount()).isEqualTo(1);
+            assertThat(summary.acceptedCount()).isZero();
+            assertThat(summary.aiModel()).isEqualTo("openai/gpt-4o-mini");
+        }
+
+        @Test
+        @DisplayName("Given unknown session, When finding summary, Then should return empty")
+        void givenUnknownSession_whenFindingSummary_thenShouldReturnEmpty() {
+            assertThat(sessionRepository.findSummaryById(UUID.randomUUID())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("findHistoryPage()")
+    class FindHistoryPage {
+
+        private UUID createSession(AiGenerationSession session) {
+            sessionRepository.create(session);
+            return session.toSnapshot().id();
+        }
+
+        private AiGenerationSession failedSession(String inputText, Instant createdAt) {
+            return AiGenerationSession.fromSnapshot(AiGenerationSessionSnapshot.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .inputText(inputText)
+                .suggestions(List.of())
+                .generatedCount(0)
+                .acceptedCount(0)
+                .status(AiGenerationSessionStatus.FAILED)
+                .createdAt(createdAt)
+                .build());
+        }
+
+        @Test
+        @DisplayName("Given three sessions, When paging by two, Then should return newest first with short previews")
+        void givenThreeSessions_whenPagingByTwo_thenShouldReturnNewestFirst() {
+            // Given
+            Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+            UUID oldest = createSession(failedSession(TestDataBuilder.maxInputText(), now.minusSeconds(2)));
+            UUID middle = createSession(failedSession(TestDataBuilder.minInputText(), now.minusSeconds(1)));
+            UUID newest = createSession(failedSession(TestDataBuilder.minInputText(), now));
+
+            // When
+            AiGenerationSessionHistoryPage first = sessionRepository.findHistoryPage(
+                AiGenerationSessionHistoryQuery.builder().userId(userId).size(2).build());
+            AiGenerationSessionHistoryPage second = sessionRepository.findHistoryPage(
+                AiGenerationSessionHistoryQuery.builder().userId(userId).after(first.next()).size(2).build());
+
+            // Then
+            assertThat(first.content()).extracting(AiGenerationSessionHistoryView::id).containsExactly(newest, middle);
+            assertThat(first.hasNext()).isTrue();
+            assertThat(second.content()).extracting(AiGenerationSessionHistoryView::id).containsExactly(oldest);
+            assertThat(second.hasNext()).isFalse();
+            assertThat(second.content().getFirst().inputPreview())
+                .hasSize(AiGenerationSessionHistoryView.INPUT_PREVIEW_LENGTH)
+                .isEqualTo(TestDataBuilder.maxInputText().substring(0, AiGenerationSessionHistoryView.INPUT_PREVIEW_LENGTH));
+        }
+
+        @Test
+        @DisplayName("Given sessions of different statuses, When filtering by status, Then should return only that status")
+        void givenSessionsOfDifferentStatuses_whenFilteringByStatus_thenShouldReturnOnlyThatStatus() {
+            // Given
+            UUID completed = UUID.randomUUID();
+            createSession(AiGenerationSession.createCompleted(
+                completed, userId, TestDataBuilder.minInputText(),
+                List.of(new FlashcardSuggestion(null, completed, "Question", "Answer")),
+                "openai/gpt-4o-mini", BigDecimal.ZERO));
+            createSession(AiGenerationSession.createFailed(UUID.randomUUID(), userId, TestDataBuilder.minInputText()));
+
+            // When
+            AiGenerationSessionHistoryPage page = sessionRepository.findHistoryPage(AiGenerationSessionHistoryQuery.builder()
+                .userId(userId)
+                .status(AiGenerationSessionStatus.COMPLETED)
+                .size(20)
+                .build());
+
+            // Then
+            assertThat(page.content()).singleElement().satisfies(session -> {
+                assertThat(session.id()).isEqualTo(completed);
+                assertThat(session.generatedCount()).isEqualTo(1);
+            });
+            assertThat(page.hasNext()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("findInputText()")
+    class FindInputText {
+
+        @Test
+        @DisplayName("Given created session, When finding input text, Then should return text not carried by loaded session")
+        void givenCreatedSession_whenFindingInputText_thenShouldReturnText() {
+            // Given
+            UUID sessionId = UUID.randomUUID();
+            String inputText = TestDataBuilder.maxInputText();
+            sessionRepository.create(AiGenerationSession.createFailed(sessionId, userId, inputText));
+
+            // When
+            String found = sessionRepository.findInputText(sessionId).orElseThrow();
+
+            // Then
+            assertThat(found).isEqualTo(inputText);
+            assertThat(sessionRepository.findById(sessionId).orElseThrow().toSnapshot().inputText()).isNull();
+        }
+
+        @Test
+        @DisplayName("Given same text submitted twice, When creating sessions, Then should store one compressed text")
+        void givenSameTextSubmittedTwice_whenCreatingSessions_thenShouldStoreOneCompressedText() {
+            // Given
+            String inputText = TestDataBuilder.maxInputText();
+
+            // When
+            sessionRepository.create(AiGenerationSession.createFailed(UUID.randomUUID(), userId, inputText));
+            sessionRepository.create(AiGenerationSession.createFailed(UUID.randomUUID(), userId, inputText));
+
+            // Then
+            Integer texts = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM ai_input_texts WHERE user_id = ?", Integer.class, userId);
+            Integer storedSize = jdbcTemplate.queryForObject(
+                "SELECT octet_length(content) FROM ai_input_texts WHERE user_id = ?", Integer.class, userId);
+            assertThat(texts).isEqualTo(1);
+            assertThat(storedSize).isLessThan(inputText.length() / 4);
+        }
+
+        @Test
+        @DisplayName("Given session stored with inline input text, When finding input text, Then should return inline text")
+        void givenSessionWithInlineInputText_whenFindingInputText_thenShouldReturnInlineText() {
+            // Given
+            UUID sessionId = UUID.randomUUID();
+            String inputText = TestDataBuilder.minInputText();
+            jdbcTemplate.update(
+                "INSERT INTO ai_generation_sessions (id, user_id, input_text, status) VALUES (?, ?, ?, 'FAILED')",
+                sessionId, userId, inputText);
+
+            // When / Then
+            assertThat(sessionRepository.findInputText(sessionId)).contains(inputText);
+        }
+
+        @Test
+        @DisplayName("Given unknown session, When finding input text, Then should return empty")
+        void givenUnknownSession_whenFindingInputText_thenShouldReturnEmpty() {
+            assertThat(sessionRepository.findInputText(UUID.randomUUID())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Completed session cache")
+    class CompletedSessionCache {
+
+        @Test
+        @DisplayName("Given approved suggestions of cached session, When polling status, Then should return current accepted count")
+        void givenApprovedSuggestionsOfCachedSession_whenPollingStatus_thenShouldReturnCurrentAcceptedCount() {
+            // Given
+            UUID sessionId = UUID.randomUUID();
+            AiGenerationSession created = sessionRepository.create(AiGenerationSession.createCompleted(
+                sessionId, userId, TestDataBuilder.minInputText(),
+                List.of(new FlashcardSuggestion(null, sessionId, "Question", "Answer")),
+                "openai/gpt-4o-mini", BigDecimal.ZERO));
+            FlashcardSuggestion suggestion = created.getSuggestions().getFirst();
+            sessionRepository.findSuggestionsView(sessionId);
+
+            // When
+            sessionRepository.approveSuggestions(sessionId, userId, List.of(SuggestionApproval.builder()
+                .flashcardId(UUID.randomUUID())
+                .suggestionId(suggestion.id())
+                .source(FlashcardSource.AI)
+                .build()));
+
+            // Then
+            assertThat(sessionRepository.findSummaryById(sessionId).orElseThrow().acceptedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Given cached session, When deleting it, Then should not find it anymore")
+        void givenCachedSession_whenDeleting_thenShouldNotFindIt() {
+            // Given
+            UUID sessionId = UUID.randomUUID();
+            sessionRepository.create(AiGenerationSession.createCompleted(
+                sessionId, userId, TestDataBuilder.minInputText(),
+                List.of(new FlashcardSuggestion(null, sessionId, "Question", "Answer")),
+                "openai/gpt-4o-mini", BigDecimal.ZERO));
+            assertThat(sessionRepository.findSuggestionsView(sessionId)).isPresent();
+
+            // When
+            sessionRepository.delete(AiGenerationSessionId.of(sessionId));
+
+            // Then
+            assertThat(sessionRepository.findSuggestionsView(sessionId)).isEmpty();
+            assertThat(sessionRepository.findSummaryById(sessionId)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("JSONB suggestions layout")
+    class JsonbSuggestionsLayout {
+
+        private SqlDbAiGenerationSessionRepository jsonbRepository;
+
+        @BeforeEach
+        void setUp() {
+            // Cache disabled - every read goes to the database
+            jsonbRepository = new SqlDbAiGenerationSessionRepository(jpaRepository, mapper, jdbcClient,
+                new CompletedAiSessionCache(new SimpleMeterRegistry(), 0, Duration.ofDays(30), Clock.systemUTC()), SuggestionsStorage.JSONB);
+        }
+
+        private AiGenerationSession createCompleted(AiGenerationSessionRepository repository, int suggestionCount) {
+            UUID sessionId = UUID.randomUUID();
+            return repository.create(AiGenerationSession.createCompleted(
+                sessionId, userId, TestDataBuilder.minInputText(),
+                IntStream.range(0, suggestionCount)
+                    .mapToObj(i -> new FlashcardSuggestion(null, sessionId, "Question " + i, "Answer " + i))
+                    .toList(),
+                "openai/gpt-4o-mini", BigDecimal.ZERO));
+        }
+
+        @Test
+        @Transactional
+        @DisplayName("Given JSONB layout, When creating session, Then should store suggestions in session row only")
+        void givenJsonbLayout_whenCreatingSession_thenShouldStoreSuggestionsInSessionRowOnly() {
+            // When
+            UUID sessionId = createCompleted(jsonbRepository, 3).toSnapshot().id();
+
+            // Then
+            assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM flashcard_suggestions WHERE session_id = ?", Integer.class, sessionId)).isZero();
+            assertThat(jdbcTemplate.queryForObject(
+                "SELECT jsonb_array_length(suggestions_json) FROM ai_generation_sessions WHERE id = ?", Integer.class, sessionId))
+                .isEqualTo(3);
+            assertThat(jsonbRepository.findSuggestionsView(sessionId).orElseThrow().suggestions())
+                .extracting(FlashcardSuggestion::frontContent)
+                .containsExactly("Question 0", "Question 1", "Question 2");
+            assertThat(jsonbRepository.findById(sessionId).orElseThrow().getSuggestions())
+                .extracting(FlashcardSuggestion::backContent)
+                .containsExactly("Answer 0", "Answer 1", "Answer 2");
+        }
+
+        @Test
+        @DisplayName("Given sessions in both layouts, When reading suggestions, Then should read each in its own layout")
+        void givenSessionsInBothLayouts_whenReadingSuggestions_thenShouldReadEachLayout() {
+            // Given
+            UUID tableSessionId = createCompleted(sessionRepository, 2).toSnapshot().id();
+            UUID jsonSessionId = createCompleted(jsonbRepository, 2).toSnapshot().id();
+
+            // When / Then
+            assertThat(jsonbRepository.findSuggestionsView(tableSessionId).orElseThrow().suggestions()).hasSize(2);
+            assertThat(jsonbRepository.findSuggestionsView(jsonSessionId).orElseThrow().suggestions()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("Given JSONB session, When approving edited suggestion, Then should create flashcard with edited content")
+        void givenJsonbSession_whenApprovingEditedSuggestion_thenShouldCreateFlashcardWithEditedContent() {
+            // Given
+            AiGenerationSession created = createCompleted(jsonbRepository, 2);
+            UUID sessionId = created.toSnapshot().id();
+            List<FlashcardSuggestion> suggestions = created.getSuggestions();
+
+            // When
+            List<Flashcard> flashcards = jsonbRepository.approveSuggestions(sessionId, userId, List.of(
+                SuggestionApproval.builder()
+                    .flashcardId(UUID.randomUUID())
+                    .suggestionId(suggestions.get(0).id())
+                    .source(FlashcardSource.AI)
+                    .build(),
+                SuggestionApproval.builder()
+                    .flashcardId(UUID.randomUUID())
+                    .suggestionId(suggestions.get(1).id())
+                    .backContent("Edited answer")
+                    .source(FlashcardSource.AI_USER)
+                    .build()));
+
+            // Then
+            assertThat(flashcards).extracting(flashcard -> flashcard.toSnapshot().backContent())
+                .containsExactly("Answer 0", "Edited answer");
+            assertThat(jsonbRepository.findSummaryById(sessionId).orElseThrow().acceptedCount()).isEqualTo(2);
+        }
+
+        @Test
+        @Transactional
+        @DisplayName("Given JSONB session, When saving it, Then should keep JSONB layout")
+        void givenJsonbSession_whenSaving_thenShouldKeepJsonbLayout() {
+            // Given
+            UUID sessionId = createCompleted(jsonbRepository, 2).toSnapshot().id();
+            AiGenerationSession loaded = jsonbRepository.findById(sessionId).orElseThrow();
+
+            // When
+            jsonbRepository.save(loaded);
+
+            // Then
+            assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM flashcard_suggestions WHERE session_id = ?", Integer.class, sessionId)).isZero();
+            assertThat(jsonbRepository.findSuggestionsView(sessionId).orElseThrow().suggestions()).hasSize(2);
+        }
+    }
+}
@@ -0,0 +1,494 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.db;
+
+import an.awesome.pipelinr.Pipeline;
+import com.ten.devs.cards.cards.IntegrationTestBase;
+import com.ten.devs.cards.cards.TestDataBuilder;
+import com.ten.devs.cards.cards.flashcards.application.command.ImportFlashcardsCommand;
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardImportFormat;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSession;
+import com.ten.devs.cards.cards.flashcards.domain.AiGenerationSessionRepository;
+import com.ten.devs.cards.cards.flashcards.domain.Flashcard;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardChange;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardChangesPage;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardChangesQuery;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardContentUpdate;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSearchPage;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSearchQuery;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSource;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSuggestion;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSummaryView;
+import com.ten.devs.cards.cards.flashcards.presentation.response.ImportFlashcardsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("SqlDbFlashcardRepository (integration)")
+class SqlDbFlashcardRepositoryIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private FlashcardRepository flashcardRepository;
+
+    @Autowired
+    private AiGenerationSessionRepository sessionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Pipeline cqsService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private UUID userId;
+    private UUID sessionId;
+
+    @BeforeEach
+    void setUp() {
+        userId = TestDataBuilder.randomUserId();
+        jdbcTemplate.update("INSERT INTO users (id, username, password, email) VALUES (?, ?, ?, ?)",
+            userId, TestDataBuilder.randomUsername(), TestDataBuilder.testPassword(), TestDataBuilder.randomEmail());
+
+        sessionId = UUID.randomUUID();
+        sessionRepository.create(AiGenerationSession.createCompleted(
+            sessionId,
+            userId,
+            TestDataBuilder.minInputText(),
+            List.of(new FlashcardSuggestion(null, sessionId, "Question", "Answer")),
+            "openai/gpt-4o-mini",
+            BigDecimal.ZERO));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Nested
+    @DisplayName("insertAll()")
+    class InsertAll {
+
+        @Test
+        @DisplayName("Given 20 new flashcards, When inserting, Then should issue one batched statement without SELECTs")
+        void givenTwentyNewFlashcards_whenInserting_thenShouldIssueOneBatchedStatement() {
+            // Given
+            List<Flashcard> flashcards = IntStream.range(0, 20)
+                .mapToObj(i -> Flashcard.createFromAiSuggestion(
+                    userId, "Question " + i, "Answer " + i, FlashcardSource.AI, sessionId))
+                .toList();
+
+            // When
+            List<Flashcard> inserted = flashcardRepository.insertAll(flashcards);
+
+            // Then
+            assertThat(inserted).hasSize(20);
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(flashcardRepository.countByUserId(userId, FlashcardSource.AI)).isEqualTo(20);
+        }
+    }
+
+    @Nested
+    @DisplayName("copyAll()")
+    class CopyAll {
+
+        @Test
+        @DisplayName("Given quoted multi-line CSV, When importing, Then should store every field exactly and count the cards")
+        void givenQuotedMultiLineCsv_whenImporting_thenShouldStoreFieldsExactly() {
+            // Given
+            String csv = "front_content,back_content\r\n"
+                + "\"Question with \"\"quotes\"\", commas\",\"Line one\nLine two\"\r\n"
+                + "Plain question,\"Back\\slash\tand tab\"\n"
+                + "\n"
+                + "\"Zażółć gęślą jaźń\",\"Multi\r\nline\"\n";
+
+            // When
+            ImportFlashcardsResponse response = cqsService.send(ImportFlashcardsCommand.builder()
+                .userId(userId)
+                .format(FlashcardImportFormat.CSV)
+                .input(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))
+                .build());
+
+            // Then
+            assertThat(response.importedCount()).isEqualTo(3);
+            assertThat(response.failedCount()).isZero();
+            assertThat(flashcardRepository.findByUserId(userId))
+                .extracting(Flashcard::toSnapshot)
+                .extracting(FlashcardSnapshot::frontContent, FlashcardSnapshot::backContent, FlashcardSnapshot::source)
+                .containsExactlyInAnyOrder(
+                    tuple("Question with \"quotes\", commas", "Line one\nLine two", FlashcardSource.USER),
+                    tuple("Plain question", "Back\\slash\tand tab", FlashcardSource.USER),
+                    tuple("Zażółć gęślą jaźń", "Multi\r\nline", FlashcardSource.USER));
+            assertThat(flashcardRepository.countByUserId(userId, FlashcardSource.USER)).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Given AI flashcards of a session, When copying, Then should keep IDs, content, source and session")
+        void givenAiFlashcards_whenCopying_thenShouldKeepAllColumns() {
+            // Given
+            List<Flashcard> flashcards = IntStream.range(0, 3)
+                .mapToObj(i -> Flashcard.createFromAiSuggestion(
+                    userId, "Question, " + i, "\"Answer\"\n" + i, FlashcardSource.AI, sessionId))
+                .toList();
+
+            // When
+            int copied = flashcardRepository.copyAll(flashcards);
+
+            // Then
+            assertThat(copied).isEqualTo(3);
+            assertThat(flashcardRepository.findByGenerationSessionId(sessionId))
+                .extracting(Flashcard::toSnapshot)
+                .extracting(FlashcardSnapshot::id, FlashcardSnapshot::frontContent, FlashcardSnapshot::backContent,
+                    FlashcardSnapshot::source)
+                .containsExactlyInAnyOrderElementsOf(flashcards.stream()
+                    .map(Flashcard::toSnapshot)
+                    .map(snapshot -> tuple(snapshot.id(), snapshot.frontContent(), snapshot.backContent(), snapshot.source()))
+                    .toList());
+            assertThat(flashcardRepository.countByUserId(userId, FlashcardSource.AI)).isEqualTo(3);
+            assertThat(flashcardRepository.countByUserId(userId, FlashcardSource.USER)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("updateContent()")
+    class UpdateContent {
+
+        @Test
+        @DisplayName("Given current version of AI flashcard, When updating, Then should change source to AI_USER and increment version")
+        void givenCurrentVersion_whenUpdating_thenShouldChangeSourceAndIncrementVersion() {
+            // Given
+            Flashcard flashcard = flashcardRepository.insertAll(List.of(Flashcard.createFromAiSuggestion(
+                userId, "Question", "Answer", FlashcardSource.AI, sessionId))).getFirst();
+            UUID id = flashcard.toSnapshot().id();
+
+            // When
+            Optional<Flashcard> updated = flashcardRepository.updateContent(id, userId, "New question", "New answer", 0L);
+
+            // Then
+            assertThat(updated).get().extracting(Flashcard::toSnapshot).satisfies(snapshot -> {
+                assertThat(snapshot.frontContent()).isEqualTo("New question");
+                assertThat(snapshot.source()).isEqualTo(FlashcardSource.AI_USER);
+                assertThat(snapshot.version()).isEqualTo(1L);
+            });
+            assertThat(flashcardRepository.countByUserId(userId, FlashcardSource.AI)).isZero();
+            assertThat(flashcardRepository.countByUserId(userId, FlashcardSource.AI_USER)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Given stale version or other user, When updating, Then should update nothing")
+        void givenStaleVersionOrOtherUser_whenUpdating_thenShouldUpdateNothing() {
+            // Given
+            Flashcard flashcard = flashcardRepository.insertAll(List.of(Flashcard.createManual(
+                userId, "Question", "Answer"))).getFirst();
+            UUID id = flashcard.toSnapshot().id();
+            flashcardRepository.updateContent(id, userId, "Second question", "Second answer", null);
+
+            // When
+            Optional<Flashcard> stale = flashcardRepository.updateContent(id, userId, "Lost", "Lost", 0L);
+            Optional<Flashcard> foreign = flashcardRepository.updateContent(id, UUID.randomUUID(), "Lost", "Lost", null);
+
+            // Then
+            assertThat(stale).isEmpty();
+            assertThat(foreign).isEmpty();
+            assertThat(flashcardRepository.findById(id)).get().extracting(Flashcard::toSnapshot).satisfies(snapshot -> {
+                assertThat(snapshot.frontContent()).isEqualTo("Second question");
+                assertThat(snapshot.version()).isEqualTo(1L);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrent writes of one user")
+    class ConcurrentWrites {
+
+        // Backends of this database waiting for an advisory lock - the change lock of FlashcardChangesLock
+        private boolean someoneWaitsForChangeLock() {
+            return jdbcTemplate.queryForObject("""
+                SELECT EXISTS (
+                    SELECT 1 FROM pg_stat_activity
+                    WHERE datname = current_database() AND wait_event_type = 'Lock' AND wait_event = 'advisory'
+                )
+                """, Boolean.class);
+        }
+
+        @Test
+        @DisplayName("Given two transactions updating the same cards in opposite order, When both run, Then should queue without deadlock")
+        void givenOppositeUpdateOrder_whenBothRun_thenShouldQueueWithoutDeadlock() throws Exception {
+            // Given
+            List<UUID> ids = flashcardRepository.insertAll(List.of(
+                    Flashcard.createManual(userId, "Question A", "Answer A"),
+                    Flashcard.createManual(userId, "Question B", "Answer B")))
+                .stream()
+                .map(flashcard -> flashcard.toSnapshot().id())
+                .toList();
+            UUID cardA = ids.get(0);
+            UUID cardB = ids.get(1);
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            CountDownLatch firstUpdatedA = new CountDownLatch(1);
+            CountDownLatch secondWaits = new CountDownLatch(1);
+
+            // When - T1 updates A, T2 starts on B and waits, T1 then updates B; T2 goes on with A
+            CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+                flashcardRepository.updateContent(cardA, userId, "First A", "First A", null);
+                firstUpdatedA.countDown();
+                await(secondWaits);
+                flashcardRepository.updateContent(cardB, userId, "First B", "First B", null);
+            }));
+            await(firstUpdatedA);
+            CompletableFuture<Void> second = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+                flashcardRepository.updateContent(cardB, userId, "Second B", "Second B", null);
+                flashcardRepository.updateContent(cardA, userId, "Second A", "Second A", null);
+            }));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!someoneWaitsForChangeLock() && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            secondWaits.countDown();
+
+            // Then - no deadlock, T2 ran after T1 committed
+            assertThatCode(() -> CompletableFuture.allOf(first, second).get(30, TimeUnit.SECONDS))
+                .doesNotThrowAnyException();
+            assertThat(flashcardRepository.findAllByIdAndUserId(userId, ids))
+                .extracting(Flashcard::toSnapshot)
+                .extracting(FlashcardSnapshot::frontContent, FlashcardSnapshot::version)
+                .containsExactlyInAnyOrder(tuple("Second A", 2L), tuple("Second B", 2L));
+        }
+
+        private static void await(CountDownLatch latch) {
+            try {
+                assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("updateContentAll()")
+    class UpdateContentAll {
+
+        @Test
+        @DisplayName("Given current, stale and foreign updates, When updating in batch, Then should apply only the current one")
+        void givenMixedUpdates_whenUpdatingInBatch_thenShouldApplyOnlyCurrentOne() {
+            // Given
+            List<UUID> ids = flashcardRepository.insertAll(IntStream.range(0, 2)
+                    .mapToObj(i -> Flashcard.createFromAiSuggestion(
+                        userId, "Question " + i, "Answer " + i, FlashcardSource.AI, sessionId))
+                    .toList())
+                .stream()
+                .map(flashcard -> flashcard.toSnapshot().id())
+                .toList();
+
+            // When
+            List<Boolean> applied = flashcardRepository.updateContentAll(userId, List.of(
+                new FlashcardContentUpdate(ids.get(0), "New question", "New answer", 0L),
+                new FlashcardContentUpdate(ids.get(1), "Lost", "Lost", 4L),
+                new FlashcardContentUpdate(UUID.randomUUID(), "Lost", "Lost", null)));
+
+            // Then
+            assertThat(applied).containsExactly(true, false, false);
+            assertThat(flashcardRepository.findAllByIdAndUserId(userId, ids))
+                .extracting(Flashcard::toSnapshot)
+                .extracting(FlashcardSnapshot::frontContent, FlashcardSnapshot::source, FlashcardSnapshot::version)
+                .containsExactlyInAnyOrder(
+                    tuple("New question", FlashcardSource.AI_USER, 1L),
+                    tuple("Question 1", FlashcardSource.AI, 0L));
+        }
+    }
+
+    @Nested
+    @DisplayName("findAllByIdAndUserId()")
+    class FindAllByIdAndUserId {
+
+        @Test
+        @DisplayName("Given own, missing and foreign IDs, When finding, Then should return only own flashcards with all columns")
+        void givenOwnMissingAndForeignIds_whenFinding_thenShouldReturnOnlyOwnFlashcards() {
+            // Given
+            List<Flashcard> own = flashcardRepository.insertAll(IntStream.range(0, 3)
+                .mapToObj(i -> Flashcard.createFromAiSuggestion(
+                    userId, "Question " + i, "Answer " + i, FlashcardSource.AI, sessionId))
+                .toList());
+            UUID foreign = own.get(2).toSnapshot().id();
+
+            // When
+            List<Flashcard> found = flashcardRepository.findAllByIdAndUserId(userId,
+                List.of(own.get(0).toSnapshot().id(), own.get(1).toSnapshot().id(), UUID.randomUUID()));
+            List<Flashcard> foundForeign = flashcardRepository.findAllByIdAndUserId(UUID.randomUUID(), List.of(foreign));
+
+            // Then
+            assertThat(found)
+                .extracting(Flashcard::toSnapshot)
+                .extracting(FlashcardSnapshot::id, FlashcardSnapshot::userId, FlashcardSnapshot::backContent,
+                    FlashcardSnapshot::source, FlashcardSnapshot::generationSessionId, FlashcardSnapshot::version)
+                .containsExactlyInAnyOrder(
+                    tuple(own.get(0).toSnapshot().id(), userId, "Answer 0", FlashcardSource.AI, sessionId, 0L),
+                    tuple(own.get(1).toSnapshot().id(), userId, "Answer 1", FlashcardSource.AI, sessionId, 0L));
+            assertThat(foundForeign).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteAllByIdAndUserId()")
+    class DeleteAllByIdAndUserId {
+
+        @Test
+        @DisplayName("Given own, missing and foreign IDs, When deleting, Then should delete only own flashcards")
+        void givenOwnMissingAndForeignIds_whenDeleting_thenShouldDeleteOnlyOwnFlashcards() {
+            // Given
+            List<UUID> own = flashcardRepository.insertAll(IntStream.range(0, 3)
+                    .mapToObj(i -> Flashcard.createManual(userId, "Question " + i, "Answer " + i))
+                    .toList())
+                .stream()
+                .map(flashcard -> flashcard.toSnapshot().id())
+                .toList();
+            UUID missing = UUID.randomUUID();
+
+            // When
+            List<UUID> deleted = flashcardRepository.deleteAllByIdAndUserId(userId, List.of(own.get(0), own.get(1), missing));
+            boolean foreignDeleted = flashcardRepository.deleteByIdAndUserId(own.get(2), UUID.randomUUID());
+
+            // Then
+            assertThat(deleted).containsExactlyInAnyOrder(own.get(0), own.get(1));
+            assertThat(foreignDeleted).isFalse();
+            assertThat(flashcardRepository.countByUserId(userId, FlashcardSource.USER)).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("findChanges()")
+    class FindChanges {
+
+        @Test
+        @DisplayName("Given updates and deletes after a cursor, When finding changes, Then should return only them in change order")
+        void givenChangesAfterCursor_whenFindingChanges_thenShouldReturnOnlyThem() {
+            // Given
+            List<UUID> ids = flashcardRepository.insertAll(IntStream.range(0, 4)
+                    .mapToObj(i -> Flashcard.createManual(userId, "Question " + i, "Answer " + i))
+                    .toList())
+                .stream()
+                .map(flashcard -> flashcard.toSnapshot().id())
+                .toList();
+            FlashcardChangesPage fullSync = flashcardRepository.findChanges(new FlashcardChangesQuery(userId, 0L, 100));
+
+            flashcardRepository.updateContent(ids.get(2), userId, "New question", "New answer", null);
+            flashcardRepository.deleteByIdAndUserId(ids.get(0), userId);
+
+            // When
+            FlashcardChangesPage first = flashcardRepository.findChanges(new FlashcardChangesQuery(userId, fullSync.last(), 1));
+            FlashcardChangesPage second = flashcardRepository.findChanges(new FlashcardChangesQuery(userId, first.last(), 1));
+
+            // Then
+            assertThat(fullSync.changes()).extracting(FlashcardChange::flashcardId).containsExactlyInAnyOrderElementsOf(ids);
+            assertThat(fullSync.hasNext()).isFalse();
+            assertThat(first.changes()).singleElement()
+                .satisfies(change -> {
+                    assertThat(change.flashcardId()).isEqualTo(ids.get(2));
+                    assertThat(change.flashcard().frontContent()).isEqualTo("New question");
+                });
+            assertThat(first.hasNext()).isTrue();
+            assertThat(second.changes()).singleElement()
+                .satisfies(change -> {
+                    assertThat(change.flashcardId()).isEqualTo(ids.get(0));
+                    assertThat(change.isDeletion()).isTrue();
+                });
+            assertThat(second.hasNext()).isFalse();
+            assertThat(flashcardRepository.findChanges(new FlashcardChangesQuery(userId, second.last(), 100)).changes())
+                .isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("search()")
+    class Search {
+
+        @Test
+        @DisplayName("Given front, back, foreign and unrelated matches, When paging search results, Then should rank front matches first and return each own match once")
+        void givenMatchesOfSeveralKinds_whenPagingSearch_thenShouldRankAndContinueAfterKeyset() {
+            // Given
+            UUID otherUserId = TestDataBuilder.randomUserId();
+            jdbcTemplate.update("INSERT INTO users (id, username, password, email) VALUES (?, ?, ?, ?)",
+                otherUserId, TestDataBuilder.randomUsername(), TestDataBuilder.testPassword(), TestDataBuilder.randomEmail());
+            List<UUID> ids = flashcardRepository.insertAll(List.of(
+                    Flashcard.createManual(userId, "What is photosynthesis?", "Light to chemical energy"),
+                    Flashcard.createManual(userId, "Plant biology", "Leaves run photosynthesis"),
+                    Flashcard.createManual(userId, "Plant biology", "Leaves run photosynthesis"),
+                    Flashcard.createManual(userId, "Capital of France", "Paris"),
+                    Flashcard.createManual(otherUserId, "What is photosynthesis?", "Light to chemical energy")))
+                .stream()
+                .map(flashcard -> flashcard.toSnapshot().id())
+                .toList();
+
+            // When
+            FlashcardSearchPage first = flashcardRepository.search(FlashcardSearchQuery.builder()
+                .userId(userId)
+                .text("photosynthesis")
+                .size(2)
+                .build());
+            FlashcardSearchPage second = flashcardRepository.search(FlashcardSearchQuery.builder()
+                .userId(userId)
+                .text("photosynthesis")
+                .after(first.next())
+                .size(2)
+                .build());
+
+            // Then
+            assertThat(first.content()).extracting(FlashcardSummaryView::id)
+                .hasSize(2)
+                .startsWith(ids.get(0))
+                .containsAnyOf(ids.get(1), ids.get(2));
+            assertThat(first.hasNext()).isTrue();
+            assertThat(second.content()).extracting(FlashcardSummaryView::id)
+                .singleElement()
+                .isIn(ids.get(1), ids.get(2))
+                .isNotEqualTo(first.content().get(1).id());
+            assertThat(second.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Given cards without the searched word, When searching, Then should return an empty last page")
+        void givenNoMatches_whenSearching_thenShouldReturnEmptyPage() {
+            // Given
+            flashcardRepository.insertAll(List.of(Flashcard.createManual(userId, "Capital of France", "Paris")));
+
+            // When
+            FlashcardSearchPage page = flashcardRepository.search(FlashcardSearchQuery.builder()
+                .userId(userId)
+                .text("photosynthesis")
+                .size(20)
+                .build());
+
+            // Then
+            assertThat(page.content()).isEmpty();
+            assertThat(page.hasNext()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.index;
+
+import com.ten.devs.cards.cards.flashcards.domain.Flashcard;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MinHashFlashcardDuplicateDetector")
+class MinHashFlashcardDuplicateDetectorTest {
+
+    @Mock
+    private FlashcardRepository flashcardRepository;
+
+    @Mock
+    private Clock clock;
+
+    private MinHashFlashcardDuplicateDetector detector;
+    private Instant now = Instant.parse("2025-01-15T10:30:00Z");
+
+    private static final UUID TEST_USER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final UUID OTHER_USER_ID = UUID.fromString("33333333-3333-3333-3333-333333333333");
+
+    private static final String FRONT = "What is the capital city of Poland and when did it become the capital?";
+    private static final String BACK = "Warsaw became the capital of Poland in 1596, replacing Kraków.";
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.instant()).thenAnswer(invocation -> now);
+        detector = new MinHashFlashcardDuplicateDetector(flashcardRepository, 0.8, 100, Duration.ofMinutes(10), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("findDuplicate()")
+    class FindDuplicate {
+
+        @Test
+        @DisplayName("Given existing flashcard, When checking same content with different case and punctuation, Then should return existing flashcard ID")
+        void givenExistingFlashcard_whenCheckingNormalizedEqualContent_thenShouldReturnExistingId() {
+            // Given
+            Flashcard existing = Flashcard.createManual(TEST_USER_ID, FRONT, BACK);
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(existing));
+
+            // When / Then
+            assertThat(detector.findDuplicate(TEST_USER_ID, FRONT.toUpperCase(), BACK.replace(",", " ")))
+                .contains(existing.toSnapshot().id());
+        }
+
+        @Test
+        @DisplayName("Given existing flashcard, When checking slightly edited content, Then should return existing flashcard ID")
+        void givenExistingFlashcard_whenCheckingSlightlyEditedContent_thenShouldReturnExistingId() {
+            // Given
+            Flashcard existing = Flashcard.createManual(TEST_USER_ID, FRONT, BACK);
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(existing));
+
+            // When / Then
+            assertThat(detector.findDuplicate(TEST_USER_ID, FRONT.replace("city ", ""), BACK))
+                .contains(existing.toSnapshot().id());
+        }
+
+        @Test
+        @DisplayName("Given existing flashcard, When checking unrelated content, Then should return empty")
+        void givenExistingFlashcard_whenCheckingUnrelatedContent_thenShouldReturnEmpty() {
+            // Given
+            Flashcard existing = Flashcard.createManual(TEST_USER_ID, FRONT, BACK);
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(existing));
+
+            // When / Then
+            assertThat(detector.findDuplicate(TEST_USER_ID,
+                "What does the mitochondria produce?", "Adenosine triphosphate (ATP)."))
+                .isEmpty();
+        }
+
+        @Test
+        @DisplayName("Given flashcard of other user, When checking same content, Then should return empty")
+        void givenFlashcardOfOtherUser_whenCheckingSameContent_thenShouldReturnEmpty() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of());
+
+            // When / Then
+            assertThat(detector.findDuplicate(TEST_USER_ID, FRONT, BACK)).isEmpty();
+            verify(flashcardRepository, never()).findByUserId(OTHER_USER_ID);
+        }
+
+        @Test
+        @DisplayName("Given loaded index, When checking multiple times, Then should load user's flashcards only once")
+        void givenLoadedIndex_whenCheckingMultipleTimes_thenShouldLoadOnlyOnce() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of());
+
+            // When
+            detector.findDuplicate(TEST_USER_ID, FRONT, BACK);
+            detector.findDuplicate(TEST_USER_ID, FRONT, BACK);
+
+            // Then
+            verify(flashcardRepository, times(1)).findByUserId(TEST_USER_ID);
+        }
+
+        @Test
+        @DisplayName("Given card accepted earlier in the request, When checking similar content, Then should return accepted card ID")
+        void givenCardAcceptedEarlierInRequest_whenCheckingSimilarContent_thenShouldReturnAcceptedId() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of());
+            FlashcardSnapshot accepted = Flashcard.createManual(TEST_USER_ID, FRONT, BACK).toSnapshot();
+
+            // When / Then
+            assertThat(detector.findDuplicate(TEST_USER_ID, FRONT.toUpperCase(), BACK, List.of(accepted)))
+                .contains(accepted.id());
+            assertThat(detector.findDuplicate(TEST_USER_ID,
+                "What does the mitochondria produce?", "Adenosine triphosphate (ATP).", List.of(accepted)))
+                .isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental maintenance")
+    class IncrementalMaintenance {
+
+        @Test
+        @DisplayName("Given loaded index, When flashcard is indexed, Then should detect it as duplicate")
+        void givenLoadedIndex_whenFlashcardIsIndexed_thenShouldDetectIt() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of());
+            assertThat(detector.findDuplicate(TEST_USER_ID, FRONT, BACK)).isEmpty();
+            FlashcardSnapshot created = Flashcard.createManual(TEST_USER_ID, FRONT, BACK).toSnapshot();
+
+            // When
+            detector.indexFlashcard(created);
+
+            // Then
+            assertThat(detector.findDuplicate(TEST_USER_ID, FRONT, BACK)).contains(created.id());
+        }
+
+        @Test
+        @DisplayName("Given indexed flashcard, When its content is updated, Then should match only new content")
+        void givenIndexedFlashcard_whenContentIsUpdated_thenShouldMatchOnlyNewContent() {
+            // Given
+            Flashcard flashcard = Flashcard.createManual(TEST_USER_ID, FRONT, BACK);
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(flashcard));
+            detector.findDuplicate(TEST_USER_ID, FRONT, BACK);
+
+            // When
+            flashcard.updateContent("Who wrote Pan Tadeusz?", "Adam Mickiewicz, published in 1834.");
+            detector.indexFlashcard(flashcard.toSnapshot());
+
+            // Then
+            assertThat(detector.findDuplicate(TEST_USER_ID, FRONT, BACK)).isEmpty();
+            assertThat(detector.findDuplicate(TEST_USER_ID, "Who wrote Pan Tadeusz?", "Adam Mickiewicz, published in 1834."))
+                .contains(flashcard.toSnapshot().id());
+        }
+
+        @Test
+        @DisplayName("Given indexed flashcard, When it is removed, Then should not detect it anymore")
+        void givenIndexedFlashcard_whenRemoved_thenShouldNotDetectIt() {
+            // Given
+            Flashcard existing = Flashcard.createManual(TEST_USER_ID, FRONT, BACK);
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(existing));
+            detector.findDuplicate(TEST_USER_ID, FRONT, BACK);
+
+            // When
+            detector.removeFlashcard(TEST_USER_ID, existing.toSnapshot().id());
+
+            // Then
+            assertThat(detector.findDuplicate(TEST_USER_ID, FRONT, BACK)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Given index not loaded, When flashcard is indexed, Then should not touch repository")
+        void givenIndexNotLoaded_whenFlashcardIsIndexed_thenShouldNotTouchRepository() {
+            // When
+            detector.indexFlashcard(Flashcard.createManual(TEST_USER_ID, FRONT, BACK).toSnapshot());
+
+            // Then
+            verifyNoInteractions(flashcardRepository);
+        }
+
+        @Test
+        @DisplayName("Given loaded index, When rebuilding, Then should reload user's flashcards")
+        void givenLoadedIndex_whenRebuilding_thenShouldReloadFlashcards() {
+            // Given
+            Flashcard existing = Flashcard.createManual(TEST_USER_ID, FRONT, BACK);
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(), List.of(existing));
+            assertThat(detector.findDuplicate(TEST_USER_ID, FRONT, BACK)).isEmpty();
+
+            // When
+            detector.rebuild(TEST_USER_ID);
+
+            // Then
+            assertThat(detector.findDuplicate(TEST_USER_ID, FRONT, BACK)).contains(existing.toSnapshot().id());
+        }
+    }
+
+    @Nested
+    @DisplayName("Transactions")
+    class Transactions {
+
+        @Test
+        @DisplayName("Given flashcard indexed in a transaction, When it rolls back, Then should never detect the flashcard")
+        void givenFlashcardIndexedInTransaction_whenRolledBack_thenShouldNotDetectIt() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of());
+            detector.findDuplicate(TEST_USER_ID, FRONT, BACK);
+            TransactionSynchronizationManager.initSynchronization();
+
+            // When
+            detector.indexFlashcard(Flashcard.createManual(TEST_USER_ID, FRONT, BACK).toSnapshot());
+            TransactionSynchronizationManager.clearSynchronization();
+
+            // Then
+            assertThat(detector.findDuplicate(TEST_USER_ID, FRONT, BACK)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Given flashcard indexed in a transaction, When it commits, Then should detect the flashcard only after commit")
+        void givenFlashcardIndexedInTransaction_whenCommitted_thenShouldDetectItAfterCommit() {
+            // Given
+            Flashcard existing = Flashcard.createManual(TEST_USER_ID, FRONT, BACK);
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(existing));
+            detector.findDuplicate(TEST_USER_ID, FRONT, BACK);
+            FlashcardSnapshot created = Flashcard.createManual(TEST_USER_ID,
+                "Who wrote Pan Tadeusz?", "Adam Mickiewicz, published in 1834.").toSnapshot();
+            TransactionSynchronizationManager.initSynchronization();
+
+            // When
+            detector.indexFlashcard(created);
+            detector.removeFlashcard(TEST_USER_ID, existing.toSnapshot().id());
+
+            // Then
+            assertThat(detector.findDuplicate(TEST_USER_ID, created.frontContent(), created.backContent())).isEmpty();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.clearSynchronization();
+            assertThat(detector.findDuplicate(TEST_USER_ID, created.frontContent(), created.backContent()))
+                .contains(created.id());
+            assertThat(detector.findDuplicate(TEST_USER_ID, FRONT, BACK)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Given index loaded after a write of the same transaction, When looking up again after rollback, Then should reload it")
+        void givenIndexLoadedAfterWriteOfTransaction_whenRolledBack_thenShouldNotKeepIt() {
+            // Given - the load reads the transaction's uncommitted card
+            Flashcard uncommitted = Flashcard.createManual(TEST_USER_ID, FRONT, BACK);
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(uncommitted), List.of());
+            TransactionSynchronizationManager.initSynchronization();
+            detector.indexFlashcard(uncommitted.toSnapshot());
+            assertThat(detector.findDuplicate(TEST_USER_ID, FRONT, BACK)).contains(uncommitted.toSnapshot().id());
+
+            // When
+            TransactionSynchronizationManager.clearSynchronization();
+
+            // Then
+            assertThat(detector.findDuplicate(TEST_USER_ID, FRONT, BACK)).isEmpty();
+            verify(flashcardRepository, times(2)).findByUserId(TEST_USER_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("Index age")
+    class IndexAge {
+
+        @Test
+        @DisplayName("Given index older than max age, When checking, Then should reload it with writes of other nodes")
+        void givenIndexOlderThanMaxAge_whenChecking_thenShouldReload() {
+            // Given
+            Flashcard writtenElsewhere = Flashcard.createManual(TEST_USER_ID, FRONT, BACK);
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(), List.of(writtenElsewhere));
+            assertThat(detector.findDuplicate(TEST_USER_ID, FRONT, BACK)).isEmpty();
+
+            // When
+            now = now.plus(Duration.ofMinutes(9));
+            assertThat(detector.findDuplicate(TEST_USER_ID, FRONT, BACK)).isEmpty();
+            now = now.plus(Duration.ofMinutes(1));
+
+            // Then
+            assertThat(detector.findDuplicate(TEST_USER_ID, FRONT, BACK)).contains(writtenElsewhere.toSnapshot().id());
+            verify(flashcardRepository, times(2)).findByUserId(TEST_USER_ID);
+        }
+    }
+}
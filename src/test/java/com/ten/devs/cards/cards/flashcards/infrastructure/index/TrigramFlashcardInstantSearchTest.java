@@ -0,0 +1,335 @@
+package com.ten.devs.cards.cards.flashcards.infrastructure.index;
+
+import com.ten.devs.cards.cards.flashcards.application.service.FlashcardSearchHit;
+import com.ten.devs.cards.cards.flashcards.domain.Flashcard;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrigramFlashcardInstantSearch")
+class TrigramFlashcardInstantSearchTest {
+
+    @Mock
+    private FlashcardRepository flashcardRepository;
+
+    @Mock
+    private Clock clock;
+
+    private TrigramFlashcardInstantSearch instantSearch;
+    private Instant now = Instant.parse("2025-01-15T10:30:00Z");
+
+    private static final UUID TEST_USER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final UUID OTHER_USER_ID = UUID.fromString("33333333-3333-3333-3333-333333333333");
+
+    private final Flashcard photosynthesis = Flashcard.createManual(TEST_USER_ID,
+        "What is photosynthesis?", "Conversion of light energy into chemical energy by plants.");
+    private final Flashcard capital = Flashcard.createManual(TEST_USER_ID,
+        "What is the capital of Poland?", "Warsaw, since 1596.");
+    private final Flashcard city = Flashcard.createManual(TEST_USER_ID,
+        "Which city is famous for its dragon?", "Kraków, the former capital.");
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.instant()).thenAnswer(invocation -> now);
+        instantSearch = new TrigramFlashcardInstantSearch(
+            flashcardRepository, DataSize.ofMegabytes(1), Duration.ofMinutes(10), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static List<UUID> ids(List<FlashcardSearchHit> hits) {
+        return hits.stream().map(FlashcardSearchHit::flashcardId).toList();
+    }
+
+    private static UUID idOf(Flashcard flashcard) {
+        return flashcard.toSnapshot().id();
+    }
+
+    @Nested
+    @DisplayName("search()")
+    class Search {
+
+        @Test
+        @DisplayName("Given unfinished last word, When searching, Then should match cards by word prefix")
+        void givenUnfinishedLastWord_whenSearching_thenShouldMatchByPrefix() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(photosynthesis, capital, city));
+
+            // When / Then
+            assertThat(ids(instantSearch.search(TEST_USER_ID, "photosyn", 10))).containsExactly(idOf(photosynthesis));
+        }
+
+        @Test
+        @DisplayName("Given typo in word, When searching, Then should still match the card")
+        void givenTypoInWord_whenSearching_thenShouldMatchCard() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(photosynthesis, capital, city));
+
+            // When / Then
+            assertThat(ids(instantSearch.search(TEST_USER_ID, "fotosynthesis", 10))).containsExactly(idOf(photosynthesis));
+        }
+
+        @Test
+        @DisplayName("Given text without diacritics, When searching, Then should match words with diacritics")
+        void givenTextWithoutDiacritics_whenSearching_thenShouldMatchWordsWithDiacritics() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(photosynthesis, capital, city));
+
+            // When / Then
+            assertThat(ids(instantSearch.search(TEST_USER_ID, "krakow", 10))).containsExactly(idOf(city));
+        }
+
+        @Test
+        @DisplayName("Given several words, When searching, Then should return only cards matching all of them")
+        void givenSeveralWords_whenSearching_thenShouldRequireAllWords() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(photosynthesis, capital, city));
+
+            // When / Then
+            assertThat(ids(instantSearch.search(TEST_USER_ID, "capital pol", 10))).containsExactly(idOf(capital));
+        }
+
+        @Test
+        @DisplayName("Given word on front of one card and back of another, When searching, Then should rank front match first")
+        void givenFrontAndBackMatches_whenSearching_thenShouldRankFrontMatchFirst() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(city, capital));
+
+            // When
+            List<FlashcardSearchHit> hits = instantSearch.search(TEST_USER_ID, "capital", 10);
+
+            // Then
+            assertThat(ids(hits)).containsExactly(idOf(capital), idOf(city));
+            assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+        }
+
+        @Test
+        @DisplayName("Given more matches than limit, When searching, Then should return only the best ones")
+        void givenMoreMatchesThanLimit_whenSearching_thenShouldReturnBestOnes() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(city, capital));
+
+            // When / Then
+            assertThat(ids(instantSearch.search(TEST_USER_ID, "capital", 1))).containsExactly(idOf(capital));
+        }
+
+        @Test
+        @DisplayName("Given text without any word, When searching, Then should return empty without loading index")
+        void givenTextWithoutWords_whenSearching_thenShouldReturnEmpty() {
+            // When / Then
+            assertThat(instantSearch.search(TEST_USER_ID, " ?! ", 10)).isEmpty();
+            verifyNoInteractions(flashcardRepository);
+        }
+
+        @Test
+        @DisplayName("Given loaded index, When searching multiple times, Then should load user's flashcards only once")
+        void givenLoadedIndex_whenSearchingMultipleTimes_thenShouldLoadOnlyOnce() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(photosynthesis));
+
+            // When
+            instantSearch.search(TEST_USER_ID, "ph", 10);
+            instantSearch.search(TEST_USER_ID, "pho", 10);
+
+            // Then
+            verify(flashcardRepository, times(1)).findByUserId(TEST_USER_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental maintenance")
+    class IncrementalMaintenance {
+
+        @Test
+        @DisplayName("Given loaded index, When flashcard is indexed, Then should find it")
+        void givenLoadedIndex_whenFlashcardIsIndexed_thenShouldFindIt() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of());
+            assertThat(instantSearch.search(TEST_USER_ID, "photo", 10)).isEmpty();
+
+            // When
+            instantSearch.indexFlashcard(photosynthesis.toSnapshot());
+
+            // Then
+            assertThat(ids(instantSearch.search(TEST_USER_ID, "photo", 10))).containsExactly(idOf(photosynthesis));
+        }
+
+        @Test
+        @DisplayName("Given indexed flashcard, When its content is updated, Then should match only new content")
+        void givenIndexedFlashcard_whenContentIsUpdated_thenShouldMatchOnlyNewContent() {
+            // Given
+            Flashcard flashcard = Flashcard.createManual(TEST_USER_ID, "What is photosynthesis?", "Light to energy.");
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(flashcard));
+            instantSearch.search(TEST_USER_ID, "photo", 10);
+
+            // When
+            flashcard.updateContent("Who wrote Pan Tadeusz?", "Adam Mickiewicz, published in 1834.");
+            instantSearch.indexFlashcard(flashcard.toSnapshot());
+
+            // Then
+            assertThat(instantSearch.search(TEST_USER_ID, "photo", 10)).isEmpty();
+            assertThat(ids(instantSearch.search(TEST_USER_ID, "mickiew", 10))).containsExactly(idOf(flashcard));
+        }
+
+        @Test
+        @DisplayName("Given indexed flashcard, When it is removed, Then should not find it anymore")
+        void givenIndexedFlashcard_whenRemoved_thenShouldNotFindIt() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(photosynthesis));
+            instantSearch.search(TEST_USER_ID, "photo", 10);
+
+            // When
+            instantSearch.removeFlashcard(TEST_USER_ID, idOf(photosynthesis));
+
+            // Then
+            assertThat(instantSearch.search(TEST_USER_ID, "photo", 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Given index not loaded, When flashcard is indexed, Then should not touch repository")
+        void givenIndexNotLoaded_whenFlashcardIsIndexed_thenShouldNotTouchRepository() {
+            // When
+            instantSearch.indexFlashcard(photosynthesis.toSnapshot());
+
+            // Then
+            verifyNoInteractions(flashcardRepository);
+        }
+
+        @Test
+        @DisplayName("Given loaded index, When rebuilding, Then should reload user's flashcards")
+        void givenLoadedIndex_whenRebuilding_thenShouldReloadFlashcards() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(), List.of(photosynthesis));
+            assertThat(instantSearch.search(TEST_USER_ID, "photo", 10)).isEmpty();
+
+            // When
+            instantSearch.rebuild(TEST_USER_ID);
+
+            // Then
+            assertThat(ids(instantSearch.search(TEST_USER_ID, "photo", 10))).containsExactly(idOf(photosynthesis));
+        }
+    }
+
+    @Nested
+    @DisplayName("Memory budget")
+    class MemoryBudget {
+
+        @Test
+        @DisplayName("Given budget exceeded by second user's index, When searching, Then should evict least recently used index")
+        void givenBudgetExceeded_whenSearching_thenShouldEvictLeastRecentlyUsedIndex() {
+            // Given
+            instantSearch = new TrigramFlashcardInstantSearch(
+                flashcardRepository, DataSize.ofBytes(1), Duration.ofMinutes(10), clock);
+            Flashcard otherUsers = Flashcard.createManual(OTHER_USER_ID, "What is photosynthesis?", "Light to energy.");
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(photosynthesis));
+            when(flashcardRepository.findByUserId(OTHER_USER_ID)).thenReturn(List.of(otherUsers));
+            instantSearch.search(TEST_USER_ID, "photo", 10);
+
+            // When
+            assertThat(ids(instantSearch.search(OTHER_USER_ID, "photo", 10))).containsExactly(idOf(otherUsers));
+            assertThat(ids(instantSearch.search(TEST_USER_ID, "photo", 10))).containsExactly(idOf(photosynthesis));
+
+            // Then
+            verify(flashcardRepository, times(2)).findByUserId(TEST_USER_ID);
+        }
+
+        @Test
+        @DisplayName("Given budget large enough for both users, When searching, Then should keep both indexes")
+        void givenBudgetLargeEnough_whenSearching_thenShouldKeepBothIndexes() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(photosynthesis));
+            when(flashcardRepository.findByUserId(OTHER_USER_ID)).thenReturn(List.of());
+
+            // When
+            instantSearch.search(TEST_USER_ID, "photo", 10);
+            instantSearch.search(OTHER_USER_ID, "photo", 10);
+            instantSearch.search(TEST_USER_ID, "photo", 10);
+
+            // Then
+            verify(flashcardRepository, times(1)).findByUserId(TEST_USER_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("Transactions")
+    class Transactions {
+
+        @Test
+        @DisplayName("Given flashcard indexed in a transaction, When it rolls back, Then should never find the flashcard")
+        void givenFlashcardIndexedInTransaction_whenRolledBack_thenShouldNotFindIt() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of());
+            instantSearch.search(TEST_USER_ID, "photo", 10);
+            TransactionSynchronizationManager.initSynchronization();
+
+            // When
+            instantSearch.indexFlashcard(photosynthesis.toSnapshot());
+            TransactionSynchronizationManager.clearSynchronization();
+
+            // Then
+            assertThat(instantSearch.search(TEST_USER_ID, "photo", 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Given flashcard removed in a transaction, When it commits, Then should find the flashcard until commit")
+        void givenFlashcardRemovedInTransaction_whenCommitted_thenShouldFindItUntilCommit() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(photosynthesis));
+            instantSearch.search(TEST_USER_ID, "photo", 10);
+            TransactionSynchronizationManager.initSynchronization();
+
+            // When
+            instantSearch.removeFlashcard(TEST_USER_ID, idOf(photosynthesis));
+
+            // Then
+            assertThat(ids(instantSearch.search(TEST_USER_ID, "photo", 10))).containsExactly(idOf(photosynthesis));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.clearSynchronization();
+            assertThat(instantSearch.search(TEST_USER_ID, "photo", 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Index age")
+    class IndexAge {
+
+        @Test
+        @DisplayName("Given index older than max age, When searching, Then should reload it without cards deleted elsewhere")
+        void givenIndexOlderThanMaxAge_whenSearching_thenShouldReload() {
+            // Given
+            when(flashcardRepository.findByUserId(TEST_USER_ID)).thenReturn(List.of(photosynthesis), List.of());
+            assertThat(ids(instantSearch.search(TEST_USER_ID, "photo", 10))).containsExactly(idOf(photosynthesis));
+
+            // When
+            now = now.plus(Duration.ofMinutes(10));
+
+            // Then
+            assertThat(instantSearch.search(TEST_USER_ID, "photo", 10)).isEmpty();
+            verify(flashcardRepository, times(2)).findByUserId(TEST_USER_ID);
+        }
+    }
+}
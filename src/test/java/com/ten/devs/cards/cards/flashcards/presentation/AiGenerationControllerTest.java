@@ -0,0 +1,71 @@
+package com.ten.devs.cards.cards.flashcards.presentation;
+
+import an.awesome.pipelinr.Pipeline;
+import com.ten.devs.cards.cards.flashcards.application.command.ApproveAiSuggestionsCommand;
+import com.ten.devs.cards.cards.flashcards.domain.AiSuggestionsUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Error mapping of AiGenerationController - standalone MockMvc with AiGenerationExceptionHandler, no application context.
+ * Command handlers are mocked: they throw what the real handlers throw for the rejected request
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AiGenerationController")
+class AiGenerationControllerTest {
+
+    @Mock
+    private Pipeline cqsService;
+
+    private MockMvc mockMvc;
+
+    private static final UUID SESSION_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final String APPROVE_BODY = """
+        {"approvedSuggestions": [{"suggestionId": "55555555-5555-5555-5555-555555555555"}]}
+        """;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new AiGenerationController(cqsService))
+            .setControllerAdvice(new AiGenerationExceptionHandler())
+            .build();
+    }
+
+    @Nested
+    @DisplayName("Approve AI suggestions")
+    class ApproveAiSuggestions {
+
+        @Test
+        @DisplayName("Given session changed while approving, When approving, Then should respond 409")
+        void givenSessionChangedWhileApproving_whenApproving_thenShouldRespondConflict() throws Exception {
+            // Given
+            doThrow(new AiSuggestionsUnavailableException(SESSION_ID))
+                .when(cqsService).send(any(ApproveAiSuggestionsCommand.class));
+
+            // When / Then
+            mockMvc.perform(post("/ai/sessions/{sessionId}/approve", SESSION_ID)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(APPROVE_BODY))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.message").value("Session " + SESSION_ID + " can no longer provide suggestions"))
+                .andExpect(jsonPath("$.path").value("/ai/sessions/" + SESSION_ID + "/approve"));
+        }
+    }
+}
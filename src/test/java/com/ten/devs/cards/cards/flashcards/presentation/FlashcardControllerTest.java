@@ -0,0 +1,223 @@
+package com.ten.devs.cards.cards.flashcards.presentation;
+
+import an.awesome.pipelinr.Pipeline;
+import com.ten.devs.cards.cards.flashcards.application.command.GetFlashcardChangesCommand;
+import com.ten.devs.cards.cards.flashcards.application.command.GetFlashcardsCommand;
+import com.ten.devs.cards.cards.flashcards.application.command.ImportFlashcardsCommand;
+import com.ten.devs.cards.cards.flashcards.application.command.SearchFlashcardsCommand;
+import com.ten.devs.cards.cards.flashcards.application.command.UpdateFlashcardCommand;
+import com.ten.devs.cards.cards.flashcards.domain.FlashcardNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.MethodValidationInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Error mapping of FlashcardController - standalone MockMvc with FlashcardExceptionHandler, no application context.
+ * Command handlers are mocked: they throw what the real handlers throw for the rejected input
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FlashcardController")
+class FlashcardControllerTest {
+
+    @Mock
+    private Pipeline cqsService;
+
+    private MockMvc mockMvc;
+
+    private static final UUID FLASHCARD_ID = UUID.fromString("44444444-4444-4444-4444-444444444444");
+    private static final String UPDATE_BODY = """
+        {"frontContent": "Updated question?", "backContent": "Updated answer."}
+        """;
+
+    @BeforeEach
+    void setUp() {
+        // Parameter constraints of FlashcardsApi (@Validated) are checked by a proxy, as in the application context
+        ProxyFactory proxyFactory = new ProxyFactory(new FlashcardController(cqsService));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new MethodValidationInterceptor());
+
+        mockMvc = MockMvcBuilders.standaloneSetup(proxyFactory.getProxy())
+            .setControllerAdvice(new FlashcardExceptionHandler())
+            .build();
+    }
+
+    @Nested
+    @DisplayName("Update flashcard")
+    class UpdateFlashcard {
+
+        @Test
+        @DisplayName("Given malformed If-Match header, When updating, Then should respond 400 without sending command")
+        void givenMalformedIfMatch_whenUpdating_thenShouldRespondBadRequest() throws Exception {
+            // When / Then
+            mockMvc.perform(put("/flashcards/{flashcardId}", FLASHCARD_ID)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                    .content(UPDATE_BODY))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value(containsString("If-Match")))
+                .andExpect(jsonPath("$.path").value("/flashcards/" + FLASHCARD_ID));
+            verifyNoInteractions(cqsService);
+        }
+
+        @Test
+        @DisplayName("Given flashcard not found, When updating, Then should respond 404 rather than 400")
+        void givenFlashcardNotFound_whenUpdating_thenShouldRespondNotFound() throws Exception {
+            // Given
+            doThrow(new FlashcardNotFoundException(FLASHCARD_ID)).when(cqsService).send(any(UpdateFlashcardCommand.class));
+
+            // When / Then
+            mockMvc.perform(put("/flashcards/{flashcardId}", FLASHCARD_ID)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(UPDATE_BODY))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Flashcard not found: " + FLASHCARD_ID));
+        }
+    }
+
+    @Nested
+    @DisplayName("Search flashcards")
+    class SearchFlashcards {
+
+        @Test
+        @DisplayName("Given malformed cursor, When searching, Then should respond 400")
+        void givenMalformedCursor_whenSearching_thenShouldRespondBadRequest() throws Exception {
+            // Given
+            doThrow(new IllegalArgumentException("Malformed cursor: abc"))
+                .when(cqsService).send(any(SearchFlashcardsCommand.class));
+
+            // When / Then
+            mockMvc.perform(get("/flashcards/search").param("q", "photosynthesis").param("cursor", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Malformed cursor: abc"));
+        }
+
+        @Test
+        @DisplayName("Given blank search text, When searching, Then should respond 400")
+        void givenBlankText_whenSearching_thenShouldRespondBadRequest() throws Exception {
+            // Given
+            doThrow(new IllegalArgumentException("Search text cannot be blank"))
+                .when(cqsService).send(any(SearchFlashcardsCommand.class));
+
+            // When / Then
+            mockMvc.perform(get("/flashcards/search").param("q", "   "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Search text cannot be blank"));
+        }
+
+        @Test
+        @DisplayName("Given page size above maximum, When searching, Then should respond 400 without sending command")
+        void givenSizeAboveMaximum_whenSearching_thenShouldRespondBadRequest() throws Exception {
+            // When / Then
+            mockMvc.perform(get("/flashcards/search").param("q", "photosynthesis").param("size", "500"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+            verifyNoInteractions(cqsService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Get flashcards")
+    class GetFlashcards {
+
+        @Test
+        @DisplayName("Given cursor of another listing, When listing, Then should respond 400")
+        void givenForeignCursor_whenListing_thenShouldRespondBadRequest() throws Exception {
+            // Given
+            doThrow(new IllegalArgumentException("Cursor was issued for listing 'search', not 'flashcards'"))
+                .when(cqsService).send(any(GetFlashcardsCommand.class));
+
+            // When / Then
+            mockMvc.perform(get("/flashcards").param("cursor", "c2VhcmNo"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.path").value("/flashcards"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Get flashcard changes")
+    class GetFlashcardChanges {
+
+        @Test
+        @DisplayName("Given malformed since cursor, When getting changes, Then should respond 400")
+        void givenMalformedSince_whenGettingChanges_thenShouldRespondBadRequest() throws Exception {
+            // Given
+            doThrow(new IllegalArgumentException("Malformed cursor: abc"))
+                .when(cqsService).send(any(GetFlashcardChangesCommand.class));
+
+            // When / Then
+            mockMvc.perform(get("/flashcards/changes").param("since", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Malformed cursor: abc"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Export flashcards")
+    class ExportFlashcards {
+
+        @Test
+        @DisplayName("Given unsupported format, When exporting, Then should respond 400 before streaming")
+        void givenUnsupportedFormat_whenExporting_thenShouldRespondBadRequest() throws Exception {
+            // When / Then
+            mockMvc.perform(get("/flashcards/export").param("format", "xlsx"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported export format: xlsx"));
+            verifyNoInteractions(cqsService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Import flashcards")
+    class ImportFlashcards {
+
+        private final MockMultipartFile file = new MockMultipartFile(
+            "file", "flashcards.csv", "text/csv", "question,answer\nQ1,A1\n".getBytes(StandardCharsets.UTF_8));
+
+        @Test
+        @DisplayName("Given unsupported format, When importing, Then should respond 400 without sending command")
+        void givenUnsupportedFormat_whenImporting_thenShouldRespondBadRequest() throws Exception {
+            // When / Then
+            mockMvc.perform(multipart("/flashcards/import").file(file).param("format", "xlsx"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported import format: xlsx"));
+            verifyNoInteractions(cqsService);
+        }
+
+        @Test
+        @DisplayName("Given CSV header without content columns, When importing, Then should respond 400")
+        void givenHeaderWithoutContentColumns_whenImporting_thenShouldRespondBadRequest() throws Exception {
+            // Given
+            doThrow(new IllegalArgumentException("CSV header has no front_content column"))
+                .when(cqsService).send(any(ImportFlashcardsCommand.class));
+
+            // When / Then
+            mockMvc.perform(multipart("/flashcards/import").file(file))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("CSV header has no front_content column"));
+        }
+    }
+}
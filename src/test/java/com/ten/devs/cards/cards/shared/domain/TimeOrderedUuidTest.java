@@ -0,0 +1,133 @@
+package com.ten.devs.cards.cards.shared.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TimeOrderedUuid")
+class TimeOrderedUuidTest {
+
+    private static final long NOW = 1_736_937_000_123L; // 2025-01-15T10:30:00.123Z
+
+    @Nested
+    @DisplayName("Layout")
+    class Layout {
+
+        @Test
+        @DisplayName("Given generated ID, When reading its fields, Then should be version 7, IETF variant with current timestamp")
+        void givenGeneratedId_whenReadingFields_thenShouldBeVersion7WithTimestamp() {
+            // Given
+            long before = System.currentTimeMillis();
+
+            // When
+            UUID uuid = TimeOrderedUuid.generate();
+
+            // Then
+            assertThat(uuid.version()).isEqualTo(7);
+            assertThat(uuid.variant()).isEqualTo(2);
+            assertThat(TimeOrderedUuid.timestampOf(uuid)).isBetween(before, System.currentTimeMillis() + 1);
+        }
+
+        @Test
+        @DisplayName("Given random UUID, When reading timestamp, Then should throw IllegalArgumentException")
+        void givenRandomUuid_whenReadingTimestamp_thenShouldThrowException() {
+            // When / Then
+            assertThatThrownBy(() -> TimeOrderedUuid.timestampOf(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Not a time-ordered UUID");
+        }
+    }
+
+    @Nested
+    @DisplayName("Ordering")
+    class Ordering {
+
+        @Test
+        @DisplayName("Given many IDs in the same millisecond, When generating, Then should be strictly increasing")
+        void givenSameMillisecond_whenGenerating_thenShouldIncrease() {
+            // Given
+            TimeOrderedUuid.Sequence sequence = new TimeOrderedUuid.Sequence();
+
+            // When - more IDs than the sequence holds, so the timestamp has to advance
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                ids.add(sequence.next(NOW));
+            }
+
+            // Then
+            assertThat(ids).isSortedAccordingTo(TimeOrderedUuidTest::compareUnsigned).doesNotHaveDuplicates();
+            assertThat(TimeOrderedUuid.timestampOf(ids.getFirst())).isEqualTo(NOW);
+            assertThat(TimeOrderedUuid.timestampOf(ids.getLast())).isGreaterThan(NOW);
+        }
+
+        @Test
+        @DisplayName("Given clock moving backwards, When generating, Then should never go back")
+        void givenClockMovingBackwards_whenGenerating_thenShouldNeverGoBack() {
+            // Given
+            TimeOrderedUuid.Sequence sequence = new TimeOrderedUuid.Sequence();
+            UUID first = sequence.next(NOW);
+
+            // When
+            UUID second = sequence.next(NOW - 5_000);
+
+            // Then
+            assertThat(compareUnsigned(first, second)).isNegative();
+            assertThat(TimeOrderedUuid.timestampOf(second)).isEqualTo(NOW);
+        }
+
+        @Test
+        @DisplayName("Given IDs of consecutive milliseconds, When comparing as strings, Then should sort by creation time")
+        void givenConsecutiveMilliseconds_whenComparingAsStrings_thenShouldSortByTime() {
+            // Given
+            TimeOrderedUuid.Sequence sequence = new TimeOrderedUuid.Sequence();
+
+            // When
+            String earlier = sequence.next(NOW).toString();
+            String later = sequence.next(NOW + 1).toString();
+
+            // Then - PostgreSQL compares uuid bytewise, as the hex strings do
+            assertThat(earlier).isLessThan(later);
+        }
+
+        @Test
+        @DisplayName("Given several threads, When generating concurrently, Then should never repeat an ID")
+        void givenSeveralThreads_whenGeneratingConcurrently_thenShouldBeUnique() throws Exception {
+            // Given
+            Set<UUID> ids = ConcurrentHashMap.newKeySet();
+            List<Future<?>> tasks = new ArrayList<>();
+
+            // When
+            try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+                for (int thread = 0; thread < 4; thread++) {
+                    tasks.add(executor.submit(() -> {
+                        for (int i = 0; i < 25_000; i++) {
+                            ids.add(TimeOrderedUuid.generate());
+                        }
+                    }));
+                }
+                for (Future<?> task : tasks) {
+                    task.get();
+                }
+            }
+
+            // Then
+            assertThat(ids).hasSize(100_000);
+        }
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}